@@ -88,6 +88,21 @@ public interface RuleManager {
      */
     Map<String, Object> runNow(String uid);
 
+    /**
+     * This method gets the number of executions of the specified {@link Rule} since the rule engine has been started.
+     * The count is kept in memory and does not depend on the {@link RuleStatusInfo} events posted for the rule. It is
+     * dropped when the rule is removed.
+     * <p>
+     * Implementations that do not count rule executions return 0.
+     *
+     * @param ruleUID UID of the {@link Rule}
+     * @return the number of times the {@link Rule} went to {@link RuleStatus#RUNNING}, or 0 if executions are not
+     *         counted
+     */
+    default long getRunCount(String ruleUID) {
+        return 0;
+    }
+
     /**
      * Same as {@link #runNow(String)} with the additional option to enable/disable evaluation of
      * conditions defined in the target rule. The context can be set here, too, but also might be {@code null}.
@@ -29,7 +29,10 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -56,6 +59,7 @@ import org.openhab.core.automation.handler.TriggerHandlerCallback;
 import org.openhab.core.automation.internal.TriggerHandlerCallbackImpl.TriggerData;
 import org.openhab.core.automation.internal.composite.CompositeModuleHandlerFactory;
 import org.openhab.core.automation.internal.module.handler.SystemTriggerHandler;
+import org.openhab.core.automation.internal.ruleengine.InputBinding;
 import org.openhab.core.automation.internal.ruleengine.WrappedAction;
 import org.openhab.core.automation.internal.ruleengine.WrappedCondition;
 import org.openhab.core.automation.internal.ruleengine.WrappedModule;
@@ -71,9 +75,10 @@ import org.openhab.core.automation.type.ModuleType;
 import org.openhab.core.automation.type.ModuleTypeRegistry;
 import org.openhab.core.automation.type.Output;
 import org.openhab.core.automation.type.TriggerType;
-import org.openhab.core.automation.util.ReferenceResolver;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.events.system.SystemEventFactory;
@@ -84,9 +89,11 @@ import org.openhab.core.service.ReadyService.ReadyTracker;
 import org.openhab.core.service.StartLevelService;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
+import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -104,6 +111,10 @@ import org.slf4j.LoggerFactory;
  * <LI><b>idle</b> - the rule is enabled and initialized and it is waiting for triggering events.
  * <LI><b>running</b> - the rule is enabled and initialized and it is executing at the moment. When the execution is
  * finished, it goes to the <b>idle</b> state.
+ * <p>
+ * The <b>running</b> and <b>idle</b> states of an execution are always kept in memory, but the corresponding
+ * {@link RuleStatusInfoEvent}s can be limited for rules which are executed frequently: they can be suppressed for
+ * single rules, or only be posted for executions lasting longer than a configured delay.
  *
  * @author Yordan Mihaylov - Initial contribution
  * @author Kai Kreuzer - refactored (managed) provider, registry implementation and customized modules
@@ -112,7 +123,9 @@ import org.slf4j.LoggerFactory;
  * @author Ana Dimova - new reference syntax: list[index], map["key"], bean.field
  * @author Florian Hotze - add support for script condition/action compilation
  */
-@Component(immediate = true, service = { RuleManager.class })
+@Component(immediate = true, service = { RuleManager.class }, configurationPid = "org.openhab.ruleengine", //
+        property = Constants.SERVICE_PID + "=org.openhab.ruleengine")
+@ConfigurableService(category = "system", label = "Rule Engine", description_uri = RuleEngineImpl.CONFIG_URI)
 @NonNullByDefault
 public class RuleEngineImpl implements RuleManager, RegistryChangeListener<ModuleType>, ReadyTracker {
 
@@ -123,6 +136,12 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
 
     private static final String DISABLED_RULE_STORAGE = "automation_rules_disabled";
 
+    protected static final String CONFIG_URI = "system:ruleengine";
+
+    // constants for the configuration properties
+    static final String CONFIG_STATUS_EVENT_DELAY = "statusEventDelay";
+    static final String CONFIG_STATUS_EVENT_SUPPRESSED_RULES = "statusEventSuppressedRules";
+
     private static final int RULE_INIT_DELAY = 500;
 
     private static final ReadyMarker MARKER = new ReadyMarker("ruleengine", "start");
@@ -218,6 +237,27 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
 
     private static final String SOURCE = RuleEngineImpl.class.getSimpleName();
 
+    /**
+     * Executions shorter than this delay (in milliseconds) do not post {@link RuleStatusInfoEvent}s.
+     */
+    private volatile long statusEventDelay = 0;
+
+    /**
+     * UIDs of the {@link Rule}s whose executions do not post {@link RuleStatusInfoEvent}s.
+     */
+    private volatile Set<String> statusEventSuppressedRules = Set.of();
+
+    /**
+     * {@link Map} holding the delayed {@link RuleStatusInfoEvent}s of running {@link Rule}s, which have not been posted
+     * yet. The relation is {@link Rule}'s UID to the scheduled event.
+     */
+    private final Map<String, ScheduledFuture<?>> pendingRunningEvents = new ConcurrentHashMap<>();
+
+    /**
+     * {@link Map} holding the number of executions per {@link Rule}. The relation is {@link Rule}'s UID to count.
+     */
+    private final Map<String, LongAdder> runCounts = new ConcurrentHashMap<>();
+
     private final ModuleHandlerCallback moduleHandlerCallback = new ModuleHandlerCallback() {
 
         @Override
@@ -257,7 +297,9 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
     @Activate
     public RuleEngineImpl(final @Reference ModuleTypeRegistry moduleTypeRegistry,
             final @Reference RuleRegistry ruleRegistry, final @Reference StorageService storageService,
-            final @Reference ReadyService readyService, final @Reference StartLevelService startLevelService) {
+            final @Reference ReadyService readyService, final @Reference StartLevelService startLevelService,
+            Map<String, Object> config) {
+        modified(config);
         this.disabledRulesStorage = storageService.getStorage(DISABLED_RULE_STORAGE, this.getClass().getClassLoader());
 
         mtRegistry = moduleTypeRegistry;
@@ -278,11 +320,13 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             @Override
             public void removed(Rule rule) {
                 RuleEngineImpl.this.removeRule(rule.getUID());
+                // an updated rule keeps counting its executions, a removed one does not
+                runCounts.remove(rule.getUID());
             }
 
             @Override
             public void updated(Rule oldRule, Rule rule) {
-                removed(oldRule);
+                RuleEngineImpl.this.removeRule(oldRule.getUID());
                 added(rule);
             }
         };
@@ -295,6 +339,23 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
                 .withIdentifier(Integer.toString(StartLevelService.STARTLEVEL_RULES)));
     }
 
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        statusEventDelay = Math.max(0,
+                ConfigParser.valueAsOrElse(config.get(CONFIG_STATUS_EVENT_DELAY), Long.class, 0L));
+        Object suppressedRules = config.get(CONFIG_STATUS_EVENT_SUPPRESSED_RULES);
+        if (suppressedRules instanceof Iterable<?> iterable) {
+            Set<String> uids = new HashSet<>();
+            iterable.forEach(uid -> uids.add(uid.toString().trim()));
+            statusEventSuppressedRules = Set.copyOf(uids);
+        } else if (suppressedRules instanceof String string) {
+            statusEventSuppressedRules = Stream.of(string.split(",")).map(String::trim).filter(uid -> !uid.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        } else {
+            statusEventSuppressedRules = Set.of();
+        }
+    }
+
     /**
      * The method cleans used resources by rule engine when it is deactivated.
      */
@@ -318,6 +379,8 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         }
         scheduleTasks.clear();
         contextMap.clear();
+        pendingRunningEvents.values().forEach(f -> f.cancel(false));
+        pendingRunningEvents.clear();
 
         mtRegistry.removeRegistryChangeListener(this);
 
@@ -766,6 +829,10 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
                 }
             }
             scheduleTasks.remove(rUID);
+            ScheduledFuture<?> pendingRunningEvent = pendingRunningEvents.remove(rUID);
+            if (pendingRunningEvent != null) {
+                pendingRunningEvent.cancel(false);
+            }
             return true;
         }
         return false;
@@ -931,6 +998,12 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         return rule.getStatusInfo();
     }
 
+    @Override
+    public long getRunCount(String ruleUID) {
+        LongAdder runCount = runCounts.get(ruleUID);
+        return runCount == null ? 0 : runCount.sum();
+    }
+
     @Override
     public @Nullable RuleStatus getStatus(String ruleUID) {
         RuleStatusInfo statusInfo = getStatusInfo(ruleUID);
@@ -955,9 +1028,63 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             return;
         }
         rule.setStatusInfo(newStatusInfo);
+        ScheduledFuture<?> pendingRunningEvent = pendingRunningEvents.remove(ruleUID);
+        if (pendingRunningEvent != null) {
+            pendingRunningEvent.cancel(false);
+        }
         postRuleStatusInfoEvent(ruleUID, newStatusInfo);
     }
 
+    /**
+     * This method updates the status of the {@link Rule} when an execution starts or finishes. The status is always
+     * updated, but the {@link RuleStatusInfoEvent}s are only posted if this is not suppressed by the configuration.
+     * Must be called while holding the lock of the rule engine.
+     *
+     * @param ruleUID unique id of the rule
+     * @param newStatusInfo the new status of the rule, {@link RuleStatus#RUNNING} or {@link RuleStatus#IDLE}
+     */
+    private void setExecutionStatus(String ruleUID, RuleStatusInfo newStatusInfo) {
+        final WrappedRule rule = managedRules.get(ruleUID);
+        if (rule == null) {
+            return;
+        }
+        rule.setStatusInfo(newStatusInfo);
+        boolean running = newStatusInfo.getStatus() == RuleStatus.RUNNING;
+        if (running) {
+            runCounts.computeIfAbsent(ruleUID, uid -> new LongAdder()).increment();
+        }
+        ScheduledFuture<?> pendingRunningEvent = pendingRunningEvents.remove(ruleUID);
+        if (pendingRunningEvent != null) {
+            pendingRunningEvent.cancel(false);
+        }
+        if (statusEventSuppressedRules.contains(ruleUID)) {
+            return;
+        }
+        if (!running) {
+            if (pendingRunningEvent != null) {
+                // the execution finished before its running event was posted, so nobody needs to know about it
+                return;
+            }
+            postRuleStatusInfoEvent(ruleUID, newStatusInfo);
+            return;
+        }
+        long delay = statusEventDelay;
+        if (delay > 0) {
+            pendingRunningEvents.put(ruleUID, getScheduledExecutor()
+                    .schedule(() -> postDelayedRunningEvent(ruleUID, newStatusInfo), delay, TimeUnit.MILLISECONDS));
+        } else {
+            postRuleStatusInfoEvent(ruleUID, newStatusInfo);
+        }
+    }
+
+    private synchronized void postDelayedRunningEvent(String ruleUID, RuleStatusInfo statusInfo) {
+        // only post if this execution is still running, otherwise a newer execution owns the pending event
+        if (getStatusInfo(ruleUID) == statusInfo) {
+            pendingRunningEvents.remove(ruleUID);
+            postRuleStatusInfoEvent(ruleUID, statusInfo);
+        }
+    }
+
     /**
      * Creates and schedules a re-initialization task for the {@link Rule} with the specified UID.
      *
@@ -1044,7 +1171,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
                 return;
             }
             // change state to RUNNING
-            setStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
+            setExecutionStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
         }
         try {
             clearContext(ruleUID);
@@ -1067,7 +1194,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         // change state to IDLE only if the rule has not been DISABLED.
         synchronized (this) {
             if (getRuleStatus(ruleUID) == RuleStatus.RUNNING) {
-                setStatus(ruleUID, new RuleStatusInfo(RuleStatus.IDLE));
+                setExecutionStatus(ruleUID, new RuleStatusInfo(RuleStatus.IDLE));
             }
         }
     }
@@ -1088,7 +1215,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
                 return returnContext;
             }
             // change state to RUNNING
-            setStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
+            setExecutionStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
         }
         try {
             clearContext(ruleUID);
@@ -1106,7 +1233,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         // change state to IDLE only if the rule has not been DISABLED.
         synchronized (this) {
             if (getRuleStatus(ruleUID) == RuleStatus.RUNNING) {
-                setStatus(ruleUID, new RuleStatusInfo(RuleStatus.IDLE));
+                setExecutionStatus(ruleUID, new RuleStatusInfo(RuleStatus.IDLE));
             }
         }
         return returnContext;
@@ -1159,36 +1286,14 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
     /**
      * @return copy of current context in rule engine
      */
-    private Map<String, Object> getContext(String ruleUID, @Nullable Set<Connection> connections) {
+    private Map<String, Object> getContext(String ruleUID, InputBinding @Nullable [] inputBindings) {
         Map<String, Object> context = contextMap.computeIfAbsent(ruleUID, k -> new HashMap<>());
         if (context == null) {
             throw new IllegalStateException("context cannot be null at that point - please report a bug.");
         }
-        if (connections != null) {
-            StringBuilder sb = new StringBuilder();
-            for (Connection c : connections) {
-                String outputModuleId = c.getOutputModuleId();
-                if (outputModuleId != null) {
-                    sb.append(outputModuleId).append(OUTPUT_SEPARATOR).append(c.getOutputName());
-                    Object outputValue = context.get(sb.toString());
-                    sb.setLength(0);
-                    if (outputValue != null) {
-                        if (c.getReference() == null) {
-                            context.put(c.getInputName(), outputValue);
-                        } else {
-                            context.put(c.getInputName(), ReferenceResolver.resolveComplexDataReference(outputValue,
-                                    ReferenceResolver.splitReferenceToTokens(c.getReference())));
-                        }
-                    }
-                } else {
-                    // get reference from context
-                    String ref = c.getReference();
-                    final Object value = ReferenceResolver.resolveReference(ref, context);
-
-                    if (value != null) {
-                        context.put(c.getInputName(), value);
-                    }
-                }
+        if (inputBindings != null) {
+            for (InputBinding inputBinding : inputBindings) {
+                inputBinding.bind(context);
             }
         }
         return context;
@@ -1240,7 +1345,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             }
             final Condition condition = wrappedCondition.unwrap();
             ConditionHandler tHandler = wrappedCondition.getModuleHandler();
-            Map<String, Object> context = getContext(ruleUID, wrappedCondition.getConnections());
+            Map<String, Object> context = getContext(ruleUID, wrappedCondition.getInputBindings());
             if (tHandler != null && !tHandler.isSatisfied(Collections.unmodifiableMap(context))) {
                 logger.debug("The condition '{}' of rule '{}' is unsatisfied.", condition.getId(), ruleUID);
                 return false;
@@ -1294,7 +1399,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             final Action action = wrappedAction.unwrap();
             ActionHandler aHandler = wrappedAction.getModuleHandler();
             if (aHandler != null) {
-                Map<String, Object> context = getContext(ruleUID, wrappedAction.getConnections());
+                Map<String, Object> context = getContext(ruleUID, wrappedAction.getInputBindings());
                 try {
                     Map<String, ?> outputs = aHandler.execute(Collections.unmodifiableMap(context));
                     if (outputs != null) {
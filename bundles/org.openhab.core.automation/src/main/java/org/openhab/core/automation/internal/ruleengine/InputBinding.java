@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.ruleengine;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.internal.Connection;
+import org.openhab.core.automation.internal.RuleEngineImpl;
+import org.openhab.core.automation.util.ReferenceResolver;
+
+/**
+ * An {@link InputBinding} is the precompiled form of a {@link Connection}. The context key of the connected output and
+ * the tokens of the reference are computed once when the connections of a module are set, so binding the inputs of a
+ * module before its execution does neither build strings nor parse references.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public final class InputBinding {
+
+    private static final InputBinding[] NO_BINDINGS = new InputBinding[0];
+
+    private final String inputName;
+    private final @Nullable String contextKey;
+    private final @Nullable Object value;
+    private final String @Nullable [] tokens;
+    private final @Nullable String invalidReference;
+
+    private InputBinding(String inputName, @Nullable String contextKey, @Nullable Object value,
+            String @Nullable [] tokens, @Nullable String invalidReference) {
+        this.inputName = inputName;
+        this.contextKey = contextKey;
+        this.value = value;
+        this.tokens = tokens;
+        this.invalidReference = invalidReference;
+    }
+
+    /**
+     * Compiles the given connections.
+     *
+     * @param connections the connections of a module
+     * @return the bindings of the inputs of the module
+     */
+    public static InputBinding[] compile(Set<Connection> connections) {
+        if (connections.isEmpty()) {
+            return NO_BINDINGS;
+        }
+        InputBinding[] bindings = new InputBinding[connections.size()];
+        int i = 0;
+        for (Connection connection : connections) {
+            bindings[i++] = compile(connection);
+        }
+        return bindings;
+    }
+
+    private static InputBinding compile(Connection connection) {
+        String inputName = connection.getInputName();
+        String reference = connection.getReference();
+        String outputModuleId = connection.getOutputModuleId();
+        if (outputModuleId == null) {
+            // a reference to the context, a value that is no reference is bound as it is
+            String key = reference == null ? null : ReferenceResolver.getReferenceKey(reference);
+            return new InputBinding(inputName, key, key == null ? reference : null, null, null);
+        }
+        String contextKey = outputModuleId + RuleEngineImpl.OUTPUT_SEPARATOR + connection.getOutputName();
+        if (reference == null) {
+            return new InputBinding(inputName, contextKey, null, null, null);
+        }
+        try {
+            return new InputBinding(inputName, contextKey, null, ReferenceResolver.splitReferenceToTokens(reference),
+                    null);
+        } catch (IllegalArgumentException e) {
+            // keep the reference, so the error is reported when the module is executed
+            return new InputBinding(inputName, contextKey, null, null, reference);
+        }
+    }
+
+    /**
+     * Binds the input to the value of the connected output in the given context.
+     *
+     * @param context the context of the rule, the bound input is put into it
+     */
+    public void bind(Map<String, Object> context) {
+        String contextKey = this.contextKey;
+        Object bound = contextKey == null ? value : context.get(contextKey);
+        if (bound == null) {
+            return;
+        }
+        if (tokens != null) {
+            bound = ReferenceResolver.resolveComplexDataReference(bound, tokens);
+        } else if (invalidReference != null) {
+            bound = ReferenceResolver.resolveComplexDataReference(bound,
+                    ReferenceResolver.splitReferenceToTokens(invalidReference));
+        }
+        context.put(inputName, bound);
+    }
+}
@@ -34,6 +34,7 @@ import org.openhab.core.automation.type.Output;
 public class WrappedAction extends WrappedModule<Action, ActionHandler> {
 
     private Set<Connection> connections = Set.of();
+    private InputBinding[] inputBindings = InputBinding.compile(Set.of());
     private Map<String, String> inputs = Map.of();
 
     public WrappedAction(final Action action) {
@@ -48,12 +49,22 @@ public class WrappedAction extends WrappedModule<Action, ActionHandler> {
      */
     public void setConnections(@Nullable Set<Connection> connections) {
         this.connections = connections == null ? Set.of() : connections;
+        this.inputBindings = InputBinding.compile(this.connections);
     }
 
     public Set<Connection> getConnections() {
         return connections;
     }
 
+    /**
+     * Returns the precompiled connections of this action.
+     *
+     * @return the bindings of the inputs of this action
+     */
+    public InputBinding[] getInputBindings() {
+        return inputBindings;
+    }
+
     /**
      * This method is used to get input connections of the Action. The connections
      * are links between {@link Input}s of the this {@link Module} and {@link Output}s
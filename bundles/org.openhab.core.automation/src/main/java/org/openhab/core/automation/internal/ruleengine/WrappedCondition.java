@@ -35,6 +35,7 @@ public class WrappedCondition extends WrappedModule<Condition, ConditionHandler>
 
     private Map<String, String> inputs = Map.of();
     private Set<Connection> connections = Set.of();
+    private InputBinding[] inputBindings = InputBinding.compile(Set.of());
 
     public WrappedCondition(final Condition condition) {
         super(condition);
@@ -48,12 +49,22 @@ public class WrappedCondition extends WrappedModule<Condition, ConditionHandler>
      */
     public void setConnections(@Nullable Set<Connection> connections) {
         this.connections = connections == null ? Set.of() : connections;
+        this.inputBindings = InputBinding.compile(this.connections);
     }
 
     public Set<Connection> getConnections() {
         return connections;
     }
 
+    /**
+     * Returns the precompiled connections of this condition.
+     *
+     * @return the bindings of the inputs of this condition
+     */
+    public InputBinding[] getInputBindings() {
+        return inputBindings;
+    }
+
     /**
      * This method is used to get input connections of the Condition. The connections
      * are links between {@link Input}s of the current {@link Module} and {@link Output}s of other
@@ -150,14 +150,28 @@ public class ReferenceResolver {
      */
     public static Object resolveReference(String reference, Map<String, ?> context) {
         Object result = reference;
-        if (isReference(reference)) {
-            final String trimmedVal = reference.trim();
-            String key = trimmedVal.substring(2, trimmedVal.length() - 2);
+        String key = getReferenceKey(reference);
+        if (key != null) {
             result = context.get(key);// {{substring}}
         }
         return result;
     }
 
+    /**
+     * Extracts the key of a single reference '{{singleReference}}', i.e. the key used to resolve the reference from a
+     * context.
+     *
+     * @param reference single reference expression
+     * @return the key of the reference or <code>null</code> if the given value is not a reference.
+     */
+    public static String getReferenceKey(String reference) {
+        if (isReference(reference)) {
+            final String trimmedVal = reference.trim();
+            return trimmedVal.substring(2, trimmedVal.length() - 2);
+        }
+        return null;
+    }
+
     /**
      * Tries to resolve complex references e.g. 'Hello {{firstName}} {{lastName}}'..'{key1: {{reference1}}, key2:
      * {{reference2}}}'..etc.
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.automation.Rule;
+import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.automation.RuleStatus;
+import org.openhab.core.automation.events.RuleStatusInfoEvent;
+import org.openhab.core.automation.handler.ActionHandler;
+import org.openhab.core.automation.handler.ModuleHandlerFactory;
+import org.openhab.core.automation.type.ActionType;
+import org.openhab.core.automation.type.ModuleTypeRegistry;
+import org.openhab.core.automation.util.ModuleBuilder;
+import org.openhab.core.automation.util.RuleBuilder;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.service.ReadyService;
+import org.openhab.core.service.StartLevelService;
+import org.openhab.core.test.storage.VolatileStorageService;
+
+/**
+ * Tests for the status event settings and the run counts of the {@link RuleEngineImpl}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class RuleEngineImplTest {
+
+    private static final String ACTION_TYPE = "test.Action";
+    private static final String RULE_UID = "rule1";
+
+    private @Mock @NonNullByDefault({}) ModuleTypeRegistry moduleTypeRegistryMock;
+    private @Mock @NonNullByDefault({}) RuleRegistry ruleRegistryMock;
+    private @Mock @NonNullByDefault({}) ReadyService readyServiceMock;
+    private @Mock @NonNullByDefault({}) StartLevelService startLevelServiceMock;
+    private @Mock @NonNullByDefault({}) EventPublisher eventPublisherMock;
+    private @Mock @NonNullByDefault({}) ModuleHandlerFactory moduleHandlerFactoryMock;
+    private @Mock @NonNullByDefault({}) ActionHandler actionHandlerMock;
+
+    private final Rule rule = RuleBuilder.create(RULE_UID).withActions(
+            ModuleBuilder.createAction().withId("action").withTypeUID(ACTION_TYPE).build()).build();
+
+    private @Nullable RuleEngineImpl ruleEngine;
+
+    @BeforeEach
+    public void setup() {
+        when(moduleTypeRegistryMock.get(ACTION_TYPE)).thenReturn(new ActionType(ACTION_TYPE, null, null));
+        when(moduleHandlerFactoryMock.getTypes()).thenReturn(List.of(ACTION_TYPE));
+        when(moduleHandlerFactoryMock.getHandler(any(), eq(RULE_UID))).thenReturn(actionHandlerMock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RuleEngineImpl ruleEngine = this.ruleEngine;
+        if (ruleEngine != null) {
+            ruleEngine.deactivate();
+        }
+    }
+
+    @Test
+    public void testShortExecutionPostsNoDelayedStatusEvents() {
+        RuleEngineImpl ruleEngine = createRuleEngine(Map.of(RuleEngineImpl.CONFIG_STATUS_EVENT_DELAY, 60000));
+
+        ruleEngine.runNow(RULE_UID);
+
+        assertThat(ruleEngine.getRunCount(RULE_UID), is(1L));
+        assertThat(ruleEngine.getStatus(RULE_UID), is(RuleStatus.IDLE));
+        verify(eventPublisherMock, never()).post(any());
+    }
+
+    @Test
+    public void testLongExecutionPostsDelayedStatusEvents() throws InterruptedException {
+        RuleEngineImpl ruleEngine = createRuleEngine(Map.of(RuleEngineImpl.CONFIG_STATUS_EVENT_DELAY, 50));
+
+        // keep the action running until the delayed RUNNING event has been posted
+        CountDownLatch runningPosted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) instanceof RuleStatusInfoEvent event
+                    && event.getStatusInfo().getStatus() == RuleStatus.RUNNING) {
+                runningPosted.countDown();
+            }
+            return null;
+        }).when(eventPublisherMock).post(any());
+        when(actionHandlerMock.execute(any())).thenAnswer(invocation -> {
+            runningPosted.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+
+        ruleEngine.runNow(RULE_UID);
+
+        assertThat(postedStatuses(), contains(RuleStatus.RUNNING, RuleStatus.IDLE));
+    }
+
+    @Test
+    public void testSuppressedRulePostsNoStatusEvents() {
+        RuleEngineImpl ruleEngine = createRuleEngine(
+                Map.of(RuleEngineImpl.CONFIG_STATUS_EVENT_SUPPRESSED_RULES, "other, " + RULE_UID));
+
+        ruleEngine.runNow(RULE_UID);
+        ruleEngine.runNow(RULE_UID);
+
+        assertThat(ruleEngine.getRunCount(RULE_UID), is(2L));
+        verify(eventPublisherMock, never()).post(any());
+    }
+
+    @Test
+    public void testRunCountIsDroppedWhenRuleIsRemoved() {
+        RuleEngineImpl ruleEngine = createRuleEngine(Map.of());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<RegistryChangeListener<Rule>> listenerCaptor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(ruleRegistryMock).addRegistryChangeListener(listenerCaptor.capture());
+        RegistryChangeListener<Rule> listener = listenerCaptor.getValue();
+
+        ruleEngine.runNow(RULE_UID);
+        listener.updated(rule, rule);
+        ruleEngine.runNow(RULE_UID);
+        assertThat(ruleEngine.getRunCount(RULE_UID), is(2L));
+
+        listener.removed(rule);
+        assertThat(ruleEngine.getRunCount(RULE_UID), is(0L));
+    }
+
+    private RuleEngineImpl createRuleEngine(Map<String, Object> config) {
+        RuleEngineImpl ruleEngine = new RuleEngineImpl(moduleTypeRegistryMock, ruleRegistryMock,
+                new VolatileStorageService(), readyServiceMock, startLevelServiceMock, config);
+        this.ruleEngine = ruleEngine;
+        ruleEngine.addModuleHandlerFactory(moduleHandlerFactoryMock);
+        ruleEngine.addRule(rule);
+        assertThat(ruleEngine.getStatus(RULE_UID), is(RuleStatus.IDLE));
+
+        // only the status changes of the executions are of interest
+        ruleEngine.setEventPublisher(eventPublisherMock);
+        return ruleEngine;
+    }
+
+    private List<RuleStatus> postedStatuses() {
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(eventPublisherMock, atLeastOnce()).post(eventCaptor.capture());
+        return eventCaptor.getAllValues().stream().filter(RuleStatusInfoEvent.class::isInstance)
+                .map(event -> ((RuleStatusInfoEvent) event).getStatusInfo().getStatus()).toList();
+    }
+}
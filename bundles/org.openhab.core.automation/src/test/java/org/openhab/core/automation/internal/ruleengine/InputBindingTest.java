@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.ruleengine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.automation.internal.Connection;
+
+/**
+ * Tests for {@link InputBinding}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InputBindingTest {
+
+    @Test
+    public void testBindOutput() {
+        InputBinding[] bindings = InputBinding.compile(Set.of(new Connection("input", "trigger", "output", null)));
+        Map<String, Object> context = new HashMap<>();
+
+        bindings[0].bind(context);
+        assertThat(context.containsKey("input"), is(false));
+
+        context.put("trigger.output", "value");
+        bindings[0].bind(context);
+        assertThat(context.get("input"), is("value"));
+    }
+
+    @Test
+    public void testBindOutputWithReference() {
+        InputBinding[] bindings = InputBinding
+                .compile(Set.of(new Connection("input", "action", "result", "[\"key\"][1]")));
+        Map<String, Object> context = new HashMap<>();
+        context.put("action.result", Map.of("key", List.of("first", "second")));
+
+        bindings[0].bind(context);
+        assertThat(context.get("input"), is("second"));
+    }
+
+    @Test
+    public void testBindContextReference() {
+        InputBinding[] bindings = InputBinding
+                .compile(Set.of(new Connection("input", "{{ruleValue}}"), new Connection("other", "constant")));
+        Map<String, Object> context = new HashMap<>();
+        context.put("ruleValue", 42);
+
+        for (InputBinding binding : bindings) {
+            binding.bind(context);
+        }
+        assertThat(context.get("input"), is(42));
+        assertThat(context.get("other"), is("constant"));
+    }
+
+    @Test
+    public void testCompileNoConnections() {
+        assertThat(InputBinding.compile(Set.of()).length, is(0));
+    }
+}
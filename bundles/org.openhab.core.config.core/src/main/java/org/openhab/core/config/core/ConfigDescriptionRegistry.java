@@ -13,6 +13,7 @@
 package org.openhab.core.config.core;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -22,7 +23,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -36,6 +39,10 @@ import org.slf4j.LoggerFactory;
 /**
  * {@link ConfigDescriptionRegistry} provides access to {@link ConfigDescription}s.
  * It tracks {@link ConfigDescriptionProvider} OSGi services to collect all {@link ConfigDescription}s.
+ * <p>
+ * Merged results are cached per URI and locale. The cache is cleared whenever a {@link ConfigDescriptionProvider},
+ * {@link ConfigOptionProvider} or {@link ConfigDescriptionAliasProvider} is added or removed. As providers do not
+ * report changes of their content, cached entries additionally expire after {@link #CACHE_EXPIRY}.
  *
  * @see ConfigDescriptionProvider
  *
@@ -48,37 +55,86 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class ConfigDescriptionRegistry {
 
+    /**
+     * The maximum time a cached result is returned before it is re-computed from the providers.
+     */
+    public static final Duration CACHE_EXPIRY = Duration.ofSeconds(5);
+
     private final Logger logger = LoggerFactory.getLogger(ConfigDescriptionRegistry.class);
 
     private final List<ConfigOptionProvider> configOptionProviders = new CopyOnWriteArrayList<>();
     private final List<ConfigDescriptionProvider> configDescriptionProviders = new CopyOnWriteArrayList<>();
     private final List<ConfigDescriptionAliasProvider> configDescriptionAliasProviders = new CopyOnWriteArrayList<>();
 
+    private final Map<CacheKey, CacheEntry<@Nullable ConfigDescription>> configDescriptionCache =
+            new ConcurrentHashMap<>();
+    private final Map<CacheKey, CacheEntry<Collection<ConfigDescription>>> configDescriptionsCache =
+            new ConcurrentHashMap<>();
+    private final AtomicLong cacheGeneration = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addConfigOptionProvider(ConfigOptionProvider configOptionProvider) {
         configOptionProviders.add(configOptionProvider);
+        invalidateCache();
     }
 
     protected void removeConfigOptionProvider(ConfigOptionProvider configOptionProvider) {
         configOptionProviders.remove(configOptionProvider);
+        invalidateCache();
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addConfigDescriptionProvider(ConfigDescriptionProvider configDescriptionProvider) {
         configDescriptionProviders.add(configDescriptionProvider);
+        invalidateCache();
     }
 
     protected void removeConfigDescriptionProvider(ConfigDescriptionProvider configDescriptionProvider) {
         configDescriptionProviders.remove(configDescriptionProvider);
+        invalidateCache();
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addConfigDescriptionAliasProvider(ConfigDescriptionAliasProvider configDescriptionAliasProvider) {
         configDescriptionAliasProviders.add(configDescriptionAliasProvider);
+        invalidateCache();
     }
 
     protected void removeConfigDescriptionAliasProvider(ConfigDescriptionAliasProvider configDescriptionAliasProvider) {
         configDescriptionAliasProviders.remove(configDescriptionAliasProvider);
+        invalidateCache();
+    }
+
+    /**
+     * Discards all cached config descriptions.
+     * <p>
+     * Providers whose content changes at runtime can call this to make the change visible immediately instead of
+     * waiting for the cached entries to expire.
+     */
+    public void invalidateCache() {
+        cacheGeneration.incrementAndGet();
+        configDescriptionCache.clear();
+        configDescriptionsCache.clear();
+    }
+
+    /**
+     * Get the number of requests that have been answered from the cache.
+     *
+     * @return the number of cache hits since startup
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Get the number of requests that had to be computed from the providers.
+     *
+     * @return the number of cache misses since startup
+     */
+    public long getCacheMisses() {
+        return cacheMisses.get();
     }
 
     /**
@@ -96,6 +152,22 @@ public class ConfigDescriptionRegistry {
      *         description exists
      */
     public Collection<ConfigDescription> getConfigDescriptions(@Nullable Locale locale) {
+        CacheKey key = new CacheKey(null, locale);
+        CacheEntry<Collection<ConfigDescription>> entry = configDescriptionsCache.get(key);
+        if (entry != null && !entry.isExpired()) {
+            cacheHits.incrementAndGet();
+            return entry.value();
+        }
+        cacheMisses.incrementAndGet();
+        long generation = cacheGeneration.get();
+        Collection<ConfigDescription> configDescriptions = collectConfigDescriptions(locale);
+        if (generation == cacheGeneration.get()) {
+            configDescriptionsCache.put(key, new CacheEntry<>(configDescriptions));
+        }
+        return configDescriptions;
+    }
+
+    private Collection<ConfigDescription> collectConfigDescriptions(@Nullable Locale locale) {
         Map<URI, ConfigDescription> configMap = new HashMap<>();
 
         // Loop over all providers
@@ -156,6 +228,22 @@ public class ConfigDescriptionRegistry {
      *         the given name
      */
     public @Nullable ConfigDescription getConfigDescription(URI uri, @Nullable Locale locale) {
+        CacheKey key = new CacheKey(uri, locale);
+        CacheEntry<@Nullable ConfigDescription> entry = configDescriptionCache.get(key);
+        if (entry != null && !entry.isExpired()) {
+            cacheHits.incrementAndGet();
+            return entry.value();
+        }
+        cacheMisses.incrementAndGet();
+        long generation = cacheGeneration.get();
+        ConfigDescription configDescription = collectConfigDescription(uri, locale);
+        if (generation == cacheGeneration.get()) {
+            configDescriptionCache.put(key, new CacheEntry<>(configDescription));
+        }
+        return configDescription;
+    }
+
+    private @Nullable ConfigDescription collectConfigDescription(URI uri, @Nullable Locale locale) {
         List<ConfigDescriptionParameter> parameters = new ArrayList<>();
         List<ConfigDescriptionParameterGroup> parameterGroups = new ArrayList<>();
 
@@ -300,4 +388,17 @@ public class ConfigDescriptionRegistry {
         }
         return found;
     }
+
+    private record CacheKey(@Nullable URI uri, @Nullable Locale locale) {
+    }
+
+    private record CacheEntry<T>(T value, long expiresAt) {
+        CacheEntry(T value) {
+            this(value, System.nanoTime() + CACHE_EXPIRY.toNanos());
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
 }
@@ -17,11 +17,12 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -230,4 +231,57 @@ public class ConfigDescriptionRegistryTest extends JavaTest {
         configDescriptionRegistry.removeConfigDescriptionProvider(configDescriptionProviderMock);
         assertThat(configDescriptionRegistry.getConfigDescriptions().size(), is(0));
     }
+
+    @Test
+    public void testGetConfigDescriptionIsCachedPerLocale() throws Exception {
+        configDescriptionRegistry.addConfigDescriptionProvider(configDescriptionProviderMock);
+        configDescriptionRegistry.addConfigOptionProvider(configOptionsProviderMock);
+
+        ConfigDescription res1 = configDescriptionRegistry.getConfigDescription(uriDummy, Locale.GERMAN);
+        ConfigDescription res2 = configDescriptionRegistry.getConfigDescription(uriDummy, Locale.GERMAN);
+        assertThat(res2, is(sameInstance(res1)));
+        assertThat(configDescriptionRegistry.getCacheHits(), is(1L));
+        assertThat(configDescriptionRegistry.getCacheMisses(), is(1L));
+        verify(configDescriptionProviderMock, times(1)).getConfigDescription(uriDummy, Locale.GERMAN);
+        verify(configOptionsProviderMock, times(1)).getParameterOptions(eq(uriDummy), anyString(), any(),
+                eq(Locale.GERMAN));
+
+        configDescriptionRegistry.getConfigDescription(uriDummy, Locale.ENGLISH);
+        assertThat(configDescriptionRegistry.getCacheMisses(), is(2L));
+        verify(configDescriptionProviderMock, times(1)).getConfigDescription(uriDummy, Locale.ENGLISH);
+    }
+
+    @Test
+    public void testGetConfigDescriptionCacheInvalidatedOnProviderChange() throws Exception {
+        configDescriptionRegistry.addConfigDescriptionProvider(configDescriptionProviderMock);
+        assertThat(configDescriptionRegistry.getConfigDescription(uriDummy1), is(nullValue()));
+        assertThat(configDescriptionRegistry.getConfigDescription(uriDummy1), is(nullValue()));
+        assertThat(configDescriptionRegistry.getCacheHits(), is(1L));
+
+        configDescriptionRegistry.addConfigDescriptionProvider(configDescriptionProviderMock1);
+        assertThat(configDescriptionRegistry.getConfigDescription(uriDummy1), is(notNullValue()));
+
+        configDescriptionRegistry.addConfigDescriptionProvider(configDescriptionProviderMock2);
+        ConfigDescription merged = requireNonNull(configDescriptionRegistry.getConfigDescription(uriDummy));
+        assertThat(merged.getParameters().size(), is(2));
+
+        configDescriptionRegistry.removeConfigDescriptionProvider(configDescriptionProviderMock2);
+        ConfigDescription single = requireNonNull(configDescriptionRegistry.getConfigDescription(uriDummy));
+        assertThat(single.getParameters().size(), is(1));
+    }
+
+    @Test
+    public void testGetConfigDescriptionsCacheInvalidatedExplicitly() throws Exception {
+        configDescriptionRegistry.addConfigDescriptionProvider(configDescriptionProviderMock);
+        assertThat(configDescriptionRegistry.getConfigDescriptions().size(), is(1));
+        assertThat(configDescriptionRegistry.getConfigDescriptions().size(), is(1));
+        verify(configDescriptionProviderMock, times(1)).getConfigDescriptions(any());
+
+        when(configDescriptionProviderMock.getConfigDescriptions(any()))
+                .thenReturn(Set.of(configDescription, configDescription1));
+        assertThat(configDescriptionRegistry.getConfigDescriptions().size(), is(1));
+
+        configDescriptionRegistry.invalidateCache();
+        assertThat(configDescriptionRegistry.getConfigDescriptions().size(), is(2));
+    }
 }
@@ -16,15 +16,12 @@ import static org.openhab.core.config.discovery.addon.AddonFinderConstants.*;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
 import java.net.SocketAddress;
 import java.net.SocketException;
-import java.net.SocketTimeoutException;
 import java.net.StandardProtocolFamily;
 import java.net.StandardSocketOptions;
 import java.net.UnknownHostException;
@@ -33,6 +30,7 @@ import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.HexFormat;
@@ -192,7 +190,9 @@ import org.slf4j.LoggerFactory;
  *          and supported features may still change.
  *
  * @implNote On activation, a thread is spawned which handles the detection. Scan runs once,
- *           no continuous background scanning.
+ *           no continuous background scanning. The requests of all candidates are sent at once and the
+ *           responses are collected on a single {@link Selector}, so a scan takes about as long as the
+ *           longest timeout.
  *
  * @author Holger Friedrich - Initial contribution
  * @author Jacob Laursen - Added support for broadcast-based scanning
@@ -291,6 +291,7 @@ public class IpAddonFinder extends BaseAddonFinder implements NetworkAddressChan
 
     private void scan() {
         logger.trace("IpAddonFinder::scan started");
+        List<IpProbe> probes = new ArrayList<>();
         for (AddonInfo candidate : addonCandidates) {
             for (AddonDiscoveryMethod method : candidate.getDiscoveryMethods().stream()
                     .filter(method -> SERVICE_TYPE.equals(method.getServiceType())).toList()) {
@@ -303,138 +304,284 @@ public class IpAddonFinder extends BaseAddonFinder implements NetworkAddressChan
                     continue;
                 }
 
-                Map<String, String> parameters = method.getParameters().stream()
-                        .collect(Collectors.toMap(AddonParameter::getName, AddonParameter::getValue));
-                Map<String, String> matchProperties = method.getMatchProperties().stream()
-                        .collect(Collectors.toMap(AddonMatchProperty::getName, AddonMatchProperty::getRegex));
-
-                // parse standard set of parameters
-                String type = Objects.toString(parameters.get("type"), "");
-                String request = Objects.requireNonNull(Objects.toString(parameters.get(PARAMETER_REQUEST), ""));
-                String requestPlain = Objects
-                        .requireNonNull(Objects.toString(parameters.get(PARAMETER_REQUEST_PLAIN), ""));
-                // xor
-                if (!("".equals(request) ^ "".equals(requestPlain))) {
-                    logger.warn("{}: discovery-parameter '{}' or '{}' required", candidate.getUID(), PARAMETER_REQUEST,
-                            PARAMETER_REQUEST_PLAIN);
-                    continue;
+                IpProbe probe = createProbe(candidate, method);
+                if (probe != null) {
+                    probes.add(probe);
+                }
+            }
+        }
+
+        // all probes are sent at once and the responses are collected on a single selector, so the scan takes about as
+        // long as the longest timeout of the probes
+        try (Selector selector = Selector.open()) {
+            List<IpProbe> pending = probes;
+            while (!pending.isEmpty() && !Thread.currentThread().isInterrupted()) {
+                List<IpProbe> deferred = new ArrayList<>();
+                List<SelectionKey> inFlight = sendProbes(selector, pending, deferred);
+                collectResponses(selector, inFlight);
+                pending = deferred;
+            }
+        } catch (IOException e) {
+            logger.debug("IP scan failed", e);
+        }
+        logger.trace("IpAddonFinder::scan completed");
+    }
+
+    private @Nullable IpProbe createProbe(AddonInfo candidate, AddonDiscoveryMethod method) {
+        Map<String, String> parameters = method.getParameters().stream()
+                .collect(Collectors.toMap(AddonParameter::getName, AddonParameter::getValue));
+        Map<String, String> matchProperties = method.getMatchProperties().stream()
+                .collect(Collectors.toMap(AddonMatchProperty::getName, AddonMatchProperty::getRegex));
+
+        // parse standard set of parameters
+        String type = Objects.toString(parameters.get("type"), "");
+        String request = Objects.requireNonNull(Objects.toString(parameters.get(PARAMETER_REQUEST), ""));
+        String requestPlain = Objects.requireNonNull(Objects.toString(parameters.get(PARAMETER_REQUEST_PLAIN), ""));
+        // xor
+        if (!("".equals(request) ^ "".equals(requestPlain))) {
+            logger.warn("{}: discovery-parameter '{}' or '{}' required", candidate.getUID(), PARAMETER_REQUEST,
+                    PARAMETER_REQUEST_PLAIN);
+            return null;
+        }
+        String response = Objects.requireNonNull(Objects.toString(matchProperties.get(MATCH_PROPERTY_RESPONSE), ""));
+        int timeoutMs;
+        try {
+            timeoutMs = Integer.parseInt(Objects.toString(parameters.get(PARAMETER_TIMEOUT_MS)));
+        } catch (NumberFormatException e) {
+            logger.warn("{}: discovery-parameter '{}' cannot be parsed", candidate.getUID(), PARAMETER_TIMEOUT_MS);
+            return null;
+        }
+        @Nullable
+        InetAddress destIp;
+        try {
+            destIp = InetAddress.getByName(parameters.get(PARAMETER_DEST_IP));
+        } catch (UnknownHostException e) {
+            logger.warn("{}: discovery-parameter '{}' cannot be parsed", candidate.getUID(), PARAMETER_DEST_IP);
+            return null;
+        }
+        int destPort;
+        try {
+            destPort = Integer.parseInt(Objects.toString(parameters.get(PARAMETER_DEST_PORT)));
+        } catch (NumberFormatException e) {
+            logger.warn("{}: discovery-parameter '{}' cannot be parsed", candidate.getUID(), PARAMETER_DEST_PORT);
+            return null;
+        }
+        int listenPort = 0; // default, pick a non-privileged port
+        if (parameters.get(PARAMETER_LISTEN_PORT) != null) {
+            try {
+                listenPort = Integer.parseInt(Objects.toString(parameters.get(PARAMETER_LISTEN_PORT)));
+            } catch (NumberFormatException e) {
+                logger.warn("{}: discovery-parameter '{}' cannot be parsed", candidate.getUID(),
+                        PARAMETER_LISTEN_PORT);
+                return null;
+            }
+            // do not allow privileged ports
+            if (listenPort < 1024) {
+                logger.warn("{}: discovery-parameter '{}' not allowed, privileged port", candidate.getUID(),
+                        PARAMETER_LISTEN_PORT);
+                return null;
+            }
+        }
+        String macFormat = parameters.getOrDefault(PARAMETER_MAC_FORMAT, "%02X:");
+        if (!macFormatValid(macFormat)) {
+            logger.warn("{}: discovery-parameter '{}' invalid format specifier", candidate.getUID(), macFormat);
+            return null;
+        }
+
+        // handle known types
+        switch (Objects.toString(type)) {
+            case TYPE_IP_BROADCAST:
+                if (response.isEmpty()) {
+                    logger.warn("{}: match-property response \"{}\" is unknown", candidate.getUID(),
+                            TYPE_IP_BROADCAST);
+                    return null;
                 }
-                String response = Objects
-                        .requireNonNull(Objects.toString(matchProperties.get(MATCH_PROPERTY_RESPONSE), ""));
-                int timeoutMs;
+                byte[] expectedResponse;
                 try {
-                    timeoutMs = Integer.parseInt(Objects.toString(parameters.get(PARAMETER_TIMEOUT_MS)));
+                    expectedResponse = buildByteArray(response);
                 } catch (NumberFormatException e) {
-                    logger.warn("{}: discovery-parameter '{}' cannot be parsed", candidate.getUID(),
-                            PARAMETER_TIMEOUT_MS);
-                    continue;
+                    return null;
+                }
+                return new IpProbe(candidate, true, request, requestPlain, expectedResponse, timeoutMs, 0, null,
+                        destPort, macFormat);
+            case TYPE_IP_MULTICAST:
+                if (!".*".equals(response)) {
+                    logger.warn("{}: match-property response \"{}\" is unknown", candidate.getUID(),
+                            TYPE_IP_MULTICAST);
+                    return null;
                 }
-                @Nullable
-                InetAddress destIp;
+                return new IpProbe(candidate, false, request, requestPlain, null, timeoutMs, listenPort, destIp,
+                        destPort, macFormat);
+            default:
+                logger.warn("{}: discovery-parameter type \"{}\" is unknown", candidate.getUID(), type);
+                return null;
+        }
+    }
+
+    /**
+     * Sends the requests of the given probes and registers their channels with the selector.
+     *
+     * @param selector the selector the responses are collected with
+     * @param probes the probes to send
+     * @param deferred receives the probes that have to be sent in a later round
+     * @return the selection keys of the channels waiting for responses
+     */
+    private List<SelectionKey> sendProbes(Selector selector, List<IpProbe> probes, List<IpProbe> deferred) {
+        List<SelectionKey> inFlight = new ArrayList<>();
+        Set<Integer> listenPorts = new HashSet<>();
+        @Nullable
+        List<String> ipAddresses = null;
+        for (IpProbe probe : probes) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            if (probe.listenPort() != 0 && !listenPorts.add(probe.listenPort())) {
+                // responses to the same port could not be assigned to the right candidate
+                deferred.add(probe);
+                continue;
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(probe.timeoutMs());
+            if (probe.broadcast()) {
+                String broadcastAddress = networkAddressService.getConfiguredBroadcastAddress();
+                logger.debug("Starting broadcast scan with address {}", broadcastAddress);
                 try {
-                    destIp = InetAddress.getByName(parameters.get(PARAMETER_DEST_IP));
+                    sendProbe(selector, probe, new InetSocketAddress(0),
+                            new InetSocketAddress(InetAddress.getByName(broadcastAddress), probe.destPort()), deadline,
+                            inFlight);
                 } catch (UnknownHostException e) {
-                    logger.warn("{}: discovery-parameter '{}' cannot be parsed", candidate.getUID(), PARAMETER_DEST_IP);
-                    continue;
+                    logger.debug("{}: network error", probe.candidate().getUID(), e);
                 }
-                int destPort;
-                try {
-                    destPort = Integer.parseInt(Objects.toString(parameters.get(PARAMETER_DEST_PORT)));
-                } catch (NumberFormatException e) {
-                    logger.warn("{}: discovery-parameter '{}' cannot be parsed", candidate.getUID(),
-                            PARAMETER_DEST_PORT);
-                    continue;
+            } else {
+                if (ipAddresses == null) {
+                    ipAddresses = NetUtil.getAllInterfaceAddresses().stream()
+                            .filter(a -> a.getAddress() instanceof Inet4Address)
+                            .map(a -> a.getAddress().getHostAddress()).toList();
                 }
-                int listenPort = 0; // default, pick a non-privileged port
-                if (parameters.get(PARAMETER_LISTEN_PORT) != null) {
-                    try {
-                        listenPort = Integer.parseInt(Objects.toString(parameters.get(PARAMETER_LISTEN_PORT)));
-                    } catch (NumberFormatException e) {
-                        logger.warn("{}: discovery-parameter '{}' cannot be parsed", candidate.getUID(),
-                                PARAMETER_LISTEN_PORT);
-                        continue;
-                    }
-                    // do not allow privileged ports
-                    if (listenPort < 1024) {
-                        logger.warn("{}: discovery-parameter '{}' not allowed, privileged port", candidate.getUID(),
-                                PARAMETER_LISTEN_PORT);
-                        continue;
-                    }
+                for (String localIp : ipAddresses) {
+                    sendProbe(selector, probe, new InetSocketAddress(localIp, probe.listenPort()),
+                            new InetSocketAddress(probe.destIp(), probe.destPort()), deadline, inFlight);
                 }
-                String macFormat = parameters.getOrDefault(PARAMETER_MAC_FORMAT, "%02X:");
-                if (!macFormatValid(macFormat)) {
-                    logger.warn("{}: discovery-parameter '{}' invalid format specifier", candidate.getUID(), macFormat);
-                    continue;
+            }
+        }
+        return inFlight;
+    }
+
+    private void sendProbe(Selector selector, IpProbe probe, InetSocketAddress localAddress,
+            InetSocketAddress destination, long deadline, List<SelectionKey> inFlight) {
+        String id = probe.candidate().getUID();
+        @Nullable
+        DatagramChannel channel = null;
+        try {
+            channel = DatagramChannel.open(StandardProtocolFamily.INET);
+            channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            if (probe.broadcast()) {
+                channel.setOption(StandardSocketOptions.SO_BROADCAST, true);
+            } else {
+                channel.setOption(StandardSocketOptions.IP_MULTICAST_TTL, 64);
+            }
+            channel.bind(localAddress).configureBlocking(false);
+            byte[] requestArray = probe.requestPlain().isEmpty()
+                    ? buildRequestArray(channel.getLocalAddress(), probe.request())
+                    : buildRequestArrayPlain(channel.getLocalAddress(), probe.requestPlain(), probe.macFormat());
+            if (logger.isTraceEnabled()) {
+                InetSocketAddress sock = (InetSocketAddress) channel.getLocalAddress();
+                logger.trace("{}: probing {} -> {}:{}", id, sock.getAddress().getHostAddress(),
+                        destination.getAddress() != null ? destination.getAddress().getHostAddress() : "",
+                        destination.getPort());
+                if (!probe.requestPlain().isEmpty()) {
+                    logger.trace("{}: \'{}\'", id, new String(requestArray));
                 }
+                logger.trace("{}: {}", id, HexFormat.of().withDelimiter(" ").formatHex(requestArray));
+                logger.trace("{}: listening on {}:{} for {} ms", id, sock.getAddress().getHostAddress(),
+                        sock.getPort(), probe.timeoutMs());
+            }
 
-                // handle known types
+            channel.send(ByteBuffer.wrap(requestArray), destination);
+            inFlight.add(channel.register(selector, SelectionKey.OP_READ, new PendingResponse(probe, deadline)));
+        } catch (IOException | ParseException | NumberFormatException e) {
+            logger.debug("{}: network error", id, e);
+            if (channel != null) {
                 try {
-                    switch (Objects.toString(type)) {
-                        case TYPE_IP_BROADCAST:
-                            scanBroadcast(candidate, request, requestPlain, response, timeoutMs, destPort, macFormat);
-                            break;
-                        case TYPE_IP_MULTICAST:
-                            scanMulticast(candidate, request, requestPlain, response, timeoutMs, listenPort, destIp,
-                                    destPort, macFormat);
-                            break;
-                        default:
-                            logger.warn("{}: discovery-parameter type \"{}\" is unknown", candidate.getUID(), type);
-                    }
-                } catch (ParseException | NumberFormatException none) {
-                    continue;
+                    channel.close();
+                } catch (IOException ignored) {
                 }
             }
         }
-        logger.trace("IpAddonFinder::scan completed");
     }
 
-    private void scanBroadcast(AddonInfo candidate, String request, String requestPlain, String response, int timeoutMs,
-            int destPort, String macFormat) throws ParseException {
-        if (request.isEmpty() && requestPlain.isEmpty()) {
-            logger.warn("{}: match-property request and requestPlain \"{}\" is unknown", candidate.getUID(),
-                    TYPE_IP_BROADCAST);
-            return;
-        }
-        if (!request.isEmpty() && !requestPlain.isEmpty()) {
-            logger.warn("{}: match-properties request and requestPlain \"{}\" are both present", candidate.getUID(),
-                    TYPE_IP_BROADCAST);
-            return;
-        }
-        if (response.isEmpty()) {
-            logger.warn("{}: match-property response \"{}\" is unknown", candidate.getUID(), TYPE_IP_BROADCAST);
-            return;
-        }
-        String broadcastAddress = networkAddressService.getConfiguredBroadcastAddress();
-        logger.debug("Starting broadcast scan with address {}", broadcastAddress);
-
-        try (DatagramSocket socket = new DatagramSocket()) {
-            socket.setBroadcast(true);
-            socket.setSoTimeout(timeoutMs);
-            byte[] sendBuffer = requestPlain.isEmpty() ? buildRequestArray(socket.getLocalSocketAddress(), request)
-                    : buildRequestArrayPlain(socket.getLocalSocketAddress(), requestPlain, macFormat);
-            DatagramPacket sendPacket = new DatagramPacket(sendBuffer, sendBuffer.length,
-                    InetAddress.getByName(broadcastAddress), destPort);
-            socket.send(sendPacket);
-
-            // wait for responses
-            while (!Thread.currentThread().isInterrupted()) {
-                byte[] discoverReceive = buildByteArray(response);
-                byte[] receiveBuffer = new byte[discoverReceive.length];
-                DatagramPacket receivePacket = new DatagramPacket(receiveBuffer, receiveBuffer.length);
-                try {
-                    socket.receive(receivePacket);
-                } catch (SocketTimeoutException e) {
-                    break; // leave the endless loop
+    /**
+     * Waits for the responses to the probes until all of them have either been answered or timed out.
+     *
+     * @param selector the selector the channels are registered with
+     * @param inFlight the selection keys of the channels waiting for responses
+     */
+    private void collectResponses(Selector selector, List<SelectionKey> inFlight) throws IOException {
+        try {
+            while (!inFlight.isEmpty() && !Thread.currentThread().isInterrupted()) {
+                long now = System.nanoTime();
+                long timeout = Long.MAX_VALUE;
+                for (Iterator<SelectionKey> it = inFlight.iterator(); it.hasNext();) {
+                    SelectionKey key = it.next();
+                    PendingResponse pending = (PendingResponse) Objects.requireNonNull(key.attachment());
+                    long remaining = pending.deadline() - now;
+                    if (!key.isValid() || suggestions.contains(pending.probe().candidate())) {
+                        close(key);
+                        it.remove();
+                    } else if (remaining <= 0) {
+                        logger.trace("{}: no response received on {}", pending.probe().candidate().getUID(),
+                                ((DatagramChannel) key.channel()).getLocalAddress());
+                        close(key);
+                        it.remove();
+                    } else {
+                        timeout = Math.min(timeout, remaining);
+                    }
                 }
+                if (inFlight.isEmpty()) {
+                    break;
+                }
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeout)));
+                for (SelectionKey key : selector.selectedKeys()) {
+                    receive(key);
+                }
+                selector.selectedKeys().clear();
+            }
+        } finally {
+            inFlight.forEach(this::close);
+            // deregister the closed channels
+            selector.selectNow();
+        }
+    }
 
-                byte[] data = receivePacket.getData();
-                if (Arrays.equals(data, discoverReceive)) {
+    private void receive(SelectionKey key) {
+        PendingResponse pending = (PendingResponse) Objects.requireNonNull(key.attachment());
+        AddonInfo candidate = pending.probe().candidate();
+        byte[] expectedResponse = pending.probe().expectedResponse();
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[expectedResponse != null ? expectedResponse.length : 50]);
+        try {
+            SocketAddress source;
+            while ((source = ((DatagramChannel) key.channel()).receive(buffer)) != null) {
+                if (expectedResponse == null || Arrays.equals(buffer.array(), expectedResponse)) {
+                    logger.debug("Received return frame from {}",
+                            ((InetSocketAddress) source).getAddress().getHostAddress());
                     suggestions.add(candidate);
                     logger.debug("Suggested add-on found: {}", candidate.getUID());
+                    close(key);
+                    return;
                 }
+                buffer.clear();
+                Arrays.fill(buffer.array(), (byte) 0);
             }
         } catch (IOException e) {
             logger.debug("{}: network error", candidate.getUID(), e);
+            close(key);
+        }
+    }
+
+    private void close(SelectionKey key) {
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            logger.trace("Failed to close channel", e);
         }
     }
 
@@ -450,64 +597,6 @@ public class IpAddonFinder extends BaseAddonFinder implements NetworkAddressChan
         return requestFrame.toByteArray();
     }
 
-    private void scanMulticast(AddonInfo candidate, String request, String requestPlain, String response, int timeoutMs,
-            int listenPort, @Nullable InetAddress destIp, int destPort, String macFormat) throws ParseException {
-        List<String> ipAddresses = NetUtil.getAllInterfaceAddresses().stream()
-                .filter(a -> a.getAddress() instanceof Inet4Address).map(a -> a.getAddress().getHostAddress()).toList();
-
-        for (String localIp : ipAddresses) {
-            try (DatagramChannel channel = (DatagramChannel) DatagramChannel.open(StandardProtocolFamily.INET)
-                    .setOption(StandardSocketOptions.SO_REUSEADDR, true)
-                    .bind(new InetSocketAddress(localIp, listenPort))
-                    .setOption(StandardSocketOptions.IP_MULTICAST_TTL, 64).configureBlocking(false);
-                    Selector selector = Selector.open()) {
-                byte[] requestArray = "".equals(requestPlain)
-                        ? buildRequestArray(channel.getLocalAddress(), Objects.toString(request))
-                        : buildRequestArrayPlain(channel.getLocalAddress(), Objects.toString(requestPlain), macFormat);
-                if (logger.isTraceEnabled()) {
-                    InetSocketAddress sock = (InetSocketAddress) channel.getLocalAddress();
-                    String id = candidate.getUID();
-                    logger.trace("{}: probing {} -> {}:{}", id, localIp, destIp != null ? destIp.getHostAddress() : "",
-                            destPort);
-                    if (!"".equals(requestPlain)) {
-                        logger.trace("{}: \'{}\'", id, new String(requestArray));
-                    }
-                    logger.trace("{}: {}", id, HexFormat.of().withDelimiter(" ").formatHex(requestArray));
-                    logger.trace("{}: listening on {}:{} for {} ms", id, sock.getAddress().getHostAddress(),
-                            sock.getPort(), timeoutMs);
-                }
-
-                channel.send(ByteBuffer.wrap(requestArray), new InetSocketAddress(destIp, destPort));
-
-                // listen to responses
-                ByteBuffer buffer = ByteBuffer.wrap(new byte[50]);
-                channel.register(selector, SelectionKey.OP_READ);
-                selector.select(timeoutMs);
-                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
-
-                switch (Objects.toString(response)) {
-                    case ".*":
-                        if (it.hasNext()) {
-                            final SocketAddress source = ((DatagramChannel) it.next().channel()).receive(buffer);
-                            logger.debug("Received return frame from {}",
-                                    ((InetSocketAddress) source).getAddress().getHostAddress());
-                            suggestions.add(candidate);
-                            logger.debug("Suggested add-on found: {}", candidate.getUID());
-                        } else {
-                            logger.trace("{}: no response received on {}", candidate.getUID(), localIp);
-                        }
-                        break;
-                    default:
-                        logger.warn("{}: match-property response \"{}\" is unknown", candidate.getUID(),
-                                TYPE_IP_MULTICAST);
-                        break; // end loop
-                }
-            } catch (IOException e) {
-                logger.debug("{}: network error", candidate.getUID(), e);
-            }
-        }
-    }
-
     // build from plaintext string
     private byte[] buildRequestArrayPlain(SocketAddress address, String request, String macFormat)
             throws java.io.IOException, ParseException {
@@ -665,4 +754,18 @@ public class IpAddonFinder extends BaseAddonFinder implements NetworkAddressChan
         }
         return false;
     }
+
+    /**
+     * A request to be sent to the network, derived from an IP discovery method of an add-on candidate.
+     */
+    private record IpProbe(AddonInfo candidate, boolean broadcast, String request, String requestPlain,
+            byte @Nullable [] expectedResponse, int timeoutMs, int listenPort, @Nullable InetAddress destIp,
+            int destPort, String macFormat) {
+    }
+
+    /**
+     * The state of a channel waiting for a response, attached to its selection key.
+     */
+    private record PendingResponse(IpProbe probe, long deadline) {
+    }
 }
@@ -13,9 +13,11 @@
 package org.openhab.core.config.discovery;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -326,6 +328,38 @@ public abstract class AbstractDiscoveryService implements DiscoveryService {
         }
     }
 
+    /**
+     * Notifies the registered {@link DiscoveryListener}s about a batch of discovered devices.
+     * <p>
+     * Discovery services that find many devices at once, e.g. during a background scan, should prefer this method
+     * over calling {@link #thingDiscovered(DiscoveryResult)} for each device, so the results can be processed together.
+     *
+     * @param discoveryResults Hold the information needed to identify the discovered devices.
+     */
+    protected void thingsDiscovered(final Collection<DiscoveryResult> discoveryResults) {
+        if (discoveryResults.isEmpty()) {
+            return;
+        }
+        Bundle bundle = FrameworkUtil.getBundle(this.getClass());
+        final List<DiscoveryResult> discoveryResultsNew = new ArrayList<>(discoveryResults.size());
+        for (DiscoveryResult discoveryResult : discoveryResults) {
+            discoveryResultsNew.add(getLocalizedDiscoveryResult(discoveryResult, bundle));
+        }
+        for (DiscoveryListener discoveryListener : discoveryListeners) {
+            try {
+                discoveryListener.thingsDiscovered(this, discoveryResultsNew);
+            } catch (Exception e) {
+                logger.error("An error occurred while calling the discovery listener {}.",
+                        discoveryListener.getClass().getName(), e);
+            }
+        }
+        synchronized (cachedResults) {
+            for (DiscoveryResult discoveryResultNew : discoveryResultsNew) {
+                cachedResults.put(discoveryResultNew.getThingUID(), discoveryResultNew);
+            }
+        }
+    }
+
     /**
      * Notifies the registered {@link DiscoveryListener}s about a removed device.
      *
@@ -45,6 +45,22 @@ public interface DiscoveryListener {
      */
     void thingDiscovered(DiscoveryService source, DiscoveryResult result);
 
+    /**
+     * Invoked synchronously when a batch of {@link DiscoveryResult}s has been created by the according
+     * {@link DiscoveryService}, e.g. by a background scan.
+     * <p>
+     * The default implementation calls {@link #thingDiscovered(DiscoveryService, DiscoveryResult)} for each result.
+     * Listeners should override it if they can process the results more efficiently as a whole.
+     *
+     * @param source the discovery service which is the source of this event (not null)
+     * @param results the discovery results (not null)
+     */
+    default void thingsDiscovered(DiscoveryService source, Collection<DiscoveryResult> results) {
+        for (DiscoveryResult result : results) {
+            thingDiscovered(source, result);
+        }
+    }
+
     /**
      * Invoked synchronously when an already existing {@code Thing} has been
      * marked to be deleted by the according {@link DiscoveryService}.
@@ -12,6 +12,8 @@
  */
 package org.openhab.core.config.discovery.inbox;
 
+import static org.openhab.core.config.discovery.inbox.InboxPredicates.*;
+
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
@@ -21,6 +23,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultFlag;
 import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
 
 /**
@@ -86,6 +89,47 @@ public interface Inbox {
      */
     Stream<DiscoveryResult> stream();
 
+    /**
+     * Returns the {@link DiscoveryResult} associated with the specified {@code Thing} ID.
+     *
+     * @param thingUID the Thing UID of the discovery result
+     * @return the discovery result or {@code null} if this inbox does not contain a result for the Thing UID
+     */
+    default @Nullable DiscoveryResult get(ThingUID thingUID) {
+        return stream().filter(forThingUID(thingUID)).findFirst().orElse(null);
+    }
+
+    /**
+     * Returns all {@link DiscoveryResult}s in this {@link Inbox} discovered by the specified binding.
+     *
+     * @param bindingId the id of the binding
+     * @return the discovery results of the binding (not null, could be empty)
+     */
+    default List<DiscoveryResult> getByBinding(String bindingId) {
+        return stream().filter(forBinding(bindingId)).toList();
+    }
+
+    /**
+     * Returns all {@link DiscoveryResult}s in this {@link Inbox} of the specified {@code Thing} type.
+     *
+     * @param thingTypeUID the UID of the Thing type
+     * @return the discovery results of the Thing type (not null, could be empty)
+     */
+    default List<DiscoveryResult> getByThingType(ThingTypeUID thingTypeUID) {
+        return stream().filter(forThingTypeUID(thingTypeUID)).toList();
+    }
+
+    /**
+     * Returns all {@link DiscoveryResult}s in this {@link Inbox} whose representation property has the specified
+     * value.
+     *
+     * @param representationValue the value of the representation property
+     * @return the matching discovery results (not null, could be empty)
+     */
+    default List<DiscoveryResult> getByRepresentationPropertyValue(String representationValue) {
+        return stream().filter(withRepresentationPropertyValue(representationValue)).toList();
+    }
+
     /**
      * Sets the flag for a given thingUID result.<br>
      * The flag signals e.g. if the result is {@link DiscoveryResultFlag#NEW} or has been marked as
@@ -212,7 +212,7 @@ public class AutomaticInboxProcessor extends AbstractTypedEventSubscriber<ThingS
     }
 
     private void ignoreInInbox(ThingTypeUID thingtypeUID, String representationValue) {
-        List<DiscoveryResult> results = inbox.stream().filter(withRepresentationPropertyValue(representationValue))
+        List<DiscoveryResult> results = inbox.getByRepresentationPropertyValue(representationValue).stream()
                 .filter(forThingTypeUID(thingtypeUID)).toList();
         if (results.size() == 1) {
             logger.debug("Auto-ignoring the inbox entry for the representation value '{}'.", representationValue);
@@ -250,7 +250,7 @@ public class AutomaticInboxProcessor extends AbstractTypedEventSubscriber<ThingS
     }
 
     private void removeFromInbox(ThingTypeUID thingtypeUID, String representationValue) {
-        List<DiscoveryResult> results = inbox.stream().filter(withRepresentationPropertyValue(representationValue))
+        List<DiscoveryResult> results = inbox.getByRepresentationPropertyValue(representationValue).stream()
                 .filter(forThingTypeUID(thingtypeUID)).filter(withFlag(DiscoveryResultFlag.IGNORED)).toList();
         if (results.size() == 1) {
             logger.debug("Removing the ignored result from the inbox for the representation value '{}'.",
@@ -16,6 +16,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -157,6 +158,25 @@ public class DiscoveryResultImpl implements DiscoveryResult {
         }
     }
 
+    /**
+     * Checks if merging the specified source {@link DiscoveryResult} into this object would only refresh its timestamp.
+     *
+     * @param sourceResult the discovery result which would be used as source for the merge
+     * @return {@code true} if the source has the same {@code Thing} ID and content as this object
+     */
+    public boolean hasSameContent(DiscoveryResult sourceResult) {
+        return thingUID.equals(sourceResult.getThingUID()) && properties.equals(sourceResult.getProperties())
+                && Objects.equals(representationProperty, sourceResult.getRepresentationProperty())
+                && label.equals(sourceResult.getLabel()) && timeToLive == sourceResult.getTimeToLive();
+    }
+
+    /**
+     * Sets the timestamp of this object to the current time, e.g. because it has been discovered again.
+     */
+    public void refresh() {
+        this.timestamp = Instant.now();
+    }
+
     @Override
     public void normalizePropertiesOnConfigDescription(List<String> configurationParameters) {
         properties = properties.entrySet().stream().map(e -> {
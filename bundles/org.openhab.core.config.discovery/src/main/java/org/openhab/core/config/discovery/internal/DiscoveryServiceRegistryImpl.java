@@ -266,6 +266,22 @@ public final class DiscoveryServiceRegistryImpl implements DiscoveryServiceRegis
         }
     }
 
+    @Override
+    public synchronized void thingsDiscovered(final DiscoveryService source,
+            final Collection<DiscoveryResult> results) {
+        synchronized (cachedResults) {
+            Objects.requireNonNull(cachedResults.computeIfAbsent(source, unused -> new HashSet<>())).addAll(results);
+        }
+        for (final DiscoveryListener listener : listeners) {
+            try {
+                listener.thingsDiscovered(source, results);
+            } catch (Exception ex) {
+                logger.error("Cannot notify the DiscoveryListener '{}' on Things discovered event!",
+                        listener.getClass().getName(), ex);
+            }
+        }
+    }
+
     @Override
     public synchronized void thingRemoved(final DiscoveryService source, final ThingUID thingUID) {
         synchronized (cachedResults) {
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.discovery.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.discovery.DiscoveryResult;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * The {@link InboxIndex} keeps the {@link DiscoveryResult}s of the {@link PersistentInbox} in memory, indexed by their
+ * {@link ThingUID}, binding, {@link ThingTypeUID}, representation property value and bridge.
+ * <p>
+ * Reads are not synchronized, modifications of the index are.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class InboxIndex {
+
+    private final Map<ThingUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<ThingUID>> byBinding = new ConcurrentHashMap<>();
+    private final Map<ThingTypeUID, Set<ThingUID>> byThingType = new ConcurrentHashMap<>();
+    private final Map<String, Set<ThingUID>> byRepresentationValue = new ConcurrentHashMap<>();
+    private final Map<ThingUID, Set<ThingUID>> byBridge = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the content of the index.
+     *
+     * @param results the discovery results to index
+     */
+    synchronized void load(Collection<? extends @Nullable DiscoveryResult> results) {
+        entries.clear();
+        byBinding.clear();
+        byThingType.clear();
+        byRepresentationValue.clear();
+        byBridge.clear();
+        for (DiscoveryResult result : results) {
+            if (result != null) {
+                put(result);
+            }
+        }
+    }
+
+    /**
+     * Adds a discovery result to the index or re-indexes it, if a result with the same {@link ThingUID} is already
+     * known.
+     *
+     * @param result the discovery result
+     */
+    synchronized void put(DiscoveryResult result) {
+        ThingUID thingUID = result.getThingUID();
+        String representationProperty = result.getRepresentationProperty();
+        Object representationValue = representationProperty != null
+                ? result.getProperties().get(representationProperty)
+                : null;
+        Entry entry = new Entry(result, result.getBindingId(), result.getThingTypeUID(),
+                representationValue instanceof String value ? value : null, result.getBridgeUID());
+        Entry old = entries.put(thingUID, entry);
+        if (old != null) {
+            unindex(thingUID, old);
+        }
+        index(byBinding, entry.bindingId(), thingUID);
+        index(byThingType, entry.thingTypeUID(), thingUID);
+        index(byRepresentationValue, entry.representationValue(), thingUID);
+        index(byBridge, entry.bridgeUID(), thingUID);
+    }
+
+    /**
+     * Removes a discovery result from the index.
+     *
+     * @param thingUID the {@link ThingUID} of the discovery result
+     * @return the removed discovery result or <code>null</code> if no result was known for the {@link ThingUID}
+     */
+    synchronized @Nullable DiscoveryResult remove(ThingUID thingUID) {
+        Entry entry = entries.remove(thingUID);
+        if (entry == null) {
+            return null;
+        }
+        unindex(thingUID, entry);
+        return entry.result();
+    }
+
+    @Nullable
+    DiscoveryResult get(ThingUID thingUID) {
+        Entry entry = entries.get(thingUID);
+        return entry != null ? entry.result() : null;
+    }
+
+    List<DiscoveryResult> getAll() {
+        return stream().toList();
+    }
+
+    Stream<DiscoveryResult> stream() {
+        return entries.values().stream().map(Entry::result);
+    }
+
+    List<DiscoveryResult> getByBinding(String bindingId) {
+        return lookup(byBinding, bindingId);
+    }
+
+    List<DiscoveryResult> getByThingType(ThingTypeUID thingTypeUID) {
+        return lookup(byThingType, thingTypeUID);
+    }
+
+    List<DiscoveryResult> getByRepresentationValue(String representationValue) {
+        return lookup(byRepresentationValue, representationValue);
+    }
+
+    List<DiscoveryResult> getByBridge(ThingUID bridgeUID) {
+        return lookup(byBridge, bridgeUID);
+    }
+
+    private <K> List<DiscoveryResult> lookup(Map<K, Set<ThingUID>> index, K key) {
+        Set<ThingUID> thingUIDs = index.get(key);
+        if (thingUIDs == null) {
+            return List.of();
+        }
+        List<DiscoveryResult> results = new ArrayList<>(thingUIDs.size());
+        for (ThingUID thingUID : thingUIDs) {
+            DiscoveryResult result = get(thingUID);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private void unindex(ThingUID thingUID, Entry entry) {
+        unindex(byBinding, entry.bindingId(), thingUID);
+        unindex(byThingType, entry.thingTypeUID(), thingUID);
+        unindex(byRepresentationValue, entry.representationValue(), thingUID);
+        unindex(byBridge, entry.bridgeUID(), thingUID);
+    }
+
+    private static <K> void index(Map<K, Set<ThingUID>> index, @Nullable K key, ThingUID thingUID) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(thingUID);
+        }
+    }
+
+    private static <K> void unindex(Map<K, Set<ThingUID>> index, @Nullable K key, ThingUID thingUID) {
+        if (key != null) {
+            index.computeIfPresent(key, (k, thingUIDs) -> {
+                thingUIDs.remove(thingUID);
+                return thingUIDs.isEmpty() ? null : thingUIDs;
+            });
+        }
+    }
+
+    /**
+     * A discovery result together with the keys it has been indexed with. The keys are kept, because the result may be
+     * modified in place before it is re-indexed.
+     */
+    private record Entry(DiscoveryResult result, String bindingId, ThingTypeUID thingTypeUID,
+            @Nullable String representationValue, @Nullable ThingUID bridgeUID) {
+    }
+}
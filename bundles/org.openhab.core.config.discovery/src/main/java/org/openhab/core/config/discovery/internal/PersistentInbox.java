@@ -12,14 +12,13 @@
  */
 package org.openhab.core.config.discovery.internal;
 
-import static org.openhab.core.config.discovery.inbox.InboxPredicates.forThingUID;
-
 import java.net.URI;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -82,6 +81,11 @@ import org.slf4j.LoggerFactory;
  * <p>
  * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners. No
  * performance optimizations have been done (synchronization).
+ * <p>
+ * The discovery results are kept in an in-memory {@link InboxIndex}. The storage is only read on activation and
+ * written when a result changes. A result that is discovered again without any change only gets its timestamp
+ * refreshed, neither listeners nor the event bus are notified and the storage is updated together with other
+ * refreshed results by the time to live check.
  *
  * @author Michael Grammling - Initial contribution
  * @author Dennis Nobel - Added automated removing of entries
@@ -112,6 +116,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
         @Override
         public void run() {
+            storeRefreshedResults();
             Instant now = Instant.now();
             for (DiscoveryResult result : inbox.getAll()) {
                 if (isResultExpired(result, now)) {
@@ -139,6 +144,8 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     private final ThingTypeRegistry thingTypeRegistry;
     private final ConfigDescriptionRegistry configDescRegistry;
     private final Storage<DiscoveryResult> discoveryResultStorage;
+    private final InboxIndex index = new InboxIndex();
+    private final Set<ThingUID> refreshedResults = ConcurrentHashMap.newKeySet();
     private final Map<DiscoveryResult, Class<?>> resultDiscovererMap = new ConcurrentHashMap<>();
     private @NonNullByDefault({}) ScheduledFuture<?> timeToLiveChecker;
     private @NonNullByDefault({}) ScheduledFuture<?> delayedDiscoveryResultProcessor;
@@ -164,6 +171,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Activate
     protected void activate() {
+        index.load(discoveryResultStorage.getValues());
         discoveryServiceRegistry.addDiscoveryListener(this);
         thingRegistry.addRegistryChangeListener(this);
         ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("discovery");
@@ -180,19 +188,19 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         listeners.clear();
         timeToLiveChecker.cancel(true);
         delayedDiscoveryResultProcessor.cancel(true);
+        storeRefreshedResults();
         delayedDiscoveryResults.values().forEach(dr -> dr.future.complete(false));
     }
 
     @Override
     public @Nullable Thing approve(ThingUID thingUID, @Nullable String label, @Nullable String newThingId) {
-        List<DiscoveryResult> results = stream().filter(forThingUID(thingUID)).toList();
-        if (results.isEmpty()) {
+        DiscoveryResult result = get(thingUID);
+        if (result == null) {
             throw new IllegalArgumentException("No Thing with UID " + thingUID.getAsString() + " in inbox");
         }
         if (newThingId != null && newThingId.contains(AbstractUID.SEPARATOR)) {
             throw new IllegalArgumentException("New Thing ID " + newThingId + " must not contain multiple segments");
         }
-        DiscoveryResult result = results.getFirst();
         final Map<String, String> properties = new HashMap<>();
         final Map<String, Object> configParams = new HashMap<>();
         getPropsAndConfigParams(result, properties, configParams);
@@ -275,16 +283,22 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
             DiscoveryResult inboxResult = get(thingUID);
 
             if (inboxResult == null) {
-                discoveryResultStorage.put(discoveryResult.getThingUID().toString(), discoveryResult);
+                store(discoveryResult);
                 notifyListeners(discoveryResult, EventType.ADDED);
                 logger.info("Added new thing '{}' to inbox.", thingUID);
                 discoveryResultWrapper.future.complete(true);
             } else {
                 if (inboxResult instanceof DiscoveryResultImpl resultImpl) {
-                    resultImpl.synchronize(discoveryResult);
-                    discoveryResultStorage.put(discoveryResult.getThingUID().toString(), resultImpl);
-                    notifyListeners(resultImpl, EventType.UPDATED);
-                    logger.debug("Updated discovery result for '{}'.", thingUID);
+                    if (resultImpl.hasSameContent(discoveryResult)) {
+                        resultImpl.refresh();
+                        refreshedResults.add(thingUID);
+                        logger.trace("Refreshed unchanged discovery result for '{}'.", thingUID);
+                    } else {
+                        resultImpl.synchronize(discoveryResult);
+                        store(resultImpl);
+                        notifyListeners(resultImpl, EventType.UPDATED);
+                        logger.debug("Updated discovery result for '{}'.", thingUID);
+                    }
                     discoveryResultWrapper.future.complete(true);
                 } else {
                     logger.warn("Cannot synchronize result with implementation class '{}'.",
@@ -365,12 +379,27 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Override
     public List<DiscoveryResult> getAll() {
-        return stream().toList();
+        return index.getAll();
     }
 
     @Override
     public Stream<DiscoveryResult> stream() {
-        return (Stream<DiscoveryResult>) discoveryResultStorage.getValues().stream().filter(Objects::nonNull);
+        return index.stream();
+    }
+
+    @Override
+    public List<DiscoveryResult> getByBinding(String bindingId) {
+        return index.getByBinding(bindingId);
+    }
+
+    @Override
+    public List<DiscoveryResult> getByThingType(ThingTypeUID thingTypeUID) {
+        return index.getByThingType(thingTypeUID);
+    }
+
+    @Override
+    public List<DiscoveryResult> getByRepresentationPropertyValue(String representationValue) {
+        return index.getByRepresentationValue(representationValue);
     }
 
     @Override
@@ -382,7 +411,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
                     removeResultsForBridge(thingUID);
                 }
                 resultDiscovererMap.remove(discoveryResult);
-                discoveryResultStorage.remove(thingUID.toString());
+                delete(thingUID);
                 notifyListeners(discoveryResult, EventType.REMOVED);
                 return true;
             }
@@ -406,6 +435,18 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         });
     }
 
+    @Override
+    public void thingsDiscovered(DiscoveryService source, Collection<DiscoveryResult> results) {
+        // a result reported more than once in the same batch only needs to be added in its latest version
+        Map<ThingUID, DiscoveryResult> latestResults = new LinkedHashMap<>();
+        for (DiscoveryResult result : results) {
+            latestResults.put(result.getThingUID(), result);
+        }
+        synchronized (this) {
+            latestResults.values().forEach(result -> thingDiscovered(source, result));
+        }
+    }
+
     @Override
     public void thingRemoved(DiscoveryService source, ThingUID thingUID) {
         remove(thingUID);
@@ -460,7 +501,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         DiscoveryResult result = get(thingUID);
         if (result instanceof DiscoveryResultImpl resultImpl) {
             resultImpl.setFlag((flag == null) ? DiscoveryResultFlag.NEW : flag);
-            discoveryResultStorage.put(resultImpl.getThingUID().toString(), resultImpl);
+            store(resultImpl);
             notifyListeners(resultImpl, EventType.UPDATED);
         } else if (result == null) {
             logger.warn("Cannot set flag for result '{}' because it can't be found in storage", thingUID);
@@ -469,17 +510,35 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         }
     }
 
+    @Override
+    public @Nullable DiscoveryResult get(ThingUID thingUID) {
+        return index.get(thingUID);
+    }
+
+    private void store(DiscoveryResult result) {
+        refreshedResults.remove(result.getThingUID());
+        index.put(result);
+        discoveryResultStorage.put(result.getThingUID().toString(), result);
+    }
+
+    private void delete(ThingUID thingUID) {
+        refreshedResults.remove(thingUID);
+        index.remove(thingUID);
+        discoveryResultStorage.remove(thingUID.toString());
+    }
+
     /**
-     * Returns the {@link DiscoveryResult} in this {@link Inbox} associated with
-     * the specified {@code Thing} ID, or {@code null}, if no {@link DiscoveryResult} could be found.
-     *
-     * @param thingUID the Thing UID to which the discovery result should be returned
-     *
-     * @return the discovery result associated with the specified Thing ID, or
-     *         null, if no discovery result could be found
+     * Writes the results whose timestamp has been refreshed since the last call to the storage.
      */
-    private @Nullable DiscoveryResult get(ThingUID thingUID) {
-        return discoveryResultStorage.get(thingUID.toString());
+    private void storeRefreshedResults() {
+        for (Iterator<ThingUID> it = refreshedResults.iterator(); it.hasNext();) {
+            ThingUID thingUID = it.next();
+            it.remove();
+            DiscoveryResult result = index.get(thingUID);
+            if (result != null) {
+                discoveryResultStorage.put(thingUID.toString(), result);
+            }
+        }
     }
 
     private void notifyListeners(DiscoveryResult result, EventType type) {
@@ -502,7 +561,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
             }
         }
 
-        // in case of EventType added/updated the listeners might have modified the result in the discoveryResultStorage
+        // in case of EventType added/updated the listeners might have modified the result in the inbox
         final DiscoveryResult resultForEvent;
         if (type == EventType.REMOVED) {
             resultForEvent = result;
@@ -546,20 +605,14 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         for (ThingUID thingUID : getResultsForBridge(bridgeUID)) {
             DiscoveryResult discoveryResult = get(thingUID);
             if (discoveryResult != null) {
-                discoveryResultStorage.remove(thingUID.toString());
+                delete(thingUID);
                 notifyListeners(discoveryResult, EventType.REMOVED);
             }
         }
     }
 
     private List<ThingUID> getResultsForBridge(ThingUID bridgeUID) {
-        List<ThingUID> thingsForBridge = new ArrayList<>();
-        for (DiscoveryResult result : discoveryResultStorage.getValues()) {
-            if (result != null && bridgeUID.equals(result.getBridgeUID())) {
-                thingsForBridge.add(result.getThingUID());
-            }
-        }
-        return thingsForBridge;
+        return index.getByBridge(bridgeUID).stream().map(DiscoveryResult::getThingUID).toList();
     }
 
     /**
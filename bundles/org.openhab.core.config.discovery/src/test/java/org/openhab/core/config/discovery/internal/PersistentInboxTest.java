@@ -41,9 +41,14 @@ import org.openhab.core.config.core.ConfigDescriptionRegistry;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
+import org.openhab.core.config.discovery.DiscoveryResultFlag;
+import org.openhab.core.config.discovery.DiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryServiceRegistry;
+import org.openhab.core.config.discovery.inbox.Inbox;
+import org.openhab.core.config.discovery.inbox.InboxListener;
 import org.openhab.core.config.discovery.inbox.events.InboxAddedEvent;
 import org.openhab.core.config.discovery.inbox.events.InboxUpdatedEvent;
+import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
@@ -192,51 +197,112 @@ public class PersistentInboxTest {
     }
 
     @Test
-    public void testEmittedAddedResultIsReadFromStorage() {
+    public void testEmittedAddedResultIsReadFromInbox() {
         DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build();
 
         EventPublisher eventPublisher = mock(EventPublisher.class);
         inbox.setEventPublisher(eventPublisher);
-
-        when(storageMock.get(THING_UID.toString())) //
-                .thenReturn(null) //
-                .thenReturn(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+        inbox.addInboxListener(new FlaggingInboxListener());
 
         inbox.activate();
         inbox.add(result);
 
-        // 1st call checks existence of the result in the storage (returns null)
-        // 2nd call retrieves the stored instance before the event gets emitted
-        // (modified due to storage mock configuration)
-        verify(storageMock, times(2)).get(THING_UID.toString());
-
-        ArgumentCaptor<InboxAddedEvent> eventCaptor = ArgumentCaptor.forClass(InboxAddedEvent.class);
-        verify(eventPublisher).post(eventCaptor.capture());
-        assertThat(eventCaptor.getValue().getDiscoveryResult().properties, hasEntry("foo", "bar"));
+        // the listener modified the result before the event gets emitted
+        InboxAddedEvent event = getPostedEvent(eventPublisher, InboxAddedEvent.class);
+        assertEquals(DiscoveryResultFlag.IGNORED, event.getDiscoveryResult().flag);
+        verify(storageMock, never()).get(any());
     }
 
     @Test
-    public void testEmittedUpdatedResultIsReadFromStorage() {
+    public void testEmittedUpdatedResultIsReadFromInbox() {
         DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build();
+        when(storageMock.getValues()).thenReturn(List.of(result));
 
         EventPublisher eventPublisher = mock(EventPublisher.class);
         inbox.setEventPublisher(eventPublisher);
+        inbox.addInboxListener(new FlaggingInboxListener());
 
-        when(storageMock.get(THING_UID.toString())) //
-                .thenReturn(result) //
-                .thenReturn(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+        inbox.activate();
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+
+        InboxUpdatedEvent event = getPostedEvent(eventPublisher, InboxUpdatedEvent.class);
+        assertThat(event.getDiscoveryResult().properties, hasEntry("foo", "bar"));
+        assertEquals(DiscoveryResultFlag.IGNORED, event.getDiscoveryResult().flag);
+        verify(storageMock, never()).get(any());
+    }
+
+    @Test
+    public void testLookupsAreAnsweredFromIndex() {
+        DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).withProperty("serial", "1234")
+                .withRepresentationProperty("serial").build();
+        DiscoveryResult other = DiscoveryResultBuilder.create(new ThingUID(new ThingTypeUID("other", "type"), "x"))
+                .build();
+        when(storageMock.getValues()).thenReturn(List.of(result, other));
 
         inbox.activate();
-        inbox.add(result);
 
-        // 1st call checks existence of the result in the storage (returns the original result)
-        // 2nd call retrieves the stored instance before the event gets emitted
-        // (modified due to storage mock configuration)
-        verify(storageMock, times(2)).get(THING_UID.toString());
+        assertEquals(result, inbox.get(THING_UID));
+        assertEquals(List.of(result), inbox.getByBinding("test"));
+        assertEquals(List.of(result), inbox.getByThingType(THING_TYPE_UID));
+        assertEquals(List.of(result), inbox.getByRepresentationPropertyValue("1234"));
+        assertEquals(2, inbox.getAll().size());
 
-        ArgumentCaptor<InboxUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(InboxUpdatedEvent.class);
-        verify(eventPublisher).post(eventCaptor.capture());
-        assertThat(eventCaptor.getValue().getDiscoveryResult().properties, hasEntry("foo", "bar"));
+        inbox.remove(THING_UID);
+
+        assertNull(inbox.get(THING_UID));
+        assertEquals(List.of(), inbox.getByRepresentationPropertyValue("1234"));
+        assertEquals(List.of(other), inbox.getAll());
+        verify(storageMock).remove(THING_UID.toString());
+        verify(storageMock, never()).get(any());
+    }
+
+    @Test
+    public void testUnchangedResultIsOnlyRefreshed() {
+        EventPublisher eventPublisher = mock(EventPublisher.class);
+        inbox.setEventPublisher(eventPublisher);
+
+        inbox.activate();
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build());
+        DiscoveryResult added = inbox.get(THING_UID);
+        assertNotNull(added);
+        long timestamp = added.getTimestamp();
+
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build());
+
+        verify(eventPublisher, times(1)).post(any(InboxAddedEvent.class));
+        verifyNoMoreInteractions(eventPublisher);
+        verify(storageMock, times(1)).put(eq(THING_UID.toString()), any());
+        assertTrue(added.getTimestamp() >= timestamp);
+
+        // the refreshed result is stored later
+        inbox.deactivate();
+        verify(storageMock, times(2)).put(eq(THING_UID.toString()), any());
+    }
+
+    @Test
+    public void testThingsDiscovered() {
+        EventPublisher eventPublisher = mock(EventPublisher.class);
+        inbox.setEventPublisher(eventPublisher);
+
+        inbox.activate();
+        inbox.thingsDiscovered(mock(DiscoveryService.class),
+                List.of(DiscoveryResultBuilder.create(THING_UID).withLabel("first").build(),
+                        DiscoveryResultBuilder.create(THING_OTHER_UID).build(),
+                        DiscoveryResultBuilder.create(THING_UID).withLabel("second").build()));
+
+        verify(eventPublisher, times(2)).post(any(InboxAddedEvent.class));
+        verifyNoMoreInteractions(eventPublisher);
+        DiscoveryResult result = inbox.get(THING_UID);
+        assertNotNull(result);
+        assertEquals("second", result.getLabel());
+        assertEquals(2, inbox.getAll().size());
+    }
+
+    private <T extends Event> T getPostedEvent(EventPublisher eventPublisher, Class<T> eventType) {
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(eventPublisher, atLeastOnce()).post(eventCaptor.capture());
+        return eventCaptor.getAllValues().stream().filter(eventType::isInstance).map(eventType::cast).findFirst()
+                .orElseThrow();
     }
 
     private void configureConfigDescriptionRegistryMock(String paramName, Type type) {
@@ -249,4 +315,22 @@ public class PersistentInboxTest {
         when(thingTypeRegistryMock.getThingType(THING_TYPE_UID)).thenReturn(thingType);
         when(configDescriptionRegistryMock.getConfigDescription(eq(configDescriptionURI))).thenReturn(configDesc);
     }
+
+    private class FlaggingInboxListener implements InboxListener {
+        @Override
+        public void thingAdded(Inbox source, DiscoveryResult result) {
+            inbox.setFlag(result.getThingUID(), DiscoveryResultFlag.IGNORED);
+        }
+
+        @Override
+        public void thingUpdated(Inbox source, DiscoveryResult result) {
+            if (result.getFlag() != DiscoveryResultFlag.IGNORED) {
+                inbox.setFlag(result.getThingUID(), DiscoveryResultFlag.IGNORED);
+            }
+        }
+
+        @Override
+        public void thingRemoved(Inbox source, DiscoveryResult result) {
+        }
+    }
 }
@@ -20,6 +20,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Dictionary;
 import java.util.HashMap;
@@ -221,6 +222,7 @@ public class ConfigDispatcher {
         } catch (IOException e) {
             logger.warn("Could not process default config file '{}': {}", defaultCfgPath, e.getMessage());
         }
+        storeCurrentExclusivePIDList();
     }
 
     public void processConfigFile(File dir) {
@@ -389,7 +391,30 @@ public class ConfigDispatcher {
         for (Entry<Configuration, Dictionary> entry : configsToUpdate.entrySet()) {
             entry.getKey().update(entry.getValue());
         }
+    }
 
+    /**
+     * Processes a set of removed and changed configuration files at once.
+     *
+     * The removals are processed first and the orphaned exclusive PIDs are only cleaned up (and the list of exclusive
+     * PIDs stored) once after all files were processed, instead of once per file.
+     *
+     * @param removedPaths the absolute paths of the removed files
+     * @param changedFiles the created or modified files
+     */
+    public void processConfigFiles(Collection<String> removedPaths, Collection<File> changedFiles) {
+        removedPaths.forEach(exclusivePIDMap::setFileRemoved);
+        // like for a directory, the last modified file is processed last
+        List<File> files = new ArrayList<>(changedFiles);
+        files.sort(Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            try {
+                internalProcessConfigFile(file);
+            } catch (IOException e) {
+                logger.warn("Could not process config file '{}': {}", file.getName(), e.getMessage());
+            }
+        }
+        processOrphanExclusivePIDs();
         storeCurrentExclusivePIDList();
     }
 
@@ -12,9 +12,13 @@
  */
 package org.openhab.core.config.dispatch.internal;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.OpenHAB;
@@ -62,6 +66,30 @@ public class ConfigDispatcherFileWatcher implements WatchService.WatchEventListe
         watchService.unregisterListener(this);
     }
 
+    @Override
+    public void processWatchEvents(Map<Path, WatchService.Kind> events) {
+        List<String> removedPaths = new ArrayList<>();
+        List<File> changedFiles = new ArrayList<>();
+        events.forEach((path, kind) -> {
+            Path fullPath = watchService.getWatchPath().resolve(SERVICES_FOLDER).resolve(path);
+            if (!fullPath.toString().endsWith(".cfg")) {
+                return;
+            }
+            try {
+                if (kind == WatchService.Kind.DELETE) {
+                    removedPaths.add(fullPath.toString());
+                } else if (!Files.isHidden(fullPath)) {
+                    changedFiles.add(fullPath.toFile());
+                }
+            } catch (IOException e) {
+                logger.error("Failed to process watch event {} for {}", kind, path, e);
+            }
+        });
+        if (!removedPaths.isEmpty() || !changedFiles.isEmpty()) {
+            configDispatcher.processConfigFiles(removedPaths, changedFiles);
+        }
+    }
+
     @Override
     public void processWatchEvent(WatchService.Kind kind, Path path) {
         Path fullPath = watchService.getWatchPath().resolve(SERVICES_FOLDER).resolve(path);
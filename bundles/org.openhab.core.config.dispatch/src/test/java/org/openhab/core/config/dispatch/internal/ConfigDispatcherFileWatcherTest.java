@@ -17,6 +17,9 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
@@ -93,4 +96,18 @@ public class ConfigDispatcherFileWatcherTest {
         configDispatcherFileWatcher.processWatchEvent(WatchService.Kind.DELETE, nonCfgPath);
         verifyNoMoreInteractions(configDispatcherMock);
     }
+
+    @Test
+    public void bulkChangeIsProcessedAtOnce() throws IOException {
+        Path removedCfgPath = tempDir.resolve("removed.cfg");
+        Map<Path, WatchService.Kind> events = new LinkedHashMap<>();
+        events.put(cfgPath, WatchService.Kind.CREATE);
+        events.put(nonCfgPath, WatchService.Kind.MODIFY);
+        events.put(removedCfgPath, WatchService.Kind.DELETE);
+
+        configDispatcherFileWatcher.processWatchEvents(events);
+        verify(configDispatcherMock).processConfigFiles(List.of(removedCfgPath.toAbsolutePath().toString()),
+                List.of(cfgPath.toAbsolutePath().toFile()));
+        verifyNoMoreInteractions(configDispatcherMock);
+    }
 }
@@ -16,15 +16,22 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.auth.VerifiedCredentialCache;
+import org.openhab.core.automation.RuleManager;
 import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.config.core.ConfigDescriptionRegistry;
 import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.monitor.internal.metrics.BundleStateMetric;
+import org.openhab.core.io.monitor.internal.metrics.ConfigDescriptionCacheMetric;
 import org.openhab.core.io.monitor.internal.metrics.EventCountMetric;
 import org.openhab.core.io.monitor.internal.metrics.JVMMetric;
 import org.openhab.core.io.monitor.internal.metrics.OpenhabCoreMeterBinder;
+import org.openhab.core.io.monitor.internal.metrics.PersistenceWriteBehindMetric;
 import org.openhab.core.io.monitor.internal.metrics.RuleMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThingStateMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThreadPoolMetric;
+import org.openhab.core.io.monitor.internal.metrics.VerifiedCredentialCacheMetric;
+import org.openhab.core.persistence.PersistenceWriteBehindStatistics;
 import org.openhab.core.service.ReadyMarker;
 import org.openhab.core.service.ReadyMarkerFilter;
 import org.openhab.core.service.ReadyService;
@@ -59,14 +66,26 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
     private final ReadyService readyService;
     private final ThingRegistry thingRegistry;
     private final RuleRegistry ruleRegistry;
+    private final RuleManager ruleManager;
+    private final ConfigDescriptionRegistry configDescriptionRegistry;
+    private final VerifiedCredentialCache credentialCache;
+    private final PersistenceWriteBehindStatistics writeBehindStatistics;
 
     @Activate
     public DefaultMetricsRegistration(BundleContext bundleContext, final @Reference ReadyService readyService,
-            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry) {
+            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry,
+            final @Reference RuleManager ruleManager,
+            final @Reference ConfigDescriptionRegistry configDescriptionRegistry,
+            final @Reference VerifiedCredentialCache credentialCache,
+            final @Reference PersistenceWriteBehindStatistics writeBehindStatistics) {
         this.bundleContext = bundleContext;
         this.readyService = readyService;
         this.thingRegistry = thingRegistry;
         this.ruleRegistry = ruleRegistry;
+        this.ruleManager = ruleManager;
+        this.configDescriptionRegistry = configDescriptionRegistry;
+        this.credentialCache = credentialCache;
+        this.writeBehindStatistics = writeBehindStatistics;
     }
 
     @Activate
@@ -90,7 +109,10 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
         meters.add(new BundleStateMetric(bundleContext, tags));
         meters.add(new ThingStateMetric(bundleContext, thingRegistry, tags));
         meters.add(new EventCountMetric(bundleContext, tags));
-        meters.add(new RuleMetric(bundleContext, tags, ruleRegistry));
+        meters.add(new RuleMetric(tags, ruleRegistry, ruleManager));
+        meters.add(new ConfigDescriptionCacheMetric(tags, configDescriptionRegistry));
+        meters.add(new VerifiedCredentialCacheMetric(tags, credentialCache));
+        meters.add(new PersistenceWriteBehindMetric(tags, writeBehindStatistics));
 
         meters.forEach(m -> m.bindTo(registry));
     }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.ConfigDescriptionRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * The {@link ConfigDescriptionCacheMetric} class implements counter metrics for the hits and misses of the
+ * {@link ConfigDescriptionRegistry} cache
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ConfigDescriptionCacheMetric implements OpenhabCoreMeterBinder {
+
+    public static final String METRIC_NAME = "openhab.config.description.cache";
+    private final Logger logger = LoggerFactory.getLogger(ConfigDescriptionCacheMetric.class);
+    private static final Tag CORE_CONFIG_DESCRIPTION_METRIC_TAG = Tag.of("metric",
+            "openhab.core.metric.configdescriptions");
+    private static final String RESULT_TAG_NAME = "result";
+    private final Set<Tag> tags = new HashSet<>();
+    private final ConfigDescriptionRegistry configDescriptionRegistry;
+    private @Nullable MeterRegistry meterRegistry;
+
+    public ConfigDescriptionCacheMetric(Collection<Tag> tags, ConfigDescriptionRegistry configDescriptionRegistry) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_CONFIG_DESCRIPTION_METRIC_TAG);
+        this.configDescriptionRegistry = configDescriptionRegistry;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("ConfigDescriptionCacheMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        FunctionCounter.builder(METRIC_NAME, configDescriptionRegistry, ConfigDescriptionRegistry::getCacheHits)
+                .tags(tags).tag(RESULT_TAG_NAME, "hit").register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME, configDescriptionRegistry, ConfigDescriptionRegistry::getCacheMisses)
+                .tags(tags).tag(RESULT_TAG_NAME, "miss").register(meterRegistry);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_CONFIG_DESCRIPTION_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.PersistenceWriteBehindStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * The {@link PersistenceWriteBehindMetric} class implements metrics for the persistence write-behind queues: the
+ * number of batches and batched states (their ratio is the average batch size), dropped states, and the size and lag
+ * of the queues
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceWriteBehindMetric implements OpenhabCoreMeterBinder {
+
+    public static final String METRIC_NAME = "openhab.persistence.writebehind";
+    private final Logger logger = LoggerFactory.getLogger(PersistenceWriteBehindMetric.class);
+    private static final Tag CORE_PERSISTENCE_WRITE_BEHIND_METRIC_TAG = Tag.of("metric",
+            "openhab.core.metric.persistence.writebehind");
+    private final Set<Tag> tags = new HashSet<>();
+    private final PersistenceWriteBehindStatistics statistics;
+    private @Nullable MeterRegistry meterRegistry;
+
+    public PersistenceWriteBehindMetric(Collection<Tag> tags, PersistenceWriteBehindStatistics statistics) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_PERSISTENCE_WRITE_BEHIND_METRIC_TAG);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("PersistenceWriteBehindMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        FunctionCounter.builder(METRIC_NAME + ".batches", statistics, PersistenceWriteBehindStatistics::getBatchCount)
+                .tags(tags).register(meterRegistry);
+        FunctionCounter
+                .builder(METRIC_NAME + ".stored", statistics, PersistenceWriteBehindStatistics::getBatchedCount)
+                .tags(tags).register(meterRegistry);
+        FunctionCounter
+                .builder(METRIC_NAME + ".dropped", statistics, PersistenceWriteBehindStatistics::getDroppedCount)
+                .tags(tags).register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".queued", statistics, PersistenceWriteBehindStatistics::getQueuedCount)
+                .tags(tags).register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".lag", statistics, PersistenceWriteBehindStatistics::getQueueLag)
+                .baseUnit("milliseconds").tags(tags).register(meterRegistry);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_PERSISTENCE_WRITE_BEHIND_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+    }
+}
@@ -14,51 +14,49 @@ package org.openhab.core.io.monitor.internal.metrics;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Rule;
+import org.openhab.core.automation.RuleManager;
 import org.openhab.core.automation.RuleRegistry;
-import org.openhab.core.automation.RuleStatus;
-import org.openhab.core.automation.events.RuleStatusInfoEvent;
-import org.openhab.core.events.Event;
-import org.openhab.core.events.EventSubscriber;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 
 /**
- * The {@link RuleMetric} class implements a gauge metric for rules RUNNING events (per rule)
+ * The {@link RuleMetric} class implements a counter metric for rule executions (per rule). The counts are taken from
+ * the {@link RuleManager}, so they do not depend on the rule status events.
  *
  * @author Robert Bach - Initial contribution
  */
 @NonNullByDefault
-public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
+public class RuleMetric implements OpenhabCoreMeterBinder, RegistryChangeListener<Rule> {
 
     public static final String METRIC_NAME = "openhab.rule.runs";
-    public static final String RULES_TOPIC_PREFIX = "openhab/rules/";
-    public static final String RULES_TOPIC_SUFFIX = "/state";
     private final Logger logger = LoggerFactory.getLogger(RuleMetric.class);
     private static final Tag CORE_RULE_METRIC_TAG = Tag.of("metric", "openhab.core.metric.rules");
     private static final String RULE_ID_TAG_NAME = "rule";
     private static final String RULE_NAME_TAG_NAME = "rulename";
     private @Nullable MeterRegistry meterRegistry;
     private final Set<Tag> tags = new HashSet<>();
-    private @Nullable ServiceRegistration<?> eventSubscriberRegistration;
-    private BundleContext bundleContext;
+    private final Map<String, Meter> ruleMeters = new ConcurrentHashMap<>();
     private RuleRegistry ruleRegistry;
+    private RuleManager ruleManager;
 
-    public RuleMetric(BundleContext bundleContext, Collection<Tag> tags, RuleRegistry ruleRegistry) {
+    public RuleMetric(Collection<Tag> tags, RuleRegistry ruleRegistry, RuleManager ruleManager) {
         this.tags.addAll(tags);
         this.tags.add(CORE_RULE_METRIC_TAG);
-        this.bundleContext = bundleContext;
         this.ruleRegistry = ruleRegistry;
+        this.ruleManager = ruleManager;
     }
 
     @Override
@@ -66,7 +64,8 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
         unbind();
         logger.debug("RuleMetric is being bound...");
         this.meterRegistry = meterRegistry;
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        ruleRegistry.addRegistryChangeListener(this);
+        ruleRegistry.getAll().forEach(this::added);
     }
 
     @Override
@@ -75,52 +74,47 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
         if (meterRegistry == null) {
             return;
         }
+        ruleRegistry.removeRegistryChangeListener(this);
         for (Meter meter : meterRegistry.getMeters()) {
             if (meter.getId().getTags().contains(CORE_RULE_METRIC_TAG)) {
                 meterRegistry.remove(meter);
             }
         }
+        ruleMeters.clear();
         this.meterRegistry = null;
-
-        ServiceRegistration<?> eventSubscriberRegistration = this.eventSubscriberRegistration;
-        if (eventSubscriberRegistration != null) {
-            eventSubscriberRegistration.unregister();
-            this.eventSubscriberRegistration = null;
-        }
-    }
-
-    @Override
-    public Set<String> getSubscribedEventTypes() {
-        return Set.of(RuleStatusInfoEvent.TYPE);
     }
 
     @Override
-    public void receive(Event event) {
+    public void added(Rule rule) {
         MeterRegistry meterRegistry = this.meterRegistry;
         if (meterRegistry == null) {
-            logger.trace("Measurement not started. Skipping rule event processing");
-            return;
-        }
-
-        String topic = event.getTopic();
-        String ruleId = topic.substring(RULES_TOPIC_PREFIX.length(), topic.lastIndexOf(RULES_TOPIC_SUFFIX));
-        if (!event.getPayload().contains(RuleStatus.RUNNING.name())) {
-            logger.trace("Skipping rule status info with status other than RUNNING {}", event.getPayload());
             return;
         }
-
-        logger.debug("Rule {} RUNNING - updating metric.", ruleId);
+        String ruleId = rule.getUID();
         Set<Tag> tagsWithRule = new HashSet<>(tags);
         tagsWithRule.add(Tag.of(RULE_ID_TAG_NAME, ruleId));
-        String ruleName = getRuleName(ruleId);
+        String ruleName = rule.getName();
         if (ruleName != null) {
             tagsWithRule.add(Tag.of(RULE_NAME_TAG_NAME, ruleName));
         }
-        meterRegistry.counter(METRIC_NAME, tagsWithRule).increment();
+        Meter meter = FunctionCounter.builder(METRIC_NAME, ruleManager, manager -> manager.getRunCount(ruleId))
+                .tags(tagsWithRule).register(meterRegistry);
+        ruleMeters.put(ruleId, meter);
     }
 
-    private @Nullable String getRuleName(String ruleId) {
-        Rule rule = ruleRegistry.get(ruleId);
-        return rule == null ? null : rule.getName();
+    @Override
+    public void removed(Rule rule) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        Meter meter = ruleMeters.remove(rule.getUID());
+        if (meterRegistry != null && meter != null) {
+            meterRegistry.remove(meter);
+        }
+    }
+
+    @Override
+    public void updated(Rule oldRule, Rule rule) {
+        // the name of the rule might have changed
+        removed(oldRule);
+        added(rule);
     }
 }
@@ -12,9 +12,12 @@
  */
 package org.openhab.core.io.monitor.internal.metrics;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -23,13 +26,20 @@ import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
 
 /**
  * The {@link ThreadPoolMetric} class implements a set of metrics for ThreadManager thread pool stats
+ * <p>
+ * For pools backed by virtual threads, the number of times a virtual thread pinned its carrier thread is counted
+ * additionally, based on the <code>jdk.VirtualThreadPinned</code> flight recorder event.
  *
  * @author Robert Bach - Initial contribution
  */
@@ -39,9 +49,15 @@ public class ThreadPoolMetric implements OpenhabCoreMeterBinder {
     private final Logger logger = LoggerFactory.getLogger(ThreadPoolMetric.class);
     public static final Tag CORE_THREADPOOL_METRIC_TAG = Tag.of("metric", "openhab.core.metric.threadpools");
     private static final String POOLNAME_TAG_NAME = "pool";
+    private static final String PINNED_METRIC_NAME = "openhab.threadpool.virtual.pinned";
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+    private static final String THREAD_NAME_PREFIX = "OH-";
     private final Set<Tag> tags = new HashSet<>();
     private @Nullable MeterRegistry meterRegistry;
     private Set<ExecutorServiceMetrics> executorServiceMetricsSet = new HashSet<>();
+    private final Map<String, Counter> pinnedCounters = new ConcurrentHashMap<>();
+    private @Nullable RecordingStream pinnedEventStream;
 
     public ThreadPoolMetric(Collection<Tag> tags) {
         this.tags.addAll(tags);
@@ -58,6 +74,9 @@ public class ThreadPoolMetric implements OpenhabCoreMeterBinder {
         } catch (NoSuchMethodError nsme) {
             logger.info("A newer version of openHAB is required for thread pool metrics to work.");
         }
+        if (!pinnedCounters.isEmpty()) {
+            startPinnedEventStream();
+        }
     }
 
     private void addPoolMetrics(String poolName) {
@@ -70,10 +89,48 @@ public class ThreadPoolMetric implements OpenhabCoreMeterBinder {
         ExecutorServiceMetrics metrics = new ExecutorServiceMetrics(es, poolName, tagsWithPoolname);
         metrics.bindTo(meterRegistry);
         executorServiceMetricsSet.add(metrics);
+        if (ThreadPoolManager.isVirtualPool(poolName)) {
+            pinnedCounters.put(poolName,
+                    Counter.builder(PINNED_METRIC_NAME)
+                            .description("Number of times a virtual thread of the pool pinned its carrier thread")
+                            .tags(tagsWithPoolname).register(meterRegistry));
+        }
+    }
+
+    private void startPinnedEventStream() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT_NAME).withThreshold(PINNED_THRESHOLD);
+            stream.onEvent(PINNED_EVENT_NAME, this::countPinnedEvent);
+            stream.startAsync();
+            pinnedEventStream = stream;
+        } catch (RuntimeException | NoClassDefFoundError e) {
+            logger.info("Cannot record pinned virtual threads, the flight recorder is not available: {}",
+                    e.getMessage());
+        }
+    }
+
+    private void countPinnedEvent(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        String threadName = thread != null ? thread.getJavaName() : null;
+        if (threadName == null || !threadName.startsWith(THREAD_NAME_PREFIX)) {
+            return;
+        }
+        // thread names look like "OH-<poolName>-<counter>"
+        String poolName = threadName.substring(THREAD_NAME_PREFIX.length()).replaceFirst("-\\d+$", "");
+        Counter counter = pinnedCounters.get(poolName);
+        if (counter != null) {
+            counter.increment();
+        }
     }
 
     @Override
     public void unbind() {
+        RecordingStream stream = pinnedEventStream;
+        if (stream != null) {
+            stream.close();
+            pinnedEventStream = null;
+        }
         MeterRegistry meterRegistry = this.meterRegistry;
         if (meterRegistry == null) {
             return;
@@ -85,5 +142,6 @@ public class ThreadPoolMetric implements OpenhabCoreMeterBinder {
         }
         this.meterRegistry = null;
         executorServiceMetricsSet.clear();
+        pinnedCounters.clear();
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.automation.Rule;
+import org.openhab.core.automation.RuleManager;
+import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.automation.util.RuleBuilder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for RuleMetric class
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class RuleMetricTest {
+
+    @Test
+    public void testRunCountIsReadFromRuleManager() {
+        Rule rule = RuleBuilder.create("rule1").withName("Test Rule").build();
+        Rule rule2 = RuleBuilder.create("rule2").build();
+
+        RuleRegistry ruleRegistry = mock(RuleRegistry.class);
+        RuleManager ruleManager = mock(RuleManager.class);
+        doReturn(List.of(rule)).when(ruleRegistry).getAll();
+        doReturn(3L).when(ruleManager).getRunCount("rule1");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RuleMetric ruleMetric = new RuleMetric(Set.of(), ruleRegistry, ruleManager);
+        ruleMetric.bindTo(meterRegistry);
+
+        FunctionCounter counter = meterRegistry.find(RuleMetric.METRIC_NAME).tag("rule", "rule1").functionCounter();
+        assertNotNull(counter);
+        assertEquals("Test Rule", counter.getId().getTag("rulename"));
+        assertEquals(3, counter.count());
+
+        // the count is read whenever the meter is measured
+        doReturn(5L).when(ruleManager).getRunCount("rule1");
+        assertEquals(5, counter.count());
+
+        // rules added later get their own counter
+        ruleMetric.added(rule2);
+        FunctionCounter counter2 = meterRegistry.find(RuleMetric.METRIC_NAME).tag("rule", "rule2").functionCounter();
+        assertNotNull(counter2);
+        assertEquals(0, counter2.count());
+
+        // the counter of a removed rule is not reported anymore
+        ruleMetric.removed(rule);
+        assertNull(meterRegistry.find(RuleMetric.METRIC_NAME).tag("rule", "rule1").functionCounter());
+        assertEquals(1, meterRegistry.getMeters().size());
+
+        ruleMetric.unbind();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
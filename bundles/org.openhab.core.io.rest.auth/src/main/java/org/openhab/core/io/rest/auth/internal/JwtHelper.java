@@ -61,10 +61,16 @@ public class JwtHelper {
     private static final String AUDIENCE = "openhab";
 
     private RsaJsonWebKey jwtWebKey;
+    private JwtConsumer jwtConsumer;
 
     public JwtHelper() {
         try {
             jwtWebKey = loadOrGenerateKey();
+            // the consumer only depends on the key and is thread-safe, so it is built once and reused for all requests
+            jwtConsumer = new JwtConsumerBuilder().setRequireExpirationTime().setAllowedClockSkewInSeconds(30)
+                    .setRequireSubject().setExpectedIssuer(ISSUER_NAME).setExpectedAudience(AUDIENCE)
+                    .setVerificationKey(jwtWebKey.getKey())
+                    .setJwsAlgorithmConstraints(ConstraintType.PERMIT, AlgorithmIdentifiers.RSA_USING_SHA256).build();
         } catch (Exception e) {
             logger.error("Error while initializing the JWT helper", e);
             throw new IllegalStateException(e.getMessage(), e);
@@ -137,11 +143,6 @@ public class JwtHelper {
      * @throws AuthenticationException
      */
     public Authentication verifyAndParseJwtAccessToken(String jwt) throws AuthenticationException {
-        JwtConsumer jwtConsumer = new JwtConsumerBuilder().setRequireExpirationTime().setAllowedClockSkewInSeconds(30)
-                .setRequireSubject().setExpectedIssuer(ISSUER_NAME).setExpectedAudience(AUDIENCE)
-                .setVerificationKey(jwtWebKey.getKey())
-                .setJwsAlgorithmConstraints(ConstraintType.PERMIT, AlgorithmIdentifiers.RSA_USING_SHA256).build();
-
         try {
             JwtClaims jwtClaims = jwtConsumer.processToClaims(jwt);
             String username = jwtClaims.getSubject();
@@ -58,6 +58,7 @@ import org.openhab.core.library.types.OpenClosedType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.HistoricItemDownsampler;
 import org.openhab.core.persistence.ModifiablePersistenceService;
 import org.openhab.core.persistence.PersistenceItemConfiguration;
 import org.openhab.core.persistence.PersistenceItemInfo;
@@ -303,8 +304,10 @@ public class PersistenceResource implements RESTResource {
             @Parameter(description = "Page number of data to return. This parameter will enable paging.") @QueryParam("page") int pageNumber,
             @Parameter(description = "The length of each page.") @QueryParam("pagelength") int pageLength,
             @Parameter(description = "Gets one value before and after the requested period.") @QueryParam("boundary") boolean boundary,
-            @Parameter(description = "Adds the current Item state into the requested period (the item state will be before or at the endtime)") @QueryParam("itemState") boolean itemState) {
-        return getItemHistoryDTO(serviceId, itemName, startTime, endTime, pageNumber, pageLength, boundary, itemState);
+            @Parameter(description = "Adds the current Item state into the requested period (the item state will be before or at the endtime)") @QueryParam("itemState") boolean itemState,
+            @Parameter(description = "Maximum number of data points to return. If set, the data is downsampled by keeping the first, last, minimum and maximum value of equally sized time buckets.") @QueryParam("maxpoints") int maxPoints) {
+        return getItemHistoryDTO(serviceId, itemName, startTime, endTime, pageNumber, pageLength, boundary, itemState,
+                maxPoints);
     }
 
     @DELETE
@@ -350,13 +353,14 @@ public class PersistenceResource implements RESTResource {
     }
 
     private Response getItemHistoryDTO(@Nullable String serviceId, String itemName, @Nullable String timeBegin,
-            @Nullable String timeEnd, int pageNumber, int pageLength, boolean boundary, boolean itemState) {
+            @Nullable String timeEnd, int pageNumber, int pageLength, boolean boundary, boolean itemState,
+            int maxPoints) {
         // Benchmarking timer...
         long timerStart = System.currentTimeMillis();
 
         @Nullable
         ItemHistoryDTO dto = createDTO(serviceId, itemName, timeBegin, timeEnd, pageNumber, pageLength, boundary,
-                itemState);
+                itemState, maxPoints);
 
         if (dto == null) {
             return JSONResponse.createErrorResponse(Status.BAD_REQUEST,
@@ -371,6 +375,12 @@ public class PersistenceResource implements RESTResource {
     protected @Nullable ItemHistoryDTO createDTO(@Nullable String serviceId, String itemName,
             @Nullable String timeBegin, @Nullable String timeEnd, int pageNumber, int pageLength, boolean boundary,
             boolean itemState) {
+        return createDTO(serviceId, itemName, timeBegin, timeEnd, pageNumber, pageLength, boundary, itemState, 0);
+    }
+
+    protected @Nullable ItemHistoryDTO createDTO(@Nullable String serviceId, String itemName,
+            @Nullable String timeBegin, @Nullable String timeEnd, int pageNumber, int pageLength, boolean boundary,
+            boolean itemState, int maxPoints) {
         // If serviceId is null, then use the default service
         PersistenceService service;
         String effectiveServiceId = serviceId != null ? serviceId : persistenceServiceRegistry.getDefaultId();
@@ -458,6 +468,11 @@ public class PersistenceResource implements RESTResource {
         filter.setEndDate(dateTimeEnd);
         filter.setOrdering(Ordering.ASCENDING);
         result = qService.query(filter, alias);
+        if (maxPoints > 0) {
+            // Reduce the data while it is read, so memory and response size are bounded by the requested resolution
+            result = HistoricItemDownsampler.downsample(result, dateTimeBegin.toInstant(), dateTimeEnd.toInstant(),
+                    maxPoints);
+        }
         Iterator<HistoricItem> it = result.iterator();
 
         // Iterate through the data
@@ -653,12 +668,19 @@ public class PersistenceResource implements RESTResource {
         filter.setEndDate(dateTimeEnd);
 
         ModifiablePersistenceService mService = (ModifiablePersistenceService) service;
+        // queued states must not be stored after the removal
+        persistenceManager.flush(serviceId);
         try {
             mService.remove(filter, alias);
         } catch (IllegalArgumentException e) {
             return JSONResponse.createErrorResponse(Status.BAD_REQUEST, "Invalid filter parameters.");
         }
 
+        Item item = itemRegistry.get(itemName);
+        if (item != null) {
+            persistenceManager.handleExternalPersistenceDataChange(mService, item);
+        }
+
         return Response.status(Status.OK).build();
     }
 
@@ -707,6 +729,7 @@ public class PersistenceResource implements RESTResource {
         ModifiablePersistenceService mService = (ModifiablePersistenceService) service;
         PersistenceServiceConfiguration config = persistenceServiceConfigurationRegistry.get(effectiveServiceId);
         String alias = config != null ? config.getAliases().get(itemName) : null;
+        persistenceManager.flush(effectiveServiceId);
         mService.store(item, dateTime, state, alias);
 
         persistenceManager.handleExternalPersistenceDataChange(mService, item);
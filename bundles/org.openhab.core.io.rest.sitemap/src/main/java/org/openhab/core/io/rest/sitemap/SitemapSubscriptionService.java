@@ -15,6 +15,8 @@ package org.openhab.core.io.rest.sitemap;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +37,8 @@ import org.openhab.core.io.rest.sitemap.internal.SitemapEvent;
 import org.openhab.core.io.rest.sitemap.internal.WidgetsChangeListener;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
+import org.openhab.core.items.events.GroupStateUpdatedEvent;
+import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.items.events.ItemStatePredictedEvent;
 import org.openhab.core.model.core.EventType;
 import org.openhab.core.model.core.ModelRepositoryChangeListener;
@@ -43,9 +47,8 @@ import org.openhab.core.model.sitemap.sitemap.LinkableWidget;
 import org.openhab.core.model.sitemap.sitemap.Sitemap;
 import org.openhab.core.model.sitemap.sitemap.Widget;
 import org.openhab.core.thing.events.ChannelDescriptionChangedEvent;
+import org.openhab.core.types.State;
 import org.openhab.core.ui.items.ItemUIRegistry;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -64,6 +67,7 @@ import org.slf4j.LoggerFactory;
  * For this to work correctly, the subscriber needs to make sure that {@link #updateSubscriptionLocation} is called
  * whenever it switches to a new page, unless a subscription for the whole sitemap is made.
  * Subscribing to whole sitemaps is discouraged, since a large number of item updates may result in a high SSE traffic.
+ * Item state events are received once by this service and routed to the pages with widgets depending on the item.
  *
  * @author Kai Kreuzer - Initial contribution
  */
@@ -78,7 +82,6 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
     private static final Duration WAIT_AFTER_CREATE_SECONDS = Duration.ofSeconds(30);
 
     private final Logger logger = LoggerFactory.getLogger(SitemapSubscriptionService.class);
-    private final BundleContext bundleContext;
 
     public interface SitemapSubscriptionCallback {
 
@@ -102,17 +105,19 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
     private final Map<String, Instant> creationInstants = new ConcurrentHashMap<>();
 
     /* sitemap+page -> listener */
-    private final Map<String, ListenerRecord> pageChangeListeners = new ConcurrentHashMap<>();
+    private final Map<String, WidgetsChangeListener> pageChangeListeners = new ConcurrentHashMap<>();
+
+    /* item name -> listeners of the pages with widgets depending on the item */
+    private volatile Map<String, Set<WidgetsChangeListener>> listenersByItem = Map.of();
 
     /* Max number of subscriptions at the same time */
     private int maxSubscriptions = DEFAULT_MAX_SUBSCRIPTIONS;
 
     @Activate
     public SitemapSubscriptionService(Map<String, Object> config, final @Reference ItemUIRegistry itemUIRegistry,
-            final @Reference TimeZoneProvider timeZoneProvider, BundleContext bundleContext) {
+            final @Reference TimeZoneProvider timeZoneProvider) {
         this.itemUIRegistry = itemUIRegistry;
         this.timeZoneProvider = timeZoneProvider;
-        this.bundleContext = bundleContext;
         applyConfig(config);
     }
 
@@ -121,8 +126,8 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
         scopeOfSubscription.clear();
         callbacks.clear();
         creationInstants.clear();
-        pageChangeListeners.values().forEach(l -> l.serviceRegistration.unregister());
         pageChangeListeners.clear();
+        listenersByItem = Map.of();
     }
 
     @Modified
@@ -185,9 +190,8 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
         String sitemapWithPageId = scopeOfSubscription.remove(subscriptionId);
         if (sitemapWithPageId != null && !scopeOfSubscription.containsValue(sitemapWithPageId)) {
             // this was the only subscription listening on this page, so we can dispose the listener
-            ListenerRecord listener = pageChangeListeners.remove(sitemapWithPageId);
-            if (listener != null) {
-                listener.serviceRegistration().unregister();
+            if (pageChangeListeners.remove(sitemapWithPageId) != null) {
+                updateItemIndex();
             }
         }
         logger.debug("Removed subscription with id {} ({} active subscriptions)", subscriptionId, callbacks.size());
@@ -265,14 +269,13 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
     private void addCallbackToListener(String sitemapName, @Nullable String pageId,
             SitemapSubscriptionCallback callback) {
         String sitemapWithPageId = getScopeIdentifier(sitemapName, pageId);
-        ListenerRecord listener = pageChangeListeners.computeIfAbsent(sitemapWithPageId, v -> {
-            WidgetsChangeListener newListener = new WidgetsChangeListener(sitemapName, pageId, itemUIRegistry,
-                    timeZoneProvider, collectWidgets(sitemapName, pageId));
-            ServiceRegistration<?> registration = bundleContext.registerService(EventSubscriber.class.getName(),
-                    newListener, null);
-            return new ListenerRecord(newListener, registration);
-        });
-        listener.widgetsChangeListener().addCallback(callback);
+        WidgetsChangeListener listener = pageChangeListeners.get(sitemapWithPageId);
+        if (listener == null) {
+            listener = pageChangeListeners.computeIfAbsent(sitemapWithPageId, v -> new WidgetsChangeListener(
+                    sitemapName, pageId, itemUIRegistry, timeZoneProvider, collectWidgets(sitemapName, pageId)));
+            updateItemIndex();
+        }
+        listener.addCallback(callback);
     }
 
     public EList<Widget> collectWidgets(String sitemapName, @Nullable String pageId) {
@@ -313,15 +316,33 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
     }
 
     private void removeCallbackFromListener(String sitemapPage, SitemapSubscriptionCallback callback) {
-        ListenerRecord oldListener = pageChangeListeners.get(sitemapPage);
+        WidgetsChangeListener oldListener = pageChangeListeners.get(sitemapPage);
         if (oldListener != null) {
-            oldListener.widgetsChangeListener().removeCallback(callback);
+            oldListener.removeCallback(callback);
             if (!scopeOfSubscription.containsValue(sitemapPage)) {
                 // no other callbacks are left here, so we can safely dispose the listener
-                oldListener.serviceRegistration().unregister();
                 pageChangeListeners.remove(sitemapPage);
+                updateItemIndex();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index of the listeners by the items their widgets depend on. It has to be called whenever a
+     * listener is added or removed or the widgets of a listener changed.
+     */
+    private synchronized void updateItemIndex() {
+        Map<String, Set<WidgetsChangeListener>> index = new HashMap<>();
+        for (WidgetsChangeListener listener : pageChangeListeners.values()) {
+            for (String itemName : listener.getItemNames()) {
+                index.computeIfAbsent(itemName, name -> new HashSet<>()).add(listener);
             }
         }
+        listenersByItem = index;
+    }
+
+    private Set<WidgetsChangeListener> getListeners(String itemName) {
+        return listenersByItem.getOrDefault(itemName, Set.of());
     }
 
     private String getScopeIdentifier(String sitemapName, @Nullable String pageId) {
@@ -346,7 +367,7 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
 
         String changedSitemapName = modelName.substring(0, modelName.length() - SITEMAP_SUFFIX.length());
 
-        for (Entry<String, ListenerRecord> listenerEntry : pageChangeListeners.entrySet()) {
+        for (Entry<String, WidgetsChangeListener> listenerEntry : pageChangeListeners.entrySet()) {
             String sitemapWithPage = listenerEntry.getKey();
             String sitemapName = extractSitemapName(sitemapWithPage);
 
@@ -358,9 +379,10 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
                 } else {
                     widgets = collectWidgets(sitemapName, null);
                 }
-                listenerEntry.getValue().widgetsChangeListener().sitemapContentChanged(widgets);
+                listenerEntry.getValue().sitemapContentChanged(widgets);
             }
         }
+        updateItemIndex();
     }
 
     public void checkAliveClients() {
@@ -377,40 +399,55 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
             }
         }
         // Send an ALIVE event to all subscribers to trigger an exception for dead subscribers
-        pageChangeListeners.values().forEach(l -> l.widgetsChangeListener().sendAliveEvent());
+        pageChangeListeners.values().forEach(WidgetsChangeListener::sendAliveEvent);
     }
 
     @Override
     public Set<String> getSubscribedEventTypes() {
-        return Set.of(ItemStatePredictedEvent.TYPE, ChannelDescriptionChangedEvent.TYPE);
+        return Set.of(ItemStateChangedEvent.TYPE, GroupStateUpdatedEvent.TYPE, ItemStatePredictedEvent.TYPE,
+                ChannelDescriptionChangedEvent.TYPE);
     }
 
     @Override
     public void receive(Event event) {
         if (event instanceof ItemStatePredictedEvent prediction) {
             Item item = itemUIRegistry.get(prediction.getItemName());
-            if (item instanceof GroupItem) {
+            if (item == null || item instanceof GroupItem) {
                 // don't send out auto-update events for group items as those will calculate their state based on their
                 // members and predictions aren't really possible in that case (or at least would be highly complex).
                 return;
             }
-            for (ListenerRecord listener : pageChangeListeners.values()) {
+            for (WidgetsChangeListener listener : getListeners(item.getName())) {
                 if (prediction.isConfirmation()) {
-                    listener.widgetsChangeListener().keepCurrentState(item);
+                    listener.keepCurrentState(item);
                 } else {
-                    listener.widgetsChangeListener().changeStateTo(item, prediction.getPredictedState());
+                    listener.changeStateTo(item, prediction.getPredictedState());
                 }
             }
         } else if (event instanceof ChannelDescriptionChangedEvent channelDescriptionChangedEvent) {
             channelDescriptionChangedEvent.getLinkedItemNames().forEach(itemName -> {
-                for (ListenerRecord listener : pageChangeListeners.values()) {
-                    listener.widgetsChangeListener().descriptionChanged(itemName);
+                for (WidgetsChangeListener listener : getListeners(itemName)) {
+                    listener.descriptionChanged(itemName);
                 }
             });
+        } else if (event instanceof GroupStateUpdatedEvent groupStateUpdatedEvent) {
+            changeStateTo(groupStateUpdatedEvent.getItemName(), groupStateUpdatedEvent.getItemState());
+        } else if (event instanceof ItemStateChangedEvent itemStateChangedEvent) {
+            changeStateTo(itemStateChangedEvent.getItemName(), itemStateChangedEvent.getItemState());
         }
     }
 
-    private record ListenerRecord(WidgetsChangeListener widgetsChangeListener,
-            ServiceRegistration<?> serviceRegistration) {
+    private void changeStateTo(String itemName, State state) {
+        Set<WidgetsChangeListener> listeners = getListeners(itemName);
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Item item = itemUIRegistry.get(itemName);
+        if (item == null) {
+            return;
+        }
+        for (WidgetsChangeListener listener : listeners) {
+            listener.changeStateTo(item, state);
+        }
     }
 }
@@ -14,27 +14,24 @@ package org.openhab.core.io.rest.sitemap.internal;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
-import org.openhab.core.events.Event;
-import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.io.rest.core.item.EnrichedItemDTOMapper;
 import org.openhab.core.io.rest.sitemap.SitemapSubscriptionService.SitemapSubscriptionCallback;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
-import org.openhab.core.items.events.GroupStateUpdatedEvent;
-import org.openhab.core.items.events.ItemEvent;
-import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.model.sitemap.sitemap.Button;
 import org.openhab.core.model.sitemap.sitemap.Buttongrid;
@@ -50,7 +47,10 @@ import org.openhab.core.ui.items.ItemUIRegistry;
 import org.openhab.core.ui.items.ItemUIRegistry.WidgetLabelSource;
 
 /**
- * This is a class that listens on item state change events and creates sitemap events for the registered widgets.
+ * This is a class that creates sitemap events for the widgets of a sitemap page. It keeps an index of the widgets
+ * that depend on an item, i.e. that show the item or refer to it in one of their conditions, which allows the
+ * {@link org.openhab.core.io.rest.sitemap.SitemapSubscriptionService} to route item state changes only to the
+ * affected pages and widgets.
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Laurent Garnier - Added support for icon color
@@ -58,7 +58,7 @@ import org.openhab.core.ui.items.ItemUIRegistry.WidgetLabelSource;
  * @author Laurent Garnier - New widget icon parameter based on conditional rules
  * @author Laurent Garnier - Buttongrid as container for Button elements
  */
-public class WidgetsChangeListener implements EventSubscriber {
+public class WidgetsChangeListener {
 
     private static final int REVERT_INTERVAL = 300;
     private final ScheduledExecutorService scheduler = ThreadPoolManager
@@ -67,9 +67,8 @@ public class WidgetsChangeListener implements EventSubscriber {
     private final String pageId;
     private final ItemUIRegistry itemUIRegistry;
     private final TimeZoneProvider timeZoneProvider;
-    private EList<Widget> widgets;
-    private Set<Item> items;
-    private final HashSet<String> filterItems = new HashSet<>();
+    /* item name -> widgets showing the item or referring to it in a condition */
+    private volatile Map<String, Set<Widget>> widgetsByItem = Map.of();
     private final List<SitemapSubscriptionCallback> callbacks = Collections.synchronizedList(new ArrayList<>());
     private Set<SitemapSubscriptionCallback> distinctCallbacks = Set.of();
 
@@ -92,10 +91,9 @@ public class WidgetsChangeListener implements EventSubscriber {
     }
 
     private void updateItemsAndWidgets(EList<Widget> widgets) {
-        this.widgets = widgets;
-        items = getAllItems(widgets);
-        filterItems.clear();
-        filterItems.addAll(items.stream().map(Item::getName).collect(Collectors.toSet()));
+        Map<String, Set<Widget>> widgetsByItem = new HashMap<>();
+        collectDependentWidgets(widgets, widgetsByItem);
+        this.widgetsByItem = widgetsByItem;
     }
 
     public String getSitemapName() {
@@ -118,68 +116,70 @@ public class WidgetsChangeListener implements EventSubscriber {
     }
 
     /**
-     * Collects all items that are represented by a given list of widgets
+     * Returns the names of all items the widgets of the page depend on.
      *
-     * @param widgets
-     *            the widget list to get the items for added to all bundles containing REST resources
-     * @return all items that are represented by the list of widgets
+     * @return the names of the items that are shown or referred to in a condition by a widget of the page
      */
-    private Set<Item> getAllItems(EList<Widget> widgets) {
-        Set<Item> items = new HashSet<>();
-        if (itemUIRegistry != null) {
-            for (Widget widget : widgets) {
-                addItemWithName(items, widget.getItem());
-                if (widget instanceof Frame frame) {
-                    items.addAll(getAllItems(frame.getChildren()));
-                } else if (widget instanceof Buttongrid grid) {
-                    items.addAll(getAllItems(grid.getChildren()));
-                }
-                // now scan icon rules
-                for (IconRule rule : widget.getIconRules()) {
-                    addItemsFromConditions(items, rule.getConditions());
-                }
-                // now scan visibility rules
-                for (VisibilityRule rule : widget.getVisibility()) {
-                    addItemsFromConditions(items, rule.getConditions());
-                }
-                // now scan label color rules
-                for (ColorArray rule : widget.getLabelColor()) {
-                    addItemsFromConditions(items, rule.getConditions());
-                }
-                // now scan value color rules
-                for (ColorArray rule : widget.getValueColor()) {
-                    addItemsFromConditions(items, rule.getConditions());
-                }
-                // now scan icon color rules
-                for (ColorArray rule : widget.getIconColor()) {
-                    addItemsFromConditions(items, rule.getConditions());
-                }
+    public Set<String> getItemNames() {
+        return widgetsByItem.keySet();
+    }
+
+    /**
+     * Indexes the widgets of a given list of widgets (including the children of frames and button grids) by the items
+     * they depend on
+     *
+     * @param widgets the widget list to index
+     * @param widgetsByItem the index the widgets are added to
+     */
+    private void collectDependentWidgets(List<Widget> widgets, Map<String, Set<Widget>> widgetsByItem) {
+        for (Widget widget : widgets) {
+            if (widget instanceof Frame frame) {
+                collectDependentWidgets(itemUIRegistry.getChildren(frame), widgetsByItem);
+            } else if (widget instanceof Buttongrid grid) {
+                collectDependentWidgets(itemUIRegistry.getChildren(grid), widgetsByItem);
+            }
+            addDependentWidget(widgetsByItem, widget.getItem(), widget);
+            // now scan icon rules
+            for (IconRule rule : widget.getIconRules()) {
+                addDependentWidget(widgetsByItem, rule.getConditions(), widget);
+            }
+            // now scan visibility rules
+            for (VisibilityRule rule : widget.getVisibility()) {
+                addDependentWidget(widgetsByItem, rule.getConditions(), widget);
+            }
+            // now scan label color rules
+            for (ColorArray rule : widget.getLabelColor()) {
+                addDependentWidget(widgetsByItem, rule.getConditions(), widget);
+            }
+            // now scan value color rules
+            for (ColorArray rule : widget.getValueColor()) {
+                addDependentWidget(widgetsByItem, rule.getConditions(), widget);
+            }
+            // now scan icon color rules
+            for (ColorArray rule : widget.getIconColor()) {
+                addDependentWidget(widgetsByItem, rule.getConditions(), widget);
             }
         }
-        return items;
     }
 
-    private void addItemsFromConditions(Set<Item> items, @Nullable EList<Condition> conditions) {
+    private void addDependentWidget(Map<String, Set<Widget>> widgetsByItem, @Nullable EList<Condition> conditions,
+            Widget widget) {
         if (conditions != null) {
             for (Condition condition : conditions) {
-                addItemWithName(items, condition.getItem());
+                addDependentWidget(widgetsByItem, condition.getItem(), widget);
             }
         }
     }
 
-    private void addItemWithName(Set<Item> items, String itemName) {
+    private void addDependentWidget(Map<String, Set<Widget>> widgetsByItem, @Nullable String itemName,
+            Widget widget) {
         if (itemName != null) {
-            try {
-                Item item = itemUIRegistry.getItem(itemName);
-                items.add(item);
-            } catch (ItemNotFoundException e) {
-                // ignore
-            }
+            widgetsByItem.computeIfAbsent(itemName, name -> new LinkedHashSet<>()).add(widget);
         }
     }
 
     private void constructAndSendEvents(Item item, State newState) {
-        Set<SitemapEvent> events = constructSitemapEvents(item, newState, widgets);
+        Set<SitemapEvent> events = constructSitemapEvents(item, newState);
         for (SitemapEvent event : events) {
             for (SitemapSubscriptionCallback callback : distinctCallbacks) {
                 callback.onEvent(event);
@@ -197,15 +197,9 @@ public class WidgetsChangeListener implements EventSubscriber {
         constructAndSendEvents(item, state);
     }
 
-    private Set<SitemapEvent> constructSitemapEvents(Item item, State state, List<Widget> widgets) {
+    private Set<SitemapEvent> constructSitemapEvents(Item item, State state) {
         Set<SitemapEvent> events = new HashSet<>();
-        for (Widget w : widgets) {
-            if (w instanceof Frame frame) {
-                events.addAll(constructSitemapEvents(item, state, itemUIRegistry.getChildren(frame)));
-            } else if (w instanceof Buttongrid grid) {
-                events.addAll(constructSitemapEvents(item, state, itemUIRegistry.getChildren(grid)));
-            }
-
+        for (Widget w : widgetsByItem.getOrDefault(item.getName(), Set.of())) {
             boolean itemBelongsToWidget = w.getItem() != null && w.getItem().equals(item.getName());
             boolean skipWidget = !itemBelongsToWidget;
             // We skip the chart widgets having a refresh argument
@@ -316,7 +310,7 @@ public class WidgetsChangeListener implements EventSubscriber {
         try {
             Item item = itemUIRegistry.getItem(itemName);
 
-            Set<SitemapEvent> events = constructSitemapEventsForUpdatedDescr(item, widgets);
+            Set<SitemapEvent> events = constructSitemapEventsForUpdatedDescr(item);
 
             for (SitemapEvent event : events) {
                 for (SitemapSubscriptionCallback callback : distinctCallbacks) {
@@ -328,15 +322,9 @@ public class WidgetsChangeListener implements EventSubscriber {
         }
     }
 
-    private Set<SitemapEvent> constructSitemapEventsForUpdatedDescr(Item item, List<Widget> widgets) {
+    private Set<SitemapEvent> constructSitemapEventsForUpdatedDescr(Item item) {
         Set<SitemapEvent> events = new HashSet<>();
-        for (Widget w : widgets) {
-            if (w instanceof Frame frame) {
-                events.addAll(constructSitemapEventsForUpdatedDescr(item, itemUIRegistry.getChildren(frame)));
-            } else if (w instanceof Buttongrid grid) {
-                events.addAll(constructSitemapEventsForUpdatedDescr(item, itemUIRegistry.getChildren(grid)));
-            }
-
+        for (Widget w : widgetsByItem.getOrDefault(item.getName(), Set.of())) {
             boolean itemBelongsToWidget = w.getItem() != null && w.getItem().equals(item.getName());
             if (itemBelongsToWidget) {
                 SitemapWidgetEvent event = constructSitemapEventForWidget(item, item.getState(), w);
@@ -346,24 +334,4 @@ public class WidgetsChangeListener implements EventSubscriber {
         }
         return events;
     }
-
-    @Override
-    public Set<String> getSubscribedEventTypes() {
-        return Set.of(ItemStateChangedEvent.TYPE, GroupStateUpdatedEvent.TYPE);
-    }
-
-    @Override
-    public void receive(Event event) {
-        if (event instanceof ItemEvent itemEvent && filterItems.contains(itemEvent.getItemName())) {
-            Item item = itemUIRegistry.get(itemEvent.getItemName());
-            if (item == null) {
-                return;
-            }
-            if (event instanceof GroupStateUpdatedEvent groupStateUpdatedEvent) {
-                constructAndSendEvents(item, groupStateUpdatedEvent.getItemState());
-            } else if (event instanceof ItemStateChangedEvent itemStateChangedEvent) {
-                constructAndSendEvents(item, itemStateChangedEvent.getItemState());
-            }
-        }
-    }
 }
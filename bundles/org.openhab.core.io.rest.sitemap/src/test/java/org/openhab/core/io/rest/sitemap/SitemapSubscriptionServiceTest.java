@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sitemap;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.io.rest.sitemap.SitemapSubscriptionService.SitemapSubscriptionCallback;
+import org.openhab.core.io.rest.sitemap.internal.SitemapEvent;
+import org.openhab.core.io.rest.sitemap.internal.SitemapWidgetEvent;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.model.core.EventType;
+import org.openhab.core.model.sitemap.SitemapProvider;
+import org.openhab.core.model.sitemap.sitemap.Condition;
+import org.openhab.core.model.sitemap.sitemap.Group;
+import org.openhab.core.model.sitemap.sitemap.Sitemap;
+import org.openhab.core.model.sitemap.sitemap.VisibilityRule;
+import org.openhab.core.model.sitemap.sitemap.Widget;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+import org.openhab.core.ui.items.ItemUIRegistry;
+import org.openhab.core.ui.items.ItemUIRegistry.WidgetLabelSource;
+
+/**
+ * Tests the routing of item state changes by the {@link SitemapSubscriptionService}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class SitemapSubscriptionServiceTest {
+
+    private static final String SITEMAP_NAME = "demo";
+    private static final String PAGE1_ID = "page1";
+    private static final String PAGE2_ID = "page2";
+    private static final String SHOWN_ITEM_NAME = "shownItem";
+    private static final String OTHER_SHOWN_ITEM_NAME = "otherShownItem";
+    private static final String VISIBILITY_ITEM_NAME = "visibilityItem";
+    private static final String UNUSED_ITEM_NAME = "unusedItem";
+
+    private @NonNullByDefault({}) SitemapSubscriptionService service;
+
+    private @Mock @NonNullByDefault({}) ItemUIRegistry itemUIRegistryMock;
+    private @Mock @NonNullByDefault({}) TimeZoneProvider timeZoneProviderMock;
+    private @Mock @NonNullByDefault({}) SitemapProvider sitemapProviderMock;
+    private @Mock @NonNullByDefault({}) Sitemap sitemapMock;
+    private @Mock @NonNullByDefault({}) SitemapSubscriptionCallback callback1Mock;
+    private @Mock @NonNullByDefault({}) SitemapSubscriptionCallback callback2Mock;
+
+    private @NonNullByDefault({}) Group page1;
+    private @NonNullByDefault({}) Group page2;
+
+    @BeforeEach
+    public void setup() {
+        when(sitemapMock.getName()).thenReturn(SITEMAP_NAME);
+        when(sitemapProviderMock.getSitemap(SITEMAP_NAME)).thenReturn(sitemapMock);
+        when(timeZoneProviderMock.getTimeZone()).thenReturn(ZoneId.systemDefault());
+
+        when(itemUIRegistryMock.get(SHOWN_ITEM_NAME)).thenReturn(new TestItem(SHOWN_ITEM_NAME));
+        when(itemUIRegistryMock.get(OTHER_SHOWN_ITEM_NAME)).thenReturn(new TestItem(OTHER_SHOWN_ITEM_NAME));
+        when(itemUIRegistryMock.get(VISIBILITY_ITEM_NAME)).thenReturn(new TestItem(VISIBILITY_ITEM_NAME));
+        when(itemUIRegistryMock.getLabelSource(any())).thenReturn(WidgetLabelSource.SITEMAP_WIDGET);
+        when(itemUIRegistryMock.convertState(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+
+        // page 1 shows the item, page 2 shows another item and uses a third one in a visibility rule
+        page1 = mockPage(PAGE1_ID, mockWidget("w1", SHOWN_ITEM_NAME, ECollections.emptyEList()));
+        page2 = mockPage(PAGE2_ID, mockWidget("w2", OTHER_SHOWN_ITEM_NAME,
+                ECollections.singletonEList(mockVisibilityRule(VISIBILITY_ITEM_NAME))));
+
+        service = new SitemapSubscriptionService(Map.of(), itemUIRegistryMock, timeZoneProviderMock);
+        service.addSitemapProvider(sitemapProviderMock);
+    }
+
+    @Test
+    public void stateChangeIsRoutedToDependentPagesOnly() {
+        subscribe(callback1Mock, PAGE1_ID);
+        subscribe(callback2Mock, PAGE2_ID);
+
+        changeState(SHOWN_ITEM_NAME);
+
+        assertThat(getWidgetIds(callback1Mock), is(List.of("w1")));
+        verify(callback2Mock, never()).onEvent(any());
+
+        clearInvocations(callback1Mock, callback2Mock);
+        changeState(VISIBILITY_ITEM_NAME);
+
+        verify(callback1Mock, never()).onEvent(any());
+        assertThat(getWidgetIds(callback2Mock), is(List.of("w2")));
+
+        clearInvocations(callback1Mock, callback2Mock, itemUIRegistryMock);
+        changeState(UNUSED_ITEM_NAME);
+
+        verify(callback1Mock, never()).onEvent(any());
+        verify(callback2Mock, never()).onEvent(any());
+        verify(itemUIRegistryMock, never()).get(UNUSED_ITEM_NAME);
+    }
+
+    @Test
+    public void itemIndexIsRebuiltAfterModelChanged() {
+        subscribe(callback1Mock, PAGE1_ID);
+
+        EList<Widget> newChildren = new BasicEList<>(
+                List.of(mockWidget("w3", OTHER_SHOWN_ITEM_NAME, ECollections.emptyEList())));
+        when(itemUIRegistryMock.getChildren(page1)).thenReturn(newChildren);
+        service.modelChanged(SITEMAP_NAME + ".sitemap", EventType.MODIFIED);
+
+        clearInvocations(callback1Mock);
+        changeState(SHOWN_ITEM_NAME);
+
+        verify(callback1Mock, never()).onEvent(any());
+
+        changeState(OTHER_SHOWN_ITEM_NAME);
+
+        assertThat(getWidgetIds(callback1Mock), is(List.of("w3")));
+    }
+
+    @Test
+    public void itemIndexIsRebuiltAfterLastSubscriptionOfPageIsRemoved() {
+        String subscription1 = subscribe(callback1Mock, PAGE1_ID);
+        String subscription2 = subscribe(callback2Mock, PAGE1_ID);
+
+        // the page is still subscribed, so the item is still routed to it
+        service.removeSubscription(subscription1);
+        changeState(SHOWN_ITEM_NAME);
+
+        assertThat(getWidgetIds(callback2Mock), is(List.of("w1")));
+
+        service.removeSubscription(subscription2);
+        clearInvocations(callback1Mock, callback2Mock, itemUIRegistryMock);
+        changeState(SHOWN_ITEM_NAME);
+
+        verify(callback1Mock, never()).onEvent(any());
+        verify(callback2Mock, never()).onEvent(any());
+        verify(itemUIRegistryMock, never()).get(SHOWN_ITEM_NAME);
+    }
+
+    @Test
+    public void itemIndexIsRebuiltAfterSubscriptionMovedToOtherPage() {
+        String subscription = subscribe(callback1Mock, PAGE1_ID);
+
+        service.updateSubscriptionLocation(subscription, SITEMAP_NAME, PAGE2_ID);
+        changeState(SHOWN_ITEM_NAME);
+
+        verify(callback1Mock, never()).onEvent(any());
+
+        changeState(OTHER_SHOWN_ITEM_NAME);
+
+        assertThat(getWidgetIds(callback1Mock), is(List.of("w2")));
+    }
+
+    private String subscribe(SitemapSubscriptionCallback callback, String pageId) {
+        String subscriptionId = Objects.requireNonNull(service.createSubscription(callback));
+        service.updateSubscriptionLocation(subscriptionId, SITEMAP_NAME, pageId);
+        return subscriptionId;
+    }
+
+    private void changeState(String itemName) {
+        service.receive(ItemEventFactory.createStateChangedEvent(itemName, new DecimalType(1), UnDefType.NULL, null,
+                null));
+    }
+
+    private List<String> getWidgetIds(SitemapSubscriptionCallback callback) {
+        ArgumentCaptor<SitemapEvent> eventCaptor = ArgumentCaptor.forClass(SitemapEvent.class);
+        verify(callback, atLeastOnce()).onEvent(eventCaptor.capture());
+        return eventCaptor.getAllValues().stream().filter(SitemapWidgetEvent.class::isInstance)
+                .map(event -> ((SitemapWidgetEvent) event).widgetId).toList();
+    }
+
+    private Group mockPage(String pageId, Widget... children) {
+        Group page = mock(Group.class);
+        mockWidgetMethods(page, pageId, null, ECollections.emptyEList());
+        when(itemUIRegistryMock.getWidget(sitemapMock, pageId)).thenReturn(page);
+        when(itemUIRegistryMock.getChildren(page)).thenReturn(new BasicEList<>(List.of(children)));
+        return page;
+    }
+
+    private Widget mockWidget(String widgetId, String itemName, EList<VisibilityRule> visibilityRules) {
+        Widget widget = mock(Widget.class);
+        mockWidgetMethods(widget, widgetId, itemName, visibilityRules);
+        return widget;
+    }
+
+    private void mockWidgetMethods(Widget widget, String widgetId, @Nullable String itemName,
+            EList<VisibilityRule> visibilityRules) {
+        EClass eClass = mock(EClass.class);
+        when(eClass.getInstanceTypeName()).thenReturn("org.openhab.core.model.sitemap.sitemap.Text");
+        when(widget.eClass()).thenReturn(eClass);
+        when(widget.getItem()).thenReturn(itemName);
+        when(widget.getIconRules()).thenReturn(ECollections.emptyEList());
+        when(widget.getVisibility()).thenReturn(visibilityRules);
+        when(widget.getLabelColor()).thenReturn(ECollections.emptyEList());
+        when(widget.getValueColor()).thenReturn(ECollections.emptyEList());
+        when(widget.getIconColor()).thenReturn(ECollections.emptyEList());
+        when(itemUIRegistryMock.getWidgetId(widget)).thenReturn(widgetId);
+    }
+
+    private static VisibilityRule mockVisibilityRule(String itemName) {
+        Condition condition = mock(Condition.class);
+        when(condition.getItem()).thenReturn(itemName);
+        VisibilityRule rule = mock(VisibilityRule.class);
+        when(rule.getConditions()).thenReturn(ECollections.singletonEList(condition));
+        return rule;
+    }
+
+    private static class TestItem extends GenericItem {
+
+        public TestItem(String name) {
+            super("Number", name);
+        }
+
+        @Override
+        public List<Class<? extends State>> getAcceptedDataTypes() {
+            return List.of();
+        }
+
+        @Override
+        public List<Class<? extends Command>> getAcceptedCommandTypes() {
+            return List.of();
+        }
+    }
+}
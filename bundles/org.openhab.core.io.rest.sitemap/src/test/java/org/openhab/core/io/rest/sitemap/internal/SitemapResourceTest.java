@@ -64,7 +64,6 @@ import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.ui.items.ItemUIRegistry;
 import org.openhab.core.ui.items.ItemUIRegistry.WidgetLabelSource;
-import org.osgi.framework.BundleContext;
 
 /**
  * Test aspects of the {@link SitemapResource}.
@@ -125,14 +124,13 @@ public class SitemapResourceTest extends JavaTest {
     private @Mock @NonNullByDefault({}) HttpServletRequest requestMock;
     private @Mock @NonNullByDefault({}) SitemapProvider sitemapProviderMock;
     private @Mock @NonNullByDefault({}) UriInfo uriInfoMock;
-    private @Mock @NonNullByDefault({}) BundleContext bundleContextMock;
 
     private EList<Widget> widgets = new BasicEList<>();
 
     @BeforeEach
     public void setup() throws Exception {
-        subscriptions = new SitemapSubscriptionService(Collections.emptyMap(), itemUIRegistryMock, timeZoneProviderMock,
-                bundleContextMock);
+        subscriptions = new SitemapSubscriptionService(Collections.emptyMap(), itemUIRegistryMock,
+                timeZoneProviderMock);
         subscriptions.addSitemapProvider(sitemapProviderMock);
 
         sitemapResource = new SitemapResource(itemUIRegistryMock, localeServiceMock, timeZoneProviderMock,
@@ -16,8 +16,12 @@ import static org.openhab.core.io.rest.sse.internal.SseSinkItemInfo.*;
 import static org.openhab.core.io.rest.sse.internal.SseSinkTopicInfo.matchesTopic;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -112,6 +116,8 @@ public class SseResource implements RESTResource, SsePublisher {
     private final SseBroadcaster<SseSinkItemInfo> itemStatesBroadcaster = new SseBroadcaster<>();
     private final SseItemStatesEventBuilder itemStatesEventBuilder;
     private final SseBroadcaster<SseSinkTopicInfo> topicBroadcaster = new SseBroadcaster<>();
+    // index of the item state sinks by the items they track
+    private final Map<String, Set<SseSinkItemInfo>> itemTrackers = new ConcurrentHashMap<>();
 
     private ExecutorService executorService;
 
@@ -119,6 +125,7 @@ public class SseResource implements RESTResource, SsePublisher {
     public SseResource(@Reference SseItemStatesEventBuilder itemStatesEventBuilder) {
         this.executorService = Executors.newSingleThreadExecutor();
         this.itemStatesEventBuilder = itemStatesEventBuilder;
+        itemStatesBroadcaster.addListener((sink, info) -> updateItemTrackers(info, Set.of()));
 
         aliveEventJob = scheduler.scheduleWithFixedDelay(() -> {
             if (sse != null) {
@@ -191,7 +198,7 @@ public class SseResource implements RESTResource, SsePublisher {
         final EventDTO eventDTO = SseUtil.buildDTO(event);
         final OutboundSseEvent sseEvent = SseUtil.buildEvent(sse.newEventBuilder(), eventDTO);
 
-        topicBroadcaster.sendIf(sseEvent, matchesTopic(eventDTO.topic));
+        topicBroadcaster.sendIf(sseEvent, matchesTopic(eventDTO.topic, new HashMap<>()));
     }
 
     /**
@@ -237,7 +244,7 @@ public class SseResource implements RESTResource, SsePublisher {
         }
 
         Set<String> trackedItemNames = (itemNames == null) ? Set.of() : itemNames;
-        itemStateInfo.get().updateTrackedItems(trackedItemNames);
+        updateItemTrackers(itemStateInfo.get(), trackedItemNames);
 
         OutboundSseEvent itemStateEvent = itemStatesEventBuilder.buildEvent(sse.newEventBuilder(), trackedItemNames);
         if (itemStateEvent != null) {
@@ -254,15 +261,28 @@ public class SseResource implements RESTResource, SsePublisher {
      */
     public void handleEventBroadcastItemState(final ItemStateChangedEvent stateChangeEvent) {
         String itemName = stateChangeEvent.getItemName();
-        boolean isTracked = itemStatesBroadcaster.getInfoIf(info -> true).anyMatch(tracksItem(itemName));
-        if (isTracked) {
+        Set<SseSinkItemInfo> trackers = itemTrackers.get(itemName);
+        if (trackers != null && !trackers.isEmpty()) {
             OutboundSseEvent event = itemStatesEventBuilder.buildEvent(sse.newEventBuilder(), Set.of(itemName));
             if (event != null) {
-                itemStatesBroadcaster.sendIf(event, tracksItem(itemName));
+                itemStatesBroadcaster.sendIf(event, trackers::contains);
             }
         }
     }
 
+    private synchronized void updateItemTrackers(SseSinkItemInfo info, Set<String> itemNames) {
+        for (String itemName : info.getTrackedItems()) {
+            itemTrackers.computeIfPresent(itemName, (name, trackers) -> {
+                trackers.remove(info);
+                return trackers.isEmpty() ? null : trackers;
+            });
+        }
+        info.updateTrackedItems(itemNames);
+        for (String itemName : itemNames) {
+            itemTrackers.computeIfAbsent(itemName, name -> ConcurrentHashMap.newKeySet()).add(info);
+        }
+    }
+
     private static class AliveEvent {
         public final String type = "ALIVE";
         public final int interval = ALIVE_INTERVAL_SECONDS;
@@ -49,6 +49,15 @@ public class SseSinkItemInfo {
         trackedItems.addAll(itemNames);
     }
 
+    /**
+     * Gets the names of the items tracked by this connection
+     *
+     * @return the item names
+     */
+    public Set<String> getTrackedItems() {
+        return Set.copyOf(trackedItems);
+    }
+
     public static Predicate<SseSinkItemInfo> hasConnectionId(String connectionId) {
         return info -> info.connectionId.equals(connectionId);
     }
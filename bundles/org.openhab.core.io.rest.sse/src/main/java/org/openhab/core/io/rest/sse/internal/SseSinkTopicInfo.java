@@ -13,7 +13,9 @@
 package org.openhab.core.io.rest.sse.internal;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.io.rest.sse.internal.util.SseUtil;
@@ -27,12 +29,30 @@ import org.openhab.core.io.rest.sse.internal.util.SseUtil;
 public class SseSinkTopicInfo {
 
     private final List<String> regexFilters;
+    private final List<Pattern> patterns;
 
     public SseSinkTopicInfo(String topicFilter) {
         this.regexFilters = SseUtil.convertToRegex(topicFilter);
+        this.patterns = regexFilters.stream().map(Pattern::compile).toList();
     }
 
     public static Predicate<SseSinkTopicInfo> matchesTopic(final String topic) {
-        return info -> info.regexFilters.stream().anyMatch(topic::matches);
+        return info -> info.matches(topic);
+    }
+
+    /**
+     * Creates a predicate that evaluates every distinct topic filter only once for the given topic, so sinks that use
+     * the same filter (which is usually the case for UI clients) share the result.
+     *
+     * @param topic the topic of the event
+     * @param results a map to store the results per filter in, must be used for a single topic only
+     * @return the predicate
+     */
+    public static Predicate<SseSinkTopicInfo> matchesTopic(final String topic, Map<List<String>, Boolean> results) {
+        return info -> results.computeIfAbsent(info.regexFilters, filters -> info.matches(topic));
+    }
+
+    private boolean matches(String topic) {
+        return patterns.stream().anyMatch(pattern -> pattern.matcher(topic).matches());
     }
 }
@@ -12,11 +12,13 @@
  */
 package org.openhab.core.io.rest.sse.internal.util;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.StringTokenizer;
 
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.sse.OutboundSseEvent;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +26,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.events.Event;
 import org.openhab.core.io.rest.sse.internal.dto.EventDTO;
 
+import com.google.gson.Gson;
+
 /**
  * Utility class containing helper methods for the SSE implementation.
  *
@@ -35,6 +39,8 @@ import org.openhab.core.io.rest.sse.internal.dto.EventDTO;
 public class SseUtil {
     static final String TOPIC_VALIDATE_PATTERN = "(\\w*\\*?\\/?,?:?-?\\s*)*";
 
+    private static final Gson GSON = new Gson();
+
     public static EventDTO buildDTO(final Event event) {
         EventDTO dto = new EventDTO();
         dto.topic = event.getTopic();
@@ -51,9 +57,12 @@ public class SseUtil {
      * @return a new OutboundEvent
      */
     public static OutboundSseEvent buildEvent(OutboundSseEvent.Builder eventBuilder, EventDTO event) {
+        // the event is encoded only once and the bytes are shared by all sinks it is sent to
+        byte[] data = GSON.toJson(event).getBytes(StandardCharsets.UTF_8);
+        StreamingOutput output = outputStream -> outputStream.write(data);
         return eventBuilder.name("message") //
                 .mediaType(MediaType.APPLICATION_JSON_TYPE) //
-                .data(event) //
+                .data(StreamingOutput.class, output) //
                 .build();
     }
 
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sse.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SseSinkTopicInfo}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class SseSinkTopicInfoTest {
+
+    private static final String TOPIC = "openhab/items/Test/statechanged";
+
+    @Test
+    public void testMatchesTopic() {
+        Predicate<SseSinkTopicInfo> predicate = SseSinkTopicInfo.matchesTopic(TOPIC);
+
+        assertThat(predicate.test(new SseSinkTopicInfo("")), is(true));
+        assertThat(predicate.test(new SseSinkTopicInfo("openhab/items/*/statechanged")), is(true));
+        assertThat(predicate.test(new SseSinkTopicInfo("openhab/things/*, openhab/items/*")), is(true));
+        assertThat(predicate.test(new SseSinkTopicInfo("openhab/items/*/command")), is(false));
+    }
+
+    @Test
+    public void testMatchResultsAreSharedBetweenEqualFilters() {
+        Map<List<String>, Boolean> results = new HashMap<>();
+        Predicate<SseSinkTopicInfo> predicate = SseSinkTopicInfo.matchesTopic(TOPIC, results);
+
+        assertThat(predicate.test(new SseSinkTopicInfo("openhab/items/*")), is(true));
+        assertThat(predicate.test(new SseSinkTopicInfo("openhab/items/*")), is(true));
+        assertThat(predicate.test(new SseSinkTopicInfo("openhab/things/*")), is(false));
+        assertThat(results.size(), is(2));
+    }
+}
@@ -49,6 +49,11 @@ public class AggregateStopWatch {
      */
     final SimpleStopWatch callback = new SimpleStopWatch();
 
+    /**
+     * Number of requests served by the operation, larger than one for coalesced reads
+     */
+    int requests = 1;
+
     public AggregateStopWatch() {
         this.operationId = UUID.randomUUID().toString();
     }
@@ -66,7 +71,8 @@ public class AggregateStopWatch {
 
     @Override
     public String toString() {
-        return String.format("{total: %d ms, connection: %d, transaction=%d, callback=%d}", total.getTotalTimeMillis(),
-                connection.getTotalTimeMillis(), transaction.getTotalTimeMillis(), callback.getTotalTimeMillis());
+        return String.format("{total: %d ms, connection: %d, transaction=%d, callback=%d, requests=%d}",
+                total.getTotalTimeMillis(), connection.getTotalTimeMillis(), transaction.getTotalTimeMillis(),
+                callback.getTotalTimeMillis(), requests);
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Poll task reading a single address range that covers the requests of several registered poll tasks.
+ *
+ * The result of the merged read is sliced and handed to the callbacks of the member tasks, each receiving exactly the
+ * data of its own request. Failures are reported to all members.
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class CoalescedPollTask implements PollTask {
+
+    private final Logger logger = LoggerFactory.getLogger(CoalescedPollTask.class);
+
+    private final ModbusSlaveEndpoint endpoint;
+    private final ModbusReadRequestBlueprint request;
+    private final List<PollTask> members;
+
+    public CoalescedPollTask(ModbusSlaveEndpoint endpoint, ModbusReadRequestBlueprint request,
+            List<PollTask> members) {
+        this.endpoint = endpoint;
+        this.request = request;
+        this.members = List.copyOf(members);
+    }
+
+    /**
+     * Get the poll tasks served by this task
+     *
+     * @return member poll tasks
+     */
+    public List<PollTask> getMembers() {
+        return members;
+    }
+
+    @Override
+    public ModbusReadRequestBlueprint getRequest() {
+        return request;
+    }
+
+    @Override
+    public ModbusSlaveEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public ModbusReadCallback getResultCallback() {
+        return this::handleResult;
+    }
+
+    @Override
+    public ModbusFailureCallback<ModbusReadRequestBlueprint> getFailureCallback() {
+        return this::handleFailure;
+    }
+
+    private void handleResult(AsyncModbusReadResult result) {
+        for (PollTask member : members) {
+            ModbusReadRequestBlueprint memberRequest = member.getRequest();
+            int offset = memberRequest.getReference() - request.getReference();
+            int length = memberRequest.getDataLength();
+            AsyncModbusReadResult memberResult;
+            if (result.getRegisters().isPresent()) {
+                ModbusRegisterArray registers = result.getRegisters().get();
+                int[] values = new int[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = registers.getRegister(offset + i);
+                }
+                memberResult = new AsyncModbusReadResult(memberRequest, new ModbusRegisterArray(values));
+            } else if (result.getBits().isPresent()) {
+                BitArray bits = result.getBits().get();
+                boolean[] values = new boolean[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = bits.getBit(offset + i);
+                }
+                memberResult = new AsyncModbusReadResult(memberRequest, new BitArray(values));
+            } else {
+                // should not happen, results always carry either registers or bits
+                logger.warn("Result {} of coalesced request contains no data, skipping member {}", result, member);
+                continue;
+            }
+            try {
+                member.getResultCallback().handle(memberResult);
+            } catch (RuntimeException e) {
+                logger.warn("Result callback of poll task {} failed unexpectedly", member, e);
+            }
+        }
+    }
+
+    private void handleFailure(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        for (PollTask member : members) {
+            try {
+                member.getFailureCallback().handle(new AsyncModbusFailure<>(member.getRequest(), failure.getCause()));
+            } catch (RuntimeException e) {
+                logger.warn("Failure callback of poll task {} failed unexpectedly", member, e);
+            }
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(request, endpoint, members);
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescedPollTask [getEndpoint=" + endpoint + ", request=" + request + ", members=" + members.size()
+                + "]";
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        CoalescedPollTask rhs = (CoalescedPollTask) obj;
+        return Objects.equals(request, rhs.request) && Objects.equals(endpoint, rhs.endpoint)
+                && Objects.equals(members, rhs.members);
+    }
+}
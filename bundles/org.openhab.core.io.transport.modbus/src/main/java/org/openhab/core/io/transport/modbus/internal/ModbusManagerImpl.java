@@ -14,6 +14,7 @@ package org.openhab.core.io.transport.modbus.internal;
 
 import java.io.IOException;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,6 +25,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -36,6 +38,7 @@ import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
@@ -82,6 +85,10 @@ import net.wimpi.modbus.net.ModbusSlaveConnection;
  * important with serial slaves but practice has shown that even many tcp slaves have limited
  * capability to handle many connections at the same time
  *
+ * Optionally, regular polls to the same endpoint with the same poll period are coalesced: instead of scheduling each
+ * poll task independently, they are executed together and compatible requests are merged into larger reads by the
+ * {@link ReadRequestPlanner}.
+ *
  * @author Sami Salonen - Initial contribution
  */
 @Component(service = ModbusManager.class, configurationPid = "transport.modbus")
@@ -303,6 +310,17 @@ public class ModbusManagerImpl implements ModbusManager {
      * Presumably slow callbacks can increase queue size with callbackThreadPool
      */
     private static final long WARN_QUEUE_SIZE = 500;
+
+    /**
+     * Configuration key for enabling coalescing of regular polls
+     */
+    public static final String CONFIG_COALESCE_READS = "coalesceReads";
+
+    /**
+     * Configuration key for the maximum number of unrequested items read between two coalesced requests
+     */
+    public static final String CONFIG_COALESCE_MAX_GAP = "coalesceMaxGap";
+
     private static final long MONITOR_QUEUE_INTERVAL_MILLIS = 10000;
     private static final Function<ModbusSlaveEndpoint, EndpointPoolConfiguration> DEFAULT_POOL_CONFIGURATION = endpoint -> endpoint
             .accept(new ModbusSlaveEndpointVisitor<EndpointPoolConfiguration>() {
@@ -362,6 +380,57 @@ public class ModbusManagerImpl implements ModbusManager {
     private volatile @Nullable ScheduledFuture<?> monitorFuture;
     private volatile Set<ModbusCommunicationInterfaceImpl> communicationInterfaces = ConcurrentHashMap.newKeySet();
 
+    private volatile boolean coalesceReads = false;
+    private volatile ReadRequestPlanner readRequestPlanner = new ReadRequestPlanner(0);
+    private final Map<PollGroupKey, PollGroup> pollGroups = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedReads = new AtomicLong();
+    private final AtomicLong savedTransactions = new AtomicLong();
+
+    private record PollGroupKey(ModbusSlaveEndpoint endpoint, long pollPeriodMillis) {
+    }
+
+    /**
+     * Regular poll tasks of the same endpoint sharing the same poll period.
+     *
+     * All tasks of the group are executed by a single scheduled job, merging compatible requests.
+     */
+    private class PollGroup {
+        private final PollGroupKey key;
+        private final Set<PollTask> tasks = ConcurrentHashMap.newKeySet();
+        private volatile List<CoalescedPollTask> plan = List.of();
+        private volatile @Nullable ScheduledFuture<?> future;
+
+        private PollGroup(PollGroupKey key) {
+            this.key = key;
+        }
+
+        private void add(PollTask task) {
+            tasks.add(task);
+            plan = readRequestPlanner.plan(tasks);
+        }
+
+        private boolean remove(PollTask task) {
+            boolean removed = tasks.remove(task);
+            plan = readRequestPlanner.plan(tasks);
+            return removed;
+        }
+
+        private void execute() {
+            List<CoalescedPollTask> plan = this.plan;
+            int memberCount = plan.stream().mapToInt(coalesced -> coalesced.getMembers().size()).sum();
+            coalescedReads.addAndGet(plan.size());
+            savedTransactions.addAndGet(memberCount - plan.size());
+            logger.debug("Executing {} coalesced reads for {} poll tasks of endpoint {} (period {}ms)", plan.size(),
+                    memberCount, key.endpoint(), key.pollPeriodMillis());
+            for (CoalescedPollTask task : plan) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                executeOperation(task, false, pollOperation);
+            }
+        }
+    }
+
     private void constructConnectionPool() {
         ModbusSlaveConnectionFactoryImpl connectionFactory = new ModbusSlaveConnectionFactoryImpl(
                 DEFAULT_POOL_CONFIGURATION);
@@ -514,7 +583,10 @@ public class ModbusManagerImpl implements ModbusManager {
     }
 
     private void verifyTaskIsRegistered(PollTask task) throws PollTaskUnregistered {
-        if (!this.scheduledPollTasks.containsKey(task)) {
+        boolean registered = task instanceof CoalescedPollTask coalesced
+                ? coalesced.getMembers().stream().anyMatch(scheduledPollTasks::containsKey)
+                : scheduledPollTasks.containsKey(task);
+        if (!registered) {
             String msg = String.format("Poll task %s is unregistered", task);
             logger.debug(msg);
             throw new PollTaskUnregistered(msg);
@@ -538,6 +610,9 @@ public class ModbusManagerImpl implements ModbusManager {
     private <R, C extends ModbusResultCallback, F extends ModbusFailureCallback<R>, T extends TaskWithEndpoint<R, C, F>> void executeOperation(
             T task, boolean oneOffTask, ModbusOperation<T> operation) {
         AggregateStopWatch timer = new AggregateStopWatch();
+        if (task instanceof CoalescedPollTask coalesced) {
+            timer.requests = coalesced.getMembers().size();
+        }
         timer.total.resume();
         String operationId = timer.operationId;
 
@@ -812,6 +887,9 @@ public class ModbusManagerImpl implements ModbusManager {
                     logger.trace("Unregistering previous poll task (possibly with different period)");
                     unregisterRegularPoll(task);
                 }
+                if (coalesceReads) {
+                    return registerCoalescedPoll(executor, task, pollPeriodMillis, initialDelayMillis);
+                }
                 ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
                     long started = System.currentTimeMillis();
                     logger.debug("Executing scheduled ({}ms) poll task {}. Current millis: {}", pollPeriodMillis, task,
@@ -841,6 +919,33 @@ public class ModbusManagerImpl implements ModbusManager {
             }
         }
 
+        private PollTask registerCoalescedPoll(ScheduledExecutorService executor, PollTask task, long pollPeriodMillis,
+                long initialDelayMillis) {
+            PollGroup group = pollGroups.computeIfAbsent(new PollGroupKey(endpoint, pollPeriodMillis), PollGroup::new);
+            group.add(task);
+            ScheduledFuture<?> future = group.future;
+            if (future == null) {
+                group.future = future = executor.scheduleWithFixedDelay(() -> {
+                    long started = System.currentTimeMillis();
+                    try {
+                        group.execute();
+                    } catch (RuntimeException e) {
+                        // Same as with individually scheduled polls: keep polling on unexpected exceptions
+                        logger.warn(
+                                "Execution of scheduled ({}ms) coalesced poll of endpoint {} failed unexpectedly. Ignoring exception, polling again according to poll interval.",
+                                pollPeriodMillis, endpoint, e);
+                    }
+                    logger.debug("Execution of scheduled ({}ms) coalesced poll of endpoint {} took {} millis",
+                            pollPeriodMillis, endpoint, System.currentTimeMillis() - started);
+                }, initialDelayMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
+            }
+            scheduledPollTasks.put(task, future);
+            pollTasksRegisteredByThisCommInterface.add(task);
+            logger.trace("Registered poll task {} with period {} to coalesced poll group of {} tasks", task,
+                    pollPeriodMillis, group.tasks.size());
+            return task;
+        }
+
         @SuppressWarnings({ "null", "unused" })
         @Override
         public boolean unregisterRegularPoll(PollTask task) {
@@ -861,6 +966,17 @@ public class ModbusManagerImpl implements ModbusManager {
                     logger.warn("Caller tried to unregister nonexisting poll task {}", task);
                     return false;
                 }
+                for (PollGroup group : pollGroups.values()) {
+                    if (group.remove(task)) {
+                        if (!group.tasks.isEmpty()) {
+                            // other tasks of the group keep the scheduled job alive
+                            logger.debug("Poll task {} removed from coalesced poll group", task);
+                            return true;
+                        }
+                        pollGroups.remove(group.key);
+                        break;
+                    }
+                }
                 logger.debug("Unregistering regular poll task {} (interrupting if necessary)", task);
                 future.cancel(true);
                 logger.debug("Poll task {} canceled", task);
@@ -970,6 +1086,10 @@ public class ModbusManagerImpl implements ModbusManager {
     protected void activate(Map<String, Object> configProperties) {
         synchronized (this) {
             logger.info("Modbus manager activated");
+            coalesceReads = ConfigParser.valueAsOrElse(configProperties.get(CONFIG_COALESCE_READS), Boolean.class,
+                    false);
+            int maxGap = ConfigParser.valueAsOrElse(configProperties.get(CONFIG_COALESCE_MAX_GAP), Integer.class, 0);
+            readRequestPlanner = new ReadRequestPlanner(Math.max(0, maxGap));
             if (connectionPool == null) {
                 constructConnectionPool();
             }
@@ -1003,6 +1123,7 @@ public class ModbusManagerImpl implements ModbusManager {
                 connectionPool.close();
                 this.connectionPool = connectionPool = null;
             }
+            pollGroups.clear();
 
             if (monitorFuture != null) {
                 monitorFuture.cancel(true);
@@ -1028,6 +1149,11 @@ public class ModbusManagerImpl implements ModbusManager {
             }
             lastQueueMonitorLog = System.currentTimeMillis();
             pollMonitorLogger.trace("<POLL MONITOR>");
+            if (coalesceReads) {
+                pollMonitorLogger.trace(
+                        "POLL MONITOR: {} coalesced poll groups, {} coalesced reads executed, {} transactions saved",
+                        pollGroups.size(), coalescedReads.get(), savedTransactions.get());
+            }
             this.scheduledPollTasks.forEach((task, future) -> {
                 pollMonitorLogger.trace(
                         "POLL MONITOR: scheduled poll task. FC: {}, start {}, length {}, done: {}, canceled: {}, delay: {}. Full task {}",
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+
+/**
+ * Planner merging compatible poll tasks into larger reads
+ *
+ * Poll tasks are compatible when they share the endpoint, unit id and function code. Their address ranges are merged
+ * when they overlap or when the gap between them is at most {@code maxGap} items, as long as the merged read does not
+ * exceed the maximum item count allowed by the Modbus protocol for the function code.
+ *
+ * Gaps are read along with the requested data. Since some slaves respond with an error to reads of unmapped
+ * addresses, the default gap is zero, i.e. only adjacent or overlapping ranges are merged.
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ReadRequestPlanner {
+
+    private final int maxGap;
+
+    public ReadRequestPlanner(int maxGap) {
+        if (maxGap < 0) {
+            throw new IllegalArgumentException("maxGap must not be negative");
+        }
+        this.maxGap = maxGap;
+    }
+
+    /**
+     * Plan the reads for given poll tasks
+     *
+     * Every task is covered by exactly one of the returned tasks. Tasks that cannot be merged with any other task are
+     * returned as {@link CoalescedPollTask} with a single member.
+     *
+     * @param tasks poll tasks to plan
+     * @return poll tasks covering all given tasks
+     */
+    public List<CoalescedPollTask> plan(Collection<PollTask> tasks) {
+        Map<GroupKey, List<PollTask>> groups = new LinkedHashMap<>();
+        for (PollTask task : tasks) {
+            ModbusReadRequestBlueprint request = task.getRequest();
+            groups.computeIfAbsent(
+                    new GroupKey(task.getEndpoint(), request.getUnitID(), request.getFunctionCode()),
+                    k -> new ArrayList<>()).add(task);
+        }
+
+        List<CoalescedPollTask> planned = new ArrayList<>();
+        groups.forEach((key, groupTasks) -> planGroup(key, groupTasks, planned));
+        return planned;
+    }
+
+    private void planGroup(GroupKey key, List<PollTask> tasks, List<CoalescedPollTask> planned) {
+        tasks.sort(Comparator.comparingInt((PollTask task) -> task.getRequest().getReference())
+                .thenComparingInt(task -> task.getRequest().getDataLength()));
+        int maxLength = maxReadCount(key.functionCode());
+
+        List<PollTask> members = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (PollTask task : tasks) {
+            ModbusReadRequestBlueprint request = task.getRequest();
+            int taskStart = request.getReference();
+            int taskEnd = taskStart + request.getDataLength();
+            if (!members.isEmpty() && taskStart - end <= maxGap && Math.max(end, taskEnd) - start <= maxLength) {
+                end = Math.max(end, taskEnd);
+                members.add(task);
+                continue;
+            }
+            if (!members.isEmpty()) {
+                planned.add(createTask(key, start, end, members));
+            }
+            members = new ArrayList<>();
+            members.add(task);
+            start = taskStart;
+            end = taskEnd;
+        }
+        if (!members.isEmpty()) {
+            planned.add(createTask(key, start, end, members));
+        }
+    }
+
+    private CoalescedPollTask createTask(GroupKey key, int start, int end, List<PollTask> members) {
+        int maxTries = members.stream().mapToInt(PollTask::getMaxTries).max().orElse(1);
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(key.unitId(), key.functionCode(), start,
+                end - start, maxTries);
+        return new CoalescedPollTask(key.endpoint(), request, members);
+    }
+
+    private static int maxReadCount(ModbusReadFunctionCode functionCode) {
+        return switch (functionCode) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            case READ_MULTIPLE_REGISTERS, READ_INPUT_REGISTERS -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+    }
+
+    private record GroupKey(ModbusSlaveEndpoint endpoint, int unitId, ModbusReadFunctionCode functionCode) {
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.internal.BasicPollTask;
+import org.openhab.core.io.transport.modbus.internal.CoalescedPollTask;
+import org.openhab.core.io.transport.modbus.internal.ReadRequestPlanner;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ReadRequestPlannerTest {
+
+    private final ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("localhost", 502, false);
+    private final List<AsyncModbusReadResult> results = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+
+    private PollTask task(int unitId, ModbusReadFunctionCode functionCode, int start, int length) {
+        return new BasicPollTask(endpoint, new ModbusReadRequestBlueprint(unitId, functionCode, start, length, 3),
+                results::add, failures::add);
+    }
+
+    @Test
+    public void testAdjacentRangesAreMerged() {
+        PollTask first = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        PollTask second = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 3);
+        PollTask overlapping = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 1, 2);
+
+        List<CoalescedPollTask> plan = new ReadRequestPlanner(0).plan(List.of(second, first, overlapping));
+
+        assertThat(plan.size(), is(1));
+        ModbusReadRequestBlueprint request = plan.getFirst().getRequest();
+        assertThat(request.getReference(), is(0));
+        assertThat(request.getDataLength(), is(5));
+        assertThat(plan.getFirst().getMembers().size(), is(3));
+    }
+
+    @Test
+    public void testGapsAreRespected() {
+        PollTask first = task(1, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0, 2);
+        PollTask second = task(1, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 4, 2);
+
+        assertThat(new ReadRequestPlanner(0).plan(List.of(first, second)).size(), is(2));
+        assertThat(new ReadRequestPlanner(1).plan(List.of(first, second)).size(), is(2));
+
+        List<CoalescedPollTask> plan = new ReadRequestPlanner(2).plan(List.of(first, second));
+        assertThat(plan.size(), is(1));
+        assertThat(plan.getFirst().getRequest().getDataLength(), is(6));
+    }
+
+    @Test
+    public void testIncompatibleRequestsAreNotMerged() {
+        PollTask registers = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        PollTask inputRegisters = task(1, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 2, 2);
+        PollTask otherUnit = task(2, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2);
+
+        assertThat(new ReadRequestPlanner(10).plan(List.of(registers, inputRegisters, otherUnit)).size(), is(3));
+    }
+
+    @Test
+    public void testMaximumReadLengthIsRespected() {
+        PollTask first = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 100);
+        PollTask second = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 100, 100);
+
+        assertThat(new ReadRequestPlanner(0).plan(List.of(first, second)).size(), is(2));
+    }
+
+    @Test
+    public void testRegisterResultIsSlicedForMembers() {
+        PollTask first = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 2);
+        PollTask second = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 12, 1);
+        CoalescedPollTask coalesced = new ReadRequestPlanner(0).plan(List.of(first, second)).getFirst();
+
+        coalesced.getResultCallback()
+                .handle(new AsyncModbusReadResult(coalesced.getRequest(), new ModbusRegisterArray(5, 6, 7)));
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0).getRequest(), is(first.getRequest()));
+        assertThat(results.get(0).getRegisters().get(), is(new ModbusRegisterArray(5, 6)));
+        assertThat(results.get(1).getRequest(), is(second.getRequest()));
+        assertThat(results.get(1).getRegisters().get(), is(new ModbusRegisterArray(7)));
+    }
+
+    @Test
+    public void testBitResultIsSlicedForMembers() {
+        PollTask first = task(1, ModbusReadFunctionCode.READ_COILS, 0, 1);
+        PollTask second = task(1, ModbusReadFunctionCode.READ_COILS, 1, 2);
+        CoalescedPollTask coalesced = new ReadRequestPlanner(0).plan(List.of(first, second)).getFirst();
+
+        coalesced.getResultCallback()
+                .handle(new AsyncModbusReadResult(coalesced.getRequest(), new BitArray(true, false, true)));
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0).getBits().get(), is(new BitArray(true)));
+        assertThat(results.get(1).getBits().get(), is(new BitArray(false, true)));
+    }
+
+    @Test
+    public void testFailureIsReportedToAllMembers() {
+        PollTask first = task(1, ModbusReadFunctionCode.READ_COILS, 0, 1);
+        PollTask second = task(1, ModbusReadFunctionCode.READ_COILS, 1, 2);
+        CoalescedPollTask coalesced = new ReadRequestPlanner(0).plan(List.of(first, second)).getFirst();
+
+        Exception cause = new Exception("test");
+        coalesced.getFailureCallback().handle(new AsyncModbusFailure<>(coalesced.getRequest(), cause));
+
+        assertThat(failures.size(), is(2));
+        assertThat(failures.get(0).getRequest(), is(first.getRequest()));
+        assertThat(failures.get(1).getRequest(), is(second.getRequest()));
+        assertThat(failures.get(1).getCause(), is(sameInstance(cause)));
+    }
+}
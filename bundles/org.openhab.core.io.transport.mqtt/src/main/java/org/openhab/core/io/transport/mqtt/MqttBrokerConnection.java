@@ -13,8 +13,11 @@
 package org.openhab.core.io.transport.mqtt;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,6 +34,7 @@ import javax.net.ssl.TrustManagerFactory;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
+import org.openhab.core.io.transport.mqtt.internal.TopicFilterTrie;
 import org.openhab.core.io.transport.mqtt.internal.client.Mqtt3AsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.internal.client.Mqtt5AsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.internal.client.MqttAsyncClientWrapper;
@@ -53,6 +57,11 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
  *
  * When a connection to an MQTT broker is lost, it will try to reconnect every 60 seconds.
  *
+ * Subscriptions with overlapping topic filters share a single broker subscription where possible: a topic filter that
+ * is covered by an already subscribed wildcard filter is served by that filter and not subscribed at the broker again.
+ * Received messages are routed to the subscriptions through a topic filter trie, retained messages are stored once per
+ * topic for all subscriptions.
+ *
  * @author Davy Vanherbergen - Initial contribution
  * @author David Graeff - All operations are async now. More flexible sslContextProvider and reconnectStrategy added.
  * @author Markus Rathgeb - added connection state callback
@@ -108,6 +117,15 @@ public class MqttBrokerConnection {
     protected final List<MqttConnectionObserver> connectionObservers = new CopyOnWriteArrayList<>();
     protected final Map<String, Subscription> subscribers = new ConcurrentHashMap<>();
 
+    // Routing of received messages: all subscriptions are indexed by their topic filter in a trie, retained messages
+    // are shared between them. Only filters that are not covered by another subscribed filter are subscribed at the
+    // broker ("broker filters"), every subscription is served by exactly one broker filter. A subscription whose broker
+    // subscription failed has no broker filter until it is subscribed again.
+    private final TopicFilterTrie<Subscription> subscriptionTrie = new TopicFilterTrie<>();
+    private final Map<String, byte[]> retainedMessages = new ConcurrentHashMap<>();
+    private final Set<String> brokerFilters = ConcurrentHashMap.newKeySet();
+    private final TopicFilterTrie<String> brokerFilterTrie = new TopicFilterTrie<>();
+
     // Connection timeout handling
     protected final AtomicReference<@Nullable ScheduledFuture<?>> timeoutFuture = new AtomicReference<>(null);
     protected @Nullable ScheduledExecutorService timeoutExecutor;
@@ -140,8 +158,12 @@ public class MqttBrokerConnection {
                 connection.reconnectStrategy.connectionEstablished();
             }
             List<CompletableFuture<Boolean>> futures = new ArrayList<>();
-            connection.subscribers.forEach((topic, subscription) -> {
-                futures.add(connection.subscribeRaw(topic, subscription));
+            synchronized (connection.subscribers) {
+                // subscriptions whose broker subscription failed get a new chance
+                connection.reassignBrokerFilters(null);
+            }
+            connection.brokerFilters.forEach(topic -> {
+                futures.add(connection.subscribeRaw(topic));
             });
 
             // As soon as all subscriptions are performed, turn the connection future complete.
@@ -529,39 +551,114 @@ public class MqttBrokerConnection {
         final Subscription subscription;
         final boolean needsSubscribe;
         synchronized (subscribers) {
-            subscription = subscribers.computeIfAbsent(topic, t -> new Subscription());
-
-            needsSubscribe = subscription.isEmpty();
+            Subscription existing = subscribers.get(topic);
+            if (existing == null) {
+                subscription = new Subscription(topic, retainedMessages);
+                needsSubscribe = assignBrokerFilter(topic, subscription);
+                subscribers.put(topic, subscription);
+                subscriptionTrie.put(topic, subscription);
+            } else {
+                subscription = existing;
+                // retry if the broker subscription of this topic failed before
+                needsSubscribe = existing.getBrokerFilter() == null && assignBrokerFilter(topic, existing);
+            }
 
             subscription.add(subscriber);
         }
 
         if (needsSubscribe) {
-            return subscribeRaw(topic, subscription);
+            return subscribeRaw(topic);
         }
         return CompletableFuture.completedFuture(true);
     }
 
+    /**
+     * Assign the broker filter that serves a subscription, making its topic a new broker filter if it is not covered by
+     * an existing one.
+     *
+     * @param topic the topic filter of the subscription
+     * @param subscription the subscription
+     * @return true if the topic has become a broker filter and needs to be subscribed at the broker
+     */
+    private boolean assignBrokerFilter(String topic, Subscription subscription) {
+        String brokerFilter = brokerFilterTrie.findCovering(topic);
+        if (brokerFilter == null) {
+            brokerFilters.add(topic);
+            brokerFilterTrie.put(topic, topic);
+            subscription.setBrokerFilter(topic);
+            return true;
+        }
+        logger.trace("Topic {} is covered by subscribed topic {}, not subscribing at the broker", topic, brokerFilter);
+        subscription.setBrokerFilter(brokerFilter);
+        return false;
+    }
+
+    private boolean removeBrokerFilter(String topic) {
+        brokerFilterTrie.remove(topic);
+        return brokerFilters.remove(topic);
+    }
+
+    /**
+     * Drop a broker filter whose subscription at the broker failed. The subscriptions it was meant to serve are
+     * subscribed individually, the subscription of the failed topic itself is retried on the next subscriber or
+     * reconnect.
+     *
+     * @param topic the broker filter that could not be subscribed
+     */
+    private void brokerSubscriptionFailed(String topic) {
+        final List<String> topicsToSubscribe;
+        synchronized (subscribers) {
+            if (!removeBrokerFilter(topic)) {
+                // already unsubscribed in the meantime
+                return;
+            }
+            Subscription subscription = subscribers.get(topic);
+            if (subscription != null && topic.equals(subscription.getBrokerFilter())) {
+                subscription.setBrokerFilter(null);
+            }
+            topicsToSubscribe = reassignBrokerFilters(topic);
+        }
+        topicsToSubscribe.forEach(this::subscribeRaw);
+    }
+
+    /**
+     * Route a message received for a broker subscription to all matching subscriptions served by it.
+     *
+     * @param brokerFilter the topic filter of the broker subscription
+     * @param topic the topic of the message
+     * @param payload the message payload
+     * @param retain whether the message was flagged as retained
+     */
+    private void messageArrived(String brokerFilter, String topic, byte[] payload, boolean retain) {
+        for (Subscription subscription : subscriptionTrie.match(topic)) {
+            if (brokerFilter.equals(subscription.getBrokerFilter())) {
+                subscription.messageArrived(topic, payload, retain);
+            }
+        }
+    }
+
     /**
      * Subscribes to a topic on the given connection, but does not alter the subscriber list.
      *
      * @param topic The topic to subscribe to.
      * @return Completes with true if successful. Exceptionally otherwise.
      */
-    protected CompletableFuture<Boolean> subscribeRaw(String topic, Subscription subscription) {
+    protected CompletableFuture<Boolean> subscribeRaw(String topic) {
         logger.trace("subscribeRaw message consumer for topic '{}' from broker '{}'", topic, host);
         CompletableFuture<Boolean> future = new CompletableFuture<>();
         final MqttAsyncClientWrapper mqttClient = this.client;
         if (mqttClient != null && mqttClient.getState().isConnected()) {
-            mqttClient.subscribe(topic, qos, subscription).whenComplete((s, t) -> {
-                if (t == null) {
-                    logger.trace("Successfully subscribed to topic {}", topic);
-                    future.complete(true);
-                } else {
-                    logger.warn("Failed subscribing to topic {}", topic, t);
-                    future.completeExceptionally(new MqttException(t));
-                }
-            });
+            mqttClient.subscribe(topic, qos, (t, payload, retain) -> messageArrived(topic, t, payload, retain))
+                    .whenComplete((s, t) -> {
+                        if (t == null) {
+                            logger.trace("Successfully subscribed to topic {}", topic);
+                            future.complete(true);
+                        } else {
+                            logger.warn("Failed subscribing to topic {}", topic, t);
+                            brokerSubscriptionFailed(topic);
+                            future.completeExceptionally(new MqttException(t));
+                        }
+                    });
         } else {
             future.complete(false);
         }
@@ -579,6 +676,7 @@ public class MqttBrokerConnection {
     @SuppressWarnings({ "null", "unused" })
     public CompletableFuture<Boolean> unsubscribe(String topic, MqttMessageSubscriber subscriber) {
         final boolean needsUnsubscribe;
+        final List<String> topicsToSubscribe = new ArrayList<>();
 
         synchronized (subscribers) {
             final @Nullable Subscription subscription = subscribers.get(topic);
@@ -589,12 +687,19 @@ public class MqttBrokerConnection {
             subscription.remove(subscriber);
 
             if (subscription.isEmpty()) {
-                needsUnsubscribe = true;
                 subscribers.remove(topic);
+                subscriptionTrie.remove(topic);
+                needsUnsubscribe = removeBrokerFilter(topic);
+                if (needsUnsubscribe) {
+                    topicsToSubscribe.addAll(reassignBrokerFilters(topic));
+                }
+                retainedMessages.keySet().removeIf(t -> subscriptionTrie.match(t).isEmpty());
             } else {
                 needsUnsubscribe = false;
             }
         }
+        // subscribe the topics that were served by the removed broker subscription before removing it
+        topicsToSubscribe.forEach(this::subscribeRaw);
         if (needsUnsubscribe) {
             MqttAsyncClientWrapper mqttClient = this.client;
             if (mqttClient != null) {
@@ -606,6 +711,33 @@ public class MqttBrokerConnection {
         return CompletableFuture.completedFuture(true);
     }
 
+    /**
+     * Assign new broker filters to all subscriptions that were served by a removed broker filter.
+     *
+     * @param removedBrokerFilter the removed broker filter or {@code null} to assign all subscriptions without one
+     * @return the topics that need to be subscribed at the broker
+     */
+    private List<String> reassignBrokerFilters(@Nullable String removedBrokerFilter) {
+        List<String> orphanTopics = subscribers.entrySet().stream()
+                .filter(e -> Objects.equals(removedBrokerFilter, e.getValue().getBrokerFilter()))
+                .map(Map.Entry::getKey)
+                // subscribe broad filters first, so they can serve the narrower ones
+                .sorted(Comparator.comparing((String t) -> !t.contains("#")).thenComparing(t -> !t.contains("+"))
+                        .thenComparingInt(t -> t.split("/").length))
+                .toList();
+        List<String> topicsToSubscribe = new ArrayList<>();
+        for (String orphanTopic : orphanTopics) {
+            Subscription orphan = subscribers.get(orphanTopic);
+            if (orphan == null) {
+                continue;
+            }
+            if (assignBrokerFilter(orphanTopic, orphan)) {
+                topicsToSubscribe.add(orphanTopic);
+            }
+        }
+        return topicsToSubscribe;
+    }
+
     /**
      * Unsubscribes from a topic on the given connection, but does not alter the subscriber list.
      *
@@ -748,10 +880,16 @@ public class MqttBrokerConnection {
         MqttAsyncClientWrapper client = this.client;
         List<CompletableFuture<Boolean>> futures = new ArrayList<>();
         if (client != null) {
-            subscribers.forEach((topic, subscription) -> {
-                futures.add(unsubscribeRaw(client, topic));
-            });
-            subscribers.clear();
+            synchronized (subscribers) {
+                brokerFilters.forEach(topic -> {
+                    futures.add(unsubscribeRaw(client, topic));
+                });
+                brokerFilters.forEach(brokerFilterTrie::remove);
+                brokerFilters.clear();
+                subscribers.keySet().forEach(subscriptionTrie::remove);
+                subscribers.clear();
+                retainedMessages.clear();
+            }
         }
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
     }
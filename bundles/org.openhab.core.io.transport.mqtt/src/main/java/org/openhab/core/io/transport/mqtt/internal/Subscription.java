@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
 import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
@@ -28,15 +29,48 @@ import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
 /**
  * This class keeps track of all the subscribers to a specific topic.
  * <p>
- * <b>Retained</b> messages for the topic are stored so they can be replayed to new subscribers.
+ * <b>Retained</b> messages for the topic are stored so they can be replayed to new subscribers. The store may be
+ * shared between the subscriptions of a connection, in which case only messages matching the topic filter of this
+ * subscription are replayed.
  *
  * @author Jochen Klein - Initial contribution
  */
 @NonNullByDefault
-public class Subscription {
+public class Subscription implements TopicMessageConsumer {
     private final Logger logger = LoggerFactory.getLogger(Subscription.class);
-    private final Map<String, byte[]> retainedMessages = new ConcurrentHashMap<>();
+    private final @Nullable String topicFilter;
+    private final Map<String, byte[]> retainedMessages;
     private final Collection<MqttMessageSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private volatile @Nullable String brokerFilter;
+
+    public Subscription() {
+        this.topicFilter = null;
+        this.retainedMessages = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create a subscription sharing the retained message store with other subscriptions.
+     *
+     * @param topicFilter the topic filter of this subscription
+     * @param retainedMessages the shared store of retained messages by topic
+     */
+    public Subscription(String topicFilter, Map<String, byte[]> retainedMessages) {
+        this.topicFilter = topicFilter;
+        this.retainedMessages = retainedMessages;
+    }
+
+    /**
+     * Get the filter of the broker subscription that delivers messages for this subscription.
+     *
+     * @return the broker topic filter or {@code null} if not assigned
+     */
+    public @Nullable String getBrokerFilter() {
+        return brokerFilter;
+    }
+
+    public void setBrokerFilter(@Nullable String brokerFilter) {
+        this.brokerFilter = brokerFilter;
+    }
 
     /**
      * Add a new subscriber.
@@ -48,8 +82,10 @@ public class Subscription {
     public void add(MqttMessageSubscriber subscriber) {
         if (subscribers.add(subscriber)) {
             // new subscriber. deliver all known retained messages
+            String topicFilter = this.topicFilter;
             retainedMessages.entrySet().stream().forEach(entry -> {
-                if (entry.getValue().length > 0) {
+                if (entry.getValue().length > 0
+                        && (topicFilter == null || TopicFilterTrie.covers(topicFilter, entry.getKey()))) {
                     processMessage(subscriber, entry.getKey(), entry.getValue());
                 }
             });
@@ -77,6 +113,7 @@ public class Subscription {
         messageArrived(message.getTopic().toString(), message.getPayloadAsBytes(), message.isRetain());
     }
 
+    @Override
     public void messageArrived(String topic, byte[] payload, boolean retain) {
         // http://docs.oasis-open.org/mqtt/mqtt/v3.1.1/os/mqtt-v3.1.1-os.html#_Toc385349265
         // Only the first message delivered will have the retain flag; subsequent messages
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A trie of MQTT topic filters, indexed by topic level.
+ * <p>
+ * Matching a topic walks the trie once per topic level and collects the values of all filters matching the topic,
+ * instead of evaluating every filter separately. Wildcards follow the MQTT specification: {@code +} matches exactly
+ * one level, {@code #} matches any number of levels (including the parent level) and topics starting with {@code $}
+ * are not matched by wildcards on the first level.
+ * <p>
+ * Lookups are safe to run concurrently with modifications. Modifications have to be synchronized by the caller.
+ *
+ * @param <V> the type of the values stored per filter
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class TopicFilterTrie<V> {
+
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private static class Node<V> {
+        private final Map<String, Node<V>> children = new ConcurrentHashMap<>();
+        private volatile @Nullable V value;
+
+        private boolean isEmpty() {
+            return value == null && children.isEmpty();
+        }
+    }
+
+    private final Node<V> root = new Node<>();
+
+    /**
+     * Store a value for a topic filter, replacing any previous value.
+     *
+     * @param filter the topic filter
+     * @param value the value
+     */
+    public void put(String filter, V value) {
+        Node<V> node = root;
+        for (String level : filter.split("/", -1)) {
+            node = node.children.computeIfAbsent(level, l -> new Node<>());
+        }
+        node.value = value;
+    }
+
+    /**
+     * Remove the value of a topic filter.
+     *
+     * @param filter the topic filter
+     * @return the removed value or {@code null} if there was none
+     */
+    public @Nullable V remove(String filter) {
+        return remove(root, filter.split("/", -1), 0);
+    }
+
+    private @Nullable V remove(Node<V> node, String[] levels, int index) {
+        if (index == levels.length) {
+            V value = node.value;
+            node.value = null;
+            return value;
+        }
+        Node<V> child = node.children.get(levels[index]);
+        if (child == null) {
+            return null;
+        }
+        V value = remove(child, levels, index + 1);
+        if (child.isEmpty()) {
+            node.children.remove(levels[index]);
+        }
+        return value;
+    }
+
+    /**
+     * Get the value of a topic filter.
+     *
+     * @param filter the topic filter
+     * @return the value or {@code null} if the filter is unknown
+     */
+    public @Nullable V get(String filter) {
+        Node<V> node = root;
+        for (String level : filter.split("/", -1)) {
+            node = node.children.get(level);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Collect the values of all filters matching a topic.
+     *
+     * @param topic the topic (must not contain wildcards)
+     * @return the values of all matching filters
+     */
+    public List<V> match(String topic) {
+        List<V> result = new ArrayList<>();
+        match(root, topic.split("/", -1), 0, result);
+        return result;
+    }
+
+    private void match(Node<V> node, String[] levels, int index, List<V> result) {
+        boolean wildcardsAllowed = index > 0 || !levels[0].startsWith("$");
+        if (wildcardsAllowed) {
+            Node<V> multiLevel = node.children.get(MULTI_LEVEL_WILDCARD);
+            if (multiLevel != null) {
+                addValue(multiLevel, result);
+            }
+        }
+        if (index == levels.length) {
+            addValue(node, result);
+            return;
+        }
+        Node<V> exact = node.children.get(levels[index]);
+        if (exact != null) {
+            match(exact, levels, index + 1, result);
+        }
+        if (wildcardsAllowed) {
+            Node<V> singleLevel = node.children.get(SINGLE_LEVEL_WILDCARD);
+            if (singleLevel != null) {
+                match(singleLevel, levels, index + 1, result);
+            }
+        }
+    }
+
+    /**
+     * Find the value of a filter that {@link #covers(String, String) covers} the given filter.
+     *
+     * @param filter the topic filter (may contain wildcards)
+     * @return the value of a covering filter or {@code null} if no stored filter covers it
+     */
+    public @Nullable V findCovering(String filter) {
+        return findCovering(root, filter.split("/", -1), 0);
+    }
+
+    private @Nullable V findCovering(Node<V> node, String[] levels, int index) {
+        boolean wildcardsAllowed = index > 0 || !levels[0].startsWith("$");
+        if (wildcardsAllowed) {
+            Node<V> multiLevel = node.children.get(MULTI_LEVEL_WILDCARD);
+            if (multiLevel != null && multiLevel.value != null) {
+                return multiLevel.value;
+            }
+        }
+        if (index == levels.length) {
+            return node.value;
+        }
+        Node<V> exact = node.children.get(levels[index]);
+        if (exact != null) {
+            V value = findCovering(exact, levels, index + 1);
+            if (value != null) {
+                return value;
+            }
+        }
+        if (wildcardsAllowed && !MULTI_LEVEL_WILDCARD.equals(levels[index])) {
+            Node<V> singleLevel = node.children.get(SINGLE_LEVEL_WILDCARD);
+            if (singleLevel != null) {
+                return findCovering(singleLevel, levels, index + 1);
+            }
+        }
+        return null;
+    }
+
+    private void addValue(Node<V> node, List<V> result) {
+        V value = node.value;
+        if (value != null) {
+            result.add(value);
+        }
+    }
+
+    /**
+     * Check whether every topic matched by one filter is also matched by another filter.
+     *
+     * @param filter the potentially broader filter
+     * @param other the potentially narrower filter (or a plain topic)
+     * @return true if {@code filter} matches all topics matched by {@code other}
+     */
+    public static boolean covers(String filter, String other) {
+        String[] filterLevels = filter.split("/", -1);
+        String[] otherLevels = other.split("/", -1);
+        for (int i = 0; i < filterLevels.length; i++) {
+            String level = filterLevels[i];
+            boolean isWildcard = MULTI_LEVEL_WILDCARD.equals(level) || SINGLE_LEVEL_WILDCARD.equals(level);
+            if (isWildcard && i == 0 && otherLevels[0].startsWith("$")) {
+                return false;
+            }
+            if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                return true;
+            }
+            if (i >= otherLevels.length) {
+                return false;
+            }
+            String otherLevel = otherLevels[i];
+            if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+                if (MULTI_LEVEL_WILDCARD.equals(otherLevel)) {
+                    return false;
+                }
+            } else if (!level.equals(otherLevel)) {
+                return false;
+            }
+        }
+        return filterLevels.length == otherLevels.length;
+    }
+}
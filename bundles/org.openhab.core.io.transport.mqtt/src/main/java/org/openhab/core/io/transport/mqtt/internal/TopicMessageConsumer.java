@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Consumer of messages received for a broker subscription.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@FunctionalInterface
+@NonNullByDefault
+public interface TopicMessageConsumer {
+
+    /**
+     * Process a received message
+     *
+     * @param topic the topic the message was published to
+     * @param payload the message payload
+     * @param retain whether the message was flagged as retained
+     */
+    void messageArrived(String topic, byte[] payload, boolean retain);
+}
@@ -21,7 +21,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.ConnectionCallback;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.Protocol;
 import org.openhab.core.io.transport.mqtt.MqttWillAndTestament;
-import org.openhab.core.io.transport.mqtt.internal.Subscription;
+import org.openhab.core.io.transport.mqtt.internal.TopicMessageConsumer;
 
 import com.hivemq.client.mqtt.MqttClientState;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
@@ -72,10 +72,11 @@ public class Mqtt5AsyncClientWrapper extends MqttAsyncClientWrapper {
     }
 
     @Override
-    public CompletableFuture<?> subscribe(String topic, int qos, Subscription subscription) {
+    public CompletableFuture<?> subscribe(String topic, int qos, TopicMessageConsumer consumer) {
         Mqtt5Subscribe subscribeMessage = Mqtt5Subscribe.builder().topicFilter(topic).qos(getMqttQosFromInt(qos))
                 .build();
-        return client.subscribe(subscribeMessage, subscription::messageArrived);
+        return client.subscribe(subscribeMessage, publish -> consumer.messageArrived(publish.getTopic().toString(),
+                publish.getPayloadAsBytes(), publish.isRetain()));
     }
 
     @Override
@@ -29,6 +29,8 @@ import java.util.concurrent.TimeoutException;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.mqtt.internal.TopicMessageConsumer;
 import org.openhab.core.io.transport.mqtt.internal.client.MqttAsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.reconnect.AbstractReconnectStrategy;
 import org.openhab.core.io.transport.mqtt.reconnect.PeriodicReconnectStrategy;
@@ -145,6 +147,94 @@ public class MqttBrokerConnectionTests extends JavaTest {
         assertTrue(connection.unsubscribe("topic", subscriber).get(200, TimeUnit.MILLISECONDS));
     }
 
+    @Test
+    public void coveredTopicSharesBrokerSubscription()
+            throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+        assertTrue(connection.start().get(200, TimeUnit.MILLISECONDS));
+        MqttAsyncClientWrapper client = connection.client;
+        assertNotNull(client);
+
+        MqttMessageSubscriber wildcardSubscriber = mock(MqttMessageSubscriber.class);
+        MqttMessageSubscriber deviceSubscriber = mock(MqttMessageSubscriber.class);
+        assertTrue(connection.subscribe("homie/#", wildcardSubscriber).get(200, TimeUnit.MILLISECONDS));
+        assertTrue(connection.subscribe("homie/device123/+", deviceSubscriber).get(200, TimeUnit.MILLISECONDS));
+
+        // only the wildcard topic is subscribed at the broker
+        ArgumentCaptor<TopicMessageConsumer> consumerCaptor = ArgumentCaptor.forClass(TopicMessageConsumer.class);
+        verify(client).subscribe(eq("homie/#"), anyInt(), consumerCaptor.capture());
+        verify(client, never()).subscribe(eq("homie/device123/+"), anyInt(), any());
+
+        // a single received message is routed to both subscriptions
+        consumerCaptor.getValue().messageArrived("homie/device123/$name", HELLO_BYTES, false);
+        verify(wildcardSubscriber).processMessage(eq("homie/device123/$name"), eqHelloBytes());
+        verify(deviceSubscriber).processMessage(eq("homie/device123/$name"), eqHelloBytes());
+
+        // removing the wildcard subscription subscribes the covered topic at the broker
+        assertTrue(connection.unsubscribe("homie/#", wildcardSubscriber).get(200, TimeUnit.MILLISECONDS));
+        verify(client).subscribe(eq("homie/device123/+"), anyInt(), any());
+        verify(client).unsubscribe("homie/#");
+        assertTrue(connection.hasSubscribers());
+    }
+
+    @Test
+    public void failedBrokerSubscriptionSubscribesCoveredTopics()
+            throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+        assertTrue(connection.start().get(200, TimeUnit.MILLISECONDS));
+        MqttAsyncClientWrapper client = connection.client;
+        assertNotNull(client);
+
+        // the broker answers the wildcard subscription only after the covered topic was added
+        CompletableFuture<Void> subAck = new CompletableFuture<>();
+        doReturn(subAck).when(client).subscribe(eq("homie/#"), anyInt(), any());
+        MqttMessageSubscriber wildcardSubscriber = mock(MqttMessageSubscriber.class);
+        MqttMessageSubscriber deviceSubscriber = mock(MqttMessageSubscriber.class);
+        CompletableFuture<Boolean> wildcardFuture = connection.subscribe("homie/#", wildcardSubscriber);
+        assertTrue(connection.subscribe("homie/device123/+", deviceSubscriber).get(200, TimeUnit.MILLISECONDS));
+        verify(client, never()).subscribe(eq("homie/device123/+"), anyInt(), any());
+
+        subAck.completeExceptionally(new Throwable("subscription failed"));
+        assertThrows(ExecutionException.class, () -> wildcardFuture.get(200, TimeUnit.MILLISECONDS));
+
+        // the covered topic is now subscribed on its own and receives its messages through that subscription
+        ArgumentCaptor<TopicMessageConsumer> consumerCaptor = ArgumentCaptor.forClass(TopicMessageConsumer.class);
+        verify(client).subscribe(eq("homie/device123/+"), anyInt(), consumerCaptor.capture());
+        consumerCaptor.getValue().messageArrived("homie/device123/$name", HELLO_BYTES, false);
+        verify(deviceSubscriber).processMessage(eq("homie/device123/$name"), eqHelloBytes());
+        verify(wildcardSubscriber, never()).processMessage(any(), any());
+
+        // a new subscriber of the failed topic retries the broker subscription
+        doReturn(CompletableFuture.completedFuture(null)).when(client).subscribe(eq("homie/#"), anyInt(), any());
+        assertTrue(connection.subscribe("homie/#", mock(MqttMessageSubscriber.class)).get(200, TimeUnit.MILLISECONDS));
+        verify(client, times(2)).subscribe(eq("homie/#"), anyInt(), any());
+    }
+
+    @Test
+    public void coveredTopicReceivesSharedRetainedMessages()
+            throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+        assertTrue(connection.start().get(200, TimeUnit.MILLISECONDS));
+        MqttAsyncClientWrapper client = connection.client;
+        assertNotNull(client);
+
+        connection.subscribe("zigbee2mqtt/#", mock(MqttMessageSubscriber.class));
+        ArgumentCaptor<TopicMessageConsumer> consumerCaptor = ArgumentCaptor.forClass(TopicMessageConsumer.class);
+        verify(client).subscribe(eq("zigbee2mqtt/#"), anyInt(), consumerCaptor.capture());
+        consumerCaptor.getValue().messageArrived("zigbee2mqtt/lamp", HELLO_BYTES, true);
+        consumerCaptor.getValue().messageArrived("zigbee2mqtt/switch", GOODBYE_BYTES, true);
+
+        // the retained message of the matching topic is replayed without a new broker subscription
+        MqttMessageSubscriber lampSubscriber = mock(MqttMessageSubscriber.class);
+        connection.subscribe("zigbee2mqtt/lamp", lampSubscriber);
+        verify(lampSubscriber).processMessage(eq("zigbee2mqtt/lamp"), eqHelloBytes());
+        verify(lampSubscriber, never()).processMessage(eq("zigbee2mqtt/switch"), any());
+        verify(client, never()).subscribe(eq("zigbee2mqtt/lamp"), anyInt(), any());
+    }
+
     @Test
     public void retain()
             throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link TopicFilterTrie}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class TopicFilterTrieTest {
+
+    @Test
+    public void matchCollectsAllMatchingFilters() {
+        TopicFilterTrie<String> trie = new TopicFilterTrie<>();
+        trie.put("homie/device123/$name", "exact");
+        trie.put("homie/+/$name", "single");
+        trie.put("homie/#", "multi");
+        trie.put("#", "all");
+        trie.put("zigbee2mqtt/#", "other");
+
+        assertThat(trie.match("homie/device123/$name"), containsInAnyOrder("exact", "single", "multi", "all"));
+        assertThat(trie.match("homie/device123/state"), containsInAnyOrder("multi", "all"));
+        assertThat(trie.match("homie"), containsInAnyOrder("multi", "all"));
+        assertThat(trie.match("zigbee2mqtt/lamp/set"), containsInAnyOrder("other", "all"));
+    }
+
+    @Test
+    public void wildcardsDoNotMatchSystemTopics() {
+        TopicFilterTrie<String> trie = new TopicFilterTrie<>();
+        trie.put("#", "all");
+        trie.put("+/broker", "single");
+        trie.put("$SYS/#", "system");
+
+        assertThat(trie.match("$SYS/broker"), contains("system"));
+    }
+
+    @Test
+    public void removePrunesFilters() {
+        TopicFilterTrie<String> trie = new TopicFilterTrie<>();
+        trie.put("a/b/c", "abc");
+        trie.put("a/+", "a+");
+
+        assertThat(trie.remove("a/b/c"), is("abc"));
+        assertThat(trie.remove("a/b/c"), is(nullValue()));
+        assertThat(trie.get("a/+"), is("a+"));
+        assertThat(trie.match("a/b/c"), is(empty()));
+        assertThat(trie.match("a/b"), contains("a+"));
+    }
+
+    @Test
+    public void covers() {
+        assertTrue(TopicFilterTrie.covers("#", "homie/device/+"));
+        assertTrue(TopicFilterTrie.covers("homie/#", "homie"));
+        assertTrue(TopicFilterTrie.covers("homie/#", "homie/+/$name"));
+        assertTrue(TopicFilterTrie.covers("homie/+/$name", "homie/device/$name"));
+        assertTrue(TopicFilterTrie.covers("homie/+/+", "homie/+/$name"));
+        assertTrue(TopicFilterTrie.covers("a/b", "a/b"));
+
+        assertFalse(TopicFilterTrie.covers("homie/+", "homie/#"));
+        assertFalse(TopicFilterTrie.covers("homie/+", "homie/device/$name"));
+        assertFalse(TopicFilterTrie.covers("homie/device/$name", "homie/+/$name"));
+        assertFalse(TopicFilterTrie.covers("#", "$SYS/broker"));
+        assertFalse(TopicFilterTrie.covers("a/b/c", "a/b"));
+    }
+
+    @Test
+    public void findCovering() {
+        TopicFilterTrie<String> trie = new TopicFilterTrie<>();
+        trie.put("homie/#", "homie/#");
+        trie.put("zigbee2mqtt/+/set", "zigbee2mqtt/+/set");
+
+        assertThat(trie.findCovering("homie/device/+"), is("homie/#"));
+        assertThat(trie.findCovering("homie"), is("homie/#"));
+        assertThat(trie.findCovering("zigbee2mqtt/lamp/set"), is("zigbee2mqtt/+/set"));
+        assertThat(trie.findCovering("zigbee2mqtt/+/set"), is("zigbee2mqtt/+/set"));
+        assertThat(trie.findCovering("zigbee2mqtt/#"), is(nullValue()));
+        assertThat(trie.findCovering("zigbee2mqtt/lamp"), is(nullValue()));
+
+        trie.put("#", "#");
+        assertThat(trie.findCovering("$SYS/broker"), is(nullValue()));
+        assertThat(trie.findCovering("zigbee2mqtt/#"), is("#"));
+    }
+}
@@ -13,7 +13,9 @@
 package org.openhab.core.io.transport.upnp.internal;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -73,7 +75,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
     private final Logger logger = LoggerFactory.getLogger(UpnpIOServiceImpl.class);
 
-    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(POOL_NAME);
+    private final ScheduledExecutorService scheduler;
 
     private static final int DEFAULT_POLLING_INTERVAL = 60;
     private static final String POOL_NAME = "upnp-io";
@@ -81,9 +83,21 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     private final UpnpService upnpService;
 
     final Set<UpnpIOParticipant> participants = new CopyOnWriteArraySet<>();
-    final Map<UpnpIOParticipant, ScheduledFuture> pollingJobs = new ConcurrentHashMap<>();
+    final Map<String, Set<UpnpIOParticipant>> participantsByUdn = new ConcurrentHashMap<>();
+    final Map<UpnpIOParticipant, UPNPPollingRunnable> pollingJobs = new ConcurrentHashMap<>();
+    final Map<PollingGroupKey, UPNPPollingRunnable> pollingGroups = new ConcurrentHashMap<>();
     final Map<UpnpIOParticipant, Boolean> currentStates = new ConcurrentHashMap<>();
     final Map<Service, UpnpSubscriptionCallback> subscriptionCallbacks = new ConcurrentHashMap<>();
+    final Map<String, Long> lastEventTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Status polls of participants for the same device and with the same interval are batched into a single job.
+     */
+    record PollingGroupKey(String udn, int interval) {
+    }
+
+    private record PollingAction(String serviceID, String actionID) {
+    }
 
     public class UpnpSubscriptionCallback extends SubscriptionCallback {
 
@@ -109,6 +123,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
                             final UDN deviceRootUdn = deviceRootIdentity.getUdn();
                             logger.debug("A GENA subscription '{}' for device '{}' was ended", serviceId.getId(),
                                     deviceRootUdn);
+                            lastEventTimes.remove(deviceRootUdn.getIdentifierString());
                         }
                     }
                 }
@@ -133,13 +148,11 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
             logger.trace("A GENA subscription '{}' for device '{}' is established", serviceId,
                     deviceRoot.getIdentity().getUdn());
 
-            for (UpnpIOParticipant participant : participants) {
-                if (Objects.equals(getDevice(participant), deviceRoot)) {
-                    try {
-                        participant.onServiceSubscribed(serviceId, true);
-                    } catch (Exception e) {
-                        logger.error("Participant threw an exception onServiceSubscribed", e);
-                    }
+            for (UpnpIOParticipant participant : getParticipants(deviceRoot)) {
+                try {
+                    participant.onServiceSubscribed(serviceId, true);
+                } catch (Exception e) {
+                    logger.error("Participant threw an exception onServiceSubscribed", e);
                 }
             }
         }
@@ -153,20 +166,20 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
             logger.trace("Receiving a GENA subscription '{}' response for device '{}'", serviceId,
                     deviceRoot.getIdentity().getUdn());
-            for (UpnpIOParticipant participant : participants) {
-                if (Objects.equals(getDevice(participant), deviceRoot)) {
-                    for (Entry<String, StateVariableValue> entry : values.entrySet()) {
-                        Object value = entry.getValue().getValue();
-                        if (value != null) {
-                            try {
-                                participant.onValueReceived(entry.getKey(), value.toString(), serviceId);
-                            } catch (Exception e) {
-                                logger.error("Participant threw an exception onValueReceived", e);
-                            }
+            markEventReceived(deviceRoot.getIdentity().getUdn().getIdentifierString());
+
+            for (UpnpIOParticipant participant : getParticipants(deviceRoot)) {
+                for (Entry<String, StateVariableValue> entry : values.entrySet()) {
+                    Object value = entry.getValue().getValue();
+                    if (value != null) {
+                        try {
+                            participant.onValueReceived(entry.getKey(), value.toString(), serviceId);
+                        } catch (Exception e) {
+                            logger.error("Participant threw an exception onValueReceived", e);
                         }
                     }
-                    break;
                 }
+                break;
             }
         }
 
@@ -184,14 +197,13 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
             logger.debug("A GENA subscription '{}' for device '{}' failed", serviceId,
                     deviceRoot.getIdentity().getUdn());
+            lastEventTimes.remove(deviceRoot.getIdentity().getUdn().getIdentifierString());
 
-            for (UpnpIOParticipant participant : participants) {
-                if (Objects.equals(getDevice(participant), deviceRoot)) {
-                    try {
-                        participant.onServiceSubscribed(serviceId, false);
-                    } catch (Exception e2) {
-                        logger.error("Participant threw an exception onServiceSubscribed", e2);
-                    }
+            for (UpnpIOParticipant participant : getParticipants(deviceRoot)) {
+                try {
+                    participant.onServiceSubscribed(serviceId, false);
+                } catch (Exception e2) {
+                    logger.error("Participant threw an exception onServiceSubscribed", e2);
                 }
             }
         }
@@ -199,7 +211,12 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
     @Activate
     public UpnpIOServiceImpl(final @Reference UpnpService upnpService) {
+        this(upnpService, ThreadPoolManager.getScheduledPool(POOL_NAME));
+    }
+
+    UpnpIOServiceImpl(UpnpService upnpService, ScheduledExecutorService scheduler) {
         this.upnpService = upnpService;
+        this.scheduler = scheduler;
     }
 
     @Activate
@@ -216,7 +233,36 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     }
 
     private Device getDevice(UpnpIOParticipant participant) {
-        return upnpService.getRegistry().getDevice(new UDN(participant.getUDN()), false);
+        return getDevice(participant.getUDN());
+    }
+
+    private Device getDevice(String udn) {
+        return upnpService.getRegistry().getDevice(new UDN(udn), false);
+    }
+
+    /**
+     * Returns the participants registered for the given device, looked up through the UDN index.
+     *
+     * @param device the device
+     * @return the participants of the device, an empty set if there are none
+     */
+    private Set<UpnpIOParticipant> getParticipants(Device device) {
+        Set<UpnpIOParticipant> deviceParticipants = participantsByUdn
+                .get(device.getIdentity().getUdn().getIdentifierString());
+        return deviceParticipants != null ? deviceParticipants : Set.of();
+    }
+
+    void markEventReceived(String udn) {
+        lastEventTimes.put(udn, System.nanoTime());
+    }
+
+    /**
+     * Checks whether a GENA subscription delivered values for the given device within the last polling interval, in
+     * which case the device is known to be alive and a status poll can be skipped.
+     */
+    boolean hasFreshEvents(String udn, int interval) {
+        Long lastEventTime = lastEventTimes.get(udn);
+        return lastEventTime != null && System.nanoTime() - lastEventTime < TimeUnit.SECONDS.toNanos(interval);
     }
 
     @Override
@@ -274,6 +320,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
                     if (callback != null) {
                         callback.end();
                     }
+                    lastEventTimes.remove(participant.getUDN());
                 } else {
                     logger.trace("Could not find service '{}' for device '{}'", serviceID,
                             device.getIdentity().getUdn());
@@ -359,8 +406,9 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
     @Override
     public void registerParticipant(UpnpIOParticipant participant) {
-        if (participant != null) {
-            participants.add(participant);
+        if (participant != null && participants.add(participant)) {
+            participantsByUdn.computeIfAbsent(participant.getUDN(), udn -> new CopyOnWriteArraySet<>())
+                    .add(participant);
         }
     }
 
@@ -368,9 +416,13 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     public void unregisterParticipant(UpnpIOParticipant participant) {
         if (participant != null) {
             stopPollingForParticipant(participant);
-            pollingJobs.remove(participant);
             currentStates.remove(participant);
-            participants.remove(participant);
+            if (participants.remove(participant)) {
+                participantsByUdn.computeIfPresent(participant.getUDN(), (udn, deviceParticipants) -> {
+                    deviceParticipants.remove(participant);
+                    return deviceParticipants.isEmpty() ? null : deviceParticipants;
+                });
+            }
         }
     }
 
@@ -403,10 +455,8 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
      * @param status true, if device is reachable, false otherwise
      */
     private void informParticipants(RemoteDevice device, boolean status) {
-        for (UpnpIOParticipant participant : participants) {
-            if (participant.getUDN().equals(device.getIdentity().getUdn().getIdentifierString())) {
-                setDeviceStatus(participant, status);
-            }
+        for (UpnpIOParticipant participant : getParticipants(device)) {
+            setDeviceStatus(participant, status);
         }
     }
 
@@ -418,57 +468,80 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
         }
     }
 
-    private class UPNPPollingRunnable implements Runnable {
+    /**
+     * Polls the status of all participants of one device that registered with the same interval. Participants sharing
+     * a service action are served by a single invocation, and the poll is skipped altogether while a GENA subscription
+     * delivers fresh values for the device.
+     */
+    class UPNPPollingRunnable implements Runnable {
 
-        private final UpnpIOParticipant participant;
-        private final String serviceID;
-        private final String actionID;
+        private final PollingGroupKey key;
+        private final Map<UpnpIOParticipant, PollingAction> members = new ConcurrentHashMap<>();
+        private ScheduledFuture<?> job;
 
-        public UPNPPollingRunnable(UpnpIOParticipant participant, String serviceID, String actionID) {
-            this.participant = participant;
-            this.serviceID = serviceID;
-            this.actionID = actionID;
+        UPNPPollingRunnable(PollingGroupKey key) {
+            this.key = key;
         }
 
         @Override
         public void run() {
-            // It is assumed that during addStatusListener() a check is made whether the participant is correctly
+            // It is assumed that during addStatusListener() a check is made whether the participants are correctly
             // registered
             try {
-                Device device = getDevice(participant);
-                if (device != null) {
-                    Service service = findService(device, serviceID);
-                    if (service != null) {
-                        Action action = service.getAction(actionID);
-                        if (action != null) {
-                            @SuppressWarnings("unchecked")
-                            ActionInvocation invocation = new ActionInvocation(action);
-                            logger.debug("Polling participant '{}' through Action '{}' of Service '{}' ",
-                                    participant.getUDN(), actionID, serviceID);
-                            new ActionCallback.Default(invocation, upnpService.getControlPoint()).run();
-
-                            ActionException anException = invocation.getFailure();
-                            if (anException != null
-                                    && anException.getMessage().contains("Connection error or no response received")) {
-                                // The UDN is not reachable anymore
-                                setDeviceStatus(participant, false);
-                            } else {
-                                // The UDN functions correctly
-                                setDeviceStatus(participant, true);
-                            }
-                        } else {
-                            logger.debug("Could not find action '{}' for participant '{}'", actionID,
-                                    participant.getUDN());
-                        }
-                    } else {
-                        logger.debug("Could not find service '{}' for participant '{}'", serviceID,
-                                participant.getUDN());
+                if (hasFreshEvents(key.udn(), key.interval())) {
+                    logger.trace("Skipping poll of device '{}' as its GENA subscription delivers fresh values",
+                            key.udn());
+                    for (UpnpIOParticipant participant : members.keySet()) {
+                        setDeviceStatus(participant, true);
                     }
+                    return;
+                }
+
+                Map<PollingAction, List<UpnpIOParticipant>> participantsByAction = new HashMap<>();
+                members.forEach((participant, action) -> participantsByAction
+                        .computeIfAbsent(action, a -> new ArrayList<>()).add(participant));
+                if (participantsByAction.isEmpty()) {
+                    return;
+                }
+
+                Device device = getDevice(key.udn());
+                if (device != null) {
+                    participantsByAction.forEach((action, actionParticipants) -> poll(device, action,
+                            actionParticipants));
                 }
             } catch (Exception e) {
                 logger.error("An exception occurred while polling an UPNP device: '{}'", e.getMessage(), e);
             }
         }
+
+        private void poll(Device device, PollingAction pollingAction, List<UpnpIOParticipant> actionParticipants) {
+            String serviceID = pollingAction.serviceID();
+            String actionID = pollingAction.actionID();
+            Service service = findService(device, serviceID);
+            if (service != null) {
+                Action action = service.getAction(actionID);
+                if (action != null) {
+                    @SuppressWarnings("unchecked")
+                    ActionInvocation invocation = new ActionInvocation(action);
+                    logger.debug("Polling device '{}' through Action '{}' of Service '{}' for {} participant(s)",
+                            key.udn(), actionID, serviceID, actionParticipants.size());
+                    new ActionCallback.Default(invocation, upnpService.getControlPoint()).run();
+
+                    ActionException anException = invocation.getFailure();
+                    // The UDN is not reachable anymore if there was a connection error, otherwise it functions
+                    // correctly
+                    boolean reachable = anException == null
+                            || !anException.getMessage().contains("Connection error or no response received");
+                    for (UpnpIOParticipant participant : actionParticipants) {
+                        setDeviceStatus(participant, reachable);
+                    }
+                } else {
+                    logger.debug("Could not find action '{}' for device '{}'", actionID, key.udn());
+                }
+            } else {
+                logger.debug("Could not find service '{}' for device '{}'", serviceID, key.udn());
+            }
+        }
     }
 
     @Override
@@ -483,18 +556,34 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
             currentStates.put(participant, true);
 
-            Runnable pollingRunnable = new UPNPPollingRunnable(participant, serviceID, actionID);
-            pollingJobs.put(participant,
-                    scheduler.scheduleWithFixedDelay(pollingRunnable, 0, pollingInterval, TimeUnit.SECONDS));
+            PollingGroupKey key = new PollingGroupKey(participant.getUDN(), pollingInterval);
+            UPNPPollingRunnable pollingRunnable = pollingGroups.compute(key, (k, group) -> {
+                UPNPPollingRunnable pollingGroup = group != null ? group : new UPNPPollingRunnable(k);
+                pollingGroup.members.put(participant, new PollingAction(serviceID, actionID));
+                if (pollingGroup.job == null) {
+                    pollingGroup.job = scheduler.scheduleWithFixedDelay(pollingGroup, 0, pollingInterval,
+                            TimeUnit.SECONDS);
+                }
+                return pollingGroup;
+            });
+            pollingJobs.put(participant, pollingRunnable);
         }
     }
 
     private void stopPollingForParticipant(UpnpIOParticipant participant) {
-        if (pollingJobs.containsKey(participant)) {
-            ScheduledFuture<?> pollingJob = pollingJobs.get(participant);
-            if (pollingJob != null) {
-                pollingJob.cancel(true);
-            }
+        UPNPPollingRunnable pollingRunnable = pollingJobs.remove(participant);
+        if (pollingRunnable != null) {
+            pollingGroups.computeIfPresent(pollingRunnable.key, (key, group) -> {
+                group.members.remove(participant);
+                if (!group.members.isEmpty()) {
+                    return group;
+                }
+                ScheduledFuture<?> job = group.job;
+                if (job != null) {
+                    job.cancel(true);
+                }
+                return null;
+            });
         }
     }
 
@@ -14,7 +14,11 @@ package org.openhab.core.io.transport.upnp.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,6 +67,9 @@ public class UpnpIOServiceTest {
     private @Mock @NonNullByDefault({}) Registry upnpRegistryMock;
     private @Mock @NonNullByDefault({}) ControlPoint controlPointMock;
     private @Mock @NonNullByDefault({}) UpnpService upnpServiceMock;
+    private @Mock @NonNullByDefault({}) UpnpIOParticipant sameDeviceParticipantMock;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService schedulerMock;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> scheduledFutureMock;
 
     private @NonNullByDefault({}) UpnpIOServiceImpl upnpIoService;
 
@@ -70,6 +77,9 @@ public class UpnpIOServiceTest {
     public void setup() throws Exception {
         when(upnpIoParticipantMock.getUDN()).thenReturn(UDN_1_STRING);
         when(upnpIoParticipant2Mock.getUDN()).thenReturn(UDN_2_STRING);
+        when(sameDeviceParticipantMock.getUDN()).thenReturn(UDN_1_STRING);
+        doReturn(scheduledFutureMock).when(schedulerMock).scheduleWithFixedDelay(any(Runnable.class), anyLong(),
+                anyLong(), any(TimeUnit.class));
 
         DeviceIdentity deviceIdentity = new DeviceIdentity(UDN_1);
         DeviceType deviceType = new DeviceType(UDAServiceId.DEFAULT_NAMESPACE, DEVICE_TYPE, 1);
@@ -157,6 +167,72 @@ public class UpnpIOServiceTest {
         assertThatEverythingIsEmpty();
     }
 
+    @Test
+    public void testRegisterParticipantIndexesByUdn() {
+        upnpIoService.registerParticipant(upnpIoParticipantMock);
+        upnpIoService.registerParticipant(sameDeviceParticipantMock);
+        upnpIoService.registerParticipant(upnpIoParticipant2Mock);
+        assertEquals(2, upnpIoService.participantsByUdn.size());
+        assertEquals(2, upnpIoService.participantsByUdn.get(UDN_1_STRING).size());
+        assertEquals(1, upnpIoService.participantsByUdn.get(UDN_2_STRING).size());
+
+        upnpIoService.unregisterParticipant(upnpIoParticipantMock);
+        upnpIoService.unregisterParticipant(sameDeviceParticipantMock);
+        upnpIoService.unregisterParticipant(upnpIoParticipant2Mock);
+        assertTrue(upnpIoService.participantsByUdn.isEmpty());
+    }
+
+    @Test
+    public void testStatusListenersOfSameDeviceShareOnePollingJob() {
+        upnpIoService = new UpnpIOServiceImpl(upnpServiceMock, schedulerMock);
+
+        upnpIoService.addStatusListener(upnpIoParticipantMock, SERVICE_ID, ACTION_ID, 60);
+        upnpIoService.addStatusListener(sameDeviceParticipantMock, SERVICE_ID, ACTION_ID, 60);
+        upnpIoService.addStatusListener(upnpIoParticipant2Mock, SERVICE_ID_2, ACTION_ID, 60);
+
+        assertEquals(3, upnpIoService.pollingJobs.size());
+        assertEquals(2, upnpIoService.pollingGroups.size());
+        assertSame(upnpIoService.pollingJobs.get(upnpIoParticipantMock),
+                upnpIoService.pollingJobs.get(sameDeviceParticipantMock));
+        verify(schedulerMock, times(2)).scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(60L),
+                eq(TimeUnit.SECONDS));
+
+        upnpIoService.removeStatusListener(upnpIoParticipantMock);
+        verify(scheduledFutureMock, never()).cancel(anyBoolean());
+        upnpIoService.removeStatusListener(sameDeviceParticipantMock);
+        verify(scheduledFutureMock).cancel(true);
+
+        upnpIoService.removeStatusListener(upnpIoParticipant2Mock);
+        assertThatEverythingIsEmpty();
+        assertTrue(upnpIoService.pollingGroups.isEmpty());
+    }
+
+    @Test
+    public void testPollingBatchesDeviceLookupPerDevice() {
+        upnpIoService = new UpnpIOServiceImpl(upnpServiceMock, schedulerMock);
+        upnpIoService.addStatusListener(upnpIoParticipantMock, SERVICE_ID, ACTION_ID, 60);
+        upnpIoService.addStatusListener(sameDeviceParticipantMock, SERVICE_ID, ACTION_ID, 60);
+        clearInvocations(upnpRegistryMock);
+
+        upnpIoService.pollingJobs.get(upnpIoParticipantMock).run();
+
+        verify(upnpRegistryMock, times(1)).getDevice(eq(UDN_1), anyBoolean());
+    }
+
+    @Test
+    public void testPollingIsSuppressedWhileGenaEventsAreFresh() {
+        upnpIoService = new UpnpIOServiceImpl(upnpServiceMock, schedulerMock);
+        upnpIoService.addStatusListener(upnpIoParticipantMock, SERVICE_ID, ACTION_ID, 60);
+        upnpIoService.markEventReceived(UDN_1_STRING);
+        clearInvocations(upnpRegistryMock);
+
+        upnpIoService.pollingJobs.get(upnpIoParticipantMock).run();
+
+        verify(upnpRegistryMock, never()).getDevice(any(UDN.class), anyBoolean());
+        assertTrue(upnpIoService.hasFreshEvents(UDN_1_STRING, 60));
+        assertFalse(upnpIoService.hasFreshEvents(UDN_2_STRING, 60));
+    }
+
     private void assertThatEverythingIsEmpty() {
         assertTrue(upnpIoService.participants.isEmpty());
         assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
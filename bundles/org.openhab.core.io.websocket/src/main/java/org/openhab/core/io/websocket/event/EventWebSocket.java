@@ -12,8 +12,10 @@
  */
 package org.openhab.core.io.websocket.event;
 
-import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -23,6 +25,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.WriteCallback;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
@@ -54,6 +57,11 @@ public class EventWebSocket {
     private static final Type STRING_LIST_TYPE = TypeToken.getParameterized(List.class, String.class).getType();
     private static final Pattern TOPIC_VALIDATE_PATTERN = Pattern.compile("^!?(\\w*\\*?\\/?)+$");
 
+    // messages that may be waiting for a connection before it is considered too slow and closed
+    public static final int MAX_PENDING_MESSAGES = 1000;
+    // messages that are handed to the connection at once, so they can be written together
+    public static final int MAX_BATCH_SIZE = 20;
+
     private final Logger logger = LoggerFactory.getLogger(EventWebSocket.class);
 
     private final EventWebSocketAdapter wsAdapter;
@@ -70,6 +78,21 @@ public class EventWebSocket {
     private @Nullable TopicEventFilter topicIncludeFilter = null;
     private @Nullable TopicEventFilter topicExcludeFilter = null;
 
+    private final Deque<String> outboundQueue = new ArrayDeque<>();
+    private int messagesInFlight = 0;
+    private final WriteCallback writeCallback = new WriteCallback() {
+        @Override
+        public void writeFailed(@Nullable Throwable x) {
+            logger.debug("Failed to send message to {}: {}", remoteIdentifier, x == null ? "<null>" : x.getMessage());
+            onWriteCompleted();
+        }
+
+        @Override
+        public void writeSuccess() {
+            onWriteCompleted();
+        }
+    };
+
     public EventWebSocket(Gson gson, EventWebSocketAdapter wsAdapter, ItemEventUtility itemEventUtility,
             EventPublisher eventPublisher) {
         this.wsAdapter = wsAdapter;
@@ -84,6 +107,9 @@ public class EventWebSocket {
         remoteIdentifier = "<unknown>";
         this.session = null;
         this.remoteEndpoint = null;
+        synchronized (outboundQueue) {
+            outboundQueue.clear();
+        }
     }
 
     @OnWebSocketConnect
@@ -143,6 +169,7 @@ public class EventWebSocket {
                         } else if ((WEBSOCKET_TOPIC_PREFIX + "filter/type").equals(eventDTO.topic)) {
                             typeFilter = Objects.requireNonNullElse(gson.fromJson(eventDTO.payload, STRING_LIST_TYPE),
                                     List.of());
+                            wsAdapter.updateTypeFilter(this, typeFilter);
                             logger.debug("Setting type filter for connection to {}: {}",
                                     remoteEndpoint.getInetSocketAddress(), typeFilter);
                             responseEvent = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/type",
@@ -204,12 +231,7 @@ public class EventWebSocket {
                     "Deserialization error: " + e.getMessage(), null, null);
         }
 
-        try {
-            sendMessage(gson.toJson(responseEvent));
-        } catch (IOException e) {
-            logger.debug("Failed to send WebSocketResponseEvent event {} to {}: {}", responseEvent, remoteIdentifier,
-                    e.getMessage());
-        }
+        sendMessage(gson.toJson(responseEvent));
     }
 
     @OnWebSocketError
@@ -224,25 +246,88 @@ public class EventWebSocket {
     }
 
     public void processEvent(Event event) {
-        try {
-            String source = event.getSource();
-            if ((source == null || !sourceFilter.contains(event.getSource()))
-                    && (typeFilter.isEmpty() || typeFilter.contains(event.getType()))
-                    && (topicIncludeFilter == null || topicIncludeFilter.apply(event))
-                    && (topicExcludeFilter == null || !topicExcludeFilter.apply(event))) {
-                sendMessage(gson.toJson(new EventDTO(event)));
-            }
-        } catch (IOException e) {
-            logger.debug("Failed to send event {} to {}: {}", event, remoteIdentifier, e.getMessage());
+        if (accepts(event)) {
+            sendEvent(gson.toJson(new EventDTO(event)));
         }
     }
 
-    private synchronized void sendMessage(String message) throws IOException {
+    /**
+     * Checks the source and topic filters of this connection (and the type filter, which is usually already applied
+     * by the {@link EventWebSocketAdapter}).
+     *
+     * @param event the event
+     * @return <code>true</code> if the event shall be sent to this connection
+     */
+    boolean accepts(Event event) {
+        String source = event.getSource();
+        return (source == null || !sourceFilter.contains(source))
+                && (typeFilter.isEmpty() || typeFilter.contains(event.getType()))
+                && (topicIncludeFilter == null || topicIncludeFilter.apply(event))
+                && (topicExcludeFilter == null || !topicExcludeFilter.apply(event));
+    }
+
+    /**
+     * Queues an already serialized event for sending to this connection.
+     *
+     * @param eventJson the JSON representation of the {@link EventDTO}
+     */
+    void sendEvent(String eventJson) {
+        sendMessage(eventJson);
+    }
+
+    private void sendMessage(String message) {
         RemoteEndpoint remoteEndpoint = this.remoteEndpoint;
         if (remoteEndpoint == null) {
             logger.warn("Could not determine remote endpoint, failed to send '{}'.", message);
             return;
         }
-        remoteEndpoint.sendString(message);
+        boolean overflow;
+        synchronized (outboundQueue) {
+            overflow = outboundQueue.size() >= MAX_PENDING_MESSAGES;
+            if (overflow) {
+                outboundQueue.clear();
+            } else {
+                outboundQueue.add(message);
+            }
+        }
+        if (overflow) {
+            logger.info("Closing connection to {}, it does not keep up with {} pending messages.", remoteIdentifier,
+                    MAX_PENDING_MESSAGES);
+            Session session = this.session;
+            if (session != null) {
+                session.close(StatusCode.POLICY_VIOLATION, "Too many pending messages");
+            }
+            return;
+        }
+        flush(remoteEndpoint);
+    }
+
+    private void flush(RemoteEndpoint remoteEndpoint) {
+        List<String> batch;
+        synchronized (outboundQueue) {
+            if (messagesInFlight > 0 || outboundQueue.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(Math.min(outboundQueue.size(), MAX_BATCH_SIZE));
+            while (batch.size() < MAX_BATCH_SIZE && !outboundQueue.isEmpty()) {
+                batch.add(outboundQueue.poll());
+            }
+            messagesInFlight = batch.size();
+        }
+        for (String message : batch) {
+            remoteEndpoint.sendString(message, writeCallback);
+        }
+    }
+
+    private void onWriteCompleted() {
+        synchronized (outboundQueue) {
+            if (--messagesInFlight > 0) {
+                return;
+            }
+        }
+        RemoteEndpoint remoteEndpoint = this.remoteEndpoint;
+        if (remoteEndpoint != null) {
+            flush(remoteEndpoint);
+        }
     }
 }
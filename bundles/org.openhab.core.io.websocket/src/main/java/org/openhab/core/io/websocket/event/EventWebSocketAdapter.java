@@ -12,10 +12,14 @@
  */
 package org.openhab.core.io.websocket.event;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeResponse;
 import org.openhab.core.events.Event;
@@ -43,6 +47,10 @@ public class EventWebSocketAdapter implements EventSubscriber, WebSocketAdapter
 
     private final ItemEventUtility itemEventUtility;
     private final Set<EventWebSocket> webSockets = new CopyOnWriteArraySet<>();
+    // index of the connections by the event types they are interested in, connections without type filter are in
+    // unfilteredWebSockets
+    private final Set<EventWebSocket> unfilteredWebSockets = new CopyOnWriteArraySet<>();
+    private final Map<String, Set<EventWebSocket>> webSocketsByType = new ConcurrentHashMap<>();
 
     @Activate
     public EventWebSocketAdapter(@Reference EventPublisher eventPublisher, @Reference ItemRegistry itemRegistry) {
@@ -57,15 +65,60 @@ public class EventWebSocketAdapter implements EventSubscriber, WebSocketAdapter
 
     @Override
     public void receive(Event event) {
-        webSockets.forEach(ws -> ws.processEvent(event));
+        // the event is serialized at most once and only if a connection is interested in it
+        String eventJson = sendEvent(unfilteredWebSockets, event, null);
+        Set<EventWebSocket> typeWebSockets = webSocketsByType.get(event.getType());
+        if (typeWebSockets != null) {
+            sendEvent(typeWebSockets, event, eventJson);
+        }
     }
 
-    public void registerListener(EventWebSocket eventWebSocket) {
+    private @Nullable String sendEvent(Set<EventWebSocket> eventWebSockets, Event event, @Nullable String eventJson) {
+        String json = eventJson;
+        for (EventWebSocket eventWebSocket : eventWebSockets) {
+            if (eventWebSocket.accepts(event)) {
+                if (json == null) {
+                    json = gson.toJson(new EventDTO(event));
+                }
+                eventWebSocket.sendEvent(json);
+            }
+        }
+        return json;
+    }
+
+    public synchronized void registerListener(EventWebSocket eventWebSocket) {
         webSockets.add(eventWebSocket);
+        unfilteredWebSockets.add(eventWebSocket);
     }
 
-    public void unregisterListener(EventWebSocket eventWebSocket) {
+    public synchronized void unregisterListener(EventWebSocket eventWebSocket) {
         webSockets.remove(eventWebSocket);
+        removeFromIndex(eventWebSocket);
+    }
+
+    /**
+     * Updates the index of connections by event type after the type filter of a connection changed.
+     *
+     * @param eventWebSocket the connection
+     * @param typeFilter the new type filter, an empty list if all types are accepted
+     */
+    public synchronized void updateTypeFilter(EventWebSocket eventWebSocket, List<String> typeFilter) {
+        if (!webSockets.contains(eventWebSocket)) {
+            return;
+        }
+        removeFromIndex(eventWebSocket);
+        if (typeFilter.isEmpty()) {
+            unfilteredWebSockets.add(eventWebSocket);
+        } else {
+            typeFilter.forEach(type -> webSocketsByType.computeIfAbsent(type, t -> new CopyOnWriteArraySet<>())
+                    .add(eventWebSocket));
+        }
+    }
+
+    private void removeFromIndex(EventWebSocket eventWebSocket) {
+        unfilteredWebSockets.remove(eventWebSocket);
+        webSocketsByType.values().forEach(typeWebSockets -> typeWebSockets.remove(eventWebSocket));
+        webSocketsByType.values().removeIf(Set::isEmpty);
     }
 
     @Override
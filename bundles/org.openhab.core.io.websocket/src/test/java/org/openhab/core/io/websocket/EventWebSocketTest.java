@@ -13,8 +13,11 @@
 package org.openhab.core.io.websocket;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,6 +34,9 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
+import org.eclipse.jetty.websocket.servlet.ServletUpgradeResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -85,6 +91,10 @@ public class EventWebSocketTest {
 
         when(session.getRemote()).thenReturn(remoteEndpoint);
         when(remoteEndpoint.getInetSocketAddress()).thenReturn(new InetSocketAddress(47115));
+        doAnswer(invocation -> {
+            ((WriteCallback) invocation.getArgument(1)).writeSuccess();
+            return null;
+        }).when(remoteEndpoint).sendString(any(), any());
 
         when(itemRegistry.getItem(eq(TEST_ITEM_NAME))).thenReturn(TEST_ITEM);
 
@@ -198,7 +208,7 @@ public class EventWebSocketTest {
         eventWebSocket.processEvent(event);
         EventDTO eventDTO = new EventDTO(event);
 
-        verify(remoteEndpoint).sendString(gson.toJson(eventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(eventDTO)), any());
     }
 
     @Test
@@ -208,18 +218,18 @@ public class EventWebSocketTest {
         EventDTO responseEventDTO = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/type",
                 eventDTO.payload, null, null);
         eventWebSocket.onText(gson.toJson(eventDTO));
-        verify(remoteEndpoint).sendString(gson.toJson(responseEventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(responseEventDTO)), any());
 
         // subscribed type is sent
         Event event = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO,
                 REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         // not subscribed event not sent
         event = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO, REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint, times(2)).sendString(any());
+        verify(remoteEndpoint, times(2)).sendString(any(), any());
     }
 
     @Test
@@ -229,17 +239,17 @@ public class EventWebSocketTest {
         EventDTO responseEventDTO = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/source",
                 eventDTO.payload, null, null);
         eventWebSocket.onText(gson.toJson(eventDTO));
-        verify(remoteEndpoint).sendString(gson.toJson(responseEventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(responseEventDTO)), any());
 
         // non-matching is sent
         Event event = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         // matching is not sent
         event = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO, REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint, times(2)).sendString(any());
+        verify(remoteEndpoint, times(2)).sendString(any(), any());
     }
 
     @Test
@@ -249,24 +259,24 @@ public class EventWebSocketTest {
         EventDTO responseEventDTO = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/topic",
                 eventDTO.payload, null, null);
         eventWebSocket.onText(gson.toJson(eventDTO));
-        verify(remoteEndpoint).sendString(gson.toJson(responseEventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(responseEventDTO)), any());
         clearInvocations(remoteEndpoint);
 
         // subscribed topics are sent
         Event event = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO,
                 REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         event = ItemEventFactory.createStateChangedEvent(TEST_ITEM_NAME, DecimalType.ZERO, DecimalType.ZERO, null,
                 null);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         // not subscribed topics are not sent
         event = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO, REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint, times(2)).sendString(any());
+        verify(remoteEndpoint, times(2)).sendString(any(), any());
     }
 
     @Test
@@ -276,28 +286,28 @@ public class EventWebSocketTest {
         EventDTO responseEventDTO = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/topic",
                 eventDTO.payload, null, null);
         eventWebSocket.onText(gson.toJson(eventDTO));
-        verify(remoteEndpoint).sendString(gson.toJson(responseEventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(responseEventDTO)), any());
         clearInvocations(remoteEndpoint);
 
         // excluded topics are not sent
         Event event = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO,
                 REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint, times(0)).sendString(any());
+        verify(remoteEndpoint, times(0)).sendString(any(), any());
 
         // not excluded topics are sent
         event = ItemEventFactory.createStateChangedEvent(TEST_ITEM_NAME, DecimalType.ZERO, DecimalType.ZERO, null,
                 null);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         event = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO, REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         event = ItemEventFactory.createStateEvent("anotherItem", DecimalType.ZERO, REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
     }
 
     @Test
@@ -307,23 +317,77 @@ public class EventWebSocketTest {
         EventDTO responseEventDTO = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/topic",
                 eventDTO.payload, null, null);
         eventWebSocket.onText(gson.toJson(eventDTO));
-        verify(remoteEndpoint).sendString(gson.toJson(responseEventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(responseEventDTO)), any());
         clearInvocations(remoteEndpoint);
 
         // included topics are sent
         Event event = ItemEventFactory.createStateChangedEvent(TEST_ITEM_NAME, DecimalType.ZERO, DecimalType.ZERO, null,
                 null);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         event = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO, REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         // excluded sub-topics are not sent
         event = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO, REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint, times(2)).sendString(any());
+        verify(remoteEndpoint, times(2)).sendString(any(), any());
+    }
+
+    @Test
+    public void slowConsumerIsDisconnected() {
+        // writes are never completed
+        doAnswer(invocation -> null).when(remoteEndpoint).sendString(any(), any());
+        Event event = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO);
+
+        // the first message is in flight, the others are queued
+        for (int i = 0; i < 1 + EventWebSocket.MAX_PENDING_MESSAGES; i++) {
+            eventWebSocket.processEvent(event);
+        }
+        verify(remoteEndpoint, times(1)).sendString(any(), any());
+        verify(session, never()).close(anyInt(), any());
+
+        eventWebSocket.processEvent(event);
+        verify(session).close(eq(StatusCode.POLICY_VIOLATION), any());
+    }
+
+    @Test
+    public void adapterSerializesEventOnceForMatchingConnections() {
+        Session session2 = mock(Session.class);
+        RemoteEndpoint remoteEndpoint2 = mock(RemoteEndpoint.class);
+        when(session2.getRemote()).thenReturn(remoteEndpoint2);
+        when(remoteEndpoint2.getInetSocketAddress()).thenReturn(new InetSocketAddress(47116));
+        doAnswer(invocation -> {
+            ((WriteCallback) invocation.getArgument(1)).writeSuccess();
+            return null;
+        }).when(remoteEndpoint2).sendString(any(), any());
+
+        EventWebSocketAdapter adapter = new EventWebSocketAdapter(eventPublisher, itemRegistry);
+        EventWebSocket webSocket1 = (EventWebSocket) adapter.createWebSocket(mock(ServletUpgradeRequest.class),
+                mock(ServletUpgradeResponse.class));
+        EventWebSocket webSocket2 = (EventWebSocket) adapter.createWebSocket(mock(ServletUpgradeRequest.class),
+                mock(ServletUpgradeResponse.class));
+        webSocket1.onConnect(session);
+        webSocket2.onConnect(session2);
+        webSocket2.onText(gson.toJson(new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/type",
+                "[\"ItemStateEvent\"]", null, null)));
+        clearInvocations(remoteEndpoint, remoteEndpoint2);
+
+        Event commandEvent = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO);
+        adapter.receive(commandEvent);
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(commandEvent))), any());
+        verify(remoteEndpoint2, never()).sendString(any(), any());
+
+        Event stateEvent = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO);
+        adapter.receive(stateEvent);
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(stateEvent))), any());
+        verify(remoteEndpoint2).sendString(eq(gson.toJson(new EventDTO(stateEvent))), any());
+
+        webSocket2.onClose(StatusCode.NORMAL, "");
+        adapter.receive(stateEvent);
+        verify(remoteEndpoint2, times(1)).sendString(any(), any());
     }
 
     private void assertEventProcessing(EventDTO incoming, @Nullable Event expectedEvent,
@@ -338,9 +402,9 @@ public class EventWebSocketTest {
 
         if (expectedResponse != null) {
             String expectedResponseString = gson.toJson(expectedResponse);
-            verify(remoteEndpoint).sendString(eq(expectedResponseString));
+            verify(remoteEndpoint).sendString(eq(expectedResponseString), any());
         } else {
-            verify(remoteEndpoint, never()).sendString(any());
+            verify(remoteEndpoint, never()).sendString(any(), any());
         }
     }
 }
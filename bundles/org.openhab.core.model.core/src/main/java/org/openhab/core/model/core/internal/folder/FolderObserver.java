@@ -19,11 +19,15 @@ import java.io.InputStream;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Dictionary;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -288,29 +292,61 @@ public class FolderObserver implements WatchService.WatchEventListener {
 
     @Override
     public void processWatchEvent(WatchService.Kind kind, Path path) {
+        Path modelPath = getModelPath(kind, path);
+        if (modelPath != null) {
+            checkPath(modelPath, kind);
+        }
+    }
+
+    @Override
+    public void processWatchEvents(Map<Path, WatchService.Kind> events) {
+        // Removals are processed first, so that a model element moved to another file does not clash with its old
+        // definition. The remaining changes are grouped by model type, so that the models of one type are refreshed
+        // one after the other instead of interleaved with other types.
+        List<Path> removedPaths = new ArrayList<>();
+        Map<String, Map<Path, WatchService.Kind>> changedPathsByType = new LinkedHashMap<>();
+        events.forEach((path, kind) -> {
+            Path modelPath = getModelPath(kind, path);
+            if (modelPath == null) {
+                return;
+            }
+            if (kind == WatchService.Kind.DELETE) {
+                removedPaths.add(modelPath);
+            } else {
+                changedPathsByType.computeIfAbsent(Objects.requireNonNull(getExtension(modelPath)),
+                        type -> new LinkedHashMap<>()).put(modelPath, kind);
+            }
+        });
+
+        synchronized (FolderObserver.class) {
+            removedPaths.forEach(path -> checkPath(path, WatchService.Kind.DELETE));
+            changedPathsByType.values().forEach(changedPaths -> changedPaths.forEach(this::checkPath));
+        }
+    }
+
+    private @Nullable Path getModelPath(WatchService.Kind kind, Path path) {
         if (path.getNameCount() != 2) {
             logger.trace("{} event for {} ignored (only depth 1 allowed)", kind, path);
-            return;
+            return null;
         }
 
         String extension = getExtension(path);
         if (extension == null) {
             logger.trace("{} event for {} ignored (extension null)", kind, path);
-            return;
+            return null;
         }
 
         String folderName = path.getName(0).toString();
         Set<String> validExtensions = folderFileExtMap.get(folderName);
         if (validExtensions == null) {
             logger.trace("{} event for {} ignored (folder '{}' extensions null)", kind, path, folderName);
-            return;
+            return null;
         }
         if (!validExtensions.contains(extension)) {
             logger.trace("{} event for {} ignored ('{}' extension is invalid)", kind, path, extension);
-            return;
+            return null;
         }
 
-        Path resolvedPath = watchService.getWatchPath().resolve(path);
-        checkPath(resolvedPath, kind);
+        return watchService.getWatchPath().resolve(path);
     }
 }
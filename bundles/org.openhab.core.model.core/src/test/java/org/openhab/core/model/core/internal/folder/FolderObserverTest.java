@@ -16,12 +16,15 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.openhab.core.service.WatchService.Kind.CREATE;
+import static org.openhab.core.service.WatchService.Kind.DELETE;
 import static org.openhab.core.service.WatchService.Kind.MODIFY;
 
 import java.io.File;
@@ -33,7 +36,9 @@ import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -41,6 +46,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.model.core.ModelParser;
@@ -328,4 +334,37 @@ public class FolderObserverTest extends JavaTest {
         folderObserver.processWatchEvent(CREATE, Path.of(EXISTING_SUBDIR_PATH.getName(), filename));
         verifyNoInteractions(modelRepoMock);
     }
+
+    /**
+     * The following method processes a bulk change of several files of different model types.
+     * Removals are expected first, then the changed models grouped by their type.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testBulkChangeProcessesRemovalsFirstAndGroupsByType() throws Exception {
+        ModelParser txtParserMock = mock(ModelParser.class);
+        when(txtParserMock.getExtension()).thenReturn("txt");
+        folderObserver.addModelParser(txtParserMock);
+
+        configProps.put(EXISTING_SUBDIR_NAME, "txt,java");
+        folderObserver.activate(contextMock);
+
+        Map<Path, WatchService.Kind> events = new LinkedHashMap<>();
+        for (String fileName : List.of("First.java", "Second.txt", "Third.java")) {
+            File file = new File(EXISTING_SUBDIR_PATH, fileName);
+            Files.writeString(file.toPath(), INITIAL_FILE_CONTENT, StandardCharsets.UTF_8, StandardOpenOption.CREATE);
+            events.put(Path.of(EXISTING_SUBDIR_NAME, fileName), fileName.startsWith("Second") ? MODIFY : CREATE);
+        }
+        events.put(Path.of(EXISTING_SUBDIR_NAME, MOCK_MODEL_TO_BE_REMOVED), DELETE);
+
+        folderObserver.processWatchEvents(events);
+
+        InOrder inOrder = inOrder(modelRepoMock);
+        inOrder.verify(modelRepoMock).removeModel(MOCK_MODEL_TO_BE_REMOVED);
+        inOrder.verify(modelRepoMock).addOrRefreshModel(eq("First.java"), any());
+        inOrder.verify(modelRepoMock).addOrRefreshModel(eq("Third.java"), any());
+        inOrder.verify(modelRepoMock).addOrRefreshModel(eq("Second.txt"), any());
+        verifyNoMoreInteractions(modelRepoMock);
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.math.BigDecimal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A queryable persistence service that is able to compute aggregates over the persisted states itself, e.g. by
+ * letting the database do the work. {@link org.openhab.core.persistence.extensions.PersistenceExtensions} uses these
+ * methods instead of retrieving and iterating all states of a period, which avoids transferring large result sets.
+ * <p>
+ * All methods consider the states of the item given in the {@link FilterCriteria} that were persisted between its
+ * begin and end date (both inclusive). Other filter criteria, paging and ordering are ignored. States are aggregated
+ * with their persisted numeric value, i.e. without unit and in the unit of the item at the time they were
+ * persisted. States that have no numeric value are ignored, except for {@link #count(FilterCriteria, String)}.
+ * <p>
+ * Each method may return <code>null</code> if the aggregation is not supported by the service or cannot be computed
+ * for the given filter. In this case the aggregate is computed from the result of
+ * {@link #query(FilterCriteria, String)} instead. Hence the default implementations do not aggregate anything.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public interface AggregatingPersistenceService extends QueryablePersistenceService {
+
+    /**
+     * Counts the persisted states.
+     *
+     * @param filter the filter defining the item and the period
+     * @param alias alias of the item in the database
+     * @return the number of persisted states or <code>null</code> if not supported
+     */
+    default @Nullable Long count(FilterCriteria filter, @Nullable String alias) {
+        return null;
+    }
+
+    /**
+     * Sums up the persisted numeric states.
+     *
+     * @param filter the filter defining the item and the period
+     * @param alias alias of the item in the database
+     * @return the sum, zero if there are no states or <code>null</code> if not supported
+     */
+    default @Nullable BigDecimal sum(FilterCriteria filter, @Nullable String alias) {
+        return null;
+    }
+
+    /**
+     * Gets the persisted state with the lowest numeric value. If several states have this value, the oldest one is
+     * returned.
+     *
+     * @param filter the filter defining the item and the period
+     * @param alias alias of the item in the database
+     * @return the historic item with the minimum value or <code>null</code> if there is none or if not supported
+     */
+    default @Nullable HistoricItem minimum(FilterCriteria filter, @Nullable String alias) {
+        return null;
+    }
+
+    /**
+     * Gets the persisted state with the highest numeric value. If several states have this value, the oldest one is
+     * returned.
+     *
+     * @param filter the filter defining the item and the period
+     * @param alias alias of the item in the database
+     * @return the historic item with the maximum value or <code>null</code> if there is none or if not supported
+     */
+    default @Nullable HistoricItem maximum(FilterCriteria filter, @Nullable String alias) {
+        return null;
+    }
+
+    /**
+     * Integrates the persisted numeric states over time using a left Riemann sum, i.e. each state is weighted with the
+     * time until the next persisted state. The integral ends with the last persisted state in the period, so the time
+     * before the first and after the last state is not included. The time dimension of the result is in seconds.
+     *
+     * @param filter the filter defining the item and the period
+     * @param alias alias of the item in the database
+     * @return the integral, zero if there are less than two states or <code>null</code> if not supported
+     */
+    default @Nullable BigDecimal integral(FilterCriteria filter, @Nullable String alias) {
+        return null;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link HistoricItemDownsampler} reduces a time ordered series of {@link HistoricItem}s to a bounded number of
+ * points while it is being read from a {@link QueryablePersistenceService}.
+ * <p>
+ * The requested period is split into equally sized time buckets. For each bucket the first, the last, the minimum
+ * and the maximum value are kept (the so called M4 aggregation). Rendered as a line chart with one bucket per pixel
+ * column, the result is indistinguishable from the full series, while memory and response size only depend on the
+ * requested resolution. States that cannot be converted to a number only keep the first and last item of a bucket.
+ * <p>
+ * If fewer than {@link #POINTS_PER_BUCKET} points are requested, the period is split into maxPoints buckets and only
+ * the last item of each bucket, i.e. the state at the end of the bucket, is kept.
+ * <p>
+ * Items are expected in ascending order. Items before the begin or after the end of the period are added to the
+ * first or last bucket respectively.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HistoricItemDownsampler {
+
+    /**
+     * The maximum number of items kept per bucket.
+     */
+    public static final int POINTS_PER_BUCKET = 4;
+
+    private static final Comparator<HistoricItem> BY_INSTANT = Comparator.comparing(HistoricItem::getInstant);
+
+    private final long begin;
+    private final long bucketWidth;
+    private final int bucketCount;
+    private final boolean lastOnly;
+    private final List<HistoricItem> result = new ArrayList<>();
+
+    private long currentBucket = -1;
+    private @Nullable HistoricItem first;
+    private @Nullable HistoricItem last;
+    private @Nullable HistoricItem min;
+    private @Nullable HistoricItem max;
+    private double minValue;
+    private double maxValue;
+
+    /**
+     * Creates a new downsampler for the given period.
+     *
+     * @param begin the begin of the requested period
+     * @param end the end of the requested period
+     * @param maxPoints the maximum number of items returned by {@link #getResult()}, must be positive
+     * @throws IllegalArgumentException if maxPoints is not positive
+     */
+    public HistoricItemDownsampler(Instant begin, Instant end, int maxPoints) {
+        if (maxPoints < 1) {
+            throw new IllegalArgumentException("maxPoints must be positive but was " + maxPoints);
+        }
+        this.lastOnly = maxPoints < POINTS_PER_BUCKET;
+        this.bucketCount = lastOnly ? maxPoints : maxPoints / POINTS_PER_BUCKET;
+        this.begin = begin.toEpochMilli();
+        long span = Math.max(1, end.toEpochMilli() - this.begin);
+        this.bucketWidth = Math.max(1, (span + bucketCount - 1) / bucketCount);
+    }
+
+    /**
+     * Downsamples the given items to at most maxPoints items.
+     *
+     * @param items the items in ascending order
+     * @param begin the begin of the requested period
+     * @param end the end of the requested period
+     * @param maxPoints the maximum number of items to return, must be positive
+     * @return the downsampled items in ascending order
+     */
+    public static List<HistoricItem> downsample(Iterable<HistoricItem> items, Instant begin, Instant end,
+            int maxPoints) {
+        HistoricItemDownsampler downsampler = new HistoricItemDownsampler(begin, end, maxPoints);
+        for (HistoricItem item : items) {
+            downsampler.add(item);
+        }
+        return downsampler.getResult();
+    }
+
+    /**
+     * Adds the next item of the series.
+     *
+     * @param item the item, not older than the previously added one
+     */
+    public void add(HistoricItem item) {
+        long bucket = Math.floorDiv(item.getInstant().toEpochMilli() - begin, bucketWidth);
+        bucket = Math.min(Math.max(bucket, Math.max(currentBucket, 0)), bucketCount - 1);
+        if (bucket != currentBucket) {
+            flush();
+            currentBucket = bucket;
+        }
+
+        if (first == null) {
+            first = item;
+        }
+        last = item;
+
+        double value = toDouble(item.getState());
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (min == null || value < minValue) {
+            min = item;
+            minValue = value;
+        }
+        if (max == null || value > maxValue) {
+            max = item;
+            maxValue = value;
+        }
+    }
+
+    /**
+     * Returns the downsampled items in ascending order.
+     *
+     * @return the downsampled items
+     */
+    public List<HistoricItem> getResult() {
+        flush();
+        return result;
+    }
+
+    private void flush() {
+        HistoricItem first = this.first;
+        if (first == null) {
+            return;
+        }
+        if (lastOnly) {
+            result.add(Objects.requireNonNull(last));
+        } else {
+            List<HistoricItem> points = new ArrayList<>(POINTS_PER_BUCKET);
+            points.add(first);
+            addIfAbsent(points, min);
+            addIfAbsent(points, max);
+            addIfAbsent(points, last);
+            points.sort(BY_INSTANT);
+            result.addAll(points);
+        }
+
+        this.first = null;
+        last = null;
+        min = null;
+        max = null;
+    }
+
+    private static void addIfAbsent(List<HistoricItem> points, @Nullable HistoricItem item) {
+        if (item == null) {
+            return;
+        }
+        for (HistoricItem point : points) {
+            if (point == item) {
+                return;
+            }
+        }
+        points.add(item);
+    }
+
+    private static double toDouble(State state) {
+        if (state instanceof QuantityType<?> quantityType) {
+            return quantityType.doubleValue();
+        } else if (state instanceof DecimalType decimalType) {
+            return decimalType.doubleValue();
+        } else if (state instanceof OnOffType) {
+            return state == OnOffType.ON ? 1 : 0;
+        } else if (state instanceof OpenClosedType) {
+            return state == OpenClosedType.OPEN ? 1 : 0;
+        }
+        DecimalType decimalType = state.as(DecimalType.class);
+        return decimalType != null ? decimalType.doubleValue() : Double.NaN;
+    }
+}
@@ -13,6 +13,7 @@
 package org.openhab.core.persistence;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -67,6 +68,20 @@ public interface ModifiablePersistenceService extends QueryablePersistenceServic
      */
     void store(Item item, ZonedDateTime date, State state, @Nullable String alias);
 
+    /**
+     * Stores a batch of historic item values. The persistence manager uses this method if write-behind is enabled for
+     * the service, instead of storing each state separately with {@link PersistenceService#store(Item, String)}.
+     * <p>
+     * The default implementation calls {@link #store(Item, ZonedDateTime, State, String)} for each entry. Persistence
+     * services should override it if they can store several values more efficiently, e.g. in a single database
+     * transaction.
+     *
+     * @param entries the values to be stored, in the order they have been recorded
+     */
+    default void storeBatch(List<PersistenceBatchEntry> entries) {
+        entries.forEach(entry -> store(entry.item(), entry.timestamp(), entry.state(), entry.alias()));
+    }
+
     /**
      * Removes data associated with an item from a persistence service.
      * If all data is removed for the specified item, the persistence service should free any resources associated with
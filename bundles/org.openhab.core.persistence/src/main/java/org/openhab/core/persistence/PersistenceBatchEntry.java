@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+
+/**
+ * This class holds a single state of an item that is stored as part of a batch by
+ * {@link ModifiablePersistenceService#storeBatch(java.util.List)}. The alias is <code>null</code> if the item is
+ * persisted under its own name.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public record PersistenceBatchEntry(Item item, ZonedDateTime timestamp, State state, @Nullable String alias) {
+}
@@ -26,4 +26,13 @@ import org.openhab.core.persistence.internal.PersistenceManagerImpl;
 @NonNullByDefault
 public interface PersistenceManager {
     void handleExternalPersistenceDataChange(PersistenceService persistenceService, Item item);
+
+    /**
+     * Stores all states that are still queued for a persistence service. It has to be called before persisted data is
+     * modified bypassing the {@link PersistenceManagerImpl}, otherwise queued states would be stored after the
+     * modification, e.g. re-adding states that have just been removed.
+     *
+     * @param serviceId the id of the persistence service
+     */
+    void flush(String serviceId);
 }
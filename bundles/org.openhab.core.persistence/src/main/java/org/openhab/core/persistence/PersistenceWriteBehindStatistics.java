@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link PersistenceWriteBehindStatistics} provides statistics about the states that are queued by the
+ * persistence manager and stored in batches to {@link ModifiablePersistenceService}s.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public interface PersistenceWriteBehindStatistics {
+
+    /**
+     * Returns the number of states that are currently queued for all persistence services.
+     *
+     * @return the number of queued states
+     */
+    int getQueuedCount();
+
+    /**
+     * Returns the number of batches that have been passed to the persistence services.
+     *
+     * @return the number of batches
+     */
+    long getBatchCount();
+
+    /**
+     * Returns the number of states that have been passed to the persistence services in batches. Together with
+     * {@link #getBatchCount()} this gives the average batch size.
+     *
+     * @return the number of states stored in batches
+     */
+    long getBatchedCount();
+
+    /**
+     * Returns the number of states that have been dropped because a queue was full.
+     *
+     * @return the number of dropped states
+     */
+    long getDroppedCount();
+
+    /**
+     * Returns the time the oldest queued state is waiting to be stored.
+     *
+     * @return the queue lag in milliseconds, 0 if no state is queued
+     */
+    long getQueueLag();
+}
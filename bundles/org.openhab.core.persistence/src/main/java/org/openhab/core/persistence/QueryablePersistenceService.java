@@ -13,7 +13,9 @@
 package org.openhab.core.persistence;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -156,4 +158,21 @@ public interface QueryablePersistenceService extends PersistenceService {
             }
         };
     }
+
+    /**
+     * Returns the {@link PersistedItem}s for a number of items at once, e.g. to restore the states of all items on
+     * startup. Persistence services should override this method if they can retrieve the persisted items with a single
+     * (or only a few) queries, which is much faster than calling {@link #persistedItem(String, String)} for each item.
+     * The default implementation returns <code>null</code> to indicate that bulk retrieval is not supported, callers
+     * then have to fall back to {@link #persistedItem(String, String)}.
+     *
+     * @param itemNames names of the items
+     * @param aliases aliases of the items, with the item name as key (items without alias are not contained)
+     * @return a map of {@link PersistedItem}s with the item name as key, items that have not been persisted are not
+     *         contained, or <code>null</code> if bulk retrieval is not supported
+     */
+    default @Nullable Map<String, PersistedItem> persistedItems(Collection<String> itemNames,
+            Map<String, String> aliases) {
+        return null;
+    }
 }
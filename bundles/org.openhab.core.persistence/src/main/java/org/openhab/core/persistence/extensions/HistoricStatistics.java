@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.extensions;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link HistoricStatistics} holds the statistics of the persisted states of an item in a period. All values are
+ * computed from a single query and a single pass over its result by the <code>statisticsSince</code>,
+ * <code>statisticsUntil</code> and <code>statisticsBetween</code> methods of {@link PersistenceExtensions}.
+ * Each value is the same as returned by the corresponding method of {@link PersistenceExtensions}, e.g.
+ * {@link #getAverage()} returns the same value as <code>averageBetween</code>.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HistoricStatistics {
+
+    private final long count;
+    private final State sum;
+    private final @Nullable HistoricItem minimum;
+    private final @Nullable HistoricItem maximum;
+    private final @Nullable State average;
+    private final @Nullable State variance;
+    private final @Nullable State deviation;
+    private final State riemannSum;
+
+    HistoricStatistics(long count, State sum, @Nullable HistoricItem minimum, @Nullable HistoricItem maximum,
+            @Nullable State average, @Nullable State variance, @Nullable State deviation, State riemannSum) {
+        this.count = count;
+        this.sum = sum;
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.average = average;
+        this.variance = variance;
+        this.deviation = deviation;
+        this.riemannSum = riemannSum;
+    }
+
+    /**
+     * Gets the number of persisted states in the period.
+     *
+     * @return the number of states, as <code>countBetween</code>
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the sum of the persisted states in the period.
+     *
+     * @return the sum, as <code>sumBetween</code>
+     */
+    public State getSum() {
+        return sum;
+    }
+
+    /**
+     * Gets the historic item with the minimum value in the period.
+     *
+     * @return the minimum, as <code>minimumBetween</code>
+     */
+    public @Nullable HistoricItem getMinimum() {
+        return minimum;
+    }
+
+    /**
+     * Gets the historic item with the maximum value in the period.
+     *
+     * @return the maximum, as <code>maximumBetween</code>
+     */
+    public @Nullable HistoricItem getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * Gets the time weighted average value in the period.
+     *
+     * @return the average, as <code>averageBetween</code>
+     */
+    public @Nullable State getAverage() {
+        return average;
+    }
+
+    /**
+     * Gets the variance of the values in the period.
+     *
+     * @return the variance, as <code>varianceBetween</code>
+     */
+    public @Nullable State getVariance() {
+        return variance;
+    }
+
+    /**
+     * Gets the standard deviation of the values in the period.
+     *
+     * @return the standard deviation, as <code>deviationBetween</code>
+     */
+    public @Nullable State getDeviation() {
+        return deviation;
+    }
+
+    /**
+     * Gets the Riemann sum of the values in the period.
+     *
+     * @return the Riemann sum, as <code>riemannSumBetween</code>
+     */
+    public State getRiemannSum() {
+        return riemannSum;
+    }
+
+    @Override
+    public String toString() {
+        return "HistoricStatistics [count=" + count + ", sum=" + sum + ", minimum=" + minimum + ", maximum=" + maximum
+                + ", average=" + average + ", variance=" + variance + ", deviation=" + deviation + ", riemannSum="
+                + riemannSum + "]";
+    }
+}
@@ -15,16 +15,21 @@ package org.openhab.core.persistence.extensions;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.StreamSupport;
 
+import javax.measure.IncommensurableException;
+import javax.measure.UnconvertibleException;
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,13 +40,16 @@ import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.persistence.AggregatingPersistenceService;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
+import org.openhab.core.persistence.PersistenceManager;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.QueryablePersistenceService;
+import org.openhab.core.persistence.internal.RecentHistoryCache;
 import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
 import org.openhab.core.types.State;
@@ -51,6 +59,8 @@ import org.openhab.core.util.Statistics;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -79,6 +89,8 @@ public class PersistenceExtensions {
     private static @Nullable PersistenceServiceRegistry registry;
     private static @Nullable PersistenceServiceConfigurationRegistry configRegistry;
     private static @Nullable TimeZoneProvider timeZoneProvider;
+    private static @Nullable RecentHistoryCache recentHistoryCache;
+    private static @Nullable PersistenceManager persistenceManager;
 
     public static enum RiemannType {
         LEFT,
@@ -96,6 +108,24 @@ public class PersistenceExtensions {
         PersistenceExtensions.timeZoneProvider = timeZoneProvider;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setRecentHistoryCache(RecentHistoryCache recentHistoryCache) {
+        PersistenceExtensions.recentHistoryCache = recentHistoryCache;
+    }
+
+    protected void unsetRecentHistoryCache(RecentHistoryCache recentHistoryCache) {
+        PersistenceExtensions.recentHistoryCache = null;
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setPersistenceManager(PersistenceManager persistenceManager) {
+        PersistenceExtensions.persistenceManager = persistenceManager;
+    }
+
+    protected void unsetPersistenceManager(PersistenceManager persistenceManager) {
+        PersistenceExtensions.persistenceManager = null;
+    }
+
     /**
      * Persists the state of a given <code>item</code> through the default persistence service.
      *
@@ -123,7 +153,12 @@ public class PersistenceExtensions {
         }
         PersistenceService service = getService(effectiveServiceId);
         if (service != null) {
+            flushQueuedStates(effectiveServiceId);
             service.store(item, getAlias(item, effectiveServiceId));
+            RecentHistoryCache cache = recentHistoryCache;
+            if (cache != null) {
+                cache.stored(effectiveServiceId, item);
+            }
             return;
         }
         LoggerFactory.getLogger(PersistenceExtensions.class)
@@ -162,7 +197,9 @@ public class PersistenceExtensions {
         }
         PersistenceService service = getService(effectiveServiceId);
         if (service instanceof ModifiablePersistenceService modifiableService) {
+            flushQueuedStates(effectiveServiceId);
             modifiableService.store(item, timestamp, state, getAlias(item, effectiveServiceId));
+            invalidateRecentHistory(effectiveServiceId, item, timestamp.toInstant());
             return;
         }
         LoggerFactory.getLogger(PersistenceExtensions.class)
@@ -236,6 +273,7 @@ public class PersistenceExtensions {
         TimeZoneProvider tzProvider = timeZoneProvider;
         ZoneId timeZone = tzProvider != null ? tzProvider.getTimeZone() : ZoneId.systemDefault();
         if (service instanceof ModifiablePersistenceService modifiableService) {
+            flushQueuedStates(effectiveServiceId);
             if (timeSeries.getPolicy() == TimeSeries.Policy.REPLACE) {
                 internalRemoveAllStatesBetween(item, timeSeries.getBegin().atZone(timeZone),
                         timeSeries.getEnd().atZone(timeZone), serviceId);
@@ -243,6 +281,7 @@ public class PersistenceExtensions {
             String alias = getAlias(item, effectiveServiceId);
             timeSeries.getStates()
                     .forEach(s -> modifiableService.store(item, s.timestamp().atZone(timeZone), s.state(), alias));
+            invalidateRecentHistory(effectiveServiceId, item, timeSeries.getEnd());
             return;
         }
         LoggerFactory.getLogger(PersistenceExtensions.class)
@@ -335,7 +374,7 @@ public class PersistenceExtensions {
             filter.setItemName(item.getName());
             filter.setPageSize(1);
             filter.setOrdering(Ordering.DESCENDING);
-            Iterable<HistoricItem> result = qService.query(filter, alias);
+            Iterable<HistoricItem> result = query(qService, filter, alias);
             if (result.iterator().hasNext()) {
                 return result.iterator().next();
             }
@@ -482,7 +521,7 @@ public class PersistenceExtensions {
             int startPage = 0;
             filter.setPageNumber(startPage);
 
-            Iterable<HistoricItem> items = qService.query(filter, alias);
+            Iterable<HistoricItem> items = query(qService, filter, alias);
             while (items != null) {
                 Iterator<HistoricItem> itemIterator = items.iterator();
                 int itemCount = 0;
@@ -513,7 +552,7 @@ public class PersistenceExtensions {
                         }
                         if (itemCount == filter.getPageSize()) {
                             filter.setPageNumber(++startPage);
-                            items = qService.query(filter, alias);
+                            items = query(qService, filter, alias);
                         } else {
                             items = null;
                         }
@@ -655,7 +694,7 @@ public class PersistenceExtensions {
             int startPage = 0;
             filter.setPageNumber(startPage);
 
-            Iterable<HistoricItem> items = qService.query(filter, alias);
+            Iterable<HistoricItem> items = query(qService, filter, alias);
             while (items != null) {
                 Iterator<HistoricItem> itemIterator = items.iterator();
                 int itemCount = 0;
@@ -668,7 +707,7 @@ public class PersistenceExtensions {
                 }
                 if (itemCount == filter.getPageSize()) {
                     filter.setPageNumber(++startPage);
-                    items = qService.query(filter, alias);
+                    items = query(qService, filter, alias);
                 } else {
                     items = null;
                 }
@@ -1008,6 +1047,10 @@ public class PersistenceExtensions {
         if (effectiveServiceId == null) {
             return null;
         }
+        HistoricItem aggregated = aggregatedExtremum(item, begin, end, effectiveServiceId, true);
+        if (aggregated != null) {
+            return aggregated;
+        }
         Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
         if (result == null) {
             return null;
@@ -1136,6 +1179,10 @@ public class PersistenceExtensions {
         if (effectiveServiceId == null) {
             return null;
         }
+        HistoricItem aggregated = aggregatedExtremum(item, begin, end, effectiveServiceId, false);
+        if (aggregated != null) {
+            return aggregated;
+        }
         Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
         if (result == null) {
             return null;
@@ -1900,23 +1947,29 @@ public class PersistenceExtensions {
             return historicItem != null ? historicItem.getState() : null;
         }
 
-        Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
-        if (result == null) {
-            return null;
-        }
-        Iterator<HistoricItem> it = result.iterator();
-        // Remove initial part of history that does not have any values persisted
-        if (beginTime.isBefore(now)) {
-            if (it.hasNext()) {
-                beginTime = it.next().getTimestamp();
-            }
-            it = result.iterator();
-        }
-
         Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
         Unit<?> unit = baseItem instanceof NumberItem numberItem ? numberItem.getUnit() : null;
 
-        BigDecimal sum = riemannSum(beginTime, endTime, it, unit, type);
+        BigDecimal sum;
+        AggregatedRiemannSum aggregated = aggregatedRiemannSum(item, begin, end, type, unit, effectiveServiceId);
+        if (aggregated != null) {
+            sum = aggregated.sum();
+            beginTime = aggregated.begin();
+        } else {
+            Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
+            if (result == null) {
+                return null;
+            }
+            Iterator<HistoricItem> it = result.iterator();
+            // Remove initial part of history that does not have any values persisted
+            if (beginTime.isBefore(now)) {
+                if (it.hasNext()) {
+                    beginTime = it.next().getTimestamp();
+                }
+                it = result.iterator();
+            }
+            sum = riemannSum(beginTime, endTime, it, unit, type);
+        }
         BigDecimal totalDuration = BigDecimal.valueOf(Duration.between(beginTime, endTime).toMillis());
         if (totalDuration.signum() == 0) {
             return null;
@@ -2173,23 +2226,29 @@ public class PersistenceExtensions {
         ZonedDateTime beginTime = Objects.requireNonNullElse(begin, now);
         ZonedDateTime endTime = Objects.requireNonNullElse(end, now);
 
-        Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
-        if (result == null) {
-            return null;
-        }
-        Iterator<HistoricItem> it = result.iterator();
-        // Remove initial part of history that does not have any values persisted
-        if (beginTime.isBefore(now)) {
-            if (it.hasNext()) {
-                beginTime = it.next().getTimestamp();
-            }
-            it = result.iterator();
-        }
-
         Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
         Unit<?> unit = (baseItem instanceof NumberItem numberItem)
                 && (numberItem.getUnit() instanceof Unit<?> numberItemUnit) ? numberItemUnit.getSystemUnit() : null;
-        BigDecimal sum = riemannSum(beginTime, endTime, it, unit, type).scaleByPowerOfTen(-3);
+
+        BigDecimal sum;
+        AggregatedRiemannSum aggregated = aggregatedRiemannSum(item, begin, end, type, unit, effectiveServiceId);
+        if (aggregated != null) {
+            sum = aggregated.sum().scaleByPowerOfTen(-3);
+        } else {
+            Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
+            if (result == null) {
+                return null;
+            }
+            Iterator<HistoricItem> it = result.iterator();
+            // Remove initial part of history that does not have any values persisted
+            if (beginTime.isBefore(now)) {
+                if (it.hasNext()) {
+                    beginTime = it.next().getTimestamp();
+                }
+                it = result.iterator();
+            }
+            sum = riemannSum(beginTime, endTime, it, unit, type).scaleByPowerOfTen(-3);
+        }
         if (unit != null) {
             return new QuantityType<>(sum, unit.multiply(Units.SECOND));
         }
@@ -2536,13 +2595,24 @@ public class PersistenceExtensions {
         if (effectiveServiceId == null) {
             return null;
         }
+        Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
+        Unit<?> itemUnit = baseItem instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        Unit<?> unit = itemUnit != null ? itemUnit.getSystemUnit() : null;
+
+        AggregatingPersistenceService aService = getAggregatingService(effectiveServiceId);
+        FilterCriteria filter = getAggregationFilter(item, begin, end, ZonedDateTime.now());
+        if (aService != null && filter != null) {
+            BigDecimal aggregated = aService.sum(filter, getAlias(item, effectiveServiceId));
+            BigDecimal sum = aggregated != null ? toUnit(aggregated, itemUnit, unit) : null;
+            if (sum != null) {
+                return unit != null ? new QuantityType<>(sum, unit) : new DecimalType(sum);
+            }
+        }
+
         Iterable<HistoricItem> result = internalGetAllStatesBetween(item, begin, end, effectiveServiceId);
         if (result != null) {
             Iterator<HistoricItem> it = result.iterator();
 
-            Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
-            Unit<?> unit = (baseItem instanceof NumberItem numberItem)
-                    && (numberItem.getUnit() instanceof Unit<?> numberItemUnit) ? numberItemUnit.getSystemUnit() : null;
             BigDecimal sum = BigDecimal.ZERO;
             while (it.hasNext()) {
                 HistoricItem historicItem = it.next();
@@ -2559,6 +2629,274 @@ public class PersistenceExtensions {
         return null;
     }
 
+    /**
+     * Gets the statistics of the states of a given {@link Item} since a certain point in time.
+     * All statistics are computed from a single query to the persistence service.
+     * A left approximation type is used for the Riemann sum.
+     * The default {@link PersistenceService} is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param timestamp the point in time from which to compute the statistics
+     * @return the {@link HistoricStatistics} since <code>timestamp</code> or <code>null</code> if no states
+     *         could be found or if the default persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsSince(Item item, ZonedDateTime timestamp) {
+        return internalStatisticsBetween(item, timestamp, null, null, null);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} since a certain point in time.
+     * All statistics are computed from a single query to the persistence service.
+     * The default {@link PersistenceService} is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param timestamp the point in time from which to compute the statistics
+     * @param type LEFT, RIGHT, MIDPOINT or TRAPEZOIDAL representing approximation types for Riemann sums
+     * @return the {@link HistoricStatistics} since <code>timestamp</code> or <code>null</code> if no states
+     *         could be found or if the default persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsSince(Item item, ZonedDateTime timestamp,
+            @Nullable RiemannType type) {
+        return internalStatisticsBetween(item, timestamp, null, type, null);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} until a certain point in time.
+     * All statistics are computed from a single query to the persistence service.
+     * A left approximation type is used for the Riemann sum.
+     * The default {@link PersistenceService} is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param timestamp the point in time to which to compute the statistics
+     * @return the {@link HistoricStatistics} until <code>timestamp</code> or <code>null</code> if no states
+     *         could be found or if the default persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsUntil(Item item, ZonedDateTime timestamp) {
+        return internalStatisticsBetween(item, null, timestamp, null, null);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} until a certain point in time.
+     * All statistics are computed from a single query to the persistence service.
+     * The default {@link PersistenceService} is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param timestamp the point in time to which to compute the statistics
+     * @param type LEFT, RIGHT, MIDPOINT or TRAPEZOIDAL representing approximation types for Riemann sums
+     * @return the {@link HistoricStatistics} until <code>timestamp</code> or <code>null</code> if no states
+     *         could be found or if the default persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsUntil(Item item, ZonedDateTime timestamp,
+            @Nullable RiemannType type) {
+        return internalStatisticsBetween(item, null, timestamp, type, null);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} between two certain points in time.
+     * All statistics are computed from a single query to the persistence service.
+     * A left approximation type is used for the Riemann sum.
+     * The default {@link PersistenceService} is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param begin the point in time from which to compute the statistics
+     * @param end the point in time to which to compute the statistics
+     * @return the {@link HistoricStatistics} between <code>begin</code> and <code>end</code> or <code>null</code>
+     *         if no states could be found or if the default persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsBetween(Item item, ZonedDateTime begin, ZonedDateTime end) {
+        return internalStatisticsBetween(item, begin, end, null, null);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} between two certain points in time.
+     * All statistics are computed from a single query to the persistence service.
+     * The default {@link PersistenceService} is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param begin the point in time from which to compute the statistics
+     * @param end the point in time to which to compute the statistics
+     * @param type LEFT, RIGHT, MIDPOINT or TRAPEZOIDAL representing approximation types for Riemann sums
+     * @return the {@link HistoricStatistics} between <code>begin</code> and <code>end</code> or <code>null</code>
+     *         if no states could be found or if the default persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsBetween(Item item, ZonedDateTime begin, ZonedDateTime end,
+            @Nullable RiemannType type) {
+        return internalStatisticsBetween(item, begin, end, type, null);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} since a certain point in time.
+     * All statistics are computed from a single query to the persistence service.
+     * A left approximation type is used for the Riemann sum.
+     * The {@link PersistenceService} identified by the <code>serviceId</code> is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param timestamp the point in time from which to compute the statistics
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the {@link HistoricStatistics} since <code>timestamp</code> or <code>null</code> if no states
+     *         could be found or if the provided persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsSince(Item item, ZonedDateTime timestamp,
+            @Nullable String serviceId) {
+        return internalStatisticsBetween(item, timestamp, null, null, serviceId);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} since a certain point in time.
+     * All statistics are computed from a single query to the persistence service.
+     * The {@link PersistenceService} identified by the <code>serviceId</code> is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param timestamp the point in time from which to compute the statistics
+     * @param type LEFT, RIGHT, MIDPOINT or TRAPEZOIDAL representing approximation types for Riemann sums
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the {@link HistoricStatistics} since <code>timestamp</code> or <code>null</code> if no states
+     *         could be found or if the provided persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsSince(Item item, ZonedDateTime timestamp,
+            @Nullable RiemannType type, @Nullable String serviceId) {
+        return internalStatisticsBetween(item, timestamp, null, type, serviceId);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} until a certain point in time.
+     * All statistics are computed from a single query to the persistence service.
+     * A left approximation type is used for the Riemann sum.
+     * The {@link PersistenceService} identified by the <code>serviceId</code> is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param timestamp the point in time to which to compute the statistics
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the {@link HistoricStatistics} until <code>timestamp</code> or <code>null</code> if no states
+     *         could be found or if the provided persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsUntil(Item item, ZonedDateTime timestamp,
+            @Nullable String serviceId) {
+        return internalStatisticsBetween(item, null, timestamp, null, serviceId);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} until a certain point in time.
+     * All statistics are computed from a single query to the persistence service.
+     * The {@link PersistenceService} identified by the <code>serviceId</code> is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param timestamp the point in time to which to compute the statistics
+     * @param type LEFT, RIGHT, MIDPOINT or TRAPEZOIDAL representing approximation types for Riemann sums
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the {@link HistoricStatistics} until <code>timestamp</code> or <code>null</code> if no states
+     *         could be found or if the provided persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsUntil(Item item, ZonedDateTime timestamp,
+            @Nullable RiemannType type, @Nullable String serviceId) {
+        return internalStatisticsBetween(item, null, timestamp, type, serviceId);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} between two certain points in time.
+     * All statistics are computed from a single query to the persistence service.
+     * A left approximation type is used for the Riemann sum.
+     * The {@link PersistenceService} identified by the <code>serviceId</code> is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param begin the point in time from which to compute the statistics
+     * @param end the point in time to which to compute the statistics
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the {@link HistoricStatistics} between <code>begin</code> and <code>end</code> or <code>null</code>
+     *         if no states could be found or if the provided persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsBetween(Item item, ZonedDateTime begin, ZonedDateTime end,
+            @Nullable String serviceId) {
+        return internalStatisticsBetween(item, begin, end, null, serviceId);
+    }
+
+    /**
+     * Gets the statistics of the states of a given {@link Item} between two certain points in time.
+     * All statistics are computed from a single query to the persistence service.
+     * The {@link PersistenceService} identified by the <code>serviceId</code> is used.
+     *
+     * @param item the {@link Item} to get the statistics for
+     * @param begin the point in time from which to compute the statistics
+     * @param end the point in time to which to compute the statistics
+     * @param type LEFT, RIGHT, MIDPOINT or TRAPEZOIDAL representing approximation types for Riemann sums
+     * @param serviceId the name of the {@link PersistenceService} to use
+     * @return the {@link HistoricStatistics} between <code>begin</code> and <code>end</code> or <code>null</code>
+     *         if no states could be found or if the provided persistence service does not refer to an available
+     *         {@link QueryablePersistenceService}
+     */
+    public static @Nullable HistoricStatistics statisticsBetween(Item item, ZonedDateTime begin, ZonedDateTime end,
+            @Nullable RiemannType type, @Nullable String serviceId) {
+        return internalStatisticsBetween(item, begin, end, type, serviceId);
+    }
+
+    private static @Nullable HistoricStatistics internalStatisticsBetween(Item item, @Nullable ZonedDateTime begin,
+            @Nullable ZonedDateTime end, @Nullable RiemannType type, @Nullable String serviceId) {
+        String effectiveServiceId = serviceId == null ? getDefaultServiceId() : serviceId;
+        if (effectiveServiceId == null) {
+            return null;
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime beginTime = Objects.requireNonNullElse(begin, now);
+        ZonedDateTime endTime = Objects.requireNonNullElse(end, now);
+
+        Iterable<HistoricItem> result = getAllStatesBetweenWithBoundaries(item, begin, end, effectiveServiceId);
+        if (result == null) {
+            return null;
+        }
+        // Remove initial part of history that does not have any values persisted
+        if (beginTime.isBefore(now)) {
+            Iterator<HistoricItem> it = result.iterator();
+            if (it.hasNext()) {
+                beginTime = it.next().getTimestamp();
+            }
+        }
+
+        Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
+        Unit<?> itemUnit = baseItem instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        Unit<?> unit = itemUnit != null ? itemUnit.getSystemUnit() : null;
+
+        // the Riemann sum drives the iteration, all other values are collected while it iterates
+        StatisticsCollector collector = new StatisticsCollector(result.iterator(), unit);
+        BigDecimal riemannSum = riemannSum(beginTime, endTime, collector, unit, type);
+        collector.drain();
+
+        BigDecimal duration = BigDecimal.valueOf(Duration.between(beginTime, endTime).toMillis());
+        BigDecimal average = duration.signum() != 0 ? riemannSum.divide(duration, MathContext.DECIMAL64)
+                : collector.getMean();
+        BigDecimal variance = average != null ? collector.getVariance(average) : null;
+        BigDecimal deviation = variance != null && variance.signum() >= 0 ? variance.sqrt(MathContext.DECIMAL64)
+                : null;
+        riemannSum = riemannSum.scaleByPowerOfTen(-3);
+
+        if (unit != null && itemUnit != null) {
+            QuantityType<?> averageQuantity = average != null ? new QuantityType<>(average, unit).toUnit(itemUnit)
+                    : null;
+            return new HistoricStatistics(collector.getCount(), new QuantityType<>(collector.getSum(), unit),
+                    historicItemOrCurrentState(item, collector.getMinimum()),
+                    historicItemOrCurrentState(item, collector.getMaximum()), averageQuantity,
+                    variance != null ? new QuantityType<>(variance, unit.multiply(unit)) : null,
+                    deviation != null ? new QuantityType<>(deviation, unit) : null,
+                    new QuantityType<>(riemannSum, unit.multiply(Units.SECOND)));
+        }
+        return new HistoricStatistics(collector.getCount(), new DecimalType(collector.getSum()),
+                historicItemOrCurrentState(item, collector.getMinimum()),
+                historicItemOrCurrentState(item, collector.getMaximum()),
+                average != null ? new DecimalType(average) : null,
+                variance != null ? new DecimalType(variance) : null,
+                deviation != null ? new DecimalType(deviation) : null, new DecimalType(riemannSum));
+    }
+
     /**
      * Gets the difference value of the state of a given <code>item</code> since a certain point in time.
      * The default persistence service is used.
@@ -3021,6 +3359,14 @@ public class PersistenceExtensions {
         if (effectiveServiceId == null) {
             return null;
         }
+        AggregatingPersistenceService aService = getAggregatingService(effectiveServiceId);
+        FilterCriteria filter = getAggregationFilter(item, begin, end, ZonedDateTime.now());
+        if (aService != null && filter != null) {
+            Long count = aService.count(filter, getAlias(item, effectiveServiceId));
+            if (count != null) {
+                return count;
+            }
+        }
         Iterable<HistoricItem> result = internalGetAllStatesBetween(item, begin, end, effectiveServiceId);
         if (result != null) {
             if (result instanceof Collection<?> collection) {
@@ -3278,7 +3624,7 @@ public class PersistenceExtensions {
             filter.setItemName(item.getName());
             filter.setOrdering(Ordering.ASCENDING);
 
-            return qService.query(filter, alias);
+            return query(qService, filter, alias);
         } else {
             LoggerFactory.getLogger(PersistenceExtensions.class)
                     .warn("There is no queryable persistence service registered with the id '{}'", effectiveServiceId);
@@ -3395,7 +3741,9 @@ public class PersistenceExtensions {
             filter.setItemName(item.getName());
             filter.setOrdering(Ordering.ASCENDING);
 
+            flushQueuedStates(effectiveServiceId);
             mService.remove(filter, alias);
+            invalidateRecentHistory(effectiveServiceId, item, Instant.now());
         } else {
             LoggerFactory.getLogger(PersistenceExtensions.class)
                     .warn("There is no modifiable persistence service registered with the id '{}'", effectiveServiceId);
@@ -3426,11 +3774,7 @@ public class PersistenceExtensions {
 
         // add HistoricItem at begin
         if (betweenItemsList.isEmpty() || !betweenItemsList.getFirst().getTimestamp().equals(begin)) {
-            HistoricItem first = beginTime.equals(now) ? historicItemOrCurrentState(item, null)
-                    : internalPersistedState(item, beginTime, serviceId);
-            if (first != null) {
-                first = new RetimedHistoricItem(first, beginTime);
-            }
+            HistoricItem first = getBoundaryItem(item, beginTime, now, serviceId);
             if (first != null) {
                 betweenItemsList.addFirst(first);
             }
@@ -3438,11 +3782,7 @@ public class PersistenceExtensions {
 
         // add HistoricItem at end
         if (betweenItemsList.isEmpty() || !betweenItemsList.getLast().getTimestamp().equals(end)) {
-            HistoricItem last = endTime.equals(now) ? historicItemOrCurrentState(item, null)
-                    : internalPersistedState(item, endTime, serviceId);
-            if (last != null) {
-                last = new RetimedHistoricItem(last, endTime);
-            }
+            HistoricItem last = getBoundaryItem(item, endTime, now, serviceId);
             if (last != null) {
                 betweenItemsList.add(last);
             }
@@ -3450,6 +3790,194 @@ public class PersistenceExtensions {
         return !betweenItemsList.isEmpty() ? betweenItemsList : null;
     }
 
+    private static @Nullable HistoricItem getBoundaryItem(Item item, ZonedDateTime timestamp, ZonedDateTime now,
+            @Nullable String serviceId) {
+        HistoricItem historicItem = timestamp.equals(now) ? historicItemOrCurrentState(item, null)
+                : internalPersistedState(item, timestamp, serviceId);
+        return historicItem != null ? new RetimedHistoricItem(historicItem, timestamp) : null;
+    }
+
+    private static @Nullable AggregatingPersistenceService getAggregatingService(String serviceId) {
+        return getService(serviceId) instanceof AggregatingPersistenceService aService ? aService : null;
+    }
+
+    /**
+     * Creates the filter for letting an {@link AggregatingPersistenceService} aggregate the states between begin and
+     * end. Invalid periods return <code>null</code> and are left to the iterating implementation, so they are handled
+     * the same way with and without aggregation support.
+     */
+    private static @Nullable FilterCriteria getAggregationFilter(Item item, @Nullable ZonedDateTime begin,
+            @Nullable ZonedDateTime end, ZonedDateTime now) {
+        if ((begin == null && end == null) || (begin != null && end == null && begin.isAfter(now))
+                || (begin == null && end != null && end.isBefore(now))
+                || (begin != null && end != null && end.isBefore(begin))) {
+            return null;
+        }
+        return new FilterCriteria().setItemName(item.getName()).setBeginDate(Objects.requireNonNullElse(begin, now))
+                .setEndDate(Objects.requireNonNullElse(end, now)).setOrdering(Ordering.ASCENDING);
+    }
+
+    /**
+     * Gets the minimum or maximum of the states between begin and end, including the states at the boundaries, with
+     * the extremum of the persisted states computed by the persistence service.
+     *
+     * @return the historic item with the extremum or <code>null</code> if it has to be computed by iterating the states
+     */
+    private static @Nullable HistoricItem aggregatedExtremum(Item item, @Nullable ZonedDateTime begin,
+            @Nullable ZonedDateTime end, String serviceId, boolean maximum) {
+        AggregatingPersistenceService aService = getAggregatingService(serviceId);
+        ZonedDateTime now = ZonedDateTime.now();
+        FilterCriteria filter = getAggregationFilter(item, begin, end, now);
+        if (aService == null || filter == null) {
+            return null;
+        }
+        String alias = getAlias(item, serviceId);
+        HistoricItem extremum = maximum ? aService.maximum(filter, alias) : aService.minimum(filter, alias);
+        if (extremum == null) {
+            return null;
+        }
+
+        Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
+        Unit<?> unit = baseItem instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+
+        // candidates in the order of iteration, so ties are resolved the same way as by the iterating implementation
+        List<@Nullable HistoricItem> candidates = Arrays.asList(
+                getBoundaryItem(item, Objects.requireNonNullElse(begin, now), now, serviceId), extremum,
+                getBoundaryItem(item, Objects.requireNonNullElse(end, now), now, serviceId));
+        HistoricItem result = null;
+        DecimalType resultValue = null;
+        for (HistoricItem candidate : candidates) {
+            DecimalType value = candidate != null ? getPersistedValue(candidate, unit) : null;
+            if (value != null && (resultValue == null
+                    || (maximum ? value.compareTo(resultValue) > 0 : value.compareTo(resultValue) < 0))) {
+                result = candidate;
+                resultValue = value;
+            }
+        }
+        return result;
+    }
+
+    private record AggregatedRiemannSum(BigDecimal sum, ZonedDateTime begin) {
+    }
+
+    /**
+     * Computes the left Riemann sum of the states between begin and end, including the states at the boundaries, with
+     * the integral of the persisted states computed by the persistence service. As for {@link #riemannSum}, the time
+     * dimension of the sum is in milliseconds. The begin is moved to the first state if there is no state before it.
+     *
+     * @return the sum and its begin or <code>null</code> if it has to be computed by iterating the states
+     */
+    private static @Nullable AggregatedRiemannSum aggregatedRiemannSum(Item item, @Nullable ZonedDateTime begin,
+            @Nullable ZonedDateTime end, @Nullable RiemannType type, @Nullable Unit<?> unit, String serviceId) {
+        if (type != null && type != RiemannType.LEFT) {
+            return null;
+        }
+        AggregatingPersistenceService aService = getAggregatingService(serviceId);
+        ZonedDateTime now = ZonedDateTime.now();
+        FilterCriteria filter = getAggregationFilter(item, begin, end, now);
+        if (aService == null || filter == null) {
+            return null;
+        }
+        String alias = getAlias(item, serviceId);
+        BigDecimal integral = aService.integral(filter, alias);
+        Item baseItem = item instanceof GroupItem groupItem ? groupItem.getBaseItem() : item;
+        Unit<?> itemUnit = baseItem instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        integral = integral != null ? toUnit(integral, itemUnit, unit) : null;
+        if (integral == null) {
+            return null;
+        }
+
+        ZonedDateTime beginTime = Objects.requireNonNullElse(begin, now);
+        ZonedDateTime endTime = Objects.requireNonNullElse(end, now);
+        HistoricItem first = queryFirst(aService, new FilterCriteria(filter), alias);
+        HistoricItem last = queryFirst(aService, new FilterCriteria(filter).setOrdering(Ordering.DESCENDING), alias);
+        HistoricItem beginItem = first != null && first.getTimestamp().equals(begin) ? null
+                : getBoundaryItem(item, beginTime, now, serviceId);
+        if (beginItem == null && first == null) {
+            return null;
+        }
+
+        // the integral only covers the period from the first to the last persisted state, add the parts before and
+        // after it
+        BigDecimal sum = integral.scaleByPowerOfTen(3);
+        if (beginItem != null) {
+            ZonedDateTime next = first != null ? first.getTimestamp() : endTime;
+            sum = sum.add(weightedValue(beginItem, beginTime, next, unit));
+        } else if (first != null && beginTime.isBefore(now)) {
+            beginTime = first.getTimestamp();
+        }
+        if (last != null) {
+            sum = sum.add(weightedValue(last, last.getTimestamp(), endTime, unit));
+        }
+        return new AggregatedRiemannSum(sum, beginTime);
+    }
+
+    private static @Nullable HistoricItem queryFirst(QueryablePersistenceService service, FilterCriteria filter,
+            @Nullable String alias) {
+        filter.setPageNumber(0);
+        filter.setPageSize(1);
+        Iterator<HistoricItem> it = query(service, filter, alias).iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    private static BigDecimal weightedValue(HistoricItem historicItem, ZonedDateTime from, ZonedDateTime to,
+            @Nullable Unit<?> unit) {
+        DecimalType value = getPersistedValue(historicItem, unit);
+        return value != null ? value.toBigDecimal().multiply(BigDecimal.valueOf(Duration.between(from, to).toMillis()))
+                : BigDecimal.ZERO;
+    }
+
+    /**
+     * Converts an aggregate of persisted values from the item unit to the given unit. This is only possible if the
+     * conversion has no offset (e.g. not from °C to K), otherwise <code>null</code> is returned.
+     */
+    private static @Nullable BigDecimal toUnit(BigDecimal value, @Nullable Unit<?> itemUnit, @Nullable Unit<?> unit) {
+        if (itemUnit == null || unit == null || itemUnit.equals(unit)) {
+            return value;
+        }
+        try {
+            UnitConverter converter = itemUnit.getConverterToAny(unit);
+            return converter.isLinear() ? new BigDecimal(converter.convert(value).toString()) : null;
+        } catch (IncommensurableException | UnconvertibleException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Queries a persistence service, answering the query from the recent history cache if possible.
+     */
+    private static Iterable<HistoricItem> query(QueryablePersistenceService service, FilterCriteria filter,
+            @Nullable String alias) {
+        RecentHistoryCache cache = recentHistoryCache;
+        if (cache != null) {
+            Iterable<HistoricItem> cached = cache.query(service.getId(), filter);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return service.query(filter, alias);
+    }
+
+    /**
+     * Stores the states still queued for a persistence service, so they cannot overwrite or re-add data that is
+     * modified directly afterwards.
+     *
+     * @param serviceId the persistence service id
+     */
+    private static void flushQueuedStates(String serviceId) {
+        PersistenceManager manager = persistenceManager;
+        if (manager != null) {
+            manager.flush(serviceId);
+        }
+    }
+
+    private static void invalidateRecentHistory(String serviceId, Item item, Instant until) {
+        RecentHistoryCache cache = recentHistoryCache;
+        if (cache != null) {
+            cache.invalidate(serviceId, item.getName(), until);
+        }
+    }
+
     private static @Nullable PersistenceService getService(String serviceId) {
         PersistenceServiceRegistry reg = registry;
         return reg != null ? reg.get(serviceId) : null;
@@ -3544,6 +4072,116 @@ public class PersistenceExtensions {
         }
     }
 
+    /**
+     * Iterates the states of a period and collects their count, sum, minimum, maximum, mean and variance on the way.
+     * The states added at the boundaries of the period are excluded from the count and the sum.
+     */
+    private static class StatisticsCollector implements Iterator<HistoricItem> {
+
+        private final Iterator<HistoricItem> delegate;
+        private final @Nullable Unit<?> unit;
+
+        private long count;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private @Nullable HistoricItem minimum;
+        private @Nullable BigDecimal minimumValue;
+        private @Nullable HistoricItem maximum;
+        private @Nullable BigDecimal maximumValue;
+        private long valueCount;
+        private BigDecimal mean = BigDecimal.ZERO;
+        private BigDecimal squaredDeviations = BigDecimal.ZERO;
+
+        public StatisticsCollector(Iterator<HistoricItem> delegate, @Nullable Unit<?> unit) {
+            this.delegate = delegate;
+            this.unit = unit;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public HistoricItem next() {
+            HistoricItem historicItem = delegate.next();
+            collect(historicItem);
+            return historicItem;
+        }
+
+        public void drain() {
+            while (hasNext()) {
+                next();
+            }
+        }
+
+        private void collect(HistoricItem historicItem) {
+            boolean boundary = historicItem instanceof RetimedHistoricItem;
+            if (!boundary) {
+                count++;
+            }
+            DecimalType dtState = getPersistedValue(historicItem, unit);
+            if (dtState == null) {
+                return;
+            }
+            BigDecimal value = dtState.toBigDecimal();
+            if (!boundary) {
+                sum = sum.add(value);
+            }
+            BigDecimal min = minimumValue;
+            if (min == null || value.compareTo(min) < 0) {
+                minimum = historicItem;
+                minimumValue = value;
+            }
+            BigDecimal max = maximumValue;
+            if (max == null || value.compareTo(max) > 0) {
+                maximum = historicItem;
+                maximumValue = value;
+            }
+
+            // Welford's online algorithm for the mean and the sum of squared deviations from it
+            valueCount++;
+            BigDecimal delta = value.subtract(mean, MathContext.DECIMAL64);
+            mean = mean.add(delta.divide(BigDecimal.valueOf(valueCount), MathContext.DECIMAL64),
+                    MathContext.DECIMAL64);
+            squaredDeviations = squaredDeviations
+                    .add(delta.multiply(value.subtract(mean, MathContext.DECIMAL64), MathContext.DECIMAL64));
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public BigDecimal getSum() {
+            return sum;
+        }
+
+        public @Nullable HistoricItem getMinimum() {
+            return minimum;
+        }
+
+        public @Nullable HistoricItem getMaximum() {
+            return maximum;
+        }
+
+        public @Nullable BigDecimal getMean() {
+            return valueCount > 0 ? mean : null;
+        }
+
+        /**
+         * Gets the variance of the collected values around the given average, which is the time weighted average
+         * rather than the mean of the values.
+         */
+        public @Nullable BigDecimal getVariance(BigDecimal average) {
+            if (valueCount == 0) {
+                return null;
+            }
+            BigDecimal n = BigDecimal.valueOf(valueCount);
+            BigDecimal offset = mean.subtract(average, MathContext.DECIMAL64);
+            return squaredDeviations.add(n.multiply(offset.pow(2, MathContext.DECIMAL64), MathContext.DECIMAL64))
+                    .divide(n, MathContext.DECIMAL64);
+        }
+    }
+
     private static class RetimedHistoricItem implements HistoricItem {
 
         private final HistoricItem originItem;
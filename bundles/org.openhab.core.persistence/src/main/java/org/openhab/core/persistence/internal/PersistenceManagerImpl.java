@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -101,6 +102,9 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
 
     private final ReadyMarker marker = new ReadyMarker("persistence", "restore");
 
+    // the timeout for retrieving the persisted states of all items from a single service
+    private static final long BULK_RESTORE_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
     // the scheduler used for timer events
     private final CronScheduler cronScheduler;
     private final Scheduler scheduler;
@@ -108,6 +112,8 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
     private final SafeCaller safeCaller;
     private final ReadyService readyService;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
+    private final RecentHistoryCache recentHistoryCache;
+    private final PersistenceWriteBehind writeBehind;
 
     private volatile boolean started = false;
 
@@ -117,13 +123,17 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
     public PersistenceManagerImpl(final @Reference CronScheduler cronScheduler, final @Reference Scheduler scheduler,
             final @Reference ItemRegistry itemRegistry, final @Reference SafeCaller safeCaller,
             final @Reference ReadyService readyService,
-            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry) {
+            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry,
+            final @Reference RecentHistoryCache recentHistoryCache,
+            final @Reference PersistenceWriteBehind writeBehind) {
         this.cronScheduler = cronScheduler;
         this.scheduler = scheduler;
         this.itemRegistry = itemRegistry;
         this.safeCaller = safeCaller;
         this.readyService = readyService;
         this.persistenceServiceConfigurationRegistry = persistenceServiceConfigurationRegistry;
+        this.recentHistoryCache = recentHistoryCache;
+        this.writeBehind = writeBehind;
 
         persistenceServiceConfigurationRegistry.addRegistryChangeListener(this);
         readyService.registerTracker(this, new ReadyMarkerFilter().withType(StartLevelService.STARTLEVEL_MARKER_TYPE)
@@ -152,6 +162,8 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                 persistenceServiceConfigurationRegistry.get(serviceId));
 
         PersistenceServiceContainer oldContainer = persistenceServiceContainers.put(serviceId, container);
+        recentHistoryCache.invalidate(serviceId);
+        writeBehind.flush(serviceId);
 
         if (oldContainer != null) { // cancel all jobs if the persistence service is set and an old configuration is
                                     // already present
@@ -166,6 +178,8 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
 
     protected void removePersistenceService(PersistenceService persistenceService) {
         PersistenceServiceContainer container = persistenceServiceContainers.remove(persistenceService.getId());
+        recentHistoryCache.invalidate(persistenceService.getId());
+        writeBehind.flush(persistenceService.getId());
         if (container != null) {
             container.cancelPersistJobs();
             container.cancelForecastJobs();
@@ -188,7 +202,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                         .filter(itemConfig -> itemConfig.filters().stream().allMatch(filter -> filter.apply(item)))
                         .forEach(itemConfig -> {
                             itemConfig.filters().forEach(filter -> filter.persisted(item));
-                            container.getPersistenceService().store(item, container.getAlias(item));
+                            container.store(item);
                         }));
     }
 
@@ -292,6 +306,33 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         serviceContainer.schedulePersistJobs();
     }
 
+    /**
+     * Starts the event handling for several persistence services. The states are restored in parallel for all
+     * services, because each of them may need some time to retrieve the persisted states of all items.
+     *
+     * @param serviceContainers the containers of the persistence services
+     */
+    private void startEventHandling(Collection<PersistenceServiceContainer> serviceContainers) {
+        if (serviceContainers.size() <= 1) {
+            serviceContainers.forEach(this::startEventHandling);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(serviceContainers.size(),
+                new NamedThreadFactory("persistenceManager-restore"));
+        try {
+            CompletableFuture.allOf(serviceContainers.stream()
+                    .map(container -> CompletableFuture.runAsync(() -> startEventHandling(container), executor)
+                            .exceptionally(e -> {
+                                logger.warn("Failed to start event handling for persistence service '{}': {}",
+                                        container.getPersistenceService().getId(), e.getMessage(), e);
+                                return null;
+                            }))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     // ItemStateChangeListener methods
 
     @Override
@@ -327,7 +368,10 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
 
     @Override
     public void removed(Item item) {
-        persistenceServiceContainers.values().forEach(container -> container.removeItem(item.getName()));
+        persistenceServiceContainers.values().forEach(container -> {
+            container.removeItem(item.getName());
+            recentHistoryCache.invalidate(container.getPersistenceService().getId(), item.getName(), Instant.now());
+        });
         if (item instanceof GenericItem genericItem) {
             genericItem.removeStateChangeListener(this);
             genericItem.removeTimeSeriesListener(this);
@@ -364,6 +408,9 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                         .distinct().filter(itemConfig -> appliesToItem(itemConfig, item)).forEach(itemConfig -> {
                             ModifiablePersistenceService service = (ModifiablePersistenceService) container
                                     .getPersistenceService();
+                            recentHistoryCache.invalidate(service.getId(), item.getName(), timeSeries.getEnd());
+                            // queued states must not be stored after the time series
+                            writeBehind.flush(service.getId());
                             // remove old values if replace selected
                             if (timeSeries.getPolicy() == TimeSeries.Policy.REPLACE) {
                                 ZonedDateTime begin = timeSeries.getBegin().atZone(ZoneId.systemDefault());
@@ -399,7 +446,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         ExecutorService scheduler = Executors.newSingleThreadExecutor(new NamedThreadFactory("persistenceManager"));
         scheduler.submit(() -> {
             allItemsChanged(Set.of());
-            persistenceServiceContainers.values().forEach(this::startEventHandling);
+            startEventHandling(persistenceServiceContainers.values());
             started = true;
             readyService.markReady(marker);
             itemRegistry.addRegistryChangeListener(this);
@@ -442,12 +489,40 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
 
     @Override
     public void handleExternalPersistenceDataChange(PersistenceService persistenceService, Item item) {
+        invalidateRecentHistory(persistenceService, item);
         persistenceServiceContainers.values().stream()
                 .filter(container -> container.persistenceService.equals(persistenceService) && container
                         .getMatchingConfigurations(FORECAST).anyMatch(itemConf -> appliesToItem(itemConf, item)))
                 .forEach(container -> container.scheduleNextPersistedForecastForItem(item.getName()));
     }
 
+    @Override
+    public void flush(String serviceId) {
+        writeBehind.flush(serviceId);
+    }
+
+    /**
+     * Drops the cached recent history of an item after its persisted data was modified externally. As the modified
+     * period is unknown, the newest persisted state is queried to find out which period may not be answered from the
+     * cache anymore.
+     *
+     * @param persistenceService the persistence service that was modified
+     * @param item the item
+     */
+    private void invalidateRecentHistory(PersistenceService persistenceService, Item item) {
+        String serviceId = persistenceService.getId();
+        if (!recentHistoryCache.isEnabled(serviceId)
+                || !(persistenceService instanceof QueryablePersistenceService queryService)) {
+            return;
+        }
+        PersistenceServiceContainer container = persistenceServiceContainers.get(serviceId);
+        String alias = container != null ? container.getAlias(item) : null;
+        FilterCriteria filter = new FilterCriteria().setItemName(item.getName()).setPageSize(1);
+        Iterator<HistoricItem> it = queryService.query(filter, alias).iterator();
+        Instant until = it.hasNext() ? it.next().getTimestamp().toInstant() : Instant.now();
+        recentHistoryCache.invalidate(serviceId, item.getName(), until);
+    }
+
     private class PersistenceServiceContainer {
         private final PersistenceService persistenceService;
         private final Set<ScheduledCompletableFuture<?>> persistJobs = new HashSet<>();
@@ -495,6 +570,19 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
             }).stream());
         }
 
+        /**
+         * Stores the current state of an item, either directly or through the write-behind queue of the service.
+         *
+         * @param item the item to store
+         */
+        public void store(Item item) {
+            String alias = getAlias(item);
+            if (!writeBehind.store(persistenceService, item, alias)) {
+                persistenceService.store(item, alias);
+            }
+            recentHistoryCache.stored(persistenceService.getId(), item);
+        }
+
         public @Nullable String getAlias(Item item) {
             return configuration.getAliases().get(item.getName());
         }
@@ -545,24 +633,49 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         }
 
         public void restoreStatesAndScheduleForecastJobs() {
-            itemRegistry.getItems().forEach(this::addItem);
+            if (!(persistenceService instanceof QueryablePersistenceService queryService)) {
+                return;
+            }
+            Collection<Item> items = itemRegistry.getItems();
+            List<Item> restoreItems = items.stream().filter(this::isRestoreRequired).toList();
+            Map<String, PersistedItem> persistedItems = restoreItems.isEmpty() ? Map.of()
+                    : queryPersistedItems(queryService, restoreItems);
+            if (persistedItems != null) {
+                restoreItems.forEach(item -> {
+                    PersistedItem persistedItem = persistedItems.get(item.getName());
+                    if (persistedItem != null) {
+                        restoreItemState(item, persistedItem);
+                    }
+                });
+            } else {
+                // bulk retrieval not supported or failed, query the items one by one
+                restoreItems.forEach(this::restoreItemStateIfPossible);
+            }
+            items.stream().filter(this::isForecastRequired)
+                    .forEach(item -> scheduleNextPersistedForecastForItem(item.getName()));
         }
 
         public void addItem(Item item) {
             if (persistenceService instanceof QueryablePersistenceService) {
-                if (UnDefType.NULL.equals(item.getState())
-                        && (getMatchingConfigurations(RESTORE)
-                                .anyMatch(configuration -> appliesToItem(configuration, item)))
-                        || getMatchingConfigurations(FORECAST)
-                                .anyMatch(configuration -> appliesToItem(configuration, item))) {
+                if (isRestoreRequired(item)) {
                     restoreItemStateIfPossible(item);
                 }
-                if (getMatchingConfigurations(FORECAST).anyMatch(configuration -> appliesToItem(configuration, item))) {
+                if (isForecastRequired(item)) {
                     scheduleNextPersistedForecastForItem(item.getName());
                 }
             }
         }
 
+        private boolean isRestoreRequired(Item item) {
+            return UnDefType.NULL.equals(item.getState())
+                    && getMatchingConfigurations(RESTORE).anyMatch(configuration -> appliesToItem(configuration, item))
+                    || isForecastRequired(item);
+        }
+
+        private boolean isForecastRequired(Item item) {
+            return getMatchingConfigurations(FORECAST).anyMatch(configuration -> appliesToItem(configuration, item));
+        }
+
         public void removeItem(String itemName) {
             ScheduledCompletableFuture<?> job = forecastJobs.remove(itemName);
             if (job != null) {
@@ -586,39 +699,60 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                 // in case of an exception or timeout, the safe caller returns null
                 return;
             }
-            GenericItem genericItem = (GenericItem) item;
-            State state = item.getState();
-            State lastState = null;
-            ZonedDateTime lastStateUpdate = null;
-            ZonedDateTime lastStateChange = null;
-            if (UnDefType.NULL.equals(state)) {
-                state = persistedItem.getState();
-                lastState = persistedItem.getLastState();
-                lastStateUpdate = persistedItem.getTimestamp();
-                lastStateChange = persistedItem.getLastStateChange();
-            } else {
-                // someone else already restored the state or a new state was set
-                // try restoring the previous state if not yet set
-                if (item.getLastState() != null && item.getLastState() != UnDefType.NULL) {
-                    // there is already a previous state, nothing to restore
-                    return;
-                }
-                lastStateUpdate = item.getLastStateUpdate();
-                if (state.equals(persistedItem.getState())) {
+            restoreItemState(item, persistedItem);
+        }
+
+        private @Nullable Map<String, PersistedItem> queryPersistedItems(QueryablePersistenceService queryService,
+                List<Item> items) {
+            List<String> itemNames = items.stream().map(Item::getName).toList();
+            return safeCaller.create(queryService, QueryablePersistenceService.class)
+                    .withTimeout(BULK_RESTORE_TIMEOUT)
+                    .onTimeout(() -> logger.warn(
+                            "Querying persistence service '{}' to restore {} items takes more than {}ms.",
+                            queryService.getId(), itemNames.size(), BULK_RESTORE_TIMEOUT))
+                    .onException(e -> logger.error(
+                            "Exception occurred while querying persistence service '{}' to restore {} items: {}",
+                            queryService.getId(), itemNames.size(), e.getMessage(), e))
+                    .build().persistedItems(itemNames, configuration.getAliases());
+        }
+
+        private void restoreItemState(Item item, PersistedItem persistedItem) {
+            // the same item might be restored from several services in parallel
+            synchronized (item) {
+                GenericItem genericItem = (GenericItem) item;
+                State state = item.getState();
+                State lastState = null;
+                ZonedDateTime lastStateUpdate = null;
+                ZonedDateTime lastStateChange = null;
+                if (UnDefType.NULL.equals(state)) {
+                    state = persistedItem.getState();
                     lastState = persistedItem.getLastState();
+                    lastStateUpdate = persistedItem.getTimestamp();
                     lastStateChange = persistedItem.getLastStateChange();
                 } else {
-                    lastState = persistedItem.getState();
-                    lastStateChange = item.getLastStateChange();
+                    // someone else already restored the state or a new state was set
+                    // try restoring the previous state if not yet set
+                    if (item.getLastState() != null && item.getLastState() != UnDefType.NULL) {
+                        // there is already a previous state, nothing to restore
+                        return;
+                    }
+                    lastStateUpdate = item.getLastStateUpdate();
+                    if (state.equals(persistedItem.getState())) {
+                        lastState = persistedItem.getLastState();
+                        lastStateChange = persistedItem.getLastStateChange();
+                    } else {
+                        lastState = persistedItem.getState();
+                        lastStateChange = item.getLastStateChange();
+                    }
+                }
+                genericItem.removeStateChangeListener(PersistenceManagerImpl.this);
+                genericItem.setState(state, lastState, lastStateUpdate, lastStateChange);
+                genericItem.addStateChangeListener(PersistenceManagerImpl.this);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Restored item state from '{}' for item '{}' -> '{}'",
+                            DateTimeFormatter.ISO_ZONED_DATE_TIME.format(persistedItem.getTimestamp()), item.getName(),
+                            persistedItem.getState());
                 }
-            }
-            genericItem.removeStateChangeListener(PersistenceManagerImpl.this);
-            genericItem.setState(state, lastState, lastStateUpdate, lastStateChange);
-            genericItem.addStateChangeListener(PersistenceManagerImpl.this);
-            if (logger.isDebugEnabled()) {
-                logger.debug("Restored item state from '{}' for item '{}' -> '{}'",
-                        DateTimeFormatter.ISO_ZONED_DATE_TIME.format(persistedItem.getTimestamp()), item.getName(),
-                        persistedItem.getState());
             }
         }
 
@@ -669,7 +803,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                     if (itemConfig.filters().stream().allMatch(filter -> filter.apply(item))) {
                         long startTime = System.nanoTime();
                         itemConfig.filters().forEach(filter -> filter.persisted(item));
-                        persistenceService.store(item, getAlias(item));
+                        store(item);
                         logger.trace("Storing item '{}' with persistence service '{}' took {}ms", item.getName(),
                                 configuration.getUID(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
                     }
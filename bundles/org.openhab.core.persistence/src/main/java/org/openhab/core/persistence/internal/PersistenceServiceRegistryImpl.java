@@ -102,7 +102,9 @@ public class PersistenceServiceRegistryImpl implements ConfigOptionProvider, Per
     @Override
     public @Nullable Collection<ParameterOption> getParameterOptions(URI uri, String param, @Nullable String context,
             @Nullable Locale locale) {
-        if (CONFIG_URI.equals(uri.toString()) && CONFIG_DEFAULT.equals(param)) {
+        if (CONFIG_URI.equals(uri.toString())
+                && (CONFIG_DEFAULT.equals(param) || RecentHistoryCache.CONFIG_SERVICES.equals(param)
+                        || PersistenceWriteBehind.CONFIG_SERVICES.equals(param))) {
             Set<ParameterOption> options = new HashSet<>();
             for (PersistenceService service : getAll()) {
                 options.add(new ParameterOption(service.getId(), service.getLabel(locale)));
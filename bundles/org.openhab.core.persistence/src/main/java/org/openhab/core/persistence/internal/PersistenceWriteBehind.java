@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.ModifiablePersistenceService;
+import org.openhab.core.persistence.PersistenceBatchEntry;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceWriteBehindStatistics;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PersistenceWriteBehind} decouples storing item states from the event handling of the
+ * {@link PersistenceManagerImpl}. The states are put into a bounded queue per persistence service and passed to
+ * {@link ModifiablePersistenceService#storeBatch(List)} by a background thread, either when a batch is full or when the
+ * oldest state has been waiting for the configured delay.
+ * <p>
+ * Write-behind is disabled by default and has to be enabled for each persistence service. The batch size, delay,
+ * queue size and overflow policy can be overridden for a single service by appending <code>.&lt;serviceId&gt;</code>
+ * to the configuration parameter name.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(service = { PersistenceWriteBehind.class,
+        PersistenceWriteBehindStatistics.class }, configurationPid = "org.openhab.persistence")
+@NonNullByDefault
+public class PersistenceWriteBehind implements PersistenceWriteBehindStatistics {
+
+    // constants for the configuration properties
+    static final String CONFIG_SERVICES = "writeBehindServices";
+    static final String CONFIG_BATCH_SIZE = "writeBehindBatchSize";
+    static final String CONFIG_MAX_DELAY = "writeBehindMaxDelay";
+    static final String CONFIG_QUEUE_SIZE = "writeBehindQueueSize";
+    static final String CONFIG_OVERFLOW_POLICY = "writeBehindOverflowPolicy";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_DELAY = 1000;
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+
+    private static final String THREAD_POOL_NAME = "persistence";
+
+    /**
+     * Defines what happens to a new state if the queue of a persistence service is full.
+     */
+    enum OverflowPolicy {
+        /** wait until there is space in the queue, which slows down the event handling */
+        BLOCK,
+        /** drop the oldest queued state */
+        DROP_OLDEST,
+        /** drop the new state */
+        DROP_NEWEST
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(PersistenceWriteBehind.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Stage> stages = new ConcurrentHashMap<>();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong batchedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile Map<String, Object> config = Map.of();
+    private volatile Set<String> serviceIds = Set.of();
+
+    @Activate
+    public PersistenceWriteBehind(Map<String, Object> config) {
+        this(ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME), config);
+    }
+
+    PersistenceWriteBehind(ScheduledExecutorService scheduler, Map<String, Object> config) {
+        this.scheduler = scheduler;
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        this.config = Map.copyOf(config);
+        Object services = config.get(CONFIG_SERVICES);
+        if (services instanceof Iterable<?> iterable) {
+            Set<String> ids = new HashSet<>();
+            iterable.forEach(id -> ids.add(id.toString().trim()));
+            serviceIds = Set.copyOf(ids);
+        } else if (services instanceof String string) {
+            serviceIds = Arrays.stream(string.split(",")).map(String::trim).filter(id -> !id.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        } else {
+            serviceIds = Set.of();
+        }
+        // the next state replaces the stages with ones using the new configuration
+        flushAll();
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        flushAll();
+    }
+
+    /**
+     * Queues the current state of an item to be stored to a persistence service, if write-behind is enabled for the
+     * service.
+     *
+     * @param service the persistence service
+     * @param item the item
+     * @param alias the alias under which the item should be persisted
+     * @return <code>true</code> if the state has been queued, <code>false</code> if the caller has to store it
+     */
+    public boolean store(PersistenceService service, Item item, @Nullable String alias) {
+        if (!(service instanceof ModifiablePersistenceService modifiableService)
+                || !serviceIds.contains(service.getId())) {
+            return false;
+        }
+        PersistenceBatchEntry entry = new PersistenceBatchEntry(item, ZonedDateTime.now(), item.getState(), alias);
+        while (true) {
+            Stage stage = stages.compute(service.getId(), (id, existing) -> {
+                Map<String, Object> currentConfig = config;
+                if (existing != null && existing.service == modifiableService && existing.config == currentConfig) {
+                    return existing;
+                }
+                if (existing != null) {
+                    // stores the remaining states before the new stage can accept any
+                    existing.retire();
+                }
+                return new Stage(modifiableService, currentConfig);
+            });
+            if (stage.add(entry)) {
+                return true;
+            }
+            // the stage has been replaced in the meantime, queue the state in its successor
+        }
+    }
+
+    /**
+     * Stores all queued states of a persistence service immediately, e.g. because the service is about to be removed
+     * or other modifications of the persisted data depend on them.
+     *
+     * @param serviceId the persistence service id
+     */
+    public void flush(String serviceId) {
+        // the stage is drained in place: removing it would allow a concurrent store() to create a second stage for the
+        // same service, which could then store states concurrently and out of order
+        Stage stage = stages.get(serviceId);
+        if (stage != null) {
+            stage.flush();
+        }
+    }
+
+    private void flushAll() {
+        Set.copyOf(stages.keySet()).forEach(this::flush);
+    }
+
+    @Override
+    public int getQueuedCount() {
+        return stages.values().stream().mapToInt(stage -> stage.queue.size()).sum();
+    }
+
+    @Override
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    @Override
+    public long getBatchedCount() {
+        return batchedCount.get();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public long getQueueLag() {
+        long now = System.nanoTime();
+        return stages.values().stream().mapToLong(stage -> {
+            QueuedEntry oldest = stage.queue.peek();
+            return oldest != null ? TimeUnit.NANOSECONDS.toMillis(now - oldest.queued()) : 0;
+        }).max().orElse(0);
+    }
+
+    private static int getInt(Map<String, Object> config, String key, String serviceId, int defaultValue) {
+        Integer value = ConfigParser.valueAs(config.get(key + "." + serviceId), Integer.class);
+        return value != null ? value : ConfigParser.valueAsOrElse(config.get(key), Integer.class, defaultValue);
+    }
+
+    private OverflowPolicy getOverflowPolicy(Map<String, Object> config, String serviceId) {
+        String value = ConfigParser.valueAs(config.get(CONFIG_OVERFLOW_POLICY + "." + serviceId), String.class);
+        if (value == null) {
+            value = ConfigParser.valueAsOrElse(config.get(CONFIG_OVERFLOW_POLICY), String.class,
+                    OverflowPolicy.BLOCK.name());
+        }
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown write-behind overflow policy '{}' for persistence service '{}', using '{}'.", value,
+                    serviceId, OverflowPolicy.BLOCK);
+            return OverflowPolicy.BLOCK;
+        }
+    }
+
+    private record QueuedEntry(PersistenceBatchEntry entry, long queued) {
+    }
+
+    /**
+     * The queue and flush job of a single persistence service.
+     */
+    private class Stage {
+        private final ModifiablePersistenceService service;
+        private final Map<String, Object> config;
+        private final BlockingQueue<QueuedEntry> queue;
+        private final int batchSize;
+        private final long maxDelay;
+        private final OverflowPolicy overflowPolicy;
+        private final Object storeLock = new Object();
+        // held shared while adding states, exclusively to retire the stage
+        private final ReadWriteLock retireLock = new ReentrantReadWriteLock();
+        private boolean retired;
+        private @Nullable ScheduledFuture<?> flushJob;
+
+        Stage(ModifiablePersistenceService service, Map<String, Object> config) {
+            String serviceId = service.getId();
+            this.service = service;
+            this.config = config;
+            this.batchSize = Math.max(1, getInt(config, CONFIG_BATCH_SIZE, serviceId, DEFAULT_BATCH_SIZE));
+            this.maxDelay = Math.max(0, getInt(config, CONFIG_MAX_DELAY, serviceId, DEFAULT_MAX_DELAY));
+            this.queue = new ArrayBlockingQueue<>(
+                    Math.max(1, getInt(config, CONFIG_QUEUE_SIZE, serviceId, DEFAULT_QUEUE_SIZE)));
+            this.overflowPolicy = getOverflowPolicy(config, serviceId);
+        }
+
+        /**
+         * Queues a state.
+         *
+         * @param entry the state to queue
+         * @return <code>false</code> if the stage has been retired and the state has to be queued in its successor,
+         *         <code>true</code> otherwise (including states dropped because of the overflow policy)
+         */
+        boolean add(PersistenceBatchEntry entry) {
+            retireLock.readLock().lock();
+            try {
+                if (retired) {
+                    return false;
+                }
+                QueuedEntry queuedEntry = new QueuedEntry(entry, System.nanoTime());
+                switch (overflowPolicy) {
+                    case BLOCK:
+                        try {
+                            queue.put(queuedEntry);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            droppedCount.incrementAndGet();
+                            return true;
+                        }
+                        break;
+                    case DROP_OLDEST:
+                        while (!queue.offer(queuedEntry)) {
+                            if (queue.poll() != null) {
+                                droppedCount.incrementAndGet();
+                            }
+                        }
+                        break;
+                    case DROP_NEWEST:
+                        if (!queue.offer(queuedEntry)) {
+                            droppedCount.incrementAndGet();
+                            logger.debug(
+                                    "Write-behind queue of persistence service '{}' is full, dropping state of '{}'.",
+                                    service.getId(), entry.item().getName());
+                            return true;
+                        }
+                        break;
+                }
+                scheduleFlush(queue.size() >= batchSize);
+                return true;
+            } finally {
+                retireLock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Rejects all further states and stores the queued ones in the calling thread. Used when the stage is
+         * replaced, so that the states of the old stage are stored before those of the new one.
+         */
+        void retire() {
+            retireLock.writeLock().lock();
+            try {
+                retired = true;
+            } finally {
+                retireLock.writeLock().unlock();
+            }
+            flush();
+        }
+
+        private synchronized void scheduleFlush(boolean immediately) {
+            ScheduledFuture<?> job = flushJob;
+            if (job != null) {
+                // a flush is scheduled or running, it reschedules itself if states are left in the queue
+                if (!immediately || job.getDelay(TimeUnit.MILLISECONDS) <= 0 || !job.cancel(false)) {
+                    return;
+                }
+            }
+            if (immediately) {
+                flushJob = scheduler.schedule(() -> runFlush(false), 0, TimeUnit.MILLISECONDS);
+            } else {
+                QueuedEntry oldest = queue.peek();
+                long waiting = oldest != null ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.queued()) : 0;
+                flushJob = scheduler.schedule(() -> runFlush(true), Math.max(0, maxDelay - waiting),
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void runFlush(boolean all) {
+            storeQueued(all);
+            synchronized (this) {
+                flushJob = null;
+                if (!queue.isEmpty()) {
+                    scheduleFlush(queue.size() >= batchSize);
+                }
+            }
+        }
+
+        /**
+         * Cancels the flush job and stores all queued states in the calling thread.
+         */
+        void flush() {
+            synchronized (this) {
+                ScheduledFuture<?> job = flushJob;
+                if (job != null) {
+                    job.cancel(false);
+                    flushJob = null;
+                }
+            }
+            storeQueued(true);
+        }
+
+        /**
+         * Stores the queued states in batches.
+         *
+         * @param all <code>true</code> to store all states, <code>false</code> to store full batches only
+         */
+        private void storeQueued(boolean all) {
+            // not synchronized on the stage, so that new states can be queued while a batch is stored
+            synchronized (storeLock) {
+                List<QueuedEntry> drained = new ArrayList<>(batchSize);
+                while ((all || queue.size() >= batchSize) && queue.drainTo(drained, batchSize) > 0) {
+                    List<PersistenceBatchEntry> batch = drained.stream().map(QueuedEntry::entry).toList();
+                    try {
+                        service.storeBatch(batch);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to store {} states to persistence service '{}': {}", batch.size(),
+                                service.getId(), e.getMessage(), e);
+                    }
+                    batchCount.incrementAndGet();
+                    batchedCount.addAndGet(batch.size());
+                    drained.clear();
+                }
+            }
+        }
+    }
+}
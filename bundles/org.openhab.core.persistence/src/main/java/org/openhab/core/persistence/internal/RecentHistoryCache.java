@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * The {@link RecentHistoryCache} keeps the most recent states stored to a persistence service in a bounded ring buffer
+ * per item. Queries that only touch this recent history (e.g. <code>previousState</code> or
+ * <code>historicState</code> a few minutes back) are answered locally, all other queries must be passed on to the
+ * persistence service.
+ * <p>
+ * The cache only knows about states stored through the {@link PersistenceManagerImpl} and the persistence extensions.
+ * Every other modification of the persisted data must invalidate the affected item. The cache is disabled by default
+ * and has to be enabled for each persistence service separately, because services that aggregate or round the stored
+ * values would otherwise return different results for the same query.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(service = RecentHistoryCache.class, configurationPid = "org.openhab.persistence")
+@NonNullByDefault
+public class RecentHistoryCache {
+
+    // constants for the configuration properties
+    static final String CONFIG_SIZE = "recentHistorySize";
+    static final String CONFIG_SERVICES = "recentHistoryServices";
+
+    private final Map<String, Map<String, ItemHistory>> histories = new ConcurrentHashMap<>();
+    private final Map<String, Instant> invalidatedUntil = new ConcurrentHashMap<>();
+
+    private volatile int size = 0;
+    private volatile Set<String> serviceIds = Set.of();
+
+    @Activate
+    public RecentHistoryCache(Map<String, Object> config) {
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        size = Math.max(0, ConfigParser.valueAsOrElse(config.get(CONFIG_SIZE), Integer.class, 0));
+        Object services = config.get(CONFIG_SERVICES);
+        if (services instanceof Iterable<?> iterable) {
+            Set<String> ids = new HashSet<>();
+            iterable.forEach(id -> ids.add(id.toString().trim()));
+            serviceIds = Set.copyOf(ids);
+        } else if (services instanceof String string) {
+            serviceIds = Arrays.stream(string.split(",")).map(String::trim).filter(id -> !id.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        } else {
+            serviceIds = Set.of();
+        }
+        histories.clear();
+        invalidatedUntil.clear();
+    }
+
+    /**
+     * Checks if states stored to the given persistence service are kept in the cache.
+     *
+     * @param serviceId the persistence service id
+     * @return <code>true</code> if the cache is enabled for this service
+     */
+    public boolean isEnabled(String serviceId) {
+        return size > 0 && serviceIds.contains(serviceId);
+    }
+
+    /**
+     * Records that the current state of an item has been stored to a persistence service.
+     *
+     * @param serviceId the persistence service id
+     * @param item the item that has been stored
+     */
+    public void stored(String serviceId, Item item) {
+        if (!isEnabled(serviceId)) {
+            return;
+        }
+        State state = item.getState();
+        if (state instanceof UnDefType) {
+            // persistence services do not store undefined states
+            return;
+        }
+        Instant now = Instant.now();
+        histories.computeIfAbsent(serviceId, id -> new ConcurrentHashMap<>()).computeIfAbsent(item.getName(), name -> {
+            Instant until = invalidatedUntil.remove(key(serviceId, name));
+            return new ItemHistory(size, until != null && until.isAfter(now) ? until : now);
+        }).add(now.toEpochMilli(), state);
+    }
+
+    /**
+     * Drops the cached states of an item, e.g. because the persisted data was modified without the cache knowing the
+     * details.
+     *
+     * @param serviceId the persistence service id
+     * @param itemName the name of the item
+     * @param until the latest point in time that may have been affected by the modification, states persisted up to
+     *            this point in time will never be answered from the cache
+     */
+    public void invalidate(String serviceId, String itemName, Instant until) {
+        Map<String, ItemHistory> serviceHistories = histories.get(serviceId);
+        if (serviceHistories != null) {
+            serviceHistories.remove(itemName);
+        }
+        if (isEnabled(serviceId) && until.isAfter(Instant.now())) {
+            invalidatedUntil.merge(key(serviceId, itemName), until, (a, b) -> a.isAfter(b) ? a : b);
+        }
+    }
+
+    /**
+     * Drops all cached states of a persistence service.
+     *
+     * @param serviceId the persistence service id
+     */
+    public void invalidate(String serviceId) {
+        histories.remove(serviceId);
+        invalidatedUntil.keySet().removeIf(key -> key.startsWith(serviceId + ":"));
+    }
+
+    /**
+     * Tries to answer a query from the cache.
+     *
+     * @param serviceId the persistence service id
+     * @param filter the filter of the query
+     * @return the matching historic items or <code>null</code> if the query must be passed on to the persistence
+     *         service
+     */
+    public @Nullable List<HistoricItem> query(String serviceId, FilterCriteria filter) {
+        String itemName = filter.getItemName();
+        ZonedDateTime endDate = filter.getEndDate();
+        if (itemName == null || endDate == null || filter.getState() != null) {
+            return null;
+        }
+        Map<String, ItemHistory> serviceHistories = histories.get(serviceId);
+        ItemHistory history = serviceHistories != null ? serviceHistories.get(itemName) : null;
+        if (history == null || endDate.toInstant().isAfter(Instant.now())) {
+            return null;
+        }
+        ZonedDateTime beginDate = filter.getBeginDate();
+        return history.query(itemName, beginDate != null ? beginDate.toInstant().toEpochMilli() : Long.MIN_VALUE,
+                endDate.toInstant().toEpochMilli(), filter, endDate.getZone());
+    }
+
+    private static String key(String serviceId, String itemName) {
+        return serviceId + ":" + itemName;
+    }
+
+    /**
+     * A ring buffer of the most recent states of a single item. All states stored after {@link #coveredAfter} are
+     * known.
+     */
+    private static class ItemHistory {
+        private final long[] timestamps;
+        private final State[] states;
+        private int head = 0;
+        private int count = 0;
+        private long coveredAfter;
+
+        ItemHistory(int size, Instant coveredAfter) {
+            this.timestamps = new long[size];
+            this.states = new State[size];
+            this.coveredAfter = coveredAfter.toEpochMilli();
+        }
+
+        synchronized void add(long timestamp, State state) {
+            int index = (head + count) % timestamps.length;
+            if (count == timestamps.length) {
+                coveredAfter = timestamps[head];
+                head = (head + 1) % timestamps.length;
+            } else {
+                count++;
+            }
+            timestamps[index] = timestamp;
+            states[index] = state;
+        }
+
+        synchronized @Nullable List<HistoricItem> query(String itemName, long begin, long end, FilterCriteria filter,
+                ZoneId zone) {
+            long offset = (long) filter.getPageNumber() * filter.getPageSize();
+            List<HistoricItem> result = new ArrayList<>();
+            if (begin > coveredAfter) {
+                collect(itemName, begin, end, filter.getOrdering(), offset, filter.getPageSize(), zone, result);
+                return result;
+            }
+            // the beginning of the requested period is not cached, so only a page of the most recent states can be
+            // answered, and only if it is completely filled with states known to the cache
+            if (filter.getOrdering() != Ordering.DESCENDING || offset + filter.getPageSize() > count) {
+                return null;
+            }
+            collect(itemName, coveredAfter + 1, end, Ordering.DESCENDING, offset, filter.getPageSize(), zone, result);
+            return result.size() == filter.getPageSize() ? result : null;
+        }
+
+        private void collect(String itemName, long begin, long end, Ordering ordering, long offset, int pageSize,
+                ZoneId zone, List<HistoricItem> result) {
+            long skipped = 0;
+            for (int i = 0; i < count && result.size() < pageSize; i++) {
+                int index = ordering == Ordering.ASCENDING ? (head + i) % timestamps.length
+                        : (head + count - 1 - i) % timestamps.length;
+                long timestamp = timestamps[index];
+                if (timestamp < begin || timestamp > end) {
+                    continue;
+                }
+                if (skipped++ < offset) {
+                    continue;
+                }
+                result.add(new CachedHistoricItem(itemName, states[index],
+                        ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamp), zone)));
+            }
+        }
+    }
+
+    private record CachedHistoricItem(String name, State state, ZonedDateTime timestamp) implements HistoricItem {
+        @Override
+        public ZonedDateTime getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public State getState() {
+            return state;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link HistoricItemDownsamplerTest} contains tests for {@link HistoricItemDownsampler}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HistoricItemDownsamplerTest {
+    private static final Instant BEGIN = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant END = BEGIN.plusSeconds(1000);
+
+    @Test
+    public void testSeriesIsReducedToMaxPoints() {
+        List<HistoricItem> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(historicItem(BEGIN.plusSeconds(i), new DecimalType(i % 7)));
+        }
+
+        List<HistoricItem> result = HistoricItemDownsampler.downsample(items, BEGIN, END, 40);
+
+        assertThat(result, hasSize(lessThanOrEqualTo(40)));
+        assertThat(result.getFirst(), is(items.getFirst()));
+        assertThat(result.getLast(), is(items.getLast()));
+        for (int i = 1; i < result.size(); i++) {
+            assertThat(result.get(i).getInstant(), greaterThan(result.get(i - 1).getInstant()));
+        }
+    }
+
+    @Test
+    public void testExtremaArePreserved() {
+        List<HistoricItem> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int value = i == 333 ? 100 : i == 666 ? -100 : 0;
+            items.add(historicItem(BEGIN.plusSeconds(i), new DecimalType(value)));
+        }
+
+        List<HistoricItem> result = HistoricItemDownsampler.downsample(items, BEGIN, END, 8);
+
+        assertThat(result, hasItem(items.get(333)));
+        assertThat(result, hasItem(items.get(666)));
+    }
+
+    @Test
+    public void testSparseSeriesIsUnchanged() {
+        List<HistoricItem> items = List.of(historicItem(BEGIN, new DecimalType(1)),
+                historicItem(BEGIN.plusSeconds(500), new DecimalType(2)),
+                historicItem(END, new DecimalType(3)));
+
+        assertThat(HistoricItemDownsampler.downsample(items, BEGIN, END, 100), is(items));
+    }
+
+    @Test
+    public void testNonNumericStatesKeepFirstAndLastOfBucket() {
+        List<HistoricItem> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(historicItem(BEGIN.plusSeconds(i), new StringType("value" + i)));
+        }
+
+        List<HistoricItem> result = HistoricItemDownsampler.downsample(items, BEGIN, END, 4);
+
+        assertThat(result, contains(items.getFirst(), items.getLast()));
+    }
+
+    @Test
+    public void testFewerPointsThanPerBucketAreNotExceeded() {
+        List<HistoricItem> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(historicItem(BEGIN.plusSeconds(i), new DecimalType(i % 7)));
+        }
+
+        for (int maxPoints = 1; maxPoints < HistoricItemDownsampler.POINTS_PER_BUCKET; maxPoints++) {
+            List<HistoricItem> result = HistoricItemDownsampler.downsample(items, BEGIN, END, maxPoints);
+            assertThat(result, hasSize(maxPoints));
+            assertThat(result.getLast(), is(items.getLast()));
+        }
+    }
+
+    @Test
+    public void testInvalidMaxPointsIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new HistoricItemDownsampler(BEGIN, END, 0));
+    }
+
+    private static HistoricItem historicItem(Instant instant, State state) {
+        return new HistoricItem() {
+            @Override
+            public ZonedDateTime getTimestamp() {
+                return instant.atZone(ZoneId.systemDefault());
+            }
+
+            @Override
+            public Instant getInstant() {
+                return instant;
+            }
+
+            @Override
+            public State getState() {
+                return state;
+            }
+
+            @Override
+            public String getName() {
+                return "item";
+            }
+        };
+    }
+}
@@ -17,12 +17,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.closeTo;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.openhab.core.persistence.extensions.TestPersistenceService.*;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
@@ -51,9 +53,11 @@ import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceManager;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.extensions.PersistenceExtensions.RiemannType;
+import org.openhab.core.persistence.internal.PersistenceWriteBehind;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
 import org.openhab.core.types.State;
 
@@ -85,6 +89,7 @@ public class PersistenceExtensionsTest {
     private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
     private @Mock @NonNullByDefault({}) UnitProvider unitProviderMock;
     private @Mock @NonNullByDefault({}) TimeZoneProvider timeZoneProviderMock;
+    private @Mock @NonNullByDefault({}) PersistenceManager persistenceManagerMock;
 
     private @Mock @NonNullByDefault({}) PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistryMock;
 
@@ -3771,6 +3776,35 @@ public class PersistenceExtensionsTest {
         assertNull(historicItem);
     }
 
+    @Test
+    public void testRemoveAllStatesBetweenStoresQueuedStatesFirst() {
+        TestCachedValuesPersistenceService persistenceService = new TestCachedValuesPersistenceService();
+        PersistenceExtensions extensions = createPersistenceExtensions(persistenceService);
+        PersistenceWriteBehind writeBehind = new PersistenceWriteBehind(Map.of("writeBehindServices",
+                TestCachedValuesPersistenceService.ID, "writeBehindMaxDelay", 60000));
+        doAnswer(invocation -> {
+            writeBehind.flush(invocation.getArgument(0));
+            return null;
+        }).when(persistenceManagerMock).flush(anyString());
+        extensions.setPersistenceManager(persistenceManagerMock);
+
+        try {
+            ZonedDateTime now = ZonedDateTime.now();
+            numberItem.setState(new DecimalType(42));
+            assertTrue(writeBehind.store(persistenceService, numberItem, null));
+            assertThat(writeBehind.getQueuedCount(), is(1));
+
+            PersistenceExtensions.removeAllStatesBetween(numberItem, now.minusHours(1), now.plusHours(1),
+                    TestCachedValuesPersistenceService.ID);
+            writeBehind.flush(TestCachedValuesPersistenceService.ID);
+
+            assertThat(PersistenceExtensions.countBetween(numberItem, now.minusHours(1), now.plusHours(1),
+                    TestCachedValuesPersistenceService.ID), is(0L));
+        } finally {
+            extensions.unsetPersistenceManager(persistenceManagerMock);
+        }
+    }
+
     @Test
     public void testRemoveAllStatesBetween() {
         ZonedDateTime now = ZonedDateTime.now();
@@ -3841,12 +3875,80 @@ public class PersistenceExtensionsTest {
         assertNull(historicItem);
     }
 
-    private void createTestCachedValuesPersistenceService(ZonedDateTime now, int historicHours, int futureHours) {
-        // Check that test is relevant and fail if badly configured
-        assertTrue(historicHours == 0 || historicHours > 5);
-        assertTrue(futureHours == 0 || futureHours > 5);
+    @Test
+    public void testStatisticsBetweenQuantityType() {
+        List<List<Integer>> periods = List.of(List.of(HISTORIC_INTERMEDIATE_VALUE_1, HISTORIC_INTERMEDIATE_VALUE_2),
+                List.of(FUTURE_INTERMEDIATE_VALUE_3, FUTURE_INTERMEDIATE_VALUE_4),
+                List.of(HISTORIC_INTERMEDIATE_VALUE_1, FUTURE_INTERMEDIATE_VALUE_3));
+        for (List<Integer> period : periods) {
+            ZonedDateTime begin = ZonedDateTime.of(period.get(0), 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+            ZonedDateTime end = ZonedDateTime.of(period.get(1), 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+
+            HistoricStatistics statistics = PersistenceExtensions.statisticsBetween(quantityItem, begin, end,
+                    SERVICE_ID);
+            assertNotNull(statistics);
+
+            assertEquals(PersistenceExtensions.countBetween(quantityItem, begin, end, SERVICE_ID),
+                    statistics.getCount());
+            assertDecimalEquals(PersistenceExtensions.sumBetween(quantityItem, begin, end, SERVICE_ID),
+                    statistics.getSum());
+            assertDecimalEquals(PersistenceExtensions.averageBetween(quantityItem, begin, end, SERVICE_ID),
+                    statistics.getAverage());
+            assertDecimalEquals(PersistenceExtensions.varianceBetween(quantityItem, begin, end, SERVICE_ID),
+                    statistics.getVariance());
+            assertDecimalEquals(PersistenceExtensions.deviationBetween(quantityItem, begin, end, SERVICE_ID),
+                    statistics.getDeviation());
+            assertDecimalEquals(PersistenceExtensions.riemannSumBetween(quantityItem, begin, end, SERVICE_ID),
+                    statistics.getRiemannSum());
+
+            HistoricItem minimum = PersistenceExtensions.minimumBetween(quantityItem, begin, end, SERVICE_ID);
+            HistoricItem maximum = PersistenceExtensions.maximumBetween(quantityItem, begin, end, SERVICE_ID);
+            assertNotNull(minimum);
+            assertNotNull(maximum);
+            assertNotNull(statistics.getMinimum());
+            assertNotNull(statistics.getMaximum());
+            assertEquals(minimum.getState(), statistics.getMinimum().getState());
+            assertEquals(maximum.getState(), statistics.getMaximum().getState());
+
+            State average = statistics.getAverage();
+            assertNotNull(average);
+            assertEquals(SIUnits.CELSIUS, ((QuantityType<?>) average).getUnit());
+        }
+    }
 
-        TestCachedValuesPersistenceService persistenceService = new TestCachedValuesPersistenceService();
+    @Test
+    public void testStatisticsSinceDecimalType() {
+        ZonedDateTime now = ZonedDateTime.now();
+        createTestCachedValuesPersistenceService(now, 27, 0);
+
+        for (RiemannType type : RiemannType.values()) {
+            ZonedDateTime begin = now.minusHours(26);
+            HistoricStatistics statistics = PersistenceExtensions.statisticsSince(numberItem, begin, type,
+                    TestCachedValuesPersistenceService.ID);
+            assertNotNull(statistics);
+
+            assertEquals(4, statistics.getCount());
+            assertDecimalEquals(new DecimalType(150), statistics.getSum());
+            assertDecimalEquals(PersistenceExtensions.averageSince(numberItem, begin, type,
+                    TestCachedValuesPersistenceService.ID), statistics.getAverage());
+            assertDecimalEquals(PersistenceExtensions.varianceSince(numberItem, begin, type,
+                    TestCachedValuesPersistenceService.ID), statistics.getVariance());
+            assertDecimalEquals(PersistenceExtensions.riemannSumSince(numberItem, begin, type,
+                    TestCachedValuesPersistenceService.ID), statistics.getRiemannSum());
+
+            HistoricItem maximum = statistics.getMaximum();
+            assertNotNull(maximum);
+            assertEquals(new DecimalType(100), maximum.getState());
+            HistoricItem minimum = statistics.getMinimum();
+            assertNotNull(minimum);
+            assertEquals(new DecimalType(0), minimum.getState());
+        }
+    }
+
+    @Test
+    public void testAggregatingPersistenceServiceGivesSameResults() {
+        TestCachedValuesPersistenceService cachedService = new TestCachedValuesPersistenceService();
+        TestAggregatingPersistenceService aggregatingService = new TestAggregatingPersistenceService();
         new PersistenceExtensions(new PersistenceServiceRegistry() {
 
             @Override
@@ -3863,15 +3965,84 @@ public class PersistenceExtensionsTest {
 
             @Override
             public Set<PersistenceService> getAll() {
-                return Set.of(persistenceService);
+                return Set.of(cachedService, aggregatingService);
             }
 
             @Override
             public @Nullable PersistenceService get(@Nullable String serviceId) {
-                return TestCachedValuesPersistenceService.ID.equals(serviceId) ? persistenceService : null;
+                return TestCachedValuesPersistenceService.ID.equals(serviceId) ? cachedService
+                        : TestAggregatingPersistenceService.ID.equals(serviceId) ? aggregatingService : null;
             }
         }, persistenceServiceConfigurationRegistryMock, timeZoneProviderMock);
 
+        ZonedDateTime now = ZonedDateTime.now();
+        int[] values = { 0, 100, 0, 50, 20, 0 };
+        int[] hoursBack = { 27, 26, 25, 3, 2, 1 };
+        for (int i = 0; i < values.length; i++) {
+            cachedService.store(numberItem, now.minusHours(hoursBack[i]), new DecimalType(values[i]));
+            aggregatingService.store(numberItem, now.minusHours(hoursBack[i]), new DecimalType(values[i]));
+        }
+
+        // periods starting before the first state, at a state and between states
+        for (ZonedDateTime begin : List.of(now.minusHours(30), now.minusHours(26), now.minusMinutes(150))) {
+            ZonedDateTime end = now.minusMinutes(30);
+            String expected = TestCachedValuesPersistenceService.ID;
+            String actual = TestAggregatingPersistenceService.ID;
+
+            assertEquals(PersistenceExtensions.countBetween(numberItem, begin, end, expected),
+                    PersistenceExtensions.countBetween(numberItem, begin, end, actual));
+            assertDecimalEquals(PersistenceExtensions.sumBetween(numberItem, begin, end, expected),
+                    PersistenceExtensions.sumBetween(numberItem, begin, end, actual));
+            assertDecimalEquals(PersistenceExtensions.averageBetween(numberItem, begin, end, expected),
+                    PersistenceExtensions.averageBetween(numberItem, begin, end, actual));
+            assertDecimalEquals(PersistenceExtensions.riemannSumBetween(numberItem, begin, end, expected),
+                    PersistenceExtensions.riemannSumBetween(numberItem, begin, end, actual));
+
+            HistoricItem expectedItem = PersistenceExtensions.minimumBetween(numberItem, begin, end, expected);
+            HistoricItem actualItem = PersistenceExtensions.minimumBetween(numberItem, begin, end, actual);
+            assertNotNull(expectedItem);
+            assertNotNull(actualItem);
+            assertDecimalEquals(expectedItem.getState(), actualItem.getState());
+            assertEquals(expectedItem.getTimestamp(), actualItem.getTimestamp());
+
+            expectedItem = PersistenceExtensions.maximumBetween(numberItem, begin, end, expected);
+            actualItem = PersistenceExtensions.maximumBetween(numberItem, begin, end, actual);
+            assertNotNull(expectedItem);
+            assertNotNull(actualItem);
+            assertDecimalEquals(expectedItem.getState(), actualItem.getState());
+            assertEquals(expectedItem.getTimestamp(), actualItem.getTimestamp());
+        }
+        assertThat(aggregatingService.getAggregations(), is(18));
+
+        // only the left Riemann sum is aggregated by the service
+        ZonedDateTime begin = now.minusHours(26);
+        ZonedDateTime end = now.minusMinutes(30);
+        assertDecimalEquals(
+                PersistenceExtensions.riemannSumBetween(numberItem, begin, end, RiemannType.TRAPEZOIDAL,
+                        TestCachedValuesPersistenceService.ID),
+                PersistenceExtensions.riemannSumBetween(numberItem, begin, end, RiemannType.TRAPEZOIDAL,
+                        TestAggregatingPersistenceService.ID));
+        assertThat(aggregatingService.getAggregations(), is(18));
+    }
+
+    private static void assertDecimalEquals(@Nullable State expected, @Nullable State actual) {
+        assertNotNull(expected);
+        assertNotNull(actual);
+        DecimalType expectedValue = expected.as(DecimalType.class);
+        DecimalType actualValue = actual.as(DecimalType.class);
+        assertNotNull(expectedValue);
+        assertNotNull(actualValue);
+        assertThat(actualValue.doubleValue(), is(closeTo(expectedValue.doubleValue(), 0.0001)));
+    }
+
+    private void createTestCachedValuesPersistenceService(ZonedDateTime now, int historicHours, int futureHours) {
+        // Check that test is relevant and fail if badly configured
+        assertTrue(historicHours == 0 || historicHours > 5);
+        assertTrue(futureHours == 0 || futureHours > 5);
+
+        TestCachedValuesPersistenceService persistenceService = new TestCachedValuesPersistenceService();
+        createPersistenceExtensions(persistenceService);
+
         if (historicHours > 0) {
             ZonedDateTime beginHistory = now.minusHours(historicHours);
             persistenceService.store(numberItem, beginHistory, new DecimalType(0));
@@ -3890,4 +4061,31 @@ public class PersistenceExtensionsTest {
             persistenceService.store(numberItem, endFuture.minusHours(1), new DecimalType(0));
         }
     }
+
+    private PersistenceExtensions createPersistenceExtensions(PersistenceService persistenceService) {
+        return new PersistenceExtensions(new PersistenceServiceRegistry() {
+
+            @Override
+            public @Nullable String getDefaultId() {
+                // not available
+                return null;
+            }
+
+            @Override
+            public @Nullable PersistenceService getDefault() {
+                // not available
+                return null;
+            }
+
+            @Override
+            public Set<PersistenceService> getAll() {
+                return Set.of(persistenceService);
+            }
+
+            @Override
+            public @Nullable PersistenceService get(@Nullable String serviceId) {
+                return persistenceService.getId().equals(serviceId) ? persistenceService : null;
+            }
+        }, persistenceServiceConfigurationRegistryMock, timeZoneProviderMock);
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.extensions;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.AggregatingPersistenceService;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+
+/**
+ * A persistence service working with cached HistoricItems that aggregates the values itself, used for unit tests.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class TestAggregatingPersistenceService extends TestCachedValuesPersistenceService
+        implements AggregatingPersistenceService {
+
+    public static final String ID = "testAggregating";
+
+    private final AtomicInteger aggregations = new AtomicInteger();
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    public int getAggregations() {
+        return aggregations.get();
+    }
+
+    @Override
+    public @Nullable Long count(FilterCriteria filter, @Nullable String alias) {
+        aggregations.incrementAndGet();
+        return StreamSupport.stream(query(window(filter)).spliterator(), false).count();
+    }
+
+    @Override
+    public @Nullable BigDecimal sum(FilterCriteria filter, @Nullable String alias) {
+        aggregations.incrementAndGet();
+        BigDecimal sum = BigDecimal.ZERO;
+        for (HistoricItem historicItem : query(window(filter))) {
+            DecimalType value = historicItem.getState().as(DecimalType.class);
+            if (value != null) {
+                sum = sum.add(value.toBigDecimal());
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public @Nullable HistoricItem minimum(FilterCriteria filter, @Nullable String alias) {
+        return extremum(filter, -1);
+    }
+
+    @Override
+    public @Nullable HistoricItem maximum(FilterCriteria filter, @Nullable String alias) {
+        return extremum(filter, 1);
+    }
+
+    @Override
+    public @Nullable BigDecimal integral(FilterCriteria filter, @Nullable String alias) {
+        aggregations.incrementAndGet();
+        BigDecimal integral = BigDecimal.ZERO;
+        HistoricItem previous = null;
+        for (HistoricItem historicItem : query(window(filter))) {
+            DecimalType value = previous != null ? previous.getState().as(DecimalType.class) : null;
+            if (previous != null && value != null) {
+                long millis = Duration.between(previous.getTimestamp(), historicItem.getTimestamp()).toMillis();
+                integral = integral.add(value.toBigDecimal().multiply(BigDecimal.valueOf(millis)));
+            }
+            previous = historicItem;
+        }
+        return integral.scaleByPowerOfTen(-3);
+    }
+
+    private @Nullable HistoricItem extremum(FilterCriteria filter, int sign) {
+        aggregations.incrementAndGet();
+        HistoricItem extremum = null;
+        DecimalType extremumValue = null;
+        for (HistoricItem historicItem : query(window(filter))) {
+            DecimalType value = historicItem.getState().as(DecimalType.class);
+            if (value != null && (extremumValue == null || sign * value.compareTo(extremumValue) > 0)) {
+                extremum = historicItem;
+                extremumValue = value;
+            }
+        }
+        return extremum;
+    }
+
+    private FilterCriteria window(FilterCriteria filter) {
+        return new FilterCriteria(filter).setOrdering(Ordering.ASCENDING).setPageNumber(0)
+                .setPageSize(Integer.MAX_VALUE);
+    }
+}
@@ -66,6 +66,7 @@ public class TestCachedValuesPersistenceService implements ModifiablePersistence
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
+        store(item, date, state);
     }
 
     @Override
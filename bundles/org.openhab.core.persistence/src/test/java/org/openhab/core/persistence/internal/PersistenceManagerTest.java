@@ -187,10 +187,12 @@ public class PersistenceManagerTest {
         when(queryablePersistenceServiceMock.getId()).thenReturn(TEST_QUERYABLE_PERSISTENCE_SERVICE_ID);
         when(queryablePersistenceServiceMock.query(any(), any())).thenReturn(List.of(TEST_HISTORIC_ITEM));
         when(queryablePersistenceServiceMock.persistedItem(any(), any())).thenReturn(TEST_PERSISTED_ITEM);
+        when(queryablePersistenceServiceMock.persistedItems(any(), any())).thenReturn(null);
         when(modifiablePersistenceServiceMock.getId()).thenReturn(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID);
 
         manager = new PersistenceManagerImpl(cronSchedulerMock, schedulerMock, itemRegistryMock, safeCallerMock,
-                readyServiceMock, persistenceServiceConfigurationRegistryMock);
+                readyServiceMock, persistenceServiceConfigurationRegistryMock, new RecentHistoryCache(Map.of()),
+                new PersistenceWriteBehind(Map.of()));
         manager.addPersistenceService(persistenceServiceMock);
         manager.addPersistenceService(queryablePersistenceServiceMock);
         manager.addPersistenceService(modifiablePersistenceServiceMock);
@@ -364,6 +366,7 @@ public class PersistenceManagerTest {
         assertThat(TEST_ITEM2.getState(), is(TEST_STATE));
         assertThat(TEST_GROUP_ITEM.getState(), is(TEST_STATE));
 
+        verify(queryablePersistenceServiceMock).persistedItems(any(), any());
         verify(queryablePersistenceServiceMock, times(3)).persistedItem(any(), any());
 
         ZonedDateTime lastStateUpdate = TEST_ITEM.getLastStateUpdate();
@@ -390,6 +393,7 @@ public class PersistenceManagerTest {
         assertThat(TEST_ITEM2.getState(), is(TEST_STATE));
         assertThat(TEST_GROUP_ITEM.getState(), is(TEST_STATE));
 
+        verify(queryablePersistenceServiceMock).persistedItems(any(), any());
         verify(queryablePersistenceServiceMock, times(2)).persistedItem(any(), any());
 
         ZonedDateTime lastStateUpdate = TEST_ITEM.getLastStateUpdate();
@@ -400,6 +404,24 @@ public class PersistenceManagerTest {
         verifyNoMoreInteractions(persistenceServiceMock);
     }
 
+    @Test
+    public void restoreOnStartupUsesBulkRetrieval() {
+        setupPersistence(new PersistenceAllConfig());
+        when(queryablePersistenceServiceMock.persistedItems(any(), any())).thenReturn(
+                Map.of(TEST_ITEM_NAME, TEST_PERSISTED_ITEM, TEST_GROUP_ITEM_NAME, TEST_PERSISTED_ITEM));
+
+        manager.onReadyMarkerAdded(new ReadyMarker("", ""));
+        verify(readyServiceMock, timeout(1000)).markReady(any());
+
+        assertThat(TEST_ITEM.getState(), is(TEST_STATE));
+        assertThat(TEST_ITEM2.getState(), is(UnDefType.NULL));
+        assertThat(TEST_GROUP_ITEM.getState(), is(TEST_STATE));
+
+        verify(queryablePersistenceServiceMock).persistedItems(
+                argThat(itemNames -> itemNames.containsAll(List.of(TEST_ITEM_NAME, TEST_ITEM2_NAME))), eq(Map.of()));
+        verify(queryablePersistenceServiceMock, never()).persistedItem(any(), any());
+    }
+
     @Test
     public void storeTimeSeriesAndForecastsScheduled() {
         List<ScheduledCompletableFuture<?>> futures = new ArrayList<>();
@@ -549,6 +571,7 @@ public class PersistenceManagerTest {
 
         when(safeCallerMock.create(queryablePersistenceServiceMock, QueryablePersistenceService.class))
                 .thenReturn(safeCallerBuilderMock);
+        when(safeCallerBuilderMock.withTimeout(anyLong())).thenReturn(safeCallerBuilderMock);
         when(safeCallerBuilderMock.onTimeout(any())).thenReturn(safeCallerBuilderMock);
         when(safeCallerBuilderMock.onException(any())).thenReturn(safeCallerBuilderMock);
         when(safeCallerBuilderMock.build()).thenReturn(queryablePersistenceServiceMock);
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.ModifiablePersistenceService;
+import org.openhab.core.persistence.PersistenceBatchEntry;
+import org.openhab.core.persistence.PersistenceService;
+
+/**
+ * The {@link PersistenceWriteBehindTest} contains tests for the {@link PersistenceWriteBehind}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PersistenceWriteBehindTest {
+    private static final String SERVICE_ID = "testService";
+
+    private @NonNullByDefault({}) @Mock ModifiablePersistenceService serviceMock;
+    private @NonNullByDefault({}) @Mock PersistenceService plainServiceMock;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final StringItem item = new StringItem("testItem");
+
+    @BeforeEach
+    public void setUp() {
+        when(serviceMock.getId()).thenReturn(SERVICE_ID);
+        when(plainServiceMock.getId()).thenReturn(SERVICE_ID);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void disabledByDefault() {
+        PersistenceWriteBehind writeBehind = new PersistenceWriteBehind(scheduler, Map.of());
+
+        assertThat(writeBehind.store(serviceMock, item, null), is(false));
+        verify(serviceMock, never()).storeBatch(any());
+    }
+
+    @Test
+    public void onlyModifiableServicesAreSupported() {
+        PersistenceWriteBehind writeBehind = createWriteBehind(Map.of());
+
+        assertThat(writeBehind.store(plainServiceMock, item, null), is(false));
+    }
+
+    @Test
+    public void fullBatchesAreStoredImmediately() {
+        PersistenceWriteBehind writeBehind = createWriteBehind(
+                Map.of(PersistenceWriteBehind.CONFIG_BATCH_SIZE, 3, PersistenceWriteBehind.CONFIG_MAX_DELAY, 60000));
+
+        store(writeBehind, "1", "2", "3", "4", "5", "6", "7");
+
+        List<List<String>> batches = captureBatches(2);
+        assertThat(batches, contains(List.of("1", "2", "3"), List.of("4", "5", "6")));
+        assertThat(writeBehind.getQueuedCount(), is(1));
+
+        writeBehind.flush(SERVICE_ID);
+
+        assertThat(captureBatches(3).get(2), is(List.of("7")));
+        assertThat(writeBehind.getQueuedCount(), is(0));
+        assertThat(writeBehind.getBatchCount(), is(3L));
+        assertThat(writeBehind.getBatchedCount(), is(7L));
+    }
+
+    @Test
+    public void partialBatchIsStoredAfterMaxDelay() {
+        PersistenceWriteBehind writeBehind = createWriteBehind(Map.of(PersistenceWriteBehind.CONFIG_MAX_DELAY, 50));
+
+        store(writeBehind, "1", "2");
+
+        assertThat(captureBatches(1), contains(List.of("1", "2")));
+    }
+
+    @Test
+    public void stateIsCapturedWhenQueued() {
+        PersistenceWriteBehind writeBehind = createWriteBehind(Map.of());
+
+        store(writeBehind, "1");
+        item.setState(new StringType("2"));
+        writeBehind.flush(SERVICE_ID);
+
+        assertThat(captureBatches(1), contains(List.of("1")));
+    }
+
+    @Test
+    public void newestStateIsDroppedIfQueueIsFull() {
+        PersistenceWriteBehind writeBehind = createWriteBehind(Map.of(PersistenceWriteBehind.CONFIG_QUEUE_SIZE, 2,
+                PersistenceWriteBehind.CONFIG_OVERFLOW_POLICY, "drop_newest"));
+
+        store(writeBehind, "1", "2", "3");
+        writeBehind.flush(SERVICE_ID);
+
+        assertThat(captureBatches(1), contains(List.of("1", "2")));
+        assertThat(writeBehind.getDroppedCount(), is(1L));
+    }
+
+    @Test
+    public void oldestStateIsDroppedIfQueueIsFull() {
+        PersistenceWriteBehind writeBehind = createWriteBehind(Map.of(PersistenceWriteBehind.CONFIG_QUEUE_SIZE, 2,
+                PersistenceWriteBehind.CONFIG_OVERFLOW_POLICY, "DROP_OLDEST"));
+
+        store(writeBehind, "1", "2", "3");
+        writeBehind.flush(SERVICE_ID);
+
+        assertThat(captureBatches(1), contains(List.of("2", "3")));
+        assertThat(writeBehind.getDroppedCount(), is(1L));
+    }
+
+    @Test
+    public void configurationCanBeOverriddenPerService() {
+        PersistenceWriteBehind writeBehind = createWriteBehind(Map.of(PersistenceWriteBehind.CONFIG_BATCH_SIZE, 10,
+                PersistenceWriteBehind.CONFIG_BATCH_SIZE + "." + SERVICE_ID, 2));
+
+        store(writeBehind, "1", "2");
+
+        assertThat(captureBatches(1), contains(List.of("1", "2")));
+    }
+
+    @Test
+    public void failingBatchDoesNotStopProcessing() {
+        PersistenceWriteBehind writeBehind = createWriteBehind(Map.of(PersistenceWriteBehind.CONFIG_BATCH_SIZE, 1));
+        doThrow(new IllegalStateException("test")).doNothing().when(serviceMock).storeBatch(any());
+
+        store(writeBehind, "1", "2");
+
+        assertThat(captureBatches(2), contains(List.of("1"), List.of("2")));
+    }
+
+    @Test
+    public void concurrentFlushKeepsStatesInOrder() throws InterruptedException {
+        PersistenceWriteBehind writeBehind = createWriteBehind(Map.of(PersistenceWriteBehind.CONFIG_BATCH_SIZE, 7));
+        List<String> stored = new CopyOnWriteArrayList<>();
+        AtomicInteger concurrentBatches = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (concurrentBatches.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            List<PersistenceBatchEntry> batch = invocation.getArgument(0);
+            batch.forEach(entry -> stored.add(entry.state().toString()));
+            concurrentBatches.decrementAndGet();
+            return null;
+        }).when(serviceMock).storeBatch(any());
+
+        AtomicBoolean storing = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (storing.get()) {
+                writeBehind.flush(SERVICE_ID);
+            }
+        });
+        flusher.start();
+        List<String> states = IntStream.range(0, 2000).mapToObj(Integer::toString).toList();
+        store(writeBehind, states.toArray(String[]::new));
+        storing.set(false);
+        flusher.join();
+        writeBehind.flush(SERVICE_ID);
+
+        assertThat(stored, is(states));
+        assertThat(overlapped.get(), is(false));
+    }
+
+    private PersistenceWriteBehind createWriteBehind(Map<String, Object> config) {
+        Map<String, Object> fullConfig = new HashMap<>(config);
+        fullConfig.put(PersistenceWriteBehind.CONFIG_SERVICES, List.of(SERVICE_ID));
+        return new PersistenceWriteBehind(scheduler, fullConfig);
+    }
+
+    private void store(PersistenceWriteBehind writeBehind, String... states) {
+        for (String state : states) {
+            item.setState(new StringType(state));
+            assertThat(writeBehind.store(serviceMock, item, null), is(true));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> captureBatches(int count) {
+        ArgumentCaptor<List<PersistenceBatchEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(serviceMock, timeout(1000).times(count)).storeBatch(captor.capture());
+        return captor.getAllValues().stream()
+                .map(batch -> batch.stream().map(entry -> entry.state().toString()).toList()).toList();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * The {@link RecentHistoryCacheTest} contains tests for the {@link RecentHistoryCache}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RecentHistoryCacheTest {
+    private static final String SERVICE_ID = "testService";
+    private static final String OTHER_SERVICE_ID = "otherService";
+    private static final String ITEM_NAME = "testItem";
+
+    private @NonNullByDefault({}) RecentHistoryCache cache;
+    private @NonNullByDefault({}) StringItem item;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new RecentHistoryCache(Map.of(RecentHistoryCache.CONFIG_SIZE, 3, //
+                RecentHistoryCache.CONFIG_SERVICES, List.of(SERVICE_ID)));
+        item = new StringItem(ITEM_NAME);
+    }
+
+    @Test
+    public void disabledByDefault() throws InterruptedException {
+        cache = new RecentHistoryCache(Map.of());
+        store("a", "b");
+
+        assertThat(cache.isEnabled(SERVICE_ID), is(false));
+        assertThat(cache.query(SERVICE_ID, latest(1)), is(nullValue()));
+    }
+
+    @Test
+    public void onlyConfiguredServicesAreCached() throws InterruptedException {
+        store("a");
+        cache.stored(OTHER_SERVICE_ID, item);
+        store("b");
+
+        assertThat(cache.isEnabled(OTHER_SERVICE_ID), is(false));
+        assertThat(cache.query(OTHER_SERVICE_ID, latest(1)), is(nullValue()));
+        assertThat(states(cache.query(SERVICE_ID, latest(1))), contains("b"));
+    }
+
+    @Test
+    public void mostRecentStatesAreAnswered() throws InterruptedException {
+        store("a", "b", "c");
+
+        assertThat(states(cache.query(SERVICE_ID, latest(1))), contains("c"));
+        assertThat(states(cache.query(SERVICE_ID, latest(2))), contains("c", "b"));
+        assertThat(states(cache.query(SERVICE_ID, latest(1).setPageNumber(1))), contains("b"));
+        // the first state might be preceded by states persisted before the cache was filled
+        assertThat(cache.query(SERVICE_ID, latest(3)), is(nullValue()));
+    }
+
+    @Test
+    public void periodAfterFirstStateIsAnsweredCompletely() throws InterruptedException {
+        store("a");
+        ZonedDateTime begin = ZonedDateTime.now();
+        Thread.sleep(2);
+        store("b", "c");
+
+        FilterCriteria filter = latest(Integer.MAX_VALUE).setBeginDate(begin).setOrdering(Ordering.ASCENDING);
+        assertThat(states(cache.query(SERVICE_ID, filter)), contains("b", "c"));
+
+        filter = latest(Integer.MAX_VALUE).setBeginDate(begin.minusHours(1)).setOrdering(Ordering.ASCENDING);
+        assertThat(cache.query(SERVICE_ID, filter), is(nullValue()));
+    }
+
+    @Test
+    public void evictedStatesAreNotAnswered() throws InterruptedException {
+        store("a", "b", "c", "d", "e");
+
+        assertThat(states(cache.query(SERVICE_ID, latest(2))), contains("e", "d"));
+        assertThat(states(cache.query(SERVICE_ID, latest(3))), contains("e", "d", "c"));
+        assertThat(cache.query(SERVICE_ID, latest(4)), is(nullValue()));
+    }
+
+    @Test
+    public void undefinedStatesAreNotCached() throws InterruptedException {
+        store("a", "b");
+        item.setState(UnDefType.UNDEF);
+        cache.stored(SERVICE_ID, item);
+
+        assertThat(states(cache.query(SERVICE_ID, latest(1))), contains("b"));
+    }
+
+    @Test
+    public void unsupportedQueriesAreNotAnswered() throws InterruptedException {
+        store("a", "b", "c");
+
+        assertThat(cache.query(SERVICE_ID, latest(1).setEndDate(ZonedDateTime.now().plusHours(1))), is(nullValue()));
+        assertThat(cache.query(SERVICE_ID, latest(1).setState(new StringType("c"))), is(nullValue()));
+        assertThat(cache.query(SERVICE_ID, new FilterCriteria().setItemName(ITEM_NAME).setPageSize(1)),
+                is(nullValue()));
+        assertThat(cache.query(SERVICE_ID, latest(1).setItemName("otherItem")), is(nullValue()));
+    }
+
+    @Test
+    public void invalidatedItemIsRebuilt() throws InterruptedException {
+        store("a", "b", "c");
+        cache.invalidate(SERVICE_ID, ITEM_NAME, ZonedDateTime.now().toInstant());
+
+        assertThat(cache.query(SERVICE_ID, latest(1)), is(nullValue()));
+
+        store("d", "e");
+        assertThat(states(cache.query(SERVICE_ID, latest(1))), contains("e"));
+        assertThat(cache.query(SERVICE_ID, latest(2)), is(nullValue()));
+    }
+
+    @Test
+    public void futureInvalidationIsRespected() throws InterruptedException {
+        store("a", "b");
+        cache.invalidate(SERVICE_ID, ITEM_NAME, ZonedDateTime.now().plusHours(1).toInstant());
+        store("c", "d");
+
+        assertThat(cache.query(SERVICE_ID, latest(1)), is(nullValue()));
+    }
+
+    @Test
+    public void invalidatedServiceIsDropped() throws InterruptedException {
+        store("a", "b", "c");
+        cache.invalidate(SERVICE_ID);
+
+        assertThat(cache.query(SERVICE_ID, latest(1)), is(nullValue()));
+    }
+
+    private void store(String... states) throws InterruptedException {
+        for (String state : states) {
+            // make sure all states have different timestamps
+            Thread.sleep(2);
+            item.setState(new StringType(state));
+            cache.stored(SERVICE_ID, item);
+        }
+        Thread.sleep(2);
+    }
+
+    private FilterCriteria latest(int pageSize) {
+        return new FilterCriteria().setItemName(ITEM_NAME).setEndDate(ZonedDateTime.now()).setPageSize(pageSize)
+                .setOrdering(Ordering.DESCENDING);
+    }
+
+    private static @Nullable List<String> states(@Nullable List<HistoricItem> historicItems) {
+        return historicItems == null ? null : historicItems.stream().map(h -> h.getState().toString()).toList();
+    }
+}
@@ -95,6 +95,21 @@ public class FileTransformationProvider implements WatchService.WatchEventListen
         return transformationConfigurations.values();
     }
 
+    @Override
+    public void processWatchEvents(Map<Path, WatchService.Kind> events) {
+        // process removals first, so a renamed transformation file is never provided under both names
+        events.forEach((path, kind) -> {
+            if (kind == DELETE) {
+                processWatchEvent(kind, path);
+            }
+        });
+        events.forEach((path, kind) -> {
+            if (kind != DELETE) {
+                processWatchEvent(kind, path);
+            }
+        });
+    }
+
     @Override
     public void processWatchEvent(WatchService.Kind kind, Path path) {
         Path finalPath = transformationPath.resolve(path);
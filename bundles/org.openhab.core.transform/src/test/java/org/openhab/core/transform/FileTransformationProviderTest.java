@@ -27,6 +27,7 @@ import static org.openhab.core.transform.Transformation.FUNCTION;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -155,4 +157,21 @@ public class FileTransformationProviderTest {
         Mockito.verify(listenerMock, never()).added(any(), any());
         Mockito.verify(listenerMock, never()).updated(any(), any(), any());
     }
+
+    @Test
+    public void testBulkChangeProcessesRemovalsFirst() throws IOException {
+        Files.writeString(transformationPath.resolve(ADDED_FILENAME), ADDED_CONTENT);
+        Transformation addedConfiguration = new Transformation(ADDED_FILENAME.toString(), ADDED_FILENAME.toString(),
+                FOO_TYPE, Map.of(FUNCTION, ADDED_CONTENT));
+        Map<Path, WatchService.Kind> events = new LinkedHashMap<>();
+        events.put(ADDED_FILENAME, CREATE);
+        events.put(INITIAL_FILENAME, DELETE);
+
+        provider.processWatchEvents(events);
+
+        InOrder inOrder = Mockito.inOrder(listenerMock);
+        inOrder.verify(listenerMock).removed(provider, INITIAL_CONFIGURATION);
+        inOrder.verify(listenerMock).added(provider, addedConfiguration);
+        assertThat(provider.getAll(), contains(addedConfiguration));
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.ui.icon.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.ui.icon.IconSet.Format;
+
+/**
+ * The {@link IconCache} keeps the content of recently requested icons in memory, so the {@link IconServlet} neither
+ * has to ask the icon providers again nor to read the resources again. The least recently used icons are evicted once
+ * the cache is full. Entries also expire after a while, so changes of the icon files (e.g. custom icons) are picked up
+ * eventually.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class IconCache {
+
+    private final Map<Key, CachedIcon> icons = new LinkedHashMap<>(16, 0.75f, true);
+    private final Duration expiry;
+    private int maxSize;
+    private long generation;
+
+    IconCache(int maxSize, Duration expiry) {
+        this.maxSize = maxSize;
+        this.expiry = expiry;
+    }
+
+    /**
+     * Sets the maximum number of cached icons. A size of 0 disables the cache.
+     *
+     * @param maxSize the maximum number of cached icons
+     */
+    synchronized void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        evict();
+    }
+
+    synchronized @Nullable CachedIcon get(Key key) {
+        CachedIcon icon = icons.get(key);
+        if (icon != null && icon.created.plus(expiry).isBefore(Instant.now())) {
+            icons.remove(key);
+            return null;
+        }
+        return icon;
+    }
+
+    /**
+     * Returns the current generation of the cache, which changes whenever the cache is cleared.
+     *
+     * @return the current generation
+     */
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Adds an icon to the cache, unless the cache has been cleared since the icon started loading. This prevents an
+     * icon that was resolved with an outdated set of icon providers or configuration from being cached.
+     *
+     * @param key the key of the icon
+     * @param icon the icon to cache
+     * @param generation the generation of the cache read before the icon started loading
+     * @return <code>true</code> if the icon has been cached
+     */
+    synchronized boolean put(Key key, CachedIcon icon, long generation) {
+        if (generation != this.generation) {
+            return false;
+        }
+        icons.put(key, icon);
+        evict();
+        return true;
+    }
+
+    synchronized void clear() {
+        generation++;
+        icons.clear();
+    }
+
+    private void evict() {
+        Iterator<CachedIcon> iterator = icons.values().iterator();
+        while (icons.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Identifies an icon request.
+     *
+     * @param category the category of the icon
+     * @param iconSetId the id of the icon set
+     * @param state the state the icon is requested for or <code>null</code>
+     * @param format the requested format
+     * @param anyFormat <code>true</code> if the icon may also be provided in the other format
+     */
+    record Key(String category, String iconSetId, @Nullable String state, Format format, boolean anyFormat) {
+    }
+
+    /**
+     * The content of a resolved icon together with its entity tag, which is derived from the content.
+     */
+    static class CachedIcon {
+        final Format format;
+        final byte[] content;
+        final String etag;
+        final Instant created = Instant.now();
+
+        private boolean compressed;
+        private byte @Nullable [] gzipContent;
+
+        CachedIcon(Format format, byte[] content) {
+            this.format = format;
+            this.content = content;
+            this.etag = "\"" + hash(content) + "\"";
+        }
+
+        /**
+         * Returns the content compressed with gzip. The content is compressed on the first call only.
+         *
+         * @return the compressed content or <code>null</code> if compression does not reduce the size of the content
+         */
+        synchronized byte @Nullable [] getGzipContent() {
+            if (!compressed) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(content.length);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(content);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                gzipContent = out.size() < content.length ? out.toByteArray() : null;
+                compressed = true;
+            }
+            return gzipContent;
+        }
+
+        /**
+         * Returns the entity tag of the compressed content. It differs from the tag of the uncompressed content, as
+         * both are different representations of the icon.
+         *
+         * @return the entity tag of the compressed content
+         */
+        String getGzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        private static String hash(byte[] content) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                // every Java platform supports SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.core.ui.icon.internal;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serial;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -27,8 +28,12 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.ui.icon.IconProvider;
 import org.openhab.core.ui.icon.IconSet.Format;
+import org.openhab.core.ui.icon.internal.IconCache.CachedIcon;
+import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
@@ -43,10 +48,16 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Registers a servlet that serves icons through {@link IconProvider}s.
+ * <p>
+ * Resolved icons are kept in an {@link IconCache} and served with a strong entity tag derived from their content, so
+ * clients can revalidate them with <code>If-None-Match</code>. SVG icons are also served gzip compressed to clients
+ * accepting it, unless disabled by configuration.
  *
  * @author Kai Kreuzer - Initial contribution
  */
-@Component(service = Servlet.class)
+@Component(service = Servlet.class, configurationPid = IconServlet.CONFIG_PID, //
+        property = Constants.SERVICE_PID + "=" + IconServlet.CONFIG_PID)
+@ConfigurableService(category = "system", label = "Icons", description_uri = IconServlet.CONFIG_URI)
 @HttpWhiteboardServletAsyncSupported(asyncSupported = true)
 @HttpWhiteboardServletName(IconServlet.SERVLET_PATH)
 @HttpWhiteboardServletPattern(IconServlet.SERVLET_PATH + "/*")
@@ -64,17 +75,34 @@ public class IconServlet extends HttpServlet {
     static final String PARAM_ANY_FORMAT = "anyFormat";
     static final String PARAM_STATE = "state";
 
+    // the PID the servlet has always been configured with, so that existing configurations keep working
+    static final String CONFIG_PID = "org.openhab.core.ui.icon.internal.IconServlet";
+    protected static final String CONFIG_URI = "system:icon";
+
+    // constants for the configuration properties
+    static final String CONFIG_DEFAULT_ICONSET = "default";
+    static final String CONFIG_CACHE_SIZE = "cacheSize";
+    static final String CONFIG_COMPRESS = "compress";
+
+    private static final int DEFAULT_CACHE_SIZE = 500;
+    private static final Duration CACHE_EXPIRY = Duration.ofMinutes(5);
+
     protected String defaultIconSetId = "classic";
 
     private final List<IconProvider> iconProvider = new ArrayList<>();
 
+    private final transient IconCache iconCache = new IconCache(DEFAULT_CACHE_SIZE, CACHE_EXPIRY);
+    private boolean compress = true;
+
     @Reference(cardinality = ReferenceCardinality.AT_LEAST_ONE, policy = ReferencePolicy.DYNAMIC)
     public void addIconProvider(IconProvider iconProvider) {
         this.iconProvider.add(iconProvider);
+        iconCache.clear();
     }
 
     public void removeIconProvider(IconProvider iconProvider) {
         this.iconProvider.remove(iconProvider);
+        iconCache.clear();
     }
 
     @Activate
@@ -84,10 +112,14 @@ public class IconServlet extends HttpServlet {
 
     @Modified
     protected void modified(Map<String, Object> config) {
-        Object iconSetId = config.get("default");
+        Object iconSetId = config.get(CONFIG_DEFAULT_ICONSET);
         if (iconSetId instanceof String string) {
             defaultIconSetId = string;
         }
+        compress = ConfigParser.valueAsOrElse(config.get(CONFIG_COMPRESS), Boolean.class, true);
+        int cacheSize = ConfigParser.valueAsOrElse(config.get(CONFIG_CACHE_SIZE), Integer.class, DEFAULT_CACHE_SIZE);
+        iconCache.setMaxSize(Math.max(0, cacheSize));
+        iconCache.clear();
     }
 
     @Override
@@ -101,10 +133,40 @@ public class IconServlet extends HttpServlet {
 
         String state = req.getParameter(PARAM_STATE);
         String iconSetId = getIconSetId(req);
-
         Format format = getFormat(req);
+        boolean anyFormat = "true".equalsIgnoreCase(req.getParameter(PARAM_ANY_FORMAT));
+
+        IconCache.Key key = new IconCache.Key(category, iconSetId, state, format, anyFormat);
+        CachedIcon icon = iconCache.get(key);
+        if (icon == null) {
+            long generation = iconCache.getGeneration();
+            try {
+                icon = loadIcon(category, iconSetId, state, format, anyFormat);
+            } catch (IOException e) {
+                logger.error("Failed sending the icon byte stream as a response: {}", e.getMessage());
+                resp.sendError(500, e.getMessage());
+                return;
+            }
+            if (icon == null) {
+                logger.debug("Requested icon category {} provided by no icon provider", category);
+                resp.sendError(404);
+                return;
+            }
+            iconCache.put(key, icon, generation);
+        }
+
+        try {
+            sendIcon(req, resp, icon);
+        } catch (IOException e) {
+            logger.error("Failed sending the icon byte stream as a response: {}", e.getMessage());
+            resp.sendError(500, e.getMessage());
+        }
+    }
+
+    private @Nullable CachedIcon loadIcon(String category, String iconSetId, @Nullable String state, Format format,
+            boolean anyFormat) throws IOException {
         Format otherFormat = null;
-        if ("true".equalsIgnoreCase(req.getParameter(PARAM_ANY_FORMAT))) {
+        if (anyFormat) {
             otherFormat = (format == Format.PNG) ? Format.SVG : Format.PNG;
         }
 
@@ -128,26 +190,71 @@ public class IconServlet extends HttpServlet {
         }
 
         if (provider == null) {
-            logger.debug("Requested icon category {} provided by no icon provider", category);
-            resp.sendError(404);
-            return;
+            return null;
         }
 
         try (InputStream is = provider.getIcon(category, iconSetId, state, format)) {
-            if (is == null) {
-                logger.debug("Requested icon category {} provided by no icon provider", category);
-                resp.sendError(404);
-                return;
+            return is == null ? null : new CachedIcon(format, is.readAllBytes());
+        }
+    }
+
+    private void sendIcon(HttpServletRequest req, HttpServletResponse resp, CachedIcon icon) throws IOException {
+        byte[] content = icon.content;
+        String etag = icon.etag;
+        boolean compressible = compress && icon.format == Format.SVG;
+        byte[] gzipContent = compressible && acceptsGzip(req) ? icon.getGzipContent() : null;
+        if (gzipContent != null) {
+            content = gzipContent;
+            etag = icon.getGzipEtag();
+        }
+
+        resp.setContentType(Format.SVG.equals(icon.format) ? "image/svg+xml" : "image/png");
+        resp.setHeader("Cache-Control", "max-age=31536000");
+        resp.setHeader("ETag", etag);
+        if (compressible) {
+            resp.setHeader("Vary", "Accept-Encoding");
+        }
+        if (matchesEtag(req.getHeader("If-None-Match"), etag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        if (gzipContent != null) {
+            resp.setHeader("Content-Encoding", "gzip");
+        }
+        resp.setContentLength(content.length);
+        resp.getOutputStream().write(content);
+        resp.flushBuffer();
+    }
+
+    private boolean acceptsGzip(HttpServletRequest req) {
+        String acceptEncoding = req.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
             }
+        }
+        return false;
+    }
 
-            resp.setContentType(Format.SVG.equals(format) ? "image/svg+xml" : "image/png");
-            resp.setHeader("Cache-Control", "max-age=31536000");
-            is.transferTo(resp.getOutputStream());
-            resp.flushBuffer();
-        } catch (IOException e) {
-            logger.error("Failed sending the icon byte stream as a response: {}", e.getMessage());
-            resp.sendError(500, e.getMessage());
+    private boolean matchesEtag(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            // If-None-Match uses the weak comparison
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
         }
+        return false;
     }
 
     private String substringAfterLast(@Nullable String str, String separator) {
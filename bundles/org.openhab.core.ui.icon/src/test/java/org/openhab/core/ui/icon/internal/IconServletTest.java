@@ -12,7 +12,7 @@
  */
 package org.openhab.core.ui.icon.internal;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.openhab.core.ui.icon.internal.IconServlet.*;
@@ -20,6 +20,7 @@ import static org.openhab.core.ui.icon.internal.IconServlet.*;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.zip.GZIPInputStream;
 
 import javax.servlet.ServletException;
 import javax.servlet.ServletOutputStream;
@@ -32,6 +33,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.ui.icon.IconProvider;
@@ -69,6 +71,10 @@ public class IconServletTest {
             return outputStream.toString();
         }
 
+        public byte[] getBytes() {
+            return outputStream.toByteArray();
+        }
+
         public void reset() {
             outputStream.reset();
         }
@@ -287,4 +293,98 @@ public class IconServletTest {
         verify(provider1Mock, atLeastOnce()).hasIcon("z", "test", Format.PNG);
         verify(provider1Mock, atLeastOnce()).hasIcon("z", "test", Format.SVG);
     }
+
+    @Test
+    public void testCachedIconIsRevalidatedByEtag() throws ServletException, IOException {
+        when(requestMock.getRequestURI()).thenReturn("/icon/y");
+        when(requestMock.getParameter(PARAM_FORMAT)).thenReturn("png");
+        when(requestMock.getParameter(PARAM_ICONSET)).thenReturn("test");
+        when(requestMock.getParameter(PARAM_STATE)).thenReturn("34");
+
+        when(responseMock.getOutputStream()).thenReturn(responseOutputStream);
+
+        when(provider1Mock.hasIcon("y", "test", Format.PNG)).thenReturn(0);
+        when(provider1Mock.getIcon("y", "test", "34", Format.PNG))
+                .thenReturn(new ByteArrayInputStream("provider 1 icon: y test 34 png".getBytes()));
+
+        servlet.addIconProvider(provider1Mock);
+        servlet.doGet(requestMock, responseMock);
+
+        assertEquals("provider 1 icon: y test 34 png", responseOutputStream.getOutput());
+        ArgumentCaptor<String> etagCaptor = ArgumentCaptor.forClass(String.class);
+        verify(responseMock).setHeader(eq("ETag"), etagCaptor.capture());
+        String etag = etagCaptor.getValue();
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+
+        responseOutputStream.reset();
+        servlet.doGet(requestMock, responseMock);
+
+        assertEquals("provider 1 icon: y test 34 png", responseOutputStream.getOutput());
+        verify(provider1Mock, times(1)).getIcon("y", "test", "34", Format.PNG);
+
+        responseOutputStream.reset();
+        when(requestMock.getHeader("If-None-Match")).thenReturn("\"other\", " + etag);
+        servlet.doGet(requestMock, responseMock);
+
+        assertEquals("", responseOutputStream.getOutput());
+        verify(responseMock).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(responseMock, never()).sendError(anyInt());
+        verify(provider1Mock, times(1)).getIcon("y", "test", "34", Format.PNG);
+    }
+
+    @Test
+    public void testIconLoadedWhileProvidersChangeIsNotCached() throws ServletException, IOException {
+        when(requestMock.getRequestURI()).thenReturn("/icon/y");
+        when(requestMock.getParameter(PARAM_FORMAT)).thenReturn("png");
+        when(requestMock.getParameter(PARAM_ICONSET)).thenReturn("test");
+        when(requestMock.getParameter(PARAM_STATE)).thenReturn("34");
+
+        when(responseMock.getOutputStream()).thenReturn(responseOutputStream);
+
+        when(provider1Mock.hasIcon("y", "test", Format.PNG)).thenReturn(0);
+        when(provider1Mock.getIcon("y", "test", "34", Format.PNG)).thenAnswer(invocation -> {
+            // a provider with a higher priority is registered while the icon is being loaded
+            servlet.addIconProvider(provider2Mock);
+            return new ByteArrayInputStream("provider 1 icon: y test 34 png".getBytes());
+        });
+        when(provider2Mock.hasIcon("y", "test", Format.PNG)).thenReturn(1);
+        when(provider2Mock.getIcon("y", "test", "34", Format.PNG))
+                .thenReturn(new ByteArrayInputStream("provider 2 icon: y test 34 png".getBytes()));
+
+        servlet.addIconProvider(provider1Mock);
+        servlet.doGet(requestMock, responseMock);
+
+        assertEquals("provider 1 icon: y test 34 png", responseOutputStream.getOutput());
+
+        responseOutputStream.reset();
+        servlet.doGet(requestMock, responseMock);
+
+        assertEquals("provider 2 icon: y test 34 png", responseOutputStream.getOutput());
+        verify(responseMock, never()).sendError(anyInt());
+    }
+
+    @Test
+    public void testCompressedSvg() throws ServletException, IOException {
+        String svg = "<svg>" + "<path d=\"M0 0\"/>".repeat(50) + "</svg>";
+        when(requestMock.getRequestURI()).thenReturn("/icon/x");
+        when(requestMock.getParameter(PARAM_FORMAT)).thenReturn("svg");
+        when(requestMock.getParameter(PARAM_ICONSET)).thenReturn("test");
+        when(requestMock.getParameter(PARAM_STATE)).thenReturn(null);
+        when(requestMock.getHeader("Accept-Encoding")).thenReturn("gzip, deflate");
+
+        when(responseMock.getOutputStream()).thenReturn(responseOutputStream);
+
+        when(provider1Mock.hasIcon("x", "test", Format.SVG)).thenReturn(0);
+        when(provider1Mock.getIcon("x", "test", null, Format.SVG)).thenReturn(new ByteArrayInputStream(svg.getBytes()));
+
+        servlet.addIconProvider(provider1Mock);
+        servlet.doGet(requestMock, responseMock);
+
+        verify(responseMock).setHeader("Content-Encoding", "gzip");
+        verify(responseMock).setHeader("Vary", "Accept-Encoding");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(responseOutputStream.getBytes()))) {
+            assertEquals(svg, new String(in.readAllBytes()));
+        }
+        verify(responseMock, never()).sendError(anyInt());
+    }
 }
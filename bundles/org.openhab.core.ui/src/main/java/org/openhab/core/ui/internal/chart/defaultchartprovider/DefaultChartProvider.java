@@ -36,6 +36,7 @@ import org.knowm.xchart.style.AxesChartStyler.TextAlignment;
 import org.knowm.xchart.style.Styler.LegendPosition;
 import org.knowm.xchart.style.XYStyler;
 import org.knowm.xchart.style.markers.None;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -46,6 +47,7 @@ import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.HistoricItemDownsampler;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.QueryablePersistenceService;
@@ -57,6 +59,7 @@ import org.openhab.core.ui.internal.chart.ChartServlet;
 import org.openhab.core.ui.items.ItemUIRegistry;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,7 +76,7 @@ import org.slf4j.LoggerFactory;
  * @author Mark Herwege - Implement aliases
  */
 @NonNullByDefault
-@Component(immediate = true)
+@Component(immediate = true, configurationPid = "org.openhab.chart")
 public class DefaultChartProvider implements ChartProvider {
 
     private static class LegendPositionDecider {
@@ -112,25 +115,38 @@ public class DefaultChartProvider implements ChartProvider {
     private static final String INTERPOLATION_LINEAR = "linear";
     private static final String INTERPOLATION_STEP = "step";
 
+    private static final String CONFIG_DOWNSAMPLE = "downsample";
+
     private final Logger logger = LoggerFactory.getLogger(DefaultChartProvider.class);
 
     private final ItemUIRegistry itemUIRegistry;
     private final PersistenceServiceRegistry persistenceServiceRegistry;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
 
+    private volatile boolean downsample = false;
+
     @Activate
     public DefaultChartProvider(final @Reference ItemUIRegistry itemUIRegistry,
             final @Reference PersistenceServiceRegistry persistenceServiceRegistry,
-            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry) {
+            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry,
+            Map<String, Object> config) {
         this.itemUIRegistry = itemUIRegistry;
         this.persistenceServiceRegistry = persistenceServiceRegistry;
         this.persistenceServiceConfigurationRegistry = persistenceServiceConfigurationRegistry;
+        modified(config);
 
         if (logger.isDebugEnabled()) {
             logger.debug("Available themes for default chart provider: {}", String.join(", ", CHART_THEMES.keySet()));
         }
     }
 
+    @Modified
+    protected void modified(@Nullable Map<String, Object> config) {
+        if (config != null) {
+            downsample = ConfigParser.valueAsOrElse(config.get(CONFIG_DOWNSAMPLE), Boolean.class, false);
+        }
+    }
+
     @Override
     public String getName() {
         return "default";
@@ -366,6 +382,11 @@ public class DefaultChartProvider implements ChartProvider {
 
         // Get the data from the persistence store
         result = service.query(filter, alias);
+        if (downsample) {
+            // reduce the data to what can be displayed, one bucket per pixel column
+            result = HistoricItemDownsampler.downsample(result, timeBegin.toInstant(), timeEnd.toInstant(),
+                    Math.max(1, chart.getWidth()) * HistoricItemDownsampler.POINTS_PER_BUCKET);
+        }
 
         // Iterate through the data
         for (HistoricItem historicItem : result) {
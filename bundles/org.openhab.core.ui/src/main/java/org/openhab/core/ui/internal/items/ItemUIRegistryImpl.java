@@ -65,6 +65,7 @@ import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.PlayPauseType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.model.sitemap.sitemap.ColorArray;
+import org.openhab.core.model.sitemap.sitemap.Condition;
 import org.openhab.core.model.sitemap.sitemap.Default;
 import org.openhab.core.model.sitemap.sitemap.Group;
 import org.openhab.core.model.sitemap.sitemap.IconRule;
@@ -140,6 +141,9 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
     private final TimeZoneProvider timeZoneProvider;
 
     private final Map<Widget, Widget> defaultWidgets = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<Widget, LabelPlan> labelPlans = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<Condition, CompiledCondition> compiledConditions = Collections
+            .synchronizedMap(new WeakHashMap<>());
 
     private String groupMembersSorting = DEFAULT_SORTING;
 
@@ -153,6 +157,108 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         }
     }
 
+    /**
+     * The state independent parts of the label of a widget. A plan is only valid for the item, label and state
+     * description pattern it has been built from, any change of them (e.g. a reloaded sitemap, an updated item or a
+     * changed state description) leads to a new plan on the next rendering.
+     */
+    private static class LabelPlan {
+        final @Nullable Item item;
+        final String label;
+        final @Nullable String descriptionPattern;
+
+        final String labelWithPattern;
+        // the pattern as returned by getFormatPattern(Widget) and the one used to format the state
+        final @Nullable String widgetPattern;
+        final @Nullable FormatPattern formatPattern;
+        final @Nullable FormatPattern decimalFormatPattern;
+        final boolean integerFormat;
+        final String labelPrefix;
+        final boolean hasValue;
+
+        volatile @Nullable String undefinedValue;
+        private boolean unitsParsed;
+        @Nullable Unit<?> patternUnit;
+        @Nullable Unit<?> widgetUnit;
+
+        LabelPlan(@Nullable Item item, String label, @Nullable String descriptionPattern,
+                @Nullable String formatPattern) {
+            this.item = item;
+            this.label = label;
+            this.descriptionPattern = descriptionPattern;
+
+            String labelWithPattern = label;
+            if (formatPattern != null && label.indexOf("[") < 0) {
+                labelWithPattern = label + " [" + formatPattern + "]";
+            }
+            this.labelWithPattern = labelWithPattern;
+            String trimmedLabel = labelWithPattern.trim();
+            labelPrefix = trimmedLabel.substring(0, trimmedLabel.indexOf("[") + 1);
+            hasValue = trimmedLabel.indexOf("[") >= 0;
+
+            if (formatPattern != null) {
+                // for fraction digits in state we don't want to risk format exceptions, so treat everything as floats
+                integerFormat = formatPattern.contains("%d");
+                String pattern = integerFormat ? formatPattern.replace("%d", "%.0f") : formatPattern;
+                this.formatPattern = FormatPattern.compile(pattern);
+                // for DecimalTypes we don't want to risk format exceptions, if pattern contains unit placeholder
+                this.decimalFormatPattern = pattern.contains(UnitUtils.UNIT_PLACEHOLDER)
+                        ? FormatPattern.compile(pattern.replaceAll(UnitUtils.UNIT_PLACEHOLDER, "").stripTrailing())
+                        : this.formatPattern;
+            } else {
+                integerFormat = false;
+                this.formatPattern = null;
+                this.decimalFormatPattern = null;
+            }
+            this.widgetPattern = formatPattern;
+        }
+
+        boolean isValidFor(@Nullable Item item, String label, @Nullable String descriptionPattern) {
+            return this.item == item && this.label.equals(label)
+                    && Objects.equals(this.descriptionPattern, descriptionPattern);
+        }
+
+        synchronized void parseUnits() {
+            if (!unitsParsed) {
+                FormatPattern pattern = formatPattern;
+                patternUnit = pattern != null ? UnitUtils.parseUnit(pattern.pattern()) : null;
+                widgetUnit = UnitUtils.parseUnit(widgetPattern);
+                unitsParsed = true;
+            }
+        }
+    }
+
+    /**
+     * A format pattern with its transformation (e.g. <code>MAP(en.map):%s</code>) already split off.
+     *
+     * @param pattern the complete format pattern
+     * @param transformation the transformation prefix including the colon or <code>null</code> if there is none
+     * @param value the format pattern of the value
+     */
+    private record FormatPattern(String pattern, @Nullable String transformation, String value) {
+        static FormatPattern compile(String pattern) {
+            Matcher matcher = EXTRACT_TRANSFORM_FUNCTION_PATTERN.matcher(pattern);
+            if (matcher.find()) {
+                return new FormatPattern(pattern, matcher.group(1) + "(" + matcher.group(2) + "):", matcher.group(3));
+            }
+            return new FormatPattern(pattern, null, pattern);
+        }
+    }
+
+    /**
+     * A sitemap condition with its operator and value already parsed. It is only valid as long as the source strings
+     * of the condition do not change.
+     */
+    private record CompiledCondition(@Nullable String sign, @Nullable String state, @Nullable String operator,
+            String value, @Nullable MatchCondition condition, @Nullable Double doubleValue,
+            @Nullable Integer intValue) {
+
+        boolean isValidFor(Condition condition) {
+            return Objects.equals(sign, condition.getSign()) && Objects.equals(state, condition.getState())
+                    && Objects.equals(operator, condition.getCondition());
+        }
+    }
+
     @Activate
     public ItemUIRegistryImpl(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -349,19 +455,10 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
             return transform(label, true, null, null);
         }
 
-        String labelMappedOption = null;
-        State state = null;
+        Item item = null;
         StateDescription stateDescription = null;
-        String formatPattern = getFormatPattern(w);
-
-        if (formatPattern != null && label.indexOf("[") < 0) {
-            label = label + " [" + formatPattern + "]";
-        }
-
-        // now insert the value, if the state is a string or decimal value and there is some formatting pattern defined
-        // in the label or state description (i.e. it contains at least a %)
         try {
-            final Item item = getItem(itemName);
+            item = getItem(itemName);
 
             // There is a known issue in the implementation of the method getStateDescription() of class Item
             // in the following case:
@@ -373,143 +470,156 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
             // returned StateDescription. What is expected is the display of a value using the pattern
             // provided by the channel state description provider.
             stateDescription = item.getStateDescription();
+        } catch (ItemNotFoundException e) {
+            logger.warn("Cannot retrieve item '{}' for widget {}", itemName, w.eClass().getInstanceTypeName());
+        }
 
-            if (formatPattern != null) {
-                state = item.getState();
-
-                if (formatPattern.contains("%d")) {
-                    if (!(state instanceof UnDefType) && !(state instanceof Number)) {
-                        // States which do not provide a Number will be converted to DecimalType.
-                        // e.g.: GroupItem can provide a count of items matching the active state
-                        // for some group functions.
-                        state = item.getStateAs(DecimalType.class);
-                    }
+        LabelPlan plan = getLabelPlan(w, label, item, stateDescription);
+        label = plan.labelWithPattern;
+        FormatPattern formatPattern = plan.formatPattern;
 
-                    // for fraction digits in state we don't want to risk format exceptions,
-                    // so treat everything as floats:
-                    formatPattern = formatPattern.replace("%d", "%.0f");
-                }
+        // now insert the value, if the state is a string or decimal value and there is some formatting pattern defined
+        // in the label or state description (i.e. it contains at least a %)
+        if (formatPattern == null) {
+            return transform(label, false, null, null);
+        } else if (formatPattern.pattern().isEmpty()) {
+            return transform(label.substring(0, label.indexOf("[")).trim(), false, null, null);
+        }
+
+        State state = null;
+        if (item != null) {
+            state = item.getState();
+            if (plan.integerFormat && !(state instanceof UnDefType) && !(state instanceof Number)) {
+                // States which do not provide a Number will be converted to DecimalType.
+                // e.g.: GroupItem can provide a count of items matching the active state
+                // for some group functions.
+                state = item.getStateAs(DecimalType.class);
             }
-        } catch (ItemNotFoundException e) {
-            logger.warn("Cannot retrieve item '{}' for widget {}", itemName, w.eClass().getInstanceTypeName());
         }
 
+        String labelMappedOption = null;
         boolean considerTransform = false;
         String transformFailbackValue = null;
-        if (formatPattern != null) {
-            if (formatPattern.isEmpty()) {
-                label = label.substring(0, label.indexOf("[")).trim();
+        String value;
+        if (state == null) {
+            value = getUndefinedValue(plan, formatPattern);
+            considerTransform = true;
+        } else if (state instanceof UnDefType) {
+            String transformation = formatPattern.transformation();
+            if (transformation != null) {
+                considerTransform = true;
+                value = transformation + state.toString();
+                transformFailbackValue = "-";
             } else {
-                if (state == null) {
-                    formatPattern = formatUndefined(formatPattern);
-                    considerTransform = true;
-                } else if (state instanceof UnDefType) {
-                    Matcher matcher = EXTRACT_TRANSFORM_FUNCTION_PATTERN.matcher(formatPattern);
-                    if (matcher.find()) {
-                        considerTransform = true;
-                        String type = matcher.group(1);
-                        String function = matcher.group(2);
-                        formatPattern = type + "(" + function + "):" + state.toString();
-                        transformFailbackValue = "-";
-                    } else {
-                        formatPattern = formatUndefined(formatPattern);
-                    }
-                } else {
-                    // if the channel contains options, we build a label with the mapped option value
-                    if (stateDescription != null) {
-                        for (StateOption option : stateDescription.getOptions()) {
-                            String optionLabel = option.getLabel();
-                            if (option.getValue().equals(state.toString()) && optionLabel != null) {
-                                String formatPatternOption;
-                                try {
-                                    formatPatternOption = String.format(formatPattern, optionLabel);
-                                } catch (IllegalFormatException e) {
-                                    logger.debug(
-                                            "Mapping option value '{}' for item {} using format '{}' failed ({}); format is ignored and option label is used",
-                                            optionLabel, itemName, formatPattern, e.getMessage());
-                                    formatPatternOption = optionLabel;
-                                }
-                                labelMappedOption = label.trim();
-                                labelMappedOption = labelMappedOption.substring(0, labelMappedOption.indexOf("[") + 1)
-                                        + formatPatternOption + "]";
-                                break;
-                            }
+                value = getUndefinedValue(plan, formatPattern);
+            }
+        } else {
+            // if the channel contains options, we build a label with the mapped option value
+            if (stateDescription != null) {
+                for (StateOption option : stateDescription.getOptions()) {
+                    String optionLabel = option.getLabel();
+                    if (option.getValue().equals(state.toString()) && optionLabel != null) {
+                        String formatPatternOption;
+                        try {
+                            formatPatternOption = String.format(formatPattern.pattern(), optionLabel);
+                        } catch (IllegalFormatException e) {
+                            logger.debug(
+                                    "Mapping option value '{}' for item {} using format '{}' failed ({}); format is ignored and option label is used",
+                                    optionLabel, itemName, formatPattern.pattern(), e.getMessage());
+                            formatPatternOption = optionLabel;
                         }
+                        labelMappedOption = plan.labelPrefix + formatPatternOption + "]";
+                        break;
                     }
+                }
+            }
 
-                    if (state instanceof DecimalType) {
-                        // for DecimalTypes we don't want to risk format exceptions, if pattern contains unit
-                        // placeholder
-                        if (formatPattern.contains(UnitUtils.UNIT_PLACEHOLDER)) {
-                            formatPattern = formatPattern.replaceAll(UnitUtils.UNIT_PLACEHOLDER, "").stripTrailing();
-                        }
-                    } else if (state instanceof QuantityType quantityState) {
-                        // sanity convert current state to the item state description unit in case it was updated in the
-                        // meantime. The item state is still in the "original" unit while the state description will
-                        // display the new unit:
-                        Unit<?> patternUnit = UnitUtils.parseUnit(formatPattern);
-                        if (patternUnit != null && !quantityState.getUnit().equals(patternUnit)) {
-                            quantityState = quantityState.toInvertibleUnit(patternUnit);
-                        }
-
-                        // The widget may define its own unit in the widget label. Convert to this unit:
-                        if (quantityState != null) {
-                            quantityState = convertStateToWidgetUnit(quantityState, w);
-                            state = quantityState;
-                        }
-                    }
+            if (state instanceof DecimalType) {
+                formatPattern = Objects.requireNonNull(plan.decimalFormatPattern);
+            } else if (state instanceof QuantityType quantityState) {
+                plan.parseUnits();
+                // sanity convert current state to the item state description unit in case it was updated in the
+                // meantime. The item state is still in the "original" unit while the state description will
+                // display the new unit:
+                Unit<?> patternUnit = plan.patternUnit;
+                if (patternUnit != null && !quantityState.getUnit().equals(patternUnit)) {
+                    quantityState = quantityState.toInvertibleUnit(patternUnit);
+                }
 
-                    // The following exception handling has been added to work around a Java bug with formatting
-                    // numbers. See http://bugs.sun.com/view_bug.do?bug_id=6476425
-                    // Without this catch, the whole sitemap, or page can not be displayed!
-                    // This also handles IllegalFormatConversionException, which is a subclass of IllegalArgument.
-                    try {
-                        Matcher matcher = EXTRACT_TRANSFORM_FUNCTION_PATTERN.matcher(formatPattern);
-                        if (matcher.find()) {
-                            considerTransform = true;
-                            String type = matcher.group(1);
-                            String function = matcher.group(2);
-                            String value = matcher.group(3);
-                            formatPattern = type + "(" + function + "):";
-                            if (state instanceof DateTimeType dateTimeState) {
-                                formatPattern += dateTimeState.format(value, timeZoneProvider.getTimeZone());
-                                transformFailbackValue = dateTimeState.toFullString(timeZoneProvider.getTimeZone());
-                            } else {
-                                formatPattern += state.format(value);
-                                transformFailbackValue = state.toString();
-                            }
-                        } else {
-                            if (state instanceof DateTimeType dateTimeState) {
-                                formatPattern = dateTimeState.format(formatPattern, timeZoneProvider.getTimeZone());
-                            } else {
-                                formatPattern = state.format(formatPattern);
-                            }
-                        }
-                    } catch (IllegalArgumentException e) {
-                        logger.warn("Exception while formatting value '{}' of item {} with format '{}': {}", state,
-                                itemName, formatPattern, e.getMessage());
-                        formatPattern = "Err";
-                    }
+                // The widget may define its own unit in the widget label. Convert to this unit:
+                if (quantityState != null) {
+                    quantityState = convertStateToWidgetUnit(quantityState, plan.widgetUnit);
+                    state = quantityState;
                 }
+            }
 
-                label = label.trim();
-                int index = label.indexOf("[");
-                if (index >= 0) {
-                    label = label.substring(0, index + 1) + formatPattern + "]";
+            // The following exception handling has been added to work around a Java bug with formatting
+            // numbers. See http://bugs.sun.com/view_bug.do?bug_id=6476425
+            // Without this catch, the whole sitemap, or page can not be displayed!
+            // This also handles IllegalFormatConversionException, which is a subclass of IllegalArgument.
+            try {
+                String transformation = formatPattern.transformation();
+                if (transformation != null) {
+                    considerTransform = true;
+                    if (state instanceof DateTimeType dateTimeState) {
+                        value = transformation
+                                + dateTimeState.format(formatPattern.value(), timeZoneProvider.getTimeZone());
+                        transformFailbackValue = dateTimeState.toFullString(timeZoneProvider.getTimeZone());
+                    } else {
+                        value = transformation + state.format(formatPattern.value());
+                        transformFailbackValue = state.toString();
+                    }
+                } else {
+                    if (state instanceof DateTimeType dateTimeState) {
+                        value = dateTimeState.format(formatPattern.pattern(), timeZoneProvider.getTimeZone());
+                    } else {
+                        value = state.format(formatPattern.pattern());
+                    }
                 }
+            } catch (IllegalArgumentException e) {
+                logger.warn("Exception while formatting value '{}' of item {} with format '{}': {}", state, itemName,
+                        formatPattern.pattern(), e.getMessage());
+                value = "Err";
             }
         }
 
+        label = plan.hasValue ? plan.labelPrefix + value + "]" : label.trim();
         return transform(label, considerTransform, transformFailbackValue, labelMappedOption);
     }
 
+    private LabelPlan getLabelPlan(Widget w, String label, @Nullable Item item,
+            @Nullable StateDescription stateDescription) {
+        String descriptionPattern = stateDescription != null ? stateDescription.getPattern() : null;
+        LabelPlan plan = labelPlans.get(w);
+        if (plan == null || !plan.isValidFor(item, label, descriptionPattern)) {
+            String pattern = getFormatPattern(label);
+            if (pattern == null) {
+                pattern = descriptionPattern;
+            }
+            if (item != null) {
+                pattern = cleanFormatPattern(item, pattern);
+            }
+            plan = new LabelPlan(item, label, descriptionPattern, pattern);
+            labelPlans.put(w, plan);
+        }
+        return plan;
+    }
+
+    private String getUndefinedValue(LabelPlan plan, FormatPattern formatPattern) {
+        String undefinedValue = plan.undefinedValue;
+        if (undefinedValue == null) {
+            undefinedValue = formatUndefined(formatPattern.pattern());
+            plan.undefinedValue = undefinedValue;
+        }
+        return undefinedValue;
+    }
+
     @Override
     public WidgetLabelSource getLabelSource(Widget w) {
         return getLabelFromWidget(w).source;
     }
 
-    private QuantityType<?> convertStateToWidgetUnit(QuantityType<?> quantityState, Widget w) {
-        Unit<?> widgetUnit = UnitUtils.parseUnit(getFormatPattern(w));
+    private QuantityType<?> convertStateToWidgetUnit(QuantityType<?> quantityState, @Nullable Unit<?> widgetUnit) {
         if (widgetUnit != null && !widgetUnit.equals(quantityState.getUnit())) {
             return Objects.requireNonNullElse(quantityState.toInvertibleUnit(widgetUnit), quantityState);
         }
@@ -517,50 +627,33 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         return quantityState;
     }
 
+    private @Nullable Unit<?> getWidgetUnit(Widget w, Item item) {
+        String itemName = w.getItem();
+        if (itemName != null && itemName.equals(item.getName())) {
+            LabelPlan plan = getLabelPlan(w, getLabelFromWidget(w).label, item, item.getStateDescription());
+            plan.parseUnits();
+            return plan.widgetUnit;
+        }
+        return UnitUtils.parseUnit(getFormatPattern(w));
+    }
+
     @Override
     public @Nullable String getFormatPattern(Widget w) {
         String label = getLabelFromWidget(w).label;
         String pattern = getFormatPattern(label);
         String itemName = w.getItem();
+        if (itemName == null || itemName.isBlank()) {
+            return pattern;
+        }
         try {
-            Item item = null;
-            if (itemName != null && !itemName.isBlank()) {
-                item = getItem(itemName);
-            }
-            if (item != null && pattern == null) {
+            Item item = getItem(itemName);
+            if (pattern == null) {
                 StateDescription stateDescription = item.getStateDescription();
                 if (stateDescription != null) {
                     pattern = stateDescription.getPattern();
                 }
             }
-
-            if (pattern == null) {
-                return null;
-            }
-
-            // remove last part of pattern, after unit, if it exists, as this is not valid and creates problems with
-            // updates
-            if (item instanceof NumberItem numberItem && numberItem.getDimension() != null) {
-                Matcher m = FORMAT_PATTERN.matcher(pattern);
-                int matcherEnd = 0;
-                if (m.find() && m.group(1) == null) {
-                    matcherEnd = m.end();
-                }
-                String unit = pattern.substring(matcherEnd).trim();
-                String postfix = "";
-                int unitEnd = unit.indexOf(" ");
-                if (unitEnd > -1) {
-                    postfix = unit.substring(unitEnd + 1).trim();
-                    unit = unit.substring(0, unitEnd);
-                }
-                if (!postfix.isBlank()) {
-                    logger.warn(
-                            "Item '{}' with unit, nothing allowed after unit in label pattern '{}', dropping postfix",
-                            itemName, pattern);
-                }
-                pattern = unit.isBlank() ? pattern.substring(0, matcherEnd)
-                        : pattern.substring(0, pattern.indexOf(unit, matcherEnd) + unit.length());
-            }
+            return cleanFormatPattern(item, pattern);
         } catch (ItemNotFoundException e) {
             logger.warn("Cannot retrieve item '{}' for widget {}", itemName, w.eClass().getInstanceTypeName());
         }
@@ -568,6 +661,36 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         return pattern;
     }
 
+    private @Nullable String cleanFormatPattern(Item item, @Nullable String pattern) {
+        if (pattern == null) {
+            return null;
+        }
+
+        // remove last part of pattern, after unit, if it exists, as this is not valid and creates problems with
+        // updates
+        if (item instanceof NumberItem numberItem && numberItem.getDimension() != null) {
+            Matcher m = FORMAT_PATTERN.matcher(pattern);
+            int matcherEnd = 0;
+            if (m.find() && m.group(1) == null) {
+                matcherEnd = m.end();
+            }
+            String unit = pattern.substring(matcherEnd).trim();
+            String postfix = "";
+            int unitEnd = unit.indexOf(" ");
+            if (unitEnd > -1) {
+                postfix = unit.substring(unitEnd + 1).trim();
+                unit = unit.substring(0, unitEnd);
+            }
+            if (!postfix.isBlank()) {
+                logger.warn("Item '{}' with unit, nothing allowed after unit in label pattern '{}', dropping postfix",
+                        item.getName(), pattern);
+            }
+            return unit.isBlank() ? pattern.substring(0, matcherEnd)
+                    : pattern.substring(0, pattern.indexOf(unit, matcherEnd) + unit.length());
+        }
+        return pattern;
+    }
+
     private @Nullable String getFormatPattern(@Nullable String label) {
         if (label == null) {
             return null;
@@ -691,21 +814,24 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         // the default is the widget type name, e.g. "switch"
         String category = widgetTypeName.toLowerCase();
 
-        String conditionalIcon = getConditionalIcon(w);
         // if an icon is defined for the widget, use it
         if (w.getIcon() != null) {
             category = w.getIcon();
         } else if (w.getStaticIcon() != null) {
             category = w.getStaticIcon();
-        } else if (conditionalIcon != null) {
-            category = conditionalIcon;
         } else {
-            // otherwise check if any item ui provider provides an icon for this item
-            String itemName = w.getItem();
-            if (itemName != null) {
-                String result = getCategory(itemName);
-                if (result != null) {
-                    category = result;
+            // the conditional icon is only evaluated if no static icon is defined
+            String conditionalIcon = getConditionalIcon(w);
+            if (conditionalIcon != null) {
+                category = conditionalIcon;
+            } else {
+                // otherwise check if any item ui provider provides an icon for this item
+                String itemName = w.getItem();
+                if (itemName != null) {
+                    String result = getCategory(itemName);
+                    if (result != null) {
+                        category = result;
+                    }
                 }
             }
         }
@@ -740,7 +866,7 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
 
         State itemState = i.getState();
         if (itemState instanceof QuantityType<?> quantityTypeState) {
-            itemState = convertStateToWidgetUnit(quantityTypeState, w);
+            itemState = convertStateToWidgetUnit(quantityTypeState, getWidgetUnit(w, i));
         }
 
         if (w instanceof Switch && i instanceof RollershutterItem) {
@@ -1062,7 +1188,17 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         return id;
     }
 
-    private boolean matchStateToValue(State state, String value, @Nullable String matchCondition) {
+    private CompiledCondition compileCondition(Condition condition) {
+        CompiledCondition compiled = compiledConditions.get(condition);
+        if (compiled != null && compiled.isValidFor(condition)) {
+            return compiled;
+        }
+
+        // Handle the sign
+        String sign = condition.getSign();
+        String state = condition.getState();
+        String value = sign != null ? sign + state : state;
+
         // Remove quotes - this occurs in some instances where multiple types
         // are defined in the xtext definitions
         String unquotedValue = value;
@@ -1071,13 +1207,29 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         }
 
         // Convert the condition string into enum
-        Condition condition = Condition.EQUAL;
-        if (matchCondition != null) {
-            condition = Condition.fromString(matchCondition);
-            if (condition == null) {
-                logger.warn("matchStateToValue: unknown match condition '{}'", matchCondition);
-                return false;
-            }
+        String operator = condition.getCondition();
+        MatchCondition matchCondition = operator != null ? MatchCondition.fromString(operator) : MatchCondition.EQUAL;
+
+        Double doubleValue = null;
+        Integer intValue = null;
+        try {
+            doubleValue = Double.parseDouble(unquotedValue);
+            intValue = Integer.parseInt(unquotedValue);
+        } catch (NumberFormatException e) {
+            // the value is only compared to numbers and dates if it can be parsed
+        }
+
+        compiled = new CompiledCondition(sign, state, operator, unquotedValue, matchCondition, doubleValue, intValue);
+        compiledConditions.put(condition, compiled);
+        return compiled;
+    }
+
+    private boolean matchStateToValue(State state, CompiledCondition compiledCondition) {
+        String unquotedValue = compiledCondition.value();
+        MatchCondition condition = compiledCondition.condition();
+        if (condition == null) {
+            logger.warn("matchStateToValue: unknown match condition '{}'", compiledCondition.operator());
+            return false;
         }
 
         // Check if the value is equal to the supplied value
@@ -1100,8 +1252,9 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
             }
         } else {
             if (state instanceof DecimalType || state instanceof QuantityType<?>) {
-                try {
-                    double compareDoubleValue = Double.parseDouble(unquotedValue);
+                Double compareValue = compiledCondition.doubleValue();
+                if (compareValue != null) {
+                    double compareDoubleValue = compareValue;
                     double stateDoubleValue;
                     if (state instanceof DecimalType type) {
                         stateDoubleValue = type.doubleValue();
@@ -1141,50 +1294,52 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
                             }
                             break;
                     }
-                } catch (NumberFormatException e) {
-                    logger.debug("matchStateToValue: Decimal format exception: ", e);
+                } else {
+                    logger.debug("matchStateToValue: Decimal format exception for value '{}'", unquotedValue);
                 }
             } else if (state instanceof DateTimeType dateTimeState) {
                 Instant val = dateTimeState.getInstant();
                 Instant now = Instant.now();
                 long secsDif = ChronoUnit.SECONDS.between(val, now);
 
-                try {
+                Integer compareValue = compiledCondition.intValue();
+                if (compareValue != null) {
+                    int compareIntValue = compareValue;
                     switch (condition) {
                         case EQUAL:
-                            if (secsDif == Integer.parseInt(unquotedValue)) {
+                            if (secsDif == compareIntValue) {
                                 matched = true;
                             }
                             break;
                         case LTE:
-                            if (secsDif <= Integer.parseInt(unquotedValue)) {
+                            if (secsDif <= compareIntValue) {
                                 matched = true;
                             }
                             break;
                         case GTE:
-                            if (secsDif >= Integer.parseInt(unquotedValue)) {
+                            if (secsDif >= compareIntValue) {
                                 matched = true;
                             }
                             break;
                         case GREATER:
-                            if (secsDif > Integer.parseInt(unquotedValue)) {
+                            if (secsDif > compareIntValue) {
                                 matched = true;
                             }
                             break;
                         case LESS:
-                            if (secsDif < Integer.parseInt(unquotedValue)) {
+                            if (secsDif < compareIntValue) {
                                 matched = true;
                             }
                             break;
                         case NOT:
                         case NOTEQUAL:
-                            if (secsDif != Integer.parseInt(unquotedValue)) {
+                            if (secsDif != compareIntValue) {
                                 matched = true;
                             }
                             break;
                     }
-                } catch (NumberFormatException e) {
-                    logger.debug("matchStateToValue: Decimal format exception: ", e);
+                } else {
+                    logger.debug("matchStateToValue: Decimal format exception for value '{}'", unquotedValue);
                 }
             } else {
                 // Strings only allow = and !=
@@ -1313,14 +1468,13 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         return icon;
     }
 
-    private boolean allConditionsOk(@Nullable List<org.openhab.core.model.sitemap.sitemap.Condition> conditions,
-            Widget w) {
+    private boolean allConditionsOk(@Nullable List<Condition> conditions, Widget w) {
         boolean allConditionsOk = true;
         if (conditions != null) {
             State defaultState = getState(w);
 
             // Go through all AND conditions
-            for (org.openhab.core.model.sitemap.sitemap.Condition condition : conditions) {
+            for (Condition condition : conditions) {
                 // Use a local state variable in case it gets overridden below
                 State state = defaultState;
 
@@ -1340,15 +1494,7 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
                     }
                 }
 
-                // Handle the sign
-                String value;
-                if (condition.getSign() != null) {
-                    value = condition.getSign() + condition.getState();
-                } else {
-                    value = condition.getState();
-                }
-
-                if (state == null || !matchStateToValue(state, value, condition.getCondition())) {
+                if (state == null || !matchStateToValue(state, compileCondition(condition))) {
                     allConditionsOk = false;
                     break;
                 }
@@ -1357,7 +1503,7 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         return allConditionsOk;
     }
 
-    enum Condition {
+    enum MatchCondition {
         EQUAL("=="),
         GTE(">="),
         LTE("<="),
@@ -1368,12 +1514,12 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
 
         private final String value;
 
-        Condition(String value) {
+        MatchCondition(String value) {
             this.value = value;
         }
 
-        public static @Nullable Condition fromString(String text) {
-            for (Condition c : Condition.values()) {
+        public static @Nullable MatchCondition fromString(String text) {
+            for (MatchCondition c : MatchCondition.values()) {
                 if (text.equalsIgnoreCase(c.value)) {
                     return c;
                 }
@@ -680,6 +680,27 @@ public class ItemUIRegistryImplTest {
         assertEquals("Label [State]", label);
     }
 
+    @Test
+    public void getLabelFollowsChangedLabelAndStateDescription() {
+        StateDescription stateDescription = mock(StateDescription.class);
+        when(widgetMock.getLabel()).thenReturn("Label");
+        when(itemMock.getStateDescription()).thenReturn(stateDescription);
+        when(stateDescription.getPattern()).thenReturn("%s");
+        when(itemMock.getState()).thenReturn(new StringType("State"));
+        assertEquals("Label [State]", uiRegistry.getLabel(widgetMock));
+
+        when(itemMock.getState()).thenReturn(new StringType("Other"));
+        assertEquals("Label [Other]", uiRegistry.getLabel(widgetMock));
+
+        when(stateDescription.getPattern()).thenReturn("%s!");
+        assertEquals("Label [Other!]", uiRegistry.getLabel(widgetMock));
+
+        when(widgetMock.getLabel()).thenReturn("Changed [<%s>]");
+        assertEquals("Changed [<Other>]", uiRegistry.getLabel(widgetMock));
+
+        verify(itemMock, times(4)).getStateDescription();
+    }
+
     @Test
     public void getLabelLabelWithEmptyPattern() {
         String testLabel = "Label []";
@@ -910,6 +931,34 @@ public class ItemUIRegistryImplTest {
         assertNull(color);
     }
 
+    @Test
+    public void getLabelColorFollowsChangedCondition() {
+        Condition condition = mock(Condition.class);
+        when(condition.getState()).thenReturn("21");
+        when(condition.getCondition()).thenReturn("<");
+        BasicEList<Condition> conditions = new BasicEList<>();
+        conditions.add(condition);
+        ColorArray rule = mock(ColorArray.class);
+        when(rule.getConditions()).thenReturn(conditions);
+        when(rule.getArg()).thenReturn("yellow");
+        BasicEList<ColorArray> rules = new BasicEList<>();
+        rules.add(rule);
+        when(widgetMock.getLabelColor()).thenReturn(rules);
+        when(itemMock.getState()).thenReturn(new DecimalType(10));
+
+        assertEquals("yellow", uiRegistry.getLabelColor(widgetMock));
+
+        when(condition.getSign()).thenReturn("-");
+        assertNull(uiRegistry.getLabelColor(widgetMock));
+
+        when(condition.getSign()).thenReturn(null);
+        when(condition.getCondition()).thenReturn(">");
+        assertNull(uiRegistry.getLabelColor(widgetMock));
+
+        when(condition.getState()).thenReturn("5");
+        assertEquals("yellow", uiRegistry.getLabelColor(widgetMock));
+    }
+
     @Test
     public void getDefaultWidgets() {
         Widget defaultWidget = uiRegistry.getDefaultWidget(GroupItem.class, ITEM_NAME);
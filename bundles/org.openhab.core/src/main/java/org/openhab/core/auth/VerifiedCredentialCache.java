@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.osgi.service.component.annotations.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link VerifiedCredentialCache} keeps the {@link Authentication} of recently verified credentials, so that
+ * repeated requests with the same password or API token do not have to run the expensive key derivation again.
+ *
+ * Credentials are never stored: entries are keyed by an HMAC of the credential secret, using a random key that is
+ * generated on every start. Only successful verifications are cached, and the cache must be invalidated whenever users,
+ * their passwords, API tokens or roles change. Entries expire after {@link #EXPIRY} even without an invalidation.
+ *
+ * Since verifying a credential is slow, an invalidation can happen while a verification is running. Callers therefore
+ * read the {@link #getGeneration() generation} before verifying and pass it to {@link #put}, which drops the result if
+ * the cache was invalidated in the meantime.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = VerifiedCredentialCache.class)
+public class VerifiedCredentialCache {
+
+    static final int MAX_SIZE = 256;
+    static final Duration EXPIRY = Duration.ofMinutes(5);
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Logger logger = LoggerFactory.getLogger(VerifiedCredentialCache.class);
+
+    private final byte[] key = new byte[32];
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public VerifiedCredentialCache() {
+        new SecureRandom().nextBytes(key);
+    }
+
+    /**
+     * Gets the {@link Authentication} of a previously verified credential.
+     *
+     * @param type the type of the credential (e.g. the name of the {@link Credentials} class), to separate credentials
+     *            of different types with the same secret
+     * @param secret the credential secret, e.g. the API token or username and password
+     * @return the cached {@link Authentication} or <code>null</code> if the credential was not verified recently
+     */
+    public @Nullable Authentication get(String type, String secret) {
+        String cacheKey = cacheKey(type, secret);
+        Authentication authentication = null;
+        if (cacheKey != null) {
+            synchronized (entries) {
+                Entry entry = entries.get(cacheKey);
+                if (entry != null) {
+                    if (entry.isExpired()) {
+                        entries.remove(cacheKey);
+                    } else {
+                        authentication = entry.authentication();
+                    }
+                }
+            }
+        }
+        (authentication != null ? hits : misses).incrementAndGet();
+        return authentication;
+    }
+
+    /**
+     * Returns the current generation of the cache, which changes on every {@link #invalidate()}.
+     *
+     * @return the current generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Adds the {@link Authentication} of a successfully verified credential, unless the cache was invalidated since
+     * the verification started.
+     *
+     * @param type the type of the credential
+     * @param secret the credential secret
+     * @param authentication the result of the verification
+     * @param generation the {@link #getGeneration() generation} read before the verification started
+     * @return <code>true</code> if the entry was added, <code>false</code> if it was dropped because the cache was
+     *         invalidated in the meantime
+     */
+    public boolean put(String type, String secret, Authentication authentication, long generation) {
+        String cacheKey = cacheKey(type, secret);
+        if (cacheKey != null) {
+            synchronized (entries) {
+                if (generation == this.generation.get()) {
+                    entries.put(cacheKey, new Entry(authentication, System.nanoTime() + EXPIRY.toNanos()));
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all entries, e.g. because a user, password, API token or role changed.
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found a verified credential, i.e. verifications that could be skipped.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that required a full verification.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private @Nullable String cacheKey(String type, String secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            mac.update(type.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(secret.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            // HmacSHA256 is available for all java distributions so this code will actually never run
+            logger.warn("Cannot compute cache key, credential cache disabled: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private record Entry(Authentication authentication, long expiresAt) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
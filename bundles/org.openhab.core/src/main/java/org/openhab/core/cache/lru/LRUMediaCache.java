@@ -20,9 +20,7 @@ import java.nio.file.FileStore;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -56,10 +54,14 @@ public class LRUMediaCache<V> {
 
     private static final String CACHE_FOLDER_NAME = "cache";
 
-    final Map<String, @Nullable LRUMediaCacheEntry<V>> cachedResults;
+    /**
+     * The cached entries, split into segments with their own locks, so that concurrent hits do not contend on a single
+     * monitor
+     */
+    final SegmentedLRUMap<LRUMediaCacheEntry<V>> cachedResults = new SegmentedLRUMap<>();
 
     /**
-     * Lock to handle concurrent access to the same entry
+     * Lock to handle concurrent resolution of the same entry
      */
     private final Map<String, Lock> lockByEntry = new ConcurrentHashMap<>();
 
@@ -76,6 +78,11 @@ public class LRUMediaCache<V> {
      */
     private Storage<V> storage;
 
+    /**
+     * Lock to prevent concurrent evictions from removing more entries than needed
+     */
+    private final Lock evictionLock = new ReentrantLock();
+
     protected boolean cacheIsOK = true;
 
     /**
@@ -88,7 +95,6 @@ public class LRUMediaCache<V> {
     public LRUMediaCache(@Reference StorageService storageService, long maxCacheSize, String pid,
             @Nullable ClassLoader clazzLoader) {
         this.storage = storageService.getStorage(pid, clazzLoader);
-        this.cachedResults = Collections.synchronizedMap(new LinkedHashMap<>(20, .75f, true));
         this.cacheFolder = Path.of(OpenHAB.getUserDataFolder(), CACHE_FOLDER_NAME, pid);
         this.maxCacheSize = maxCacheSize;
 
@@ -176,6 +182,12 @@ public class LRUMediaCache<V> {
             return supplier.get();
         }
 
+        // a hit on a sane entry is served without taking the lock of the entry
+        LRUMediaCacheEntry<V> cachedResult = cachedResults.get(key);
+        if (cachedResult != null && !cachedResult.isFaulty()) {
+            return cachedResult;
+        }
+
         // we use a lock with fine granularity, by key, to not lock the entire cache
         // when resolving the supplier (which could be time consuming)
         Lock lockForCurrentEntry = lockByEntry.computeIfAbsent(key, k -> new ReentrantLock());
@@ -186,7 +198,7 @@ public class LRUMediaCache<V> {
         }
         lockForCurrentEntry.lock();
         try {
-            // try to get from cache
+            // try again to get from cache, another thread may have resolved the entry in the meantime
             LRUMediaCacheEntry<V> result = cachedResults.get(key);
             if (result != null && result.isFaulty()) { // if previously marked as faulty
                 result.deleteFile();
@@ -215,7 +227,11 @@ public class LRUMediaCache<V> {
      */
     private void loadAll() throws IOException {
         cachedResults.clear();
-        storage.stream().map(entry -> new LRUMediaCacheEntry<V>(entry.getKey())).forEach(this::put);
+        storage.stream().map(entry -> new LRUMediaCacheEntry<V>(entry.getKey())).forEach(result -> {
+            result.setCacheContext(cacheFolder, storage);
+            cachedResults.put(result.getKey(), result);
+        });
+        makeSpace();
     }
 
     /**
@@ -223,21 +239,28 @@ public class LRUMediaCache<V> {
      * We don't use the removeEldestEntry test method from the linkedHashMap because it can only remove one element.
      */
     protected void makeSpace() {
-        synchronized (cachedResults) {
-            Iterator<@Nullable LRUMediaCacheEntry<V>> iterator = cachedResults.values().iterator();
-            Long currentCacheSize = cachedResults.values().stream()
-                    .map(result -> result == null ? 0 : result.getCurrentSize()).reduce(0L, (Long::sum));
+        evictionLock.lock();
+        try {
+            long currentCacheSize = 0;
+            List<LRUMediaCacheEntry<V>> results = cachedResults.values();
+            for (LRUMediaCacheEntry<V> result : results) {
+                currentCacheSize += result.getCurrentSize();
+            }
+            int cachedCount = results.size();
             int attemptToDelete = 0;
-            while (currentCacheSize > maxCacheSize && cachedResults.size() > 1 && attemptToDelete < 10) {
+            while (currentCacheSize > maxCacheSize && cachedCount > 1 && attemptToDelete < 10) {
                 attemptToDelete++;
-                LRUMediaCacheEntry<V> oldestEntry = iterator.next();
-                if (oldestEntry != null) {
-                    oldestEntry.deleteFile();
-                    currentCacheSize -= oldestEntry.getCurrentSize();
-                    lockByEntry.remove(oldestEntry.getKey());
+                LRUMediaCacheEntry<V> oldestEntry = cachedResults.removeEldest();
+                if (oldestEntry == null) {
+                    break;
                 }
-                iterator.remove();
+                cachedCount--;
+                oldestEntry.deleteFile();
+                currentCacheSize -= oldestEntry.getCurrentSize();
+                lockByEntry.remove(oldestEntry.getKey());
             }
+        } finally {
+            evictionLock.unlock();
         }
     }
 }
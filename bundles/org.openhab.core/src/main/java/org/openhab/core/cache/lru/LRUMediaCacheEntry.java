@@ -19,6 +19,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -133,7 +134,12 @@ public class LRUMediaCacheEntry<V> {
         } else {
             // we must force-read all the stream to get the real size
             try {
-                read(0, Integer.MAX_VALUE);
+                long previousSize = -1;
+                while (!completed && !faulty && currentSize != previousSize) {
+                    previousSize = currentSize;
+                    // reading after the current end pulls the next chunk from the inner stream
+                    read((int) Math.min(currentSize, Integer.MAX_VALUE), 1);
+                }
             } catch (IOException e) {
                 logger.debug("Cannot read the total size of the cache result. Using 0", e);
             }
@@ -254,7 +260,9 @@ public class LRUMediaCacheEntry<V> {
     }
 
     /**
-     * Read from the cached file. If there is not enough bytes to read in the file, the supplier will be queried.
+     * Read from the cached file. If there is no byte left to read in the file, the supplier will be queried.
+     * Bytes already written to the file are returned immediately, so that a client can start streaming an entry
+     * while the supplier is still producing it.
      *
      * @param start The offset to read the file from
      * @param sizeToRead the number of byte to read
@@ -268,7 +276,7 @@ public class LRUMediaCacheEntry<V> {
         }
 
         // check if we need to get data from the inner stream.
-        if (start + sizeToRead > fileChannelLocal.size() && !completed) {
+        if (start >= fileChannelLocal.size() && !completed) {
             logger.trace("Maybe need to get data from inner stream");
             // try to get new bytes from the inner stream
             InputStream streamLocal = inputStream;
@@ -276,7 +284,7 @@ public class LRUMediaCacheEntry<V> {
                 logger.trace("Trying to synchronize for reading inner inputstream");
                 synchronized (streamLocal) {
                     // now that we really have the lock, test again if we really need data from the stream
-                    while (start + sizeToRead > fileChannelLocal.size() && !completed) {
+                    while (start >= fileChannelLocal.size() && !completed) {
                         logger.trace("Really need to get data from inner stream");
                         byte[] readFromSupplierStream = streamLocal.readNBytes(CHUNK_SIZE);
                         if (readFromSupplierStream.length == 0) { // we read all the stream
@@ -295,19 +303,20 @@ public class LRUMediaCacheEntry<V> {
                         key);
             }
         }
-        // the cache file is now filled, get bytes from it.
-        long maxToRead = Math.min(fileChannelLocal.size(), sizeToRead);
-        ByteBuffer byteBufferFromChannelFile = ByteBuffer.allocate((int) maxToRead);
+        // the cache file now holds data after the offset, get bytes from it.
+        // The file is not memory mapped: a mapping can only be released by the garbage collector and would prevent
+        // the deletion of an evicted entry on Windows. Positional reads straight into the result are safe to use
+        // concurrently and do not need a temporary buffer.
+        long maxToRead = Math.max(0, Math.min(fileChannelLocal.size() - start, sizeToRead));
+        byte[] resultByteArray = new byte[(int) maxToRead];
+        ByteBuffer byteBufferFromChannelFile = ByteBuffer.wrap(resultByteArray);
         int byteReadNumber = fileChannelLocal.read(byteBufferFromChannelFile, Integer.valueOf(start).longValue());
         logger.trace("Read {} bytes from the filechannel", byteReadNumber);
-        if (byteReadNumber > 0) {
-            byte[] resultByteArray = new byte[byteReadNumber];
-            byteBufferFromChannelFile.rewind();
-            byteBufferFromChannelFile.get(resultByteArray);
-            return resultByteArray;
-        } else {
+        if (byteReadNumber <= 0) {
             return new byte[0];
         }
+        return byteReadNumber == resultByteArray.length ? resultByteArray
+                : Arrays.copyOf(resultByteArray, byteReadNumber);
     }
 
     /**
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.cache.lru;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A map keeping its entries in least recently used order, split into several segments to reduce lock contention.
+ * Each segment is an access ordered {@link LinkedHashMap} guarded by its own lock. Every access is stamped with a
+ * global counter, so the least recently used entry of the whole map can be found by comparing the eldest entry of
+ * each segment.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class SegmentedLRUMap<V> {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<V>[] segments;
+    private final AtomicLong clock = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    SegmentedLRUMap() {
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    private Segment<V> segmentFor(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * Returns the value for the given key and marks it as the most recently used one.
+     *
+     * @param key the key
+     * @return the value or <code>null</code> if the key is unknown
+     */
+    public @Nullable V get(String key) {
+        Segment<V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            Node<V> node = segment.map.get(key);
+            if (node == null) {
+                return null;
+            }
+            node.lastAccess = clock.incrementAndGet();
+            return node.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a value, which becomes the most recently used one.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(String key, V value) {
+        Segment<V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            // remove first, so that a replaced entry also moves to the tail of the access order
+            segment.map.remove(key);
+            segment.map.put(key, new Node<>(value, clock.incrementAndGet()));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @param key the key
+     * @return the removed value or <code>null</code> if the key was unknown
+     */
+    public @Nullable V remove(String key) {
+        Segment<V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            Node<V> node = segment.map.remove(key);
+            return node == null ? null : node.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the least recently used value of the whole map.
+     *
+     * @return the removed value or <code>null</code> if the map is empty
+     */
+    public @Nullable V removeEldest() {
+        while (true) {
+            Segment<V> eldestSegment = null;
+            long eldestAccess = Long.MAX_VALUE;
+            for (Segment<V> segment : segments) {
+                segment.lock.lock();
+                try {
+                    Iterator<Node<V>> iterator = segment.map.values().iterator();
+                    if (iterator.hasNext()) {
+                        long lastAccess = iterator.next().lastAccess;
+                        if (lastAccess < eldestAccess) {
+                            eldestAccess = lastAccess;
+                            eldestSegment = segment;
+                        }
+                    }
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+            if (eldestSegment == null) {
+                return null;
+            }
+            eldestSegment.lock.lock();
+            try {
+                Iterator<Node<V>> iterator = eldestSegment.map.values().iterator();
+                // the entry might have been accessed in the meantime, then look again
+                if (iterator.hasNext()) {
+                    Node<V> node = iterator.next();
+                    if (node.lastAccess == eldestAccess) {
+                        iterator.remove();
+                        return node.value;
+                    }
+                }
+            } finally {
+                eldestSegment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of all values, without changing the access order.
+     *
+     * @return the values
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>();
+        for (Segment<V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.values().forEach(node -> values.add(node.value));
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return values;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    private static class Segment<V> {
+        private final Map<String, Node<V>> map = new LinkedHashMap<>(16, .75f, true);
+        private final Lock lock = new ReentrantLock();
+    }
+
+    private static class Node<V> {
+        private final V value;
+        private long lastAccess;
+
+        Node(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
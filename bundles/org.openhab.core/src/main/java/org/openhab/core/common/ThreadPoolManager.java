@@ -29,11 +29,13 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.openhab.core.common.PoolBasedSequentialScheduledExecutorService.BasePoolExecutor;
+import org.openhab.core.internal.common.VirtualThreadScheduledExecutorService;
 import org.openhab.core.internal.common.WrappedScheduledExecutorService;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.ComponentConstants;
@@ -56,6 +58,14 @@ import org.slf4j.LoggerFactory;
  * <br/>
  * All threads will time out after {@link #THREAD_TIMEOUT}.
  *
+ * <p>
+ * A pool can also be backed by virtual threads, which is useful for pools whose tasks mostly block on I/O:
+ * <br/>
+ * {@code org.openhab.core.threadpool:<poolName>=virtual}
+ * <br/>
+ * Such a pool runs every task in its own virtual thread and is not limited in size. This setting only applies to pools
+ * which are created after the configuration has been read.
+ *
  * @author Kai Kreuzer - Initial contribution
  */
 @Component(configurationPid = ThreadPoolManager.CONFIGURATION_PID)
@@ -77,9 +87,15 @@ public class ThreadPoolManager {
     protected static final long THREAD_TIMEOUT = 65L;
     protected static final long THREAD_MONITOR_SLEEP = 60000;
 
+    /**
+     * Configuration value for pools backed by virtual threads
+     */
+    protected static final String VIRTUAL_THREADS = "virtual";
+
     protected static Map<String, ExecutorService> pools = new ConcurrentHashMap<>();
 
     private static Map<String, Integer> configs = new ConcurrentHashMap<>();
+    private static Set<String> virtualPools = ConcurrentHashMap.newKeySet();
 
     private static final Set<String> OSGI_PROPERTY_NAMES = Set.of(Constants.SERVICE_PID,
             ComponentConstants.COMPONENT_ID, ComponentConstants.COMPONENT_NAME, "osgi.ds.satisfying.condition.target");
@@ -97,11 +113,20 @@ public class ThreadPoolManager {
             Object config = entry.getValue();
             if (config == null) {
                 configs.remove(poolName);
+                virtualPools.remove(poolName);
             }
-            if (config instanceof String string) {
+            if (config instanceof String string && VIRTUAL_THREADS.equalsIgnoreCase(string.trim())) {
+                configs.remove(poolName);
+                if (virtualPools.add(poolName) && pools.containsKey(poolName)) {
+                    LOGGER.info("Thread pool '{}' will be backed by virtual threads after a restart", poolName);
+                }
+            } else if (config instanceof String string) {
                 try {
                     Integer poolSize = Integer.valueOf(string);
                     configs.put(poolName, poolSize);
+                    if (virtualPools.remove(poolName) && pools.containsKey(poolName)) {
+                        LOGGER.info("Thread pool '{}' will be backed by platform threads after a restart", poolName);
+                    }
                     ThreadPoolExecutor pool = (ThreadPoolExecutor) pools.get(poolName);
                     if (pool instanceof BasePoolExecutor basePool) {
                         basePool.setMinimumPoolSize(poolSize);
@@ -165,6 +190,14 @@ public class ThreadPoolManager {
      */
     public static ScheduledExecutorService getScheduledPool(String poolName) {
         ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
+            if (isVirtualPool(name)) {
+                ScheduledThreadPoolExecutor executor = new VirtualThreadScheduledExecutorService(name);
+                executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
+                executor.allowCoreThreadTimeOut(true);
+                executor.setRemoveOnCancelPolicy(true);
+                LOGGER.debug("Created scheduled thread pool '{}' backed by virtual threads", name);
+                return executor;
+            }
             int cfg = getConfig(name);
             ScheduledThreadPoolExecutor executor = new WrappedScheduledExecutorService(cfg,
                     new NamedThreadFactory(name, true, Thread.NORM_PRIORITY));
@@ -191,6 +224,14 @@ public class ThreadPoolManager {
      */
     public static ExecutorService getPool(String poolName) {
         ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
+            if (isVirtualPool(name)) {
+                // a thread pool executor is kept for the metrics, but every task gets its own virtual thread
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_TIMEOUT,
+                        TimeUnit.SECONDS, new SynchronousQueue<>(),
+                        Thread.ofVirtual().name("OH-" + name + "-", 1).factory());
+                LOGGER.debug("Created thread pool '{}' backed by virtual threads", name);
+                return executor;
+            }
             int cfg = getConfig(name);
             ThreadPoolExecutor executor = QueueingThreadPoolExecutor.createInstance(name, cfg);
             executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
@@ -217,6 +258,16 @@ public class ThreadPoolManager {
         return cfg != null ? cfg : DEFAULT_THREAD_POOL_SIZE;
     }
 
+    /**
+     * Checks if a pool is configured to be backed by virtual threads.
+     *
+     * @param poolName the name of the pool
+     * @return true if the pool is configured to use virtual threads
+     */
+    public static boolean isVirtualPool(String poolName) {
+        return virtualPools.contains(poolName);
+    }
+
     public static Set<String> getPoolNames() {
         return new HashSet<>(pools.keySet());
     }
@@ -15,9 +15,12 @@ package org.openhab.core.internal.auth;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -26,6 +29,7 @@ import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.auth.Authentication;
 import org.openhab.core.auth.AuthenticationException;
 import org.openhab.core.auth.Credentials;
@@ -37,6 +41,7 @@ import org.openhab.core.auth.UserProvider;
 import org.openhab.core.auth.UserRegistry;
 import org.openhab.core.auth.UserSession;
 import org.openhab.core.auth.UsernamePasswordCredentials;
+import org.openhab.core.auth.VerifiedCredentialCache;
 import org.openhab.core.common.registry.AbstractRegistry;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
@@ -65,10 +70,23 @@ public class UserRegistryImpl extends AbstractRegistry<User, String, UserProvide
     private static final int KEY_LENGTH = 512;
     private static final String ALGORITHM = "PBKDF2WithHmacSHA512";
     private static final SecureRandom RAND = new SecureRandom();
+    private static final String PASSWORD_CREDENTIAL_TYPE = "password";
+    private static final String APITOKEN_CREDENTIAL_TYPE = "apitoken";
+
+    private final VerifiedCredentialCache credentialCache;
+
+    // index of the API tokens by their name, built on demand and dropped whenever a user changes
+    private volatile @Nullable Map<String, List<ApiTokenEntry>> apiTokenIndex;
+    private final Object apiTokenIndexLock = new Object();
+
+    private record ApiTokenEntry(ManagedUser user, UserApiToken apiToken) {
+    }
 
     @Activate
-    public UserRegistryImpl(BundleContext context, Map<String, Object> properties) {
+    public UserRegistryImpl(BundleContext context, Map<String, Object> properties,
+            @Reference VerifiedCredentialCache credentialCache) {
         super(UserProvider.class);
+        this.credentialCache = credentialCache;
         super.activate(context);
     }
 
@@ -131,9 +149,63 @@ public class UserRegistryImpl extends AbstractRegistry<User, String, UserProvide
         }
     }
 
+    @Override
+    protected void notifyListenersAboutAddedElement(User element) {
+        invalidateVerifiedCredentials();
+        super.notifyListenersAboutAddedElement(element);
+    }
+
+    @Override
+    protected void notifyListenersAboutRemovedElement(User element) {
+        invalidateVerifiedCredentials();
+        super.notifyListenersAboutRemovedElement(element);
+    }
+
+    @Override
+    protected void notifyListenersAboutUpdatedElement(User oldElement, User element) {
+        invalidateVerifiedCredentials();
+        super.notifyListenersAboutUpdatedElement(oldElement, element);
+    }
+
+    private void invalidateVerifiedCredentials() {
+        synchronized (apiTokenIndexLock) {
+            credentialCache.invalidate();
+            apiTokenIndex = null;
+        }
+    }
+
+    private Map<String, List<ApiTokenEntry>> getApiTokenIndex() {
+        Map<String, List<ApiTokenEntry>> index = apiTokenIndex;
+        if (index == null) {
+            long generation = credentialCache.getGeneration();
+            index = new HashMap<>();
+            for (User user : getAll()) {
+                ManagedUser managedUser = (ManagedUser) user;
+                for (UserApiToken userApiToken : managedUser.getApiTokens()) {
+                    index.computeIfAbsent(userApiToken.getName(), name -> new ArrayList<>())
+                            .add(new ApiTokenEntry(managedUser, userApiToken));
+                }
+            }
+            // do not publish an index that was built from users that changed in the meantime
+            synchronized (apiTokenIndexLock) {
+                if (generation == credentialCache.getGeneration()) {
+                    apiTokenIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
     @Override
     public Authentication authenticate(Credentials credentials) throws AuthenticationException {
         if (credentials instanceof UsernamePasswordCredentials usernamePasswordCreds) {
+            String secret = usernamePasswordCreds.getUsername() + "\0" + usernamePasswordCreds.getPassword();
+            long generation = credentialCache.getGeneration();
+            Authentication cachedAuthentication = credentialCache.get(PASSWORD_CREDENTIAL_TYPE, secret);
+            if (cachedAuthentication != null) {
+                return cachedAuthentication;
+            }
+
             User user = get(usernamePasswordCreds.getUsername());
             if (user == null) {
                 throw new AuthenticationException("User not found: " + usernamePasswordCreds.getUsername());
@@ -146,27 +218,35 @@ public class UserRegistryImpl extends AbstractRegistry<User, String, UserProvide
                 throw new AuthenticationException("Wrong password for user " + usernamePasswordCreds.getUsername());
             }
 
-            return new Authentication(managedUser.getName(), managedUser.getRoles().stream().toArray(String[]::new));
+            Authentication authentication = new Authentication(managedUser.getName(),
+                    managedUser.getRoles().stream().toArray(String[]::new));
+            credentialCache.put(PASSWORD_CREDENTIAL_TYPE, secret, authentication, generation);
+            return authentication;
         } else if (credentials instanceof UserApiTokenCredentials apiTokenCreds) {
             String[] apiTokenParts = apiTokenCreds.getApiToken().split("\\.");
             if (apiTokenParts.length != 3 || !APITOKEN_PREFIX.equals(apiTokenParts[0])) {
                 throw new AuthenticationException("Invalid API token format");
             }
-            for (User user : getAll()) {
-                ManagedUser managedUser = (ManagedUser) user;
-                for (UserApiToken userApiToken : managedUser.getApiTokens()) {
-                    // only check if the name in the token matches
-                    if (!userApiToken.getName().equals(apiTokenParts[1])) {
-                        continue;
-                    }
-                    String[] existingTokenHashAndSalt = userApiToken.getApiToken().split(":");
-                    String incomingTokenHash = hash(apiTokenCreds.getApiToken(), existingTokenHashAndSalt[1],
-                            APITOKEN_ITERATIONS).get();
-
-                    if (incomingTokenHash.equals(existingTokenHashAndSalt[0])) {
-                        return new Authentication(managedUser.getName(),
-                                managedUser.getRoles().stream().toArray(String[]::new), userApiToken.getScope());
-                    }
+            long generation = credentialCache.getGeneration();
+            Authentication cachedAuthentication = credentialCache.get(APITOKEN_CREDENTIAL_TYPE,
+                    apiTokenCreds.getApiToken());
+            if (cachedAuthentication != null) {
+                return cachedAuthentication;
+            }
+            // only check the tokens whose name matches the name in the token
+            for (ApiTokenEntry entry : getApiTokenIndex().getOrDefault(apiTokenParts[1], List.of())) {
+                ManagedUser managedUser = entry.user();
+                UserApiToken userApiToken = entry.apiToken();
+                String[] existingTokenHashAndSalt = userApiToken.getApiToken().split(":");
+                String incomingTokenHash = hash(apiTokenCreds.getApiToken(), existingTokenHashAndSalt[1],
+                        APITOKEN_ITERATIONS).get();
+
+                if (incomingTokenHash.equals(existingTokenHashAndSalt[0])) {
+                    Authentication authentication = new Authentication(managedUser.getName(),
+                            managedUser.getRoles().stream().toArray(String[]::new), userApiToken.getScope());
+                    credentialCache.put(APITOKEN_CREDENTIAL_TYPE, apiTokenCreds.getApiToken(), authentication,
+                            generation);
+                    return authentication;
                 }
             }
 
@@ -187,6 +267,7 @@ public class UserRegistryImpl extends AbstractRegistry<User, String, UserProvide
         String passwordHash = hash(newPassword, passwordSalt, PASSWORD_ITERATIONS).get();
         managedUser.setPasswordSalt(passwordSalt);
         managedUser.setPasswordHash(passwordHash);
+        invalidateVerifiedCredentials();
         update(user);
     }
 
@@ -243,6 +324,7 @@ public class UserRegistryImpl extends AbstractRegistry<User, String, UserProvide
         UserApiToken userApiToken = new UserApiToken(name, tokenHash + ":" + tokenSalt, scope);
 
         managedUser.getApiTokens().add(userApiToken);
+        invalidateVerifiedCredentials();
         update(user);
 
         return token;
@@ -256,6 +338,7 @@ public class UserRegistryImpl extends AbstractRegistry<User, String, UserProvide
 
         ManagedUser managedUser = (ManagedUser) user;
         managedUser.getApiTokens().remove(userApiToken);
+        invalidateVerifiedCredentials();
         update(user);
     }
 
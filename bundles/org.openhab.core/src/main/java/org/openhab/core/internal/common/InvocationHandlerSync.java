@@ -16,6 +16,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -27,6 +28,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Synchronous invocation handler implementation.
+ * <p>
+ * By default the call is handed over to the safe-caller's executor service and the caller waits for the result until
+ * the timeout is reached. If caller thread execution is enabled, the call is executed directly on the caller's thread
+ * (which is cheap for virtual threads) and a watchdog reports the timeout, but the caller is blocked until the call
+ * returns.
  *
  * @author Simon Kaufmann - Initial contribution
  *
@@ -61,6 +67,9 @@ public class InvocationHandlerSync<T> extends AbstractInvocationHandler<T> imple
                     activeInvocation.getInvocationStack().poll();
                 }
             }
+            if (getManager().isCallerThreadExecution()) {
+                return invokeOnCallerThread(method, invocation);
+            }
             try {
                 Future<Object> future = getManager().getScheduler().submit(invocation);
                 return future.get(getTimeout(), TimeUnit.MILLISECONDS);
@@ -72,4 +81,16 @@ public class InvocationHandlerSync<T> extends AbstractInvocationHandler<T> imple
         }
         return null;
     }
+
+    private @Nullable Object invokeOnCallerThread(Method method, Invocation invocation) {
+        ScheduledFuture<?> watchdog = getManager().watch(invocation);
+        try {
+            return invocation.call();
+        } catch (Exception e) {
+            handleExecutionException(method, new ExecutionException(e));
+            return null;
+        } finally {
+            watchdog.cancel(false);
+        }
+    }
 }
@@ -13,6 +13,7 @@
 package org.openhab.core.internal.common;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -46,6 +47,24 @@ public interface SafeCallManager {
      */
     void enqueue(Invocation invocation);
 
+    /**
+     * Schedule a watchdog which reports a timeout of the given invocation, if it did not finish in time.
+     * <p>
+     * This is used for synchronous calls which are executed on the caller's thread and therefore cannot be abandoned.
+     *
+     * @param invocation the call to the proxy
+     * @return the scheduled watchdog, to be cancelled when the invocation finished
+     */
+    ScheduledFuture<?> watch(Invocation invocation);
+
+    /**
+     * Check if synchronous calls are executed directly on the caller's thread instead of being handed over to the
+     * safe-caller's executor service.
+     *
+     * @return {@code true} if synchronous calls are executed on the caller's thread
+     */
+    boolean isCallerThreadExecution();
+
     /**
      * Get the safe-caller's executor service instance
      *
@@ -19,6 +19,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -46,6 +47,7 @@ public class SafeCallManagerImpl implements SafeCallManager {
     private final ScheduledExecutorService watcher;
     private final ExecutorService scheduler;
     private boolean enforceSingleThreadPerIdentifier;
+    private volatile boolean callerThreadExecution;
 
     public SafeCallManagerImpl(ScheduledExecutorService watcher, ExecutorService scheduler,
             boolean enforceSingleThreadPerIdentifier) {
@@ -68,7 +70,7 @@ public class SafeCallManagerImpl implements SafeCallManager {
             activeIdentifiers.put(invocation.getIdentifier(), invocation);
         }
         if (invocation.getInvocationHandler() instanceof InvocationHandlerAsync) {
-            watch(invocation);
+            watchAsync(invocation);
         }
     }
 
@@ -155,7 +157,20 @@ public class SafeCallManagerImpl implements SafeCallManager {
         return scheduler;
     }
 
-    private void watch(Invocation invocation) {
+    @Override
+    public ScheduledFuture<?> watch(Invocation invocation) {
+        logger.trace("Scheduling timeout watchdog in {}ms", invocation.getTimeout());
+        return watcher.schedule(() -> {
+            invocation.getInvocationHandler().handleTimeout(invocation.getMethod(), invocation);
+        }, invocation.getTimeout(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean isCallerThreadExecution() {
+        return callerThreadExecution;
+    }
+
+    private void watchAsync(Invocation invocation) {
         watcher.schedule(() -> {
             handlePotentialTimeout(invocation);
         }, invocation.getTimeout(), TimeUnit.MILLISECONDS);
@@ -165,4 +180,8 @@ public class SafeCallManagerImpl implements SafeCallManager {
     public void setEnforceSingleThreadPerIdentifier(boolean enforceSingleThreadPerIdentifier) {
         this.enforceSingleThreadPerIdentifier = enforceSingleThreadPerIdentifier;
     }
+
+    public void setCallerThreadExecution(boolean callerThreadExecution) {
+        this.callerThreadExecution = callerThreadExecution;
+    }
 }
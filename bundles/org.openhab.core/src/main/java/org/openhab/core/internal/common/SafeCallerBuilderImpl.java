@@ -15,6 +15,9 @@ package org.openhab.core.internal.common;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -34,6 +37,17 @@ import org.openhab.core.common.SafeCallerBuilder;
 @NonNullByDefault
 public class SafeCallerBuilderImpl<@NonNull T> implements SafeCallerBuilder<T> {
 
+    /**
+     * The class loaders for the proxies by target class and interfaces. The JDK caches the generated proxy classes per
+     * class loader, so reusing the class loader avoids generating a new proxy class for every wrapper.
+     */
+    private static final ClassValue<Map<List<Class<?>>, ClassLoader>> PROXY_CLASS_LOADERS = new ClassValue<>() {
+        @Override
+        protected Map<List<Class<?>>, ClassLoader> computeValue(@Nullable Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final T target;
     private final Class<?>[] interfaceTypes;
     private long timeout;
@@ -68,10 +82,10 @@ public class SafeCallerBuilderImpl<@NonNull T> implements SafeCallerBuilder<T> {
             throw new IllegalStateException(
                     "Cannot create proxy because '" + getClass().getName() + "' class loader is null");
         }
-        return (T) Proxy.newProxyInstance(
-                CombinedClassLoader.fromClasses(classLoader,
-                        Stream.concat(Stream.of(target.getClass()), Arrays.stream(interfaceTypes))),
-                interfaceTypes, handler);
+        ClassLoader proxyClassLoader = PROXY_CLASS_LOADERS.get(target.getClass()).computeIfAbsent(
+                List.of(interfaceTypes), types -> CombinedClassLoader.fromClasses(classLoader,
+                        Stream.concat(Stream.of(target.getClass()), Arrays.stream(interfaceTypes))));
+        return (T) Proxy.newProxyInstance(proxyClassLoader, interfaceTypes, handler);
     }
 
     @Override
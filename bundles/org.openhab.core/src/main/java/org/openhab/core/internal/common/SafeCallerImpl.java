@@ -14,8 +14,8 @@ package org.openhab.core.internal.common;
 
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -44,7 +44,10 @@ public class SafeCallerImpl implements SafeCaller {
 
     @Activate
     public SafeCallerImpl(@Nullable Map<String, Object> properties) {
-        watcher = Executors.newSingleThreadScheduledExecutor();
+        ScheduledThreadPoolExecutor watcher = new ScheduledThreadPoolExecutor(1);
+        // every call schedules a watchdog that is cancelled when it returns in time, so do not keep those queued
+        watcher.setRemoveOnCancelPolicy(true);
+        this.watcher = watcher;
         manager = new SafeCallManagerImpl(watcher, getScheduler(), false);
         modified(properties);
     }
@@ -54,6 +57,8 @@ public class SafeCallerImpl implements SafeCaller {
         if (properties != null) {
             String enabled = (String) properties.get("singleThread");
             manager.setEnforceSingleThreadPerIdentifier("true".equalsIgnoreCase(enabled));
+            String callerThread = (String) properties.get("callerThread");
+            manager.setCallerThreadExecution("true".equalsIgnoreCase(callerThread));
         }
     }
 
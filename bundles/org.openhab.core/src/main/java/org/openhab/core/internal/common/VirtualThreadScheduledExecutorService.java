@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.common;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A scheduled executor service which runs every task in a new virtual thread.
+ * <p>
+ * The scheduling is still done by the {@link java.util.concurrent.ScheduledThreadPoolExecutor} with a single (virtual)
+ * thread, which only hands due tasks over to their own virtual thread. This way tasks blocking on I/O do not occupy
+ * the pool and do not delay other tasks. Periodic tasks are rescheduled when their execution finished, so they never
+ * run concurrently with themselves, just like in a platform thread pool.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class VirtualThreadScheduledExecutorService extends WrappedScheduledExecutorService {
+
+    private final ThreadFactory taskThreadFactory;
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    public VirtualThreadScheduledExecutorService(String poolName) {
+        super(1, Thread.ofVirtual().name("OH-" + poolName + "-scheduler-", 1).factory());
+        this.taskThreadFactory = Thread.ofVirtual().name("OH-" + poolName + "-", 1).factory();
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(@Nullable Runnable runnable,
+            @Nullable RunnableScheduledFuture<V> task) {
+        return new VirtualThreadTask<>(super.decorateTask(runnable, task));
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(@Nullable Callable<V> callable,
+            @Nullable RunnableScheduledFuture<V> task) {
+        return new VirtualThreadTask<>(super.decorateTask(callable, task));
+    }
+
+    @Override
+    protected void afterExecute(@Nullable Runnable r, @Nullable Throwable t) {
+        if (!(r instanceof VirtualThreadTask)) {
+            super.afterExecute(r, t);
+        }
+        // tasks handed over to a virtual thread are checked when they really finished
+    }
+
+    @Override
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    private void taskFinished(Runnable task) {
+        super.afterExecute(task, null);
+    }
+
+    private class VirtualThreadTask<V> implements RunnableScheduledFuture<V> {
+
+        private final RunnableScheduledFuture<V> task;
+
+        VirtualThreadTask(RunnableScheduledFuture<V> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (task.isDone()) {
+                return;
+            }
+            activeCount.incrementAndGet();
+            taskThreadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    activeCount.decrementAndGet();
+                    taskFinished(task);
+                }
+            }).start();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = task.cancel(mayInterruptIfRunning);
+            if (cancelled && getRemoveOnCancelPolicy()) {
+                remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(long timeout, @Nullable TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return task.isPeriodic();
+        }
+
+        @Override
+        public long getDelay(@Nullable TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(@Nullable Delayed other) {
+            return task.compareTo(other instanceof VirtualThreadTask<?> otherTask ? otherTask.task : other);
+        }
+    }
+}
@@ -16,9 +16,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Dictionary;
-import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -61,6 +62,7 @@ import io.methvin.watcher.hashing.FileHash;
 public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
 
     public static final int PROCESSING_TIME = 1000;
+    public static final int MAX_PROCESSING_DELAY = 10 * PROCESSING_TIME;
 
     public @interface WatchServiceConfiguration {
         String name() default "";
@@ -83,8 +85,11 @@ public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
     private @Nullable DirectoryWatcher dirWatcher;
     private @Nullable ServiceRegistration<WatchService> reg;
 
-    private final Map<Path, ScheduledFuture<?>> scheduledEvents = new HashMap<>();
-    private final Map<Path, List<DirectoryChangeEvent>> scheduledEventKinds = new ConcurrentHashMap<>();
+    // pending changes are collected until PROCESSING_TIME passed without a new change (but at most for
+    // MAX_PROCESSING_DELAY after the first change) and then processed as one batch
+    private final Map<Path, List<DirectoryChangeEvent>> scheduledEvents = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> scheduledBatch;
+    private long firstScheduledEventTime;
 
     @Activate
     public WatchServiceImpl(WatchServiceConfiguration config, BundleContext bundleContext) throws IOException {
@@ -142,6 +147,14 @@ public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
 
     @Deactivate
     public void deactivate() {
+        synchronized (scheduledEvents) {
+            ScheduledFuture<?> localScheduledBatch = scheduledBatch;
+            if (localScheduledBatch != null) {
+                localScheduledBatch.cancel(false);
+                scheduledBatch = null;
+            }
+            scheduledEvents.clear();
+        }
         try {
             closeWatcherAndUnregister();
             executor.shutdown();
@@ -225,22 +238,63 @@ public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
         Path path = directoryChangeEvent.path();
 
         synchronized (scheduledEvents) {
-            ScheduledFuture<?> future = scheduledEvents.remove(path);
-            if (future != null && !future.isDone()) {
-                future.cancel(true);
+            long now = System.currentTimeMillis();
+            if (scheduledEvents.isEmpty()) {
+                firstScheduledEventTime = now;
             }
-            future = scheduler.schedule(() -> notifyListeners(path), PROCESSING_TIME, TimeUnit.MILLISECONDS);
-            scheduledEventKinds.computeIfAbsent(path, k -> new CopyOnWriteArrayList<>()).add(directoryChangeEvent);
-            scheduledEvents.put(path, future);
+            scheduledEvents.computeIfAbsent(path, k -> new ArrayList<>()).add(directoryChangeEvent);
+
+            ScheduledFuture<?> future = scheduledBatch;
+            if (future != null) {
+                if (now - firstScheduledEventTime >= MAX_PROCESSING_DELAY) {
+                    // changes keep coming in, let the already scheduled batch run to avoid starving listeners
+                    return;
+                }
+                future.cancel(false);
+            }
+            long delay = Math.min(PROCESSING_TIME, MAX_PROCESSING_DELAY - (now - firstScheduledEventTime));
+            scheduledBatch = scheduler.schedule(this::notifyListeners, Math.max(delay, 0), TimeUnit.MILLISECONDS);
         }
     }
 
-    private void notifyListeners(Path path) {
-        List<DirectoryChangeEvent> events = scheduledEventKinds.remove(path);
-        if (events == null || events.isEmpty()) {
-            logger.debug("Tried to notify listeners of change events for '{}', but the event list is empty.", path);
+    private void notifyListeners() {
+        Map<Path, List<DirectoryChangeEvent>> events;
+        synchronized (scheduledEvents) {
+            events = new LinkedHashMap<>(scheduledEvents);
+            scheduledEvents.clear();
+            scheduledBatch = null;
+        }
+
+        Map<Path, Kind> changes = new LinkedHashMap<>();
+        events.forEach((path, pathEvents) -> {
+            Kind kind = determineKind(path, pathEvents);
+            if (kind != null) {
+                changes.put(path, kind);
+            }
+        });
+
+        if (changes.isEmpty()) {
             return;
         }
+        logger.trace("Notifying listeners of {} change(s).", changes.size());
+        subDirPathListeners.forEach(l -> doNotify(l, changes, isChildOf(l.rootPath)));
+        dirPathListeners.forEach(l -> doNotify(l, changes, isDirectChildOf(l.rootPath)));
+    }
+
+    private void doNotify(Listener listener, Map<Path, Kind> changes, Predicate<Path> filter) {
+        try {
+            listener.notify(changes, filter);
+        } catch (RuntimeException e) {
+            logger.warn("Listener '{}' failed to process changes: {}", listener.watchEventListener, e.getMessage(),
+                    e);
+        }
+    }
+
+    private @Nullable Kind determineKind(Path path, List<DirectoryChangeEvent> events) {
+        if (events.isEmpty()) {
+            logger.debug("Tried to notify listeners of change events for '{}', but the event list is empty.", path);
+            return null;
+        }
 
         DirectoryChangeEvent firstElement = events.getFirst();
         DirectoryChangeEvent lastElement = events.getLast();
@@ -249,48 +303,48 @@ public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
         if (lastElement.eventType() == DirectoryChangeEvent.EventType.DELETE) {
             if (firstElement.eventType() == DirectoryChangeEvent.EventType.CREATE) {
                 logger.debug("Discarding events for '{}' because file was immediately deleted after creation", path);
-                return;
+                return null;
             }
             hashCache.remove(lastElement.path());
-            doNotify(path, Kind.DELETE);
+            return Kind.DELETE;
         } else if (firstElement.eventType() == DirectoryChangeEvent.EventType.CREATE) {
             if (lastElement.hash() == null) {
                 logger.warn("Detected invalid event (hash must not be null for CREATE/MODIFY): {}", lastElement);
-                return;
+                return null;
             }
             hashCache.put(lastElement.path(), lastElement.hash());
-            doNotify(path, Kind.CREATE);
+            return Kind.CREATE;
         } else {
             if (lastElement.hash() == null) {
                 logger.warn("Detected invalid event (hash must not be null for CREATE/MODIFY): {}", lastElement);
-                return;
+                return null;
             }
             FileHash oldHash = hashCache.put(lastElement.path(), lastElement.hash());
-            if (!Objects.equals(oldHash, lastElement.hash())) {
-                // only notify if hashes are different, otherwise the file content did not chnge
-                doNotify(path, Kind.MODIFY);
-            }
+            // only notify if hashes are different, otherwise the file content did not change
+            return Objects.equals(oldHash, lastElement.hash()) ? null : Kind.MODIFY;
         }
     }
 
-    private void doNotify(Path path, Kind kind) {
-        logger.trace("Notifying listeners of '{}' event for '{}'.", kind, path);
-        subDirPathListeners.stream().filter(isChildOf(path)).forEach(l -> l.notify(path, kind));
-        dirPathListeners.stream().filter(isDirectChildOf(path)).forEach(l -> l.notify(path, kind));
-    }
-
-    public static Predicate<Listener> isChildOf(Path path) {
-        return l -> path.startsWith(l.rootPath);
+    public static Predicate<Path> isChildOf(Path rootPath) {
+        return path -> path.startsWith(rootPath);
     }
 
-    public static Predicate<Listener> isDirectChildOf(Path path) {
-        return l -> path.startsWith(l.rootPath) && l.rootPath.relativize(path).getNameCount() == 1;
+    public static Predicate<Path> isDirectChildOf(Path rootPath) {
+        return path -> path.startsWith(rootPath) && rootPath.relativize(path).getNameCount() == 1;
     }
 
     private record Listener(Path rootPath, WatchEventListener watchEventListener) {
 
-        void notify(Path path, Kind kind) {
-            watchEventListener.processWatchEvent(kind, rootPath.relativize(path));
+        void notify(Map<Path, Kind> changes, Predicate<Path> filter) {
+            Map<Path, Kind> relativeChanges = new LinkedHashMap<>();
+            changes.forEach((path, kind) -> {
+                if (filter.test(path)) {
+                    relativeChanges.put(rootPath.relativize(path), kind);
+                }
+            });
+            if (!relativeChanges.isEmpty()) {
+                watchEventListener.processWatchEvents(relativeChanges);
+            }
         }
 
         static Predicate<Listener> isListener(WatchEventListener watchEventListener) {
@@ -14,6 +14,7 @@ package org.openhab.core.service;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
@@ -122,6 +123,20 @@ public interface WatchService {
          * @param path the relative path of the file associated with this event
          */
         void processWatchEvent(Kind kind, Path path);
+
+        /**
+         * Notify Listener about a set of coalesced watch events
+         *
+         * Changes are collected until no further change happened for a short quiet period and then delivered
+         * together, so listeners can process them in one pass (e.g. after a bulk update of configuration files).
+         * Each path is contained at most once, with the final {@link Kind} of all changes to it. The default
+         * implementation calls {@link #processWatchEvent(Kind, Path)} for each entry.
+         *
+         * @param events the relative paths of the changed files and their {@link Kind}, in order of their first change
+         */
+        default void processWatchEvents(Map<Path, Kind> events) {
+            events.forEach((path, kind) -> processWatchEvent(kind, path));
+        }
     }
 
     enum Kind {
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Supplier;
@@ -218,6 +219,60 @@ public class LRUMediaCacheEntryTest {
         verifyNoMoreInteractions(ttsServiceMock);
     }
 
+    @Test
+    public void readReturnsAvailableDataBeforeTheSupplierCompletesTest() throws IOException {
+        LRUMediaCache<MetadataSample> lruMediaCache = createCache(1000);
+
+        byte[] randomData = getRandomData(3 * 10000);
+        FakeStream fakeStream = new FakeStream(randomData);
+        MetadataSample metadata = new MetadataSample("meta1", 42);
+        when(supplier.get()).thenReturn(new LRUMediaCacheEntry<>("key1", fakeStream, metadata));
+
+        LRUMediaCacheEntry<MetadataSample> lruMediaCacheEntry = lruMediaCache.get("key1", supplier);
+
+        // a client asking for more than one chunk only waits for the first one
+        InputStream audioStreamClient = lruMediaCacheEntry.getInputStream();
+        byte[] buffer = new byte[randomData.length];
+        assertEquals(10000, audioStreamClient.read(buffer, 0, buffer.length));
+        assertEquals(10000, lruMediaCacheEntry.getCurrentSize());
+        assertEquals(2 * 10000, fakeStream.innerInputStream.available());
+
+        // the rest of the data is still delivered
+        byte[] rest = audioStreamClient.readAllBytes();
+        assertArrayEquals(randomData, concat(Arrays.copyOf(buffer, 10000), rest));
+        audioStreamClient.close();
+    }
+
+    @Test
+    public void readCompletedEntryTest() throws IOException {
+        LRUMediaCache<MetadataSample> lruMediaCache = createCache(1000);
+
+        byte[] randomData = getRandomData(2 * 10000 + 42);
+        FakeStream fakeStream = new FakeStream(randomData);
+        MetadataSample metadata = new MetadataSample("meta1", 42);
+        when(supplier.get()).thenReturn(new LRUMediaCacheEntry<>("key1", fakeStream, metadata));
+
+        LRUMediaCacheEntry<MetadataSample> lruMediaCacheEntry = lruMediaCache.get("key1", supplier);
+        InputStream producingClient = lruMediaCacheEntry.getInputStream();
+        assertEquals(randomData.length, lruMediaCacheEntry.getTotalSize());
+
+        // the entry is now completed, and read from the cache file only
+        InputStream audioStreamClient = lruMediaCacheEntry.getInputStream();
+        audioStreamClient.skip(10);
+        assertArrayEquals(Arrays.copyOfRange(randomData, 10, 20), audioStreamClient.readNBytes(10));
+        assertArrayEquals(Arrays.copyOfRange(randomData, 20, randomData.length), audioStreamClient.readAllBytes());
+        assertEquals(-1, audioStreamClient.read());
+        audioStreamClient.close();
+        assertArrayEquals(randomData, producingClient.readAllBytes());
+        producingClient.close();
+    }
+
+    private byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
     private byte[] getRandomData(int length) {
         Random random = new Random();
         byte[] randomBytes = new byte[length];
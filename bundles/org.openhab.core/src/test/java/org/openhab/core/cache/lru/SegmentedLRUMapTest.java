@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.cache.lru;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the segmented LRU map
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class SegmentedLRUMapTest {
+
+    @Test
+    public void putGetAndRemoveTest() {
+        SegmentedLRUMap<String> map = new SegmentedLRUMap<>();
+        map.put("key1", "value1");
+        map.put("key2", "value2");
+
+        assertEquals("value1", map.get("key1"));
+        assertNull(map.get("key3"));
+        assertEquals(2, map.size());
+
+        assertEquals("value2", map.remove("key2"));
+        assertNull(map.remove("key2"));
+        assertEquals(List.of("value1"), map.values());
+
+        map.clear();
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void removeEldestFollowsAccessOrderAcrossSegmentsTest() {
+        SegmentedLRUMap<String> map = new SegmentedLRUMap<>();
+        IntStream.range(0, 100).forEach(i -> map.put("key" + i, "value" + i));
+
+        // touch the first entries, they become the most recently used ones
+        map.get("key0");
+        map.put("key1", "value1");
+
+        for (int i = 2; i < 100; i++) {
+            assertEquals("value" + i, map.removeEldest());
+        }
+        assertEquals("value0", map.removeEldest());
+        assertEquals("value1", map.removeEldest());
+        assertNull(map.removeEldest());
+    }
+}
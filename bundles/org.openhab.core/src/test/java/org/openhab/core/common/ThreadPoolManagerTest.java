@@ -24,6 +24,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -273,6 +274,62 @@ public class ThreadPoolManagerTest {
         assertEquals(3, result.getMaximumPoolSize());
     }
 
+    @Test
+    public void testVirtualThreadPool() throws Exception {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("test7", "virtual"));
+        assertTrue(ThreadPoolManager.isVirtualPool("test7"));
+
+        ExecutorService pool = ThreadPoolManager.getPool("test7");
+        assertTrue(pool.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS));
+
+        // blocking tasks do not occupy the pool
+        CountDownLatch running = new CountDownLatch(50);
+        for (int i = 0; i < 50; i++) {
+            pool.execute(() -> {
+                running.countDown();
+                try {
+                    running.await();
+                } catch (InterruptedException e) {
+                }
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testVirtualThreadScheduledPool() throws Exception {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("test8", "virtual"));
+
+        ScheduledExecutorService pool = ThreadPoolManager.getScheduledPool("test8");
+        assertTrue(pool.schedule(() -> Thread.currentThread().isVirtual(), 10, TimeUnit.MILLISECONDS).get(5,
+                TimeUnit.SECONDS));
+
+        // blocking tasks do not occupy the pool
+        CountDownLatch running = new CountDownLatch(50);
+        for (int i = 0; i < 50; i++) {
+            pool.schedule(() -> {
+                running.countDown();
+                try {
+                    running.await();
+                } catch (InterruptedException e) {
+                }
+            }, 1, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // periodic tasks keep running until they are cancelled
+        CountDownLatch periodic = new CountDownLatch(3);
+        ScheduledFuture<?> future = pool.scheduleWithFixedDelay(periodic::countDown, 0, 10, TimeUnit.MILLISECONDS);
+        try {
+            assertTrue(periodic.await(5, TimeUnit.SECONDS));
+        } finally {
+            future.cancel(false);
+        }
+        assertTrue(future.isCancelled());
+    }
+
     @Test
     public void testGetPoolShutdown() throws InterruptedException {
         checkThreadPoolWorks("Test");
@@ -19,19 +19,24 @@ import static org.mockito.Mockito.*;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.auth.Authentication;
+import org.openhab.core.auth.AuthenticationException;
 import org.openhab.core.auth.ManagedUser;
 import org.openhab.core.auth.User;
 import org.openhab.core.auth.UserApiTokenCredentials;
 import org.openhab.core.auth.UserSession;
 import org.openhab.core.auth.UsernamePasswordCredentials;
+import org.openhab.core.auth.VerifiedCredentialCache;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceEvent;
 import org.osgi.framework.ServiceListener;
@@ -49,6 +54,7 @@ public class UserRegistryImplTest {
     private @Mock @NonNullByDefault({}) BundleContext bundleContextMock;
     private @Mock @NonNullByDefault({}) ManagedUserProvider managedProviderMock;
 
+    private @NonNullByDefault({}) VerifiedCredentialCache credentialCache;
     private @NonNullByDefault({}) UserRegistryImpl registry;
     private @NonNullByDefault({}) ServiceListener providerTracker;
 
@@ -57,7 +63,8 @@ public class UserRegistryImplTest {
     public void setup() throws Exception {
         when(bundleContextMock.getService(same(managedProviderRefMock))).thenReturn(managedProviderMock);
 
-        registry = new UserRegistryImpl(bundleContextMock, Map.of());
+        credentialCache = new VerifiedCredentialCache();
+        registry = new UserRegistryImpl(bundleContextMock, Map.of(), credentialCache);
         registry.setManagedProvider(managedProviderMock);
         registry.waitForCompletedAsyncActivationTasks();
 
@@ -125,4 +132,63 @@ public class UserRegistryImplTest {
                 user.getApiTokens().stream().filter(t -> "token3".equals(t.getName())).findAny().get());
         assertEquals(0, user.getApiTokens().size());
     }
+
+    @Test
+    public void testVerifiedApiTokenIsCached() throws Exception {
+        ManagedUser user = (ManagedUser) registry.register("username", "password", Set.of("administrator"));
+        registry.added(managedProviderMock, user);
+        String token = registry.addUserApiToken(user, "token1", "scope1");
+
+        registry.authenticate(new UserApiTokenCredentials(token));
+        assertEquals(0, credentialCache.getHits());
+        registry.authenticate(new UserApiTokenCredentials(token));
+        assertEquals(1, credentialCache.getHits());
+
+        registry.removeUserApiToken(user, user.getApiTokens().iterator().next());
+        assertThrows(AuthenticationException.class, () -> registry.authenticate(new UserApiTokenCredentials(token)));
+    }
+
+    @Test
+    public void testVerifiedPasswordIsInvalidatedOnPasswordChange() throws Exception {
+        User user = registry.register("username", "password", Set.of("administrator"));
+        registry.added(managedProviderMock, user);
+
+        registry.authenticate(new UsernamePasswordCredentials("username", "password"));
+        registry.authenticate(new UsernamePasswordCredentials("username", "password"));
+        assertEquals(1, credentialCache.getHits());
+
+        registry.changePassword(user, "password2");
+        assertThrows(AuthenticationException.class,
+                () -> registry.authenticate(new UsernamePasswordCredentials("username", "password")));
+        registry.authenticate(new UsernamePasswordCredentials("username", "password2"));
+    }
+
+    @Test
+    public void testVerificationIsNotCachedWhenInvalidatedDuringLogin() throws Exception {
+        // simulates a password change or token removal that happens while the credential is being verified
+        AtomicBoolean invalidateOnMiss = new AtomicBoolean(true);
+        credentialCache = new VerifiedCredentialCache() {
+            @Override
+            public @Nullable Authentication get(String type, String secret) {
+                Authentication authentication = super.get(type, secret);
+                if (authentication == null && invalidateOnMiss.getAndSet(false)) {
+                    invalidate();
+                }
+                return authentication;
+            }
+        };
+        registry = new UserRegistryImpl(bundleContextMock, Map.of(), credentialCache);
+        registry.setManagedProvider(managedProviderMock);
+        User user = registry.register("username", "password", Set.of("administrator"));
+        registry.added(managedProviderMock, user);
+        invalidateOnMiss.set(true);
+
+        registry.authenticate(new UsernamePasswordCredentials("username", "password"));
+        registry.authenticate(new UsernamePasswordCredentials("username", "password"));
+        assertEquals(0, credentialCache.getHits());
+        assertEquals(2, credentialCache.getMisses());
+
+        registry.authenticate(new UsernamePasswordCredentials("username", "password"));
+        assertEquals(1, credentialCache.getHits());
+    }
 }
@@ -479,6 +479,47 @@ public class SafeCallerImplTest extends JavaTest {
         safeCaller.create(target, ITarget.class).build().method();
     }
 
+    @Test
+    public void testProxyClassIsReused() {
+        Target target = new Target();
+        ITarget proxy1 = safeCaller.create(target, ITarget.class).build();
+        ITarget proxy2 = safeCaller.create(new Target(), ITarget.class).withTimeout(TIMEOUT).build();
+        assertThat(proxy1.getClass(), is(sameInstance(proxy2.getClass())));
+    }
+
+    @Test
+    public void testCallerThreadExecution() {
+        configureCallerThread();
+        AtomicReference<@Nullable Thread> calledThread = new AtomicReference<>();
+        Runnable runnable = () -> calledThread.set(Thread.currentThread());
+
+        safeCaller.create(runnable, Runnable.class).build().run();
+        assertThat(calledThread.get(), is(Thread.currentThread()));
+        assertThat(scheduler.getCompletedTaskCount(), is(0L));
+    }
+
+    @Test
+    public void testCallerThreadExecutionTimeoutHandler() {
+        configureCallerThread();
+        Runnable mock = mock(Runnable.class);
+        doAnswer(a -> sleep(TIMEOUT + 2 * GRACE)).when(mock).run();
+
+        // the call cannot be abandoned, but the timeout is reported while it is still running
+        assertDurationAbove(TIMEOUT + 2 * GRACE, () -> safeCaller.create(mock, Runnable.class).withTimeout(TIMEOUT)
+                .onTimeout(timeoutHandlerMock).build().run());
+        verify(timeoutHandlerMock).run();
+    }
+
+    @Test
+    public void testCallerThreadExecutionExceptionHandler() {
+        configureCallerThread();
+        Runnable mock = mock(Runnable.class);
+        doThrow(RuntimeException.class).when(mock).run();
+
+        safeCaller.create(mock, Runnable.class).onException(errorHandlerMock).build().run();
+        verify(errorHandlerMock).accept(isA(Throwable.class));
+    }
+
     private void assertDurationBelow(long high, Runnable runnable) {
         assertDurationBetween(-1, high, runnable);
     }
@@ -547,6 +588,10 @@ public class SafeCallerImplTest extends JavaTest {
         safeCaller.modified(Map.of("singleThread", "true"));
     }
 
+    private void configureCallerThread() {
+        safeCaller.modified(Map.of("callerThread", "true"));
+    }
+
     /**
      * Executes the given runnable in another thread.
      * <p>
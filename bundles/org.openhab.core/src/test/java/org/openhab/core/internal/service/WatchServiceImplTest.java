@@ -21,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -186,6 +187,23 @@ public class WatchServiceImplTest extends JavaTest {
         assertNoEvent();
     }
 
+    @Test
+    public void testChangesAreDeliveredAsOneBulkEvent() throws IOException, InterruptedException {
+        BulkWatchEventListener bulkListener = new BulkWatchEventListener();
+        watchService.registerListener(bulkListener, rootPath, false);
+
+        for (int i = 0; i < 3; i++) {
+            Files.writeString(rootPath.resolve(TEST_FILE_NAME + i), "initial content", StandardCharsets.UTF_8);
+        }
+
+        waitForAssert(() -> assertThat(bulkListener.bulks, not(empty())));
+        Thread.sleep(2 * WatchServiceImpl.PROCESSING_TIME);
+
+        assertThat(bulkListener.bulks, hasSize(1));
+        assertThat(bulkListener.bulks.getFirst(), is(Map.of(Path.of(TEST_FILE_NAME + 0), Kind.CREATE,
+                Path.of(TEST_FILE_NAME + 1), Kind.CREATE, Path.of(TEST_FILE_NAME + 2), Kind.CREATE)));
+    }
+
     private void assertNoEvent() throws InterruptedException {
         Thread.sleep(5000);
 
@@ -210,6 +228,20 @@ public class WatchServiceImplTest extends JavaTest {
         }
     }
 
+    private static class BulkWatchEventListener implements WatchService.WatchEventListener {
+        List<Map<Path, Kind>> bulks = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void processWatchEvent(Kind kind, Path path) {
+            bulks.add(Map.of(path, kind));
+        }
+
+        @Override
+        public void processWatchEvents(Map<Path, Kind> events) {
+            bulks.add(Map.copyOf(events));
+        }
+    }
+
     record Event(Path path, Kind kind) {
     }
 }